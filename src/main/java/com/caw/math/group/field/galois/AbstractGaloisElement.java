@@ -4,9 +4,11 @@ import com.caw.math.group.AdditionGroupElement;
 import com.caw.math.group.MultiplicativeGroupElement;
 
 import java.math.BigInteger;
+import java.util.Objects;
 
 /**
- * A base class for {@link GaloisElement} implementations.
+ * A base class for {@link GaloisElement} implementations. Two elements are equal when they have the same value in
+ * equal fields, so elements may be used as map keys whether or not their field interns them.
  *
  * @author cwhitmore
  */
@@ -18,8 +20,13 @@ public abstract class AbstractGaloisElement implements GaloisElement {
     private final BigInteger value;
 
     /* default */ AbstractGaloisElement(final GaloisField field, final BigInteger value) {
+        this(field, value, false);
+    }
+
+    // For values that the field has already reduced, which need not be reduced again.
+    /* default */ AbstractGaloisElement(final GaloisField field, final BigInteger value, final boolean reduced) {
         this.field = field;
-        this.value = field.reduce(value);
+        this.value = reduced ? value : field.reduce(value);
     }
 
     @Override
@@ -57,11 +64,28 @@ public abstract class AbstractGaloisElement implements GaloisElement {
         return divide(BigInteger.valueOf(divisor));
     }
 
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        final AbstractGaloisElement element = (AbstractGaloisElement) other;
+        return this.value.equals(element.value) && this.field.equals(element.field);
+    }
+
     @Override
     public GaloisField field() {
         return field;
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.field, this.value);
+    }
+
     @Override
     public GaloisElement multiplicativeInverse() {
         return field.multiplicativeInverseOf(value);
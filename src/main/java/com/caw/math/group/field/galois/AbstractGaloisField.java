@@ -1,9 +1,14 @@
 package com.caw.math.group.field.galois;
 
 import java.math.BigInteger;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
- * A base class for {@link GaloisField} implementations.
+ * A base class for {@link GaloisField} implementations. Fields of at most {@link #MAX_CACHED_SIZE} elements keep a
+ * flyweight table of their elements, allocated on first use and filled in as each one is first asked for, so that the
+ * elements of small fields are only ever allocated once and every operation that lands on the same value returns the
+ * same instance.
  *
  * @author cwhitmore
  */
@@ -11,11 +16,20 @@ import java.math.BigInteger;
 @SuppressWarnings("PMD.TooManyMethods")
 public abstract class AbstractGaloisField implements GaloisField {
 
+    /**
+     * The largest size of a field whose elements are interned.
+     */
+
+    public static final int MAX_CACHED_SIZE = 1 << 16;
+
     private static final int MIN_PRIME_POWER = 1;
 
     private final BigInteger prime;
     private final int primePower;
     private final BigInteger size;
+    private final boolean interned;
+    // Allocated on first use, so that fields which are only used for their arithmetic never pay for the table.
+    private volatile AtomicReferenceArray<GaloisElement> elements;
 
     /* default */ AbstractGaloisField(final BigInteger prime, final int primePower) {
         if (!prime.isProbablePrime(100)) {
@@ -27,6 +41,7 @@ public abstract class AbstractGaloisField implements GaloisField {
         this.prime = prime;
         this.primePower = primePower;
         this.size = prime.pow(primePower);
+        this.interned = this.size.compareTo(BigInteger.valueOf(MAX_CACHED_SIZE)) <= 0;
     }
 
     @Override
@@ -59,6 +74,56 @@ public abstract class AbstractGaloisField implements GaloisField {
         return divide(BigInteger.valueOf(dividend), BigInteger.valueOf(divisor));
     }
 
+    @Override
+    public GaloisElement element(final BigInteger value) {
+        final BigInteger reduced = reduce(value);
+        if (!this.interned) {
+            return newElement(reduced);
+        }
+
+        final AtomicReferenceArray<GaloisElement> table = elements();
+        final int index = reduced.intValue();
+        final GaloisElement cached = table.get(index);
+        if (cached != null) {
+            return cached;
+        }
+        final GaloisElement element = newElement(reduced);
+        final GaloisElement existing = table.compareAndExchange(index, null, element);
+        return existing == null ? element : existing;
+    }
+
+    @Override
+    public GaloisElement element(final long value) {
+        return element(BigInteger.valueOf(value));
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        final AbstractGaloisField field = (AbstractGaloisField) other;
+        return this.primePower == field.primePower && this.prime.equals(field.prime);
+    }
+
+    @Override
+    public GaloisElement getAdditiveNeutralElement() {
+        return element(BigInteger.ZERO);
+    }
+
+    @Override
+    public GaloisElement getMultiplicativeNeutralElement() {
+        return element(BigInteger.ONE);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.prime, this.primePower);
+    }
+
     @Override
     public GaloisElement multiplicativeInverseOf(final GaloisElement element) {
         return multiplicativeInverseOf(element.value());
@@ -104,5 +169,24 @@ public abstract class AbstractGaloisField implements GaloisField {
         return size;
     }
 
+    /**
+     * Construct a new element of this field with the specified {@code value}, which is already reduced, bypassing the
+     * flyweight table.
+     */
 
+    /* default */ abstract GaloisElement newElement(final BigInteger value);
+
+    private AtomicReferenceArray<GaloisElement> elements() {
+        AtomicReferenceArray<GaloisElement> table = this.elements;
+        if (table == null) {
+            synchronized (this) {
+                table = this.elements;
+                if (table == null) {
+                    table = new AtomicReferenceArray<>(this.size.intValueExact());
+                    this.elements = table;
+                }
+            }
+        }
+        return table;
+    }
 }
@@ -0,0 +1,233 @@
+package com.caw.math.group.field.galois;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * A fixed-width binary encoding of the elements of a {@link GaloisField}, read from and written to a
+ * {@link ByteBuffer} in place. Every element is encoded as its {@link GaloisElement#value()} in the smallest whole
+ * number of bytes that holds every value of the field, most significant byte first, so one element of {@code GF(2^8)}
+ * takes one byte and one element of {@code GF(5^8)} takes three. Since every element takes the same number of bytes,
+ * the {@code i}th element of a run of encoded elements starts at byte {@code i * width()}.
+ *
+ * <p>Fields with fewer than {@code 2^63} elements also support a bulk mode, which decodes and encodes runs of values
+ * straight to and from a {@code long[]}, without allocating a {@link GaloisElement} or a {@link BigInteger} per value.
+ *
+ * @author cwhitmore
+ */
+
+public class GaloisElementCodec {
+
+    private final GaloisField field;
+    private final BigInteger largest;
+    private final int width;
+
+    // The largest value of the field as a long, or -1 if it does not fit in one, which disables the bulk mode.
+    private final long largestWord;
+
+    /**
+     * Construct a new {@link GaloisElementCodec} for the elements of the specified {@code field}.
+     *
+     * @param field
+     *      The field whose elements are encoded.
+     */
+
+    public GaloisElementCodec(final GaloisField field) {
+        this.field = field;
+        this.largest = field.size().subtract(BigInteger.ONE);
+        this.width = Math.max(1, (this.largest.bitLength() + Byte.SIZE - 1) / Byte.SIZE);
+        this.largestWord = this.largest.bitLength() < Long.SIZE ? this.largest.longValue() : -1;
+    }
+
+    /**
+     * Decode an element from the specified {@code buffer}, starting at its position and advancing the position by
+     * {@link #width()} bytes.
+     *
+     * @param buffer
+     *      The buffer to read from.
+     * @return
+     *      The decoded element of the field.
+     * @throws IllegalArgumentException
+     *      If the decoded value is not a value of the field.
+     */
+
+    public GaloisElement read(final ByteBuffer buffer) {
+        if (this.largestWord >= 0) {
+            return this.field.element(readWord(buffer));
+        }
+
+        final byte[] bytes = new byte[this.width];
+        buffer.get(bytes);
+        final BigInteger value = new BigInteger(1, bytes);
+        if (value.compareTo(this.largest) > 0) {
+            throw new IllegalArgumentException("Invalid encoding: value=" + value);
+        }
+        return this.field.element(value);
+    }
+
+    /**
+     * Decode {@code length} consecutive values from the specified {@code buffer} into the specified {@code values},
+     * starting at index {@code offset}, and advance the position of the {@code buffer} past them.
+     *
+     * @param buffer
+     *      The buffer to read from.
+     * @param values
+     *      The array to decode the values into.
+     * @param offset
+     *      The index of the first decoded value in {@code values}.
+     * @param length
+     *      The number of values to decode.
+     * @throws IllegalStateException
+     *      If the field has {@code 2^63} elements or more, so that its values do not fit in a {@code long}.
+     * @throws IllegalArgumentException
+     *      If a decoded value is not a value of the field.
+     * @throws BufferUnderflowException
+     *      If the {@code buffer} holds fewer than {@code length} values, in which case nothing is read.
+     * @throws IndexOutOfBoundsException
+     *      If {@code offset} and {@code length} do not describe a range of {@code values}.
+     */
+
+    public void read(final ByteBuffer buffer,
+                     final long[] values,
+                     final int offset,
+                     final int length) {
+        checkBulk();
+        Objects.checkFromIndexSize(offset, length, values.length);
+        if ((long) length * this.width > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        for (int i = offset; i < offset + length; i++) {
+            values[i] = readWord(buffer);
+        }
+    }
+
+    /**
+     * Report the number of bytes that every element of the field is encoded in.
+     *
+     * @return
+     *      The width of an encoded element, in bytes.
+     */
+
+    public int width() {
+        return this.width;
+    }
+
+    /**
+     * Encode the specified {@code element} into the specified {@code buffer}, starting at its position and advancing
+     * the position by {@link #width()} bytes.
+     *
+     * @param buffer
+     *      The buffer to write to.
+     * @param element
+     *      The element of the field to encode.
+     * @throws IllegalArgumentException
+     *      If the {@code element} is not a member of the field.
+     */
+
+    public void write(final ByteBuffer buffer,
+                      final GaloisElement element) {
+        if (!this.field.equals(element.field())) {
+            throw new IllegalArgumentException("Illegal parameter: element=" + element);
+        }
+
+        final BigInteger value = element.value();
+        if (this.largestWord >= 0) {
+            writeWord(buffer, value.longValue());
+            return;
+        }
+
+        final byte[] bytes = value.toByteArray();
+        for (int i = this.width; i > 0; i--) {
+            buffer.put(i <= bytes.length ? bytes[bytes.length - i] : 0);
+        }
+    }
+
+    /**
+     * Encode {@code length} consecutive values of the specified {@code values}, starting at index {@code offset}, into
+     * the specified {@code buffer}, and advance the position of the {@code buffer} past them.
+     *
+     * @param buffer
+     *      The buffer to write to.
+     * @param values
+     *      The values of the field to encode.
+     * @param offset
+     *      The index of the first value to encode.
+     * @param length
+     *      The number of values to encode.
+     * @throws IllegalStateException
+     *      If the field has {@code 2^63} elements or more, so that its values do not fit in a {@code long}.
+     * @throws IllegalArgumentException
+     *      If a value is not a value of the field.
+     * @throws BufferOverflowException
+     *      If the {@code buffer} does not have room for every value, in which case nothing is written.
+     * @throws IndexOutOfBoundsException
+     *      If {@code offset} and {@code length} do not describe a range of {@code values}.
+     */
+
+    public void write(final ByteBuffer buffer,
+                      final long[] values,
+                      final int offset,
+                      final int length) {
+        checkBulk();
+        Objects.checkFromIndexSize(offset, length, values.length);
+        if ((long) length * this.width > buffer.remaining()) {
+            throw new BufferOverflowException();
+        }
+        for (int i = offset; i < offset + length; i++) {
+            if (values[i] < 0 || values[i] > this.largestWord) {
+                throw new IllegalArgumentException("Illegal parameter: value=" + values[i]);
+            }
+        }
+        for (int i = offset; i < offset + length; i++) {
+            writeWord(buffer, values[i]);
+        }
+    }
+
+    private void checkBulk() {
+        if (this.largestWord < 0) {
+            throw new IllegalStateException("Values do not fit in a long: size=" + this.field.size());
+        }
+    }
+
+    private long readWord(final ByteBuffer buffer) {
+        final long value;
+        if (buffer.order() == ByteOrder.BIG_ENDIAN && Integer.bitCount(this.width) == 1) {
+            value = switch (this.width) {
+                case Byte.BYTES -> buffer.get() & 0xFFL;
+                case Short.BYTES -> buffer.getShort() & 0xFFFFL;
+                case Integer.BYTES -> buffer.getInt() & 0xFFFF_FFFFL;
+                default -> buffer.getLong();
+            };
+        } else {
+            long word = 0;
+            for (int i = 0; i < this.width; i++) {
+                word = word << Byte.SIZE | buffer.get() & 0xFFL;
+            }
+            value = word;
+        }
+        if (value < 0 || value > this.largestWord) {
+            throw new IllegalArgumentException("Invalid encoding: value=" + Long.toUnsignedString(value));
+        }
+        return value;
+    }
+
+    private void writeWord(final ByteBuffer buffer,
+                           final long value) {
+        if (buffer.order() == ByteOrder.BIG_ENDIAN && Integer.bitCount(this.width) == 1) {
+            switch (this.width) {
+                case Byte.BYTES -> buffer.put((byte) value);
+                case Short.BYTES -> buffer.putShort((short) value);
+                case Integer.BYTES -> buffer.putInt((int) value);
+                default -> buffer.putLong(value);
+            }
+            return;
+        }
+        for (int i = this.width - 1; i >= 0; i--) {
+            buffer.put((byte) (value >>> i * Byte.SIZE));
+        }
+    }
+}
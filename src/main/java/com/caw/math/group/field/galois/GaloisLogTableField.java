@@ -0,0 +1,409 @@
+package com.caw.math.group.field.galois;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * An extension of {@link GaloisPolynomialField} for small fields, which precomputes the powers of a primitive element
+ * {@code g} and their discrete logarithms so that multiplication, division, inversion and exponentiation are each a
+ * couple of table lookups: {@code a * b = g^(log a + log b)}. Addition and subtraction are an exclusive or when the
+ * prime is two, and digit-wise arithmetic on {@code int} values otherwise, so no operation of this field goes through
+ * a {@link com.caw.math.model.polynomial.ModularPolynomial}.
+ *
+ * <p>The tables take {@code 12} bytes per element of the field, so fields are limited to {@link #MAX_SIZE} elements.
+ * Hot loops, such as those of erasure codes, may avoid the {@link GaloisElement} and {@link BigInteger} instances
+ * altogether with {@link #product(int, int)} and {@link #quotient(int, int)}.
+ *
+ * @author cwhitmore
+ */
+
+@SuppressWarnings("PMD.TooManyMethods")
+public class GaloisLogTableField extends GaloisPolynomialField {
+
+    /**
+     * The largest size of a field that the tables are built for.
+     */
+
+    public static final int MAX_SIZE = 1 << 20;
+
+    private final int prime;
+    private final int order;
+    private final int generator;
+
+    // exp holds g^i for 0 <= i < 2 * order, so that the sum of two logarithms never has to be reduced.
+    private final int[] exp;
+    private final int[] log;
+
+    // The value of x^n modulo the irreducible polynomial, and the place value of the digit of x^(n - 1).
+    private final int reduction;
+    private final int topPlace;
+
+    /**
+     * Construct a new {@link GaloisLogTableField} with the same elements as the specified {@code field}, generated by
+     * {@code x} whenever the irreducible polynomial of the {@code field} is itself primitive, and by the smallest
+     * primitive element otherwise.
+     *
+     * @param field
+     *      The field to tabulate.
+     * @throws IllegalArgumentException
+     *      If the {@code field} has more than {@link #MAX_SIZE} elements.
+     */
+
+    public GaloisLogTableField(final GaloisPolynomialField field) {
+        this(field, null);
+    }
+
+    /**
+     * Construct a new {@link GaloisLogTableField} with the same elements as the specified {@code field}, generated by
+     * the specified primitive {@code generator}.
+     *
+     * @param field
+     *      The field to tabulate.
+     * @param generator
+     *      A primitive element of the {@code field}, whose powers are every non-zero element.
+     * @throws IllegalArgumentException
+     *      If the {@code field} has more than {@link #MAX_SIZE} elements, or if the {@code generator} is not primitive.
+     */
+
+    public GaloisLogTableField(final GaloisPolynomialField field,
+                               final GaloisElement generator) {
+        super(field.prime(), field.primePower(), field.irreduciblePolynomial());
+        if (size().compareTo(BigInteger.valueOf(MAX_SIZE)) > 0) {
+            throw new IllegalArgumentException("Invalid " + getClass().getSimpleName() + ": size=" + size());
+        }
+
+        this.prime = prime().intValueExact();
+        this.order = size().intValueExact() - 1;
+        this.topPlace = prime().pow(primePower() - 1).intValueExact();
+        this.reduction = reduction(field.irreduciblePolynomial(), prime(), primePower());
+        this.exp = new int[2 * this.order];
+        this.log = new int[this.order + 1];
+
+        if (generator != null) {
+            final int candidate = index(generator.value());
+            if (!tabulate(candidate)) {
+                throw new IllegalArgumentException("Invalid " + getClass().getSimpleName() + ": generator="
+                        + generator.value());
+            }
+            this.generator = candidate;
+        } else {
+            this.generator = findGenerator();
+        }
+    }
+
+    @Override
+    public GaloisElement add(final BigInteger augend, final BigInteger addend) {
+        return element(sum(index(augend), index(addend)));
+    }
+
+    @Override
+    public GaloisElement additiveInverseOf(final BigInteger value) {
+        return element(negate(index(value)));
+    }
+
+    /**
+     * Calculate the value of the {@link #generator()} raised to the specified {@code logarithm}, i.e. the inverse of
+     * {@link #log(int)}.
+     *
+     * @param logarithm
+     *      The exponent of the generator, in {@code [0, size - 1)}.
+     * @return
+     *      The value of {@code generator^logarithm}.
+     */
+
+    public int antilog(final int logarithm) {
+        if (logarithm < 0 || logarithm >= this.order) {
+            throw new IllegalArgumentException("Illegal parameter: logarithm=" + logarithm);
+        }
+        return this.exp[logarithm];
+    }
+
+    @Override
+    public GaloisElement divide(final BigInteger dividend, final BigInteger divisor) {
+        return element(quotient(index(dividend), index(divisor)));
+    }
+
+    /**
+     * Report the primitive element that the tables of this field are built from.
+     *
+     * @return
+     *      The generator of the multiplicative group of this field.
+     */
+
+    public GaloisElement generator() {
+        return element(this.generator);
+    }
+
+    /**
+     * Calculate the discrete logarithm of the specified non-zero {@code value} to the base of the
+     * {@link #generator()}.
+     *
+     * @param value
+     *      The non-zero value of an element of this field.
+     * @return
+     *      The exponent {@code i} in {@code [0, size - 1)} for which {@code generator^i = value}.
+     */
+
+    public int log(final int value) {
+        if (value <= 0 || value > this.order) {
+            throw new IllegalArgumentException("Illegal parameter: value=" + value);
+        }
+        return this.log[value];
+    }
+
+    @Override
+    public GaloisElement multiplicativeInverseOf(final BigInteger value) {
+        return element(quotient(1, index(value)));
+    }
+
+    @Override
+    public GaloisElement multiply(final BigInteger multiplicand, final BigInteger multiplier) {
+        return element(product(index(multiplicand), index(multiplier)));
+    }
+
+    /**
+     * Report the order of the multiplicative group of this field, i.e. {@code size - 1}.
+     */
+
+    /* default */ int order() {
+        return this.order;
+    }
+
+    /**
+     * Raise the specified {@code base} to the specified {@code exponent}, which may be negative for a non-zero
+     * {@code base}.
+     *
+     * @param base
+     *      The value of the element to raise.
+     * @param exponent
+     *      The exponent to raise the {@code base} to.
+     * @return
+     *      The element {@code base^exponent}.
+     */
+
+    public GaloisElement pow(final BigInteger base, final BigInteger exponent) {
+        final int value = index(base);
+        if (value == 0) {
+            if (exponent.signum() < 0) {
+                throw new IllegalStateException("Cannot invert value: " + base);
+            }
+            return element(exponent.signum() == 0 ? 1 : 0);
+        }
+        final long power = (long) this.log[value] * exponent.mod(BigInteger.valueOf(this.order)).longValue();
+        return element(this.exp[(int) (power % this.order)]);
+    }
+
+    /**
+     * Multiply the values of two elements of this field, without any allocation.
+     *
+     * @param multiplicand
+     *      The value of the element to multiply, in {@code [0, size)}.
+     * @param multiplier
+     *      The value of the element to multiply by, in {@code [0, size)}.
+     * @return
+     *      The value of the product.
+     */
+
+    public int product(final int multiplicand, final int multiplier) {
+        if (multiplicand == 0 || multiplier == 0) {
+            return 0;
+        }
+        return this.exp[this.log[multiplicand] + this.log[multiplier]];
+    }
+
+    /**
+     * Divide the values of two elements of this field, without any allocation.
+     *
+     * @param dividend
+     *      The value of the element to divide, in {@code [0, size)}.
+     * @param divisor
+     *      The value of the non-zero element to divide by, in {@code [0, size)}.
+     * @return
+     *      The value of the quotient.
+     */
+
+    public int quotient(final int dividend, final int divisor) {
+        if (divisor == 0) {
+            throw new IllegalStateException("Cannot invert value: " + divisor);
+        }
+        if (dividend == 0) {
+            return 0;
+        }
+        return this.exp[this.log[dividend] + this.order - this.log[divisor]];
+    }
+
+    @Override
+    public BigInteger reduce(final BigInteger value) {
+        return isReduced(value) ? value : super.reduce(value);
+    }
+
+    @Override
+    public GaloisElement subtract(final BigInteger minuend, final BigInteger subtrahend) {
+        return element(sum(index(minuend), negate(index(subtrahend))));
+    }
+
+    // Tabulate a candidate that passed isPrimitive, which must then generate every non-zero element.
+    private int checkedTabulate(final int candidate) {
+        if (!tabulate(candidate)) {
+            throw new IllegalStateException("Primitive element did not generate the field: candidate=" + candidate);
+        }
+        return candidate;
+    }
+
+    // Try the candidates x, then every other non-zero element in order, until one is primitive.
+    private int findGenerator() {
+        final int[] factors = primeFactors(this.order);
+        // x is only a value of the field when its degree is more than one.
+        if (this.prime <= this.order && isPrimitive(this.prime, factors)) {
+            return checkedTabulate(this.prime);
+        }
+        for (int candidate = 1; candidate <= this.order; candidate++) {
+            if (candidate != this.prime && isPrimitive(candidate, factors)) {
+                return checkedTabulate(candidate);
+            }
+        }
+        throw new IllegalStateException("No primitive element: size=" + size());
+    }
+
+    private int index(final BigInteger value) {
+        return reduce(value).intValue();
+    }
+
+    // A candidate is primitive if and only if candidate^(order / q) != 1 for every prime factor q of the order.
+    private boolean isPrimitive(final int candidate,
+                                final int[] factors) {
+        for (final int factor : factors) {
+            if (power(candidate, this.order / factor) == 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isReduced(final BigInteger value) {
+        return value.signum() >= 0 && value.bitLength() < Integer.SIZE && value.intValue() <= this.order;
+    }
+
+    // Multiply the specified value by x, i.e. shift its digits up one place and fold the overflowing digit back down.
+    private int multiplyByX(final int value) {
+        final int top = value / this.topPlace;
+        final int shifted = value % this.topPlace * this.prime;
+        return top == 0 ? shifted : sum(shifted, scale(this.reduction, top));
+    }
+
+    private int multiplyDigits(final int multiplicand, final int multiplier) {
+        // Horner's method over the digits of the multiplier, most significant first.
+        int product = 0;
+        for (int place = this.topPlace; place > 0; place /= this.prime) {
+            product = sum(multiplyByX(product), scale(multiplicand, multiplier / place % this.prime));
+        }
+        return product;
+    }
+
+    private int negate(final int value) {
+        if (this.prime == 2) {
+            return value;
+        }
+        int result = 0;
+        int place = 1;
+        for (int remaining = value; remaining != 0; remaining /= this.prime) {
+            result += (this.prime - remaining % this.prime) % this.prime * place;
+            place *= this.prime;
+        }
+        return result;
+    }
+
+    private int power(final int base,
+                      final int exponent) {
+        int result = 1;
+        int square = base;
+        for (int remaining = exponent; remaining != 0; remaining >>>= 1) {
+            if ((remaining & 1) != 0) {
+                result = multiplyDigits(result, square);
+            }
+            square = multiplyDigits(square, square);
+        }
+        return result;
+    }
+
+    private int scale(final int value, final int factor) {
+        if (factor == 0) {
+            return 0;
+        }
+        int result = 0;
+        int place = 1;
+        for (int remaining = value; remaining != 0; remaining /= this.prime) {
+            // The product of two digits overflows an int once the prime exceeds 46340.
+            result += (int) ((long) (remaining % this.prime) * factor % this.prime) * place;
+            place *= this.prime;
+        }
+        return result;
+    }
+
+    /* default */ int sum(final int augend, final int addend) {
+        if (this.prime == 2) {
+            return augend ^ addend;
+        }
+        int result = 0;
+        int place = 1;
+        for (int left = augend, right = addend; left != 0 || right != 0; left /= this.prime, right /= this.prime) {
+            result += (left % this.prime + right % this.prime) % this.prime * place;
+            place *= this.prime;
+        }
+        return result;
+    }
+
+    // Fill the tables with the powers of the candidate, and report whether it generated every non-zero element.
+    private boolean tabulate(final int candidate) {
+        if (candidate <= 0 || candidate > this.order) {
+            return false;
+        }
+        int power = 1;
+        for (int i = 0; i < this.order; i++) {
+            if (i > 0 && power == 1) {
+                return false;
+            }
+            this.exp[i] = power;
+            this.exp[i + this.order] = power;
+            this.log[power] = i;
+            power = candidate == this.prime ? multiplyByX(power) : multiplyDigits(power, candidate);
+        }
+        return power == 1;
+    }
+
+    private static int[] primeFactors(final int value) {
+        final int[] factors = new int[Integer.SIZE];
+        int count = 0;
+        int remaining = value;
+        for (int factor = 2; factor <= remaining / factor; factor++) {
+            if (remaining % factor == 0) {
+                factors[count++] = factor;
+                while (remaining % factor == 0) {
+                    remaining /= factor;
+                }
+            }
+        }
+        if (remaining > 1) {
+            factors[count++] = remaining;
+        }
+        return Arrays.copyOf(factors, count);
+    }
+
+    // The value of x^n modulo f, i.e. of the digits of -f / f_n below its leading term.
+    private static int reduction(final BigInteger irreduciblePolynomial,
+                                 final BigInteger prime,
+                                 final int degree) {
+        final BigInteger place = prime.pow(degree);
+        final BigInteger leadingInverse = irreduciblePolynomial.divide(place).modInverse(prime);
+        BigInteger remaining = irreduciblePolynomial.mod(place);
+        BigInteger reduction = BigInteger.ZERO;
+        BigInteger digitPlace = BigInteger.ONE;
+        for (int i = 0; i < degree; i++) {
+            final BigInteger digit = remaining.mod(prime).multiply(leadingInverse).negate().mod(prime);
+            reduction = reduction.add(digit.multiply(digitPlace));
+            remaining = remaining.divide(prime);
+            digitPlace = digitPlace.multiply(prime);
+        }
+        return reduction.intValueExact();
+    }
+}
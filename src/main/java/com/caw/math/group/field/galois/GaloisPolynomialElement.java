@@ -21,6 +21,12 @@ public class GaloisPolynomialElement extends AbstractGaloisElement {
         this(field, BigInteger.valueOf(value));
     }
 
+    /* default */ GaloisPolynomialElement(final GaloisPolynomialField field,
+                                          final BigInteger value,
+                                          final boolean reduced) {
+        super(field, value, reduced);
+    }
+
     @Override
     public String toString() {
         final ModularPolynomial modularPolynomial = ModularPolynomialFactory.fromValue()
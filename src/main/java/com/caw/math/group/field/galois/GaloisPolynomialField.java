@@ -4,6 +4,7 @@ import com.caw.math.group.field.galois.algorithm.inverse.GaloisInverse;
 import com.caw.math.group.field.galois.algorithm.inverse.GaloisInverseFactory;
 import com.caw.math.model.polynomial.ModularPolynomial;
 import com.caw.math.model.polynomial.ModularPolynomialFactory;
+import com.caw.math.model.polynomial.ModularPolynomialIrreducibility;
 import com.caw.math.model.polynomial.ModularPolynomialVisitor;
 
 import java.math.BigInteger;
@@ -19,13 +20,23 @@ public class GaloisPolynomialField extends AbstractGaloisField {
 
     // TODO:: IoC?
     private final GaloisInverse galoisInverse = GaloisInverseFactory.make();
+    private final BigInteger irreduciblePolynomial;
     private final ModularPolynomialVisitor reducer;
 
     public GaloisPolynomialField(final BigInteger prime,
                                  final int primePower,
                                  final BigInteger irreduciblePolynomial) {
         super(prime, primePower);
-        this.reducer = new ModularPolynomialReducer(this, irreduciblePolynomial);
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(irreduciblePolynomial)
+                .withModulus(prime)
+                .build();
+        if (polynomial.degree() != primePower || !ModularPolynomialIrreducibility.isIrreducible(polynomial)) {
+            throw new IllegalArgumentException("Invalid " + getClass() + ": irreduciblePolynomial="
+                    + irreduciblePolynomial);
+        }
+        this.irreduciblePolynomial = irreduciblePolynomial;
+        this.reducer = new ModularPolynomialReducer(this, polynomial);
     }
 
     public GaloisPolynomialField(final long prime,
@@ -41,7 +52,7 @@ public class GaloisPolynomialField extends AbstractGaloisField {
                 .withModulus(prime())
                 .build();
         final ModularPolynomial sum = modularPolynomial.add(addend);
-        return new GaloisPolynomialElement(this, sum.value());
+        return element(sum.value());
     }
 
     @Override
@@ -51,7 +62,7 @@ public class GaloisPolynomialField extends AbstractGaloisField {
                 .withModulus(prime())
                 .build();
         final ModularPolynomial difference = modularPolynomial.subtract(value);
-        return new GaloisPolynomialElement(this, difference.value());
+        return element(difference.value());
     }
 
     @Override
@@ -61,23 +72,25 @@ public class GaloisPolynomialField extends AbstractGaloisField {
     }
 
     @Override
-    public GaloisElement element(final BigInteger value) {
-        return new GaloisPolynomialElement(this, value);
+    public boolean equals(final Object other) {
+        return super.equals(other)
+                && this.irreduciblePolynomial.equals(((GaloisPolynomialField) other).irreduciblePolynomial);
     }
 
     @Override
-    public GaloisElement element(final long value) {
-        return new GaloisPolynomialElement(this, value);
+    public int hashCode() {
+        return 31 * super.hashCode() + this.irreduciblePolynomial.hashCode();
     }
 
-    @Override
-    public GaloisElement getAdditiveNeutralElement() {
-        return new GaloisPolynomialElement(this, BigInteger.ZERO);
-    }
+    /**
+     * Report the value of the irreducible polynomial that the elements of this field are reduced by.
+     *
+     * @return
+     *      The value of the irreducible polynomial of this field.
+     */
 
-    @Override
-    public GaloisElement getMultiplicativeNeutralElement() {
-        return new GaloisPolynomialElement(this, BigInteger.ONE);
+    public BigInteger irreduciblePolynomial() {
+        return this.irreduciblePolynomial;
     }
 
     @Override
@@ -92,7 +105,12 @@ public class GaloisPolynomialField extends AbstractGaloisField {
                 .withModulus(prime())
                 .build();
         final ModularPolynomial product = modularPolynomial.multiply(multiplier);
-        return new GaloisPolynomialElement(this, product.value());
+        return element(product.value());
+    }
+
+    @Override
+    /* default */ GaloisElement newElement(final BigInteger value) {
+        return new GaloisPolynomialElement(this, value, true);
     }
 
     @Override
@@ -112,6 +130,6 @@ public class GaloisPolynomialField extends AbstractGaloisField {
                 .withModulus(prime())
                 .build();
         final ModularPolynomial difference = modularPolynomial.subtract(subtrahend);
-        return new GaloisPolynomialElement(this, difference.value());
+        return element(difference.value());
     }
 }
@@ -18,6 +18,10 @@ public class GaloisPrimeElement extends AbstractGaloisElement {
         this(field, BigInteger.valueOf(value));
     }
 
+    /* default */ GaloisPrimeElement(final GaloisPrimeField field, final BigInteger value, final boolean reduced) {
+        super(field, value, reduced);
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + "[value=" + value() + "]";
@@ -28,13 +28,13 @@ public class GaloisPrimeField extends AbstractGaloisField {
     @Override
     public GaloisElement add(final BigInteger augend, final BigInteger addend) {
         final BigInteger sum = augend.add(addend);
-        return new GaloisPrimeElement(this, sum);
+        return element(sum);
     }
 
     @Override
     public GaloisElement additiveInverseOf(final BigInteger value) {
         final BigInteger inverse = prime().subtract(value);
-        return new GaloisPrimeElement(this, inverse);
+        return element(inverse);
     }
 
     @Override
@@ -43,26 +43,6 @@ public class GaloisPrimeField extends AbstractGaloisField {
         return multiply(dividend, divisorInverse);
     }
 
-    @Override
-    public GaloisElement element(final BigInteger value) {
-        return new GaloisPrimeElement(this, value);
-    }
-
-    @Override
-    public GaloisElement element(final long value) {
-        return new GaloisPrimeElement(this, value);
-    }
-
-    @Override
-    public GaloisElement getAdditiveNeutralElement() {
-        return new GaloisPrimeElement(this, BigInteger.ZERO);
-    }
-
-    @Override
-    public GaloisElement getMultiplicativeNeutralElement() {
-        return new GaloisPrimeElement(this, BigInteger.ONE);
-    }
-
     @Override
     public GaloisElement multiplicativeInverseOf(final BigInteger value) {
         return galoisInverse.invert(this, value);
@@ -71,7 +51,12 @@ public class GaloisPrimeField extends AbstractGaloisField {
     @Override
     public GaloisElement multiply(final BigInteger multiplicand, final BigInteger multiplier) {
         final BigInteger product = multiplicand.multiply(multiplier);
-        return new GaloisPrimeElement(this, product);
+        return element(product);
+    }
+
+    @Override
+    /* default */ GaloisElement newElement(final BigInteger value) {
+        return new GaloisPrimeElement(this, value, true);
     }
 
     @Override
@@ -82,6 +67,6 @@ public class GaloisPrimeField extends AbstractGaloisField {
     @Override
     public GaloisElement subtract(final BigInteger minuend, final BigInteger subtrahend) {
         final BigInteger difference = minuend.subtract(subtrahend);
-        return new GaloisPrimeElement(this, difference);
+        return element(difference);
     }
 }
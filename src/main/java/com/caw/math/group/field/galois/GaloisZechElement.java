@@ -0,0 +1,101 @@
+package com.caw.math.group.field.galois;
+
+import com.caw.math.group.AdditionGroupElement;
+import com.caw.math.group.MultiplicativeGroupElement;
+
+import java.math.BigInteger;
+
+/**
+ * An extension of {@link AbstractGaloisElement} that represents an element of a {@link GaloisZechField} by its
+ * discrete logarithm, as well as by its value. Arithmetic with other elements of the same field combines logarithms,
+ * whereas arithmetic with plain values converts them first.
+ *
+ * @author cwhitmore
+ */
+
+public class GaloisZechElement extends AbstractGaloisElement {
+
+    private final GaloisZechField field;
+    private final int logarithm;
+
+    /* default */ GaloisZechElement(final GaloisZechField field, final BigInteger value, final int logarithm) {
+        super(field, value, true);
+        this.field = field;
+        this.logarithm = logarithm;
+    }
+
+    @Override
+    public GaloisZechElement add(final AdditionGroupElement addend) {
+        if (addend instanceof GaloisElement) {
+            return this.field.add(this, (GaloisElement) addend);
+        }
+        return this.field.add(value(), addend.value());
+    }
+
+    @Override
+    public GaloisZechElement additiveInverse() {
+        return this.field.additiveInverseOf(this);
+    }
+
+    @Override
+    public GaloisZechElement divide(final MultiplicativeGroupElement divisor) {
+        if (divisor instanceof GaloisElement) {
+            return this.field.divide(this, (GaloisElement) divisor);
+        }
+        return this.field.divide(value(), divisor.value());
+    }
+
+    @Override
+    public GaloisZechField field() {
+        return this.field;
+    }
+
+    /**
+     * Report the discrete logarithm of this element to the base of the {@link GaloisZechField#generator()}.
+     *
+     * @return
+     *      The logarithm of this element, in {@code [0, size - 1)}, or {@link GaloisZechField#LOG_ZERO} if this is
+     *      the zero element.
+     */
+
+    public int logarithm() {
+        return this.logarithm;
+    }
+
+    @Override
+    public GaloisZechElement multiplicativeInverse() {
+        return this.field.multiplicativeInverseOf(this);
+    }
+
+    @Override
+    public GaloisZechElement multiply(final MultiplicativeGroupElement multiplier) {
+        if (multiplier instanceof GaloisElement) {
+            return this.field.multiply(this, (GaloisElement) multiplier);
+        }
+        return this.field.multiply(value(), multiplier.value());
+    }
+
+    @Override
+    public GaloisZechElement subtract(final AdditionGroupElement subtrahend) {
+        if (subtrahend instanceof GaloisElement) {
+            return this.field.subtract(this, (GaloisElement) subtrahend);
+        }
+        return this.field.subtract(value(), subtrahend.value());
+    }
+
+    /**
+     * Convert this element to the element of the {@link GaloisPolynomialField} that its field was built from.
+     *
+     * @return
+     *      The element of the polynomial field with the same value as this element.
+     */
+
+    public GaloisElement toPolynomial() {
+        return this.field.toPolynomial(this);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[value=" + value() + ", logarithm=" + this.logarithm + "]";
+    }
+}
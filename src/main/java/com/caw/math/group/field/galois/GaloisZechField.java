@@ -0,0 +1,357 @@
+package com.caw.math.group.field.galois;
+
+import java.math.BigInteger;
+
+/**
+ * An extension of {@link GaloisLogTableField} whose elements are {@link GaloisZechElement} instances, which carry
+ * their discrete logarithm to the base of the {@link #generator()} alongside their value. Multiplication and division
+ * of such elements are an addition and a subtraction of logarithms modulo {@code size - 1}, and addition uses the
+ * Zech logarithm {@code Z(n)}, defined by {@code 1 + g^n = g^Z(n)}, since
+ * {@code g^a + g^b = g^a * (1 + g^(b - a)) = g^(a + Z(b - a))}. So arithmetic between the elements of this field never
+ * leaves the log domain.
+ *
+ * <p>Multiplication-heavy pipelines may also work on logarithms directly, without any allocation, through
+ * {@link #logProduct(int, int)}, {@link #logSum(int, int)} and the like. The zero element, which has no logarithm, is
+ * represented by {@link #LOG_ZERO}. {@link #fromPolynomial(GaloisElement)} and {@link #toPolynomial(GaloisElement)}
+ * convert between elements of this field and those of the {@link GaloisPolynomialField} it was built from.
+ *
+ * @author cwhitmore
+ */
+
+@SuppressWarnings("PMD.TooManyMethods")
+public class GaloisZechField extends GaloisLogTableField {
+
+    /**
+     * The logarithm that represents the zero element, which is not a power of the generator.
+     */
+
+    public static final int LOG_ZERO = -1;
+
+    private final GaloisPolynomialField polynomialField;
+
+    // The logarithm of -1, i.e. 0 when the prime is two and (size - 1) / 2 otherwise.
+    private final int negativeOne;
+    private final int[] zech;
+
+    /**
+     * Construct a new {@link GaloisZechField} with the same elements as the specified {@code field}, generated by the
+     * same element as {@link GaloisLogTableField#GaloisLogTableField(GaloisPolynomialField)} would be.
+     *
+     * @param field
+     *      The field to tabulate.
+     * @throws IllegalArgumentException
+     *      If the {@code field} has more than {@link #MAX_SIZE} elements.
+     */
+
+    public GaloisZechField(final GaloisPolynomialField field) {
+        this(field, null);
+    }
+
+    /**
+     * Construct a new {@link GaloisZechField} with the same elements as the specified {@code field}, generated by the
+     * specified primitive {@code generator}.
+     *
+     * @param field
+     *      The field to tabulate.
+     * @param generator
+     *      A primitive element of the {@code field}, whose powers are every non-zero element.
+     * @throws IllegalArgumentException
+     *      If the {@code field} has more than {@link #MAX_SIZE} elements, or if the {@code generator} is not primitive.
+     */
+
+    public GaloisZechField(final GaloisPolynomialField field,
+                           final GaloisElement generator) {
+        super(field, generator);
+        this.polynomialField = field;
+        this.negativeOne = prime().equals(BigInteger.TWO) ? 0 : order() / 2;
+        this.zech = new int[order()];
+        for (int n = 0; n < this.zech.length; n++) {
+            final int sum = sum(1, antilog(n));
+            this.zech[n] = sum == 0 ? LOG_ZERO : log(sum);
+        }
+    }
+
+    @Override
+    public GaloisZechElement add(final BigInteger augend, final BigInteger addend) {
+        return (GaloisZechElement) super.add(augend, addend);
+    }
+
+    @Override
+    public GaloisZechElement add(final GaloisElement augend, final GaloisElement addend) {
+        if (isMember(augend) && isMember(addend)) {
+            return fromLogarithm(logSum(logarithm(augend), logarithm(addend)));
+        }
+        return add(augend.value(), addend.value());
+    }
+
+    @Override
+    public GaloisZechElement additiveInverseOf(final BigInteger value) {
+        return (GaloisZechElement) super.additiveInverseOf(value);
+    }
+
+    @Override
+    public GaloisZechElement additiveInverseOf(final GaloisElement element) {
+        if (isMember(element)) {
+            return fromLogarithm(logNegate(logarithm(element)));
+        }
+        return additiveInverseOf(element.value());
+    }
+
+    @Override
+    public GaloisZechElement divide(final BigInteger dividend, final BigInteger divisor) {
+        return (GaloisZechElement) super.divide(dividend, divisor);
+    }
+
+    @Override
+    public GaloisZechElement divide(final GaloisElement dividend, final GaloisElement divisor) {
+        if (isMember(dividend) && isMember(divisor)) {
+            return fromLogarithm(logQuotient(logarithm(dividend), logarithm(divisor)));
+        }
+        return divide(dividend.value(), divisor.value());
+    }
+
+    @Override
+    public GaloisZechElement element(final BigInteger value) {
+        return (GaloisZechElement) super.element(value);
+    }
+
+    @Override
+    public GaloisZechElement element(final long value) {
+        return (GaloisZechElement) super.element(value);
+    }
+
+    /**
+     * Retrieve the element of this field with the specified {@code logarithm}.
+     *
+     * @param logarithm
+     *      The logarithm of the element to the base of the {@link #generator()}, in {@code [0, size - 1)}, or
+     *      {@link #LOG_ZERO} for the zero element.
+     * @return
+     *      The element {@code generator^logarithm}.
+     */
+
+    public GaloisZechElement fromLogarithm(final int logarithm) {
+        return element(logarithm == LOG_ZERO ? 0 : antilog(logarithm));
+    }
+
+    /**
+     * Convert the specified {@code element} of the {@link GaloisPolynomialField} that this field was built from to
+     * the element of this field with the same value.
+     *
+     * @param element
+     *      The element to convert.
+     * @return
+     *      The element of this field with the same value as the {@code element}.
+     * @throws IllegalArgumentException
+     *      If the {@code element} is not a member of the polynomial field.
+     */
+
+    public GaloisZechElement fromPolynomial(final GaloisElement element) {
+        if (!this.polynomialField.equals(element.field())) {
+            throw new IllegalArgumentException("Illegal parameter: element=" + element);
+        }
+        return element(element.value());
+    }
+
+    @Override
+    public GaloisZechElement generator() {
+        return (GaloisZechElement) super.generator();
+    }
+
+    @Override
+    public GaloisZechElement getAdditiveNeutralElement() {
+        return (GaloisZechElement) super.getAdditiveNeutralElement();
+    }
+
+    @Override
+    public GaloisZechElement getMultiplicativeNeutralElement() {
+        return (GaloisZechElement) super.getMultiplicativeNeutralElement();
+    }
+
+    /**
+     * Calculate the logarithm of the difference of the elements with the specified logarithms.
+     *
+     * @param minuend
+     *      The logarithm of the element to subtract from, or {@link #LOG_ZERO}.
+     * @param subtrahend
+     *      The logarithm of the element to subtract, or {@link #LOG_ZERO}.
+     * @return
+     *      The logarithm of the difference, or {@link #LOG_ZERO}.
+     */
+
+    public int logDifference(final int minuend, final int subtrahend) {
+        return logSum(minuend, logNegate(subtrahend));
+    }
+
+    /**
+     * Calculate the logarithm of the additive inverse of the element with the specified logarithm.
+     *
+     * @param logarithm
+     *      The logarithm of the element to negate, or {@link #LOG_ZERO}.
+     * @return
+     *      The logarithm of the additive inverse, or {@link #LOG_ZERO}.
+     */
+
+    public int logNegate(final int logarithm) {
+        if (logarithm == LOG_ZERO) {
+            return LOG_ZERO;
+        }
+        return wrap(logarithm + this.negativeOne);
+    }
+
+    /**
+     * Calculate the logarithm of the product of the elements with the specified logarithms.
+     *
+     * @param multiplicand
+     *      The logarithm of the element to multiply, or {@link #LOG_ZERO}.
+     * @param multiplier
+     *      The logarithm of the element to multiply by, or {@link #LOG_ZERO}.
+     * @return
+     *      The logarithm of the product, or {@link #LOG_ZERO}.
+     */
+
+    public int logProduct(final int multiplicand, final int multiplier) {
+        if (multiplicand == LOG_ZERO || multiplier == LOG_ZERO) {
+            return LOG_ZERO;
+        }
+        return wrap(multiplicand + multiplier);
+    }
+
+    /**
+     * Calculate the logarithm of the quotient of the elements with the specified logarithms.
+     *
+     * @param dividend
+     *      The logarithm of the element to divide, or {@link #LOG_ZERO}.
+     * @param divisor
+     *      The logarithm of the non-zero element to divide by.
+     * @return
+     *      The logarithm of the quotient, or {@link #LOG_ZERO}.
+     */
+
+    public int logQuotient(final int dividend, final int divisor) {
+        if (divisor == LOG_ZERO) {
+            throw new IllegalStateException("Cannot invert value: 0");
+        }
+        if (dividend == LOG_ZERO) {
+            return LOG_ZERO;
+        }
+        return wrap(dividend - divisor + order());
+    }
+
+    /**
+     * Calculate the logarithm of the sum of the elements with the specified logarithms, with a single lookup of the
+     * Zech logarithm of their ratio.
+     *
+     * @param augend
+     *      The logarithm of the element to add to, or {@link #LOG_ZERO}.
+     * @param addend
+     *      The logarithm of the element to add, or {@link #LOG_ZERO}.
+     * @return
+     *      The logarithm of the sum, or {@link #LOG_ZERO}.
+     */
+
+    public int logSum(final int augend, final int addend) {
+        if (augend == LOG_ZERO) {
+            return addend;
+        }
+        if (addend == LOG_ZERO) {
+            return augend;
+        }
+        final int zechLogarithm = this.zech[wrap(addend - augend + order())];
+        return zechLogarithm == LOG_ZERO ? LOG_ZERO : wrap(augend + zechLogarithm);
+    }
+
+    @Override
+    public GaloisZechElement multiplicativeInverseOf(final BigInteger value) {
+        return (GaloisZechElement) super.multiplicativeInverseOf(value);
+    }
+
+    @Override
+    public GaloisZechElement multiplicativeInverseOf(final GaloisElement element) {
+        if (isMember(element)) {
+            return fromLogarithm(logQuotient(0, logarithm(element)));
+        }
+        return multiplicativeInverseOf(element.value());
+    }
+
+    @Override
+    public GaloisZechElement multiply(final BigInteger multiplicand, final BigInteger multiplier) {
+        return (GaloisZechElement) super.multiply(multiplicand, multiplier);
+    }
+
+    @Override
+    public GaloisZechElement multiply(final GaloisElement multiplicand, final GaloisElement multiplier) {
+        if (isMember(multiplicand) && isMember(multiplier)) {
+            return fromLogarithm(logProduct(logarithm(multiplicand), logarithm(multiplier)));
+        }
+        return multiply(multiplicand.value(), multiplier.value());
+    }
+
+    @Override
+    public GaloisZechElement subtract(final BigInteger minuend, final BigInteger subtrahend) {
+        return (GaloisZechElement) super.subtract(minuend, subtrahend);
+    }
+
+    @Override
+    public GaloisZechElement subtract(final GaloisElement minuend, final GaloisElement subtrahend) {
+        if (isMember(minuend) && isMember(subtrahend)) {
+            return fromLogarithm(logDifference(logarithm(minuend), logarithm(subtrahend)));
+        }
+        return subtract(minuend.value(), subtrahend.value());
+    }
+
+    /**
+     * Convert the specified {@code element} of this field to the element of the {@link GaloisPolynomialField} that
+     * this field was built from with the same value.
+     *
+     * @param element
+     *      The element to convert.
+     * @return
+     *      The element of the polynomial field with the same value as the {@code element}.
+     * @throws IllegalArgumentException
+     *      If the {@code element} is not a member of this field.
+     */
+
+    public GaloisElement toPolynomial(final GaloisElement element) {
+        if (!equals(element.field())) {
+            throw new IllegalArgumentException("Illegal parameter: element=" + element);
+        }
+        return this.polynomialField.element(element.value());
+    }
+
+    /**
+     * Calculate the Zech logarithm {@code Z(n)} of the specified logarithm, for which {@code 1 + g^n = g^Z(n)}.
+     *
+     * @param logarithm
+     *      The logarithm {@code n}, in {@code [0, size - 1)}.
+     * @return
+     *      The Zech logarithm of {@code n}, or {@link #LOG_ZERO} if {@code g^n = -1}.
+     */
+
+    public int zech(final int logarithm) {
+        if (logarithm < 0 || logarithm >= order()) {
+            throw new IllegalArgumentException("Illegal parameter: logarithm=" + logarithm);
+        }
+        return this.zech[logarithm];
+    }
+
+    @Override
+    /* default */ GaloisElement newElement(final BigInteger value) {
+        final int index = value.intValue();
+        return new GaloisZechElement(this, value, index == 0 ? LOG_ZERO : log(index));
+    }
+
+    // Only elements of this very instance share its generator, so only their logarithms may be combined directly.
+    private boolean isMember(final GaloisElement element) {
+        return element.field() == this;
+    }
+
+    private int wrap(final int logarithm) {
+        final int order = order();
+        return logarithm >= order ? logarithm - order : logarithm;
+    }
+
+    private static int logarithm(final GaloisElement element) {
+        return ((GaloisZechElement) element).logarithm();
+    }
+}
@@ -2,6 +2,7 @@ package com.caw.math.group.field.galois;
 
 import com.caw.math.model.polynomial.ModularPolynomial;
 import com.caw.math.model.polynomial.ModularPolynomialFactory;
+import com.caw.math.model.polynomial.ModularPolynomialIrreducibility;
 
 import java.io.BufferedWriter;
 import java.io.File;
@@ -13,12 +14,11 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
- * TODO:: I would really like a fast, memory-efficient way of calculating irreducible polynomials. This class can be used to generate all
- * TODO:: the irreducible polynomials for a galois field, however for galois fields with large primes or prime powers
- * TODO:: this solution is at best inefficient and at worst infeasible. For example, GF(5^8) already has 195,000
- * TODO:: irreducible polynomials. For this reason, I've left this class here as a quick way to get some sample
- * TODO:: irreducibles for testing but I've left out any sort of irreducible verification or the ability to randomly
- * TODO:: generate an irreducible as it would create an arbitrary bottleneck on the size of fields we could support.
+ * This class can be used to generate files of all the irreducible polynomials for a galois field, as a quick way to
+ * get some sample irreducibles for testing. For galois fields with large primes or prime powers, writing out every
+ * irreducible is still infeasible; GF(5^8) already has 195,000 of them. To take just a few irreducibles, stream them
+ * lazily with {@link ModularPolynomialIrreducibility#irreducibles}, and to check a single polynomial, use
+ * {@link ModularPolynomialIrreducibility#isIrreducible}.
  *
  * @author cwhitmore
  */
@@ -37,24 +37,13 @@ public final class IrreduciblePolynomials {
 
     /**
      * Generate a file in src/main/resources with the irreducible polynomials corresponding to a galois field with
-     * the specified {@code prime} and {@code primePower}.
+     * the specified {@code prime} and {@code primePower}. The polynomials are streamed to the file in order, rather
+     * than collected first.
      */
 
     @SuppressWarnings("unused")
     private static void cacheIrreducibles(final BigInteger prime, final int primePower) {
 
-        final List<BigInteger> sorted = irreduciblesOf(prime, primePower).stream()
-                .sorted()
-                .collect(Collectors.toList());
-
-        // Let's store the polynomial Strings for user readability. Delete this later if file system space ends up
-        // being a constraint, although at that point - this is just not a feasible design anyway.
-        final List<ModularPolynomial> modularPolynomials = sorted.stream()
-                .map(i -> ModularPolynomialFactory.fromValue()
-                        .withValue(i)
-                        .withModulus(prime)
-                        .build()).collect(Collectors.toList());
-
         final String path = "src" + File.separator + "main" + File.separator + "resources" + File.separator
                 + "irreducibles" + File.separator + prime;
         final String file = "irreducibles_" + prime + "_" + primePower + ".txt";
@@ -64,9 +53,18 @@ public final class IrreduciblePolynomials {
             System.out.println("Creating directory: path=" + path);
         }
 
+        // Let's store the polynomial Strings for user readability. Delete this later if file system space ends up
+        // being a constraint.
         try (BufferedWriter bw = new BufferedWriter(new FileWriter(path + File.separator + file))) {
 
-            for (final ModularPolynomial poly : modularPolynomials) {
+            final ModularPolynomial one = ModularPolynomialFactory.fromValue()
+                    .withValue(BigInteger.ONE)
+                    .withModulus(prime)
+                    .build();
+            final Stream<ModularPolynomial> polynomials = primePower == 0
+                    ? Stream.of(one)
+                    : ModularPolynomialIrreducibility.irreducibles(prime, primePower);
+            for (final ModularPolynomial poly : (Iterable<ModularPolynomial>) polynomials::iterator) {
                 bw.write(poly.value() + " (" + poly + ")");
                 bw.newLine();
             }
@@ -77,8 +75,10 @@ public final class IrreduciblePolynomials {
     }
 
     /**
-     * Calculate all of the irreducible polynomials for the specified {@code prime} and {@code primePower} using
-     * brute force.
+     * Calculate all of the irreducible polynomials for the specified {@code prime} and {@code primePower} by testing
+     * every polynomial of that degree with {@link ModularPolynomialIrreducibility}. Prefer
+     * {@link ModularPolynomialIrreducibility#irreducibles(BigInteger, int)}, which streams the same polynomials without
+     * holding them all in memory.
      */
 
     public static Set<BigInteger> irreduciblesOf(final BigInteger prime, final int primePower) {
@@ -86,57 +86,12 @@ public final class IrreduciblePolynomials {
         if (primePower < 0) {
             throw new IllegalArgumentException("Invalid parameter: primePower=" + primePower);
         }
-        final Set<BigInteger> irreducibles = new HashSet<>();
-
         if (primePower == 0) {
-            irreducibles.add(BigInteger.ONE);
-            return irreducibles;
+            return new HashSet<>(Set.of(BigInteger.ONE));
         }
 
-        if (primePower == 1) {
-            irreducibles.add(BigInteger.valueOf(2));
-            irreducibles.add(BigInteger.valueOf(3));
-            return irreducibles;
-        }
-
-        final Set<BigInteger> reducibles = reduciblesOf(prime, primePower);
-
-        final BigInteger floor = prime.pow(primePower);
-        final BigInteger ceiling = prime.pow(primePower + 1);
-
-        return Stream.iterate(floor, bi -> bi.add(BigInteger.ONE))
-                .limit(ceiling.subtract(floor).longValueExact())
-                .filter(bi -> !reducibles.contains(bi))
+        return ModularPolynomialIrreducibility.irreducibles(prime, primePower)
+                .map(ModularPolynomial::value)
                 .collect(Collectors.toSet());
     }
-
-    /**
-     * Calculate all of the reducible polynomials for a specified {@code prime} and {@code primePower} using brute force.
-     */
-
-    private static Set<BigInteger> reduciblesOf(final BigInteger prime, final int primePower) {
-
-        final Set<BigInteger> reducibles = new HashSet<>();
-
-        for (int currentDegree = primePower / 2; currentDegree < primePower; currentDegree++) {
-
-            final BigInteger floor1 = prime.pow(currentDegree);
-            final BigInteger ceiling1 = prime.pow(currentDegree + 1);
-
-            final BigInteger floor2 = prime.pow(primePower - currentDegree);
-            final BigInteger ceiling2 = prime.pow(primePower - currentDegree + 1);
-
-            for (BigInteger i = floor1; i.compareTo(ceiling1) < 0; i = i.add(BigInteger.ONE)) {
-                for (BigInteger j = floor2; j.compareTo(ceiling2) < 0; j = j.add(BigInteger.ONE)) {
-                    final ModularPolynomial modularPolynomial = ModularPolynomialFactory.fromValue()
-                            .withValue(i)
-                            .withModulus(prime)
-                            .build();
-                    reducibles.add(modularPolynomial.multiply(j).value());
-                }
-            }
-        }
-
-        return reducibles;
-    }
 }
@@ -3,8 +3,6 @@ package com.caw.math.group.field.galois;
 import com.caw.math.model.polynomial.*;
 
 import java.math.BigInteger;
-import java.util.Collections;
-import java.util.List;
 
 /**
  * An implementation of {@link ModularPolynomialVisitor} which provides algorithms for reducing the polynomial value
@@ -19,10 +17,25 @@ public class ModularPolynomialReducer implements ModularPolynomialVisitor {
     private final GaloisField field;
     private final ModularPolynomial reducer;
 
+    // Divides by the reducer with a cached reciprocal, so that large reductions cost two polynomial multiplications.
+    private final ModularPolynomialDivisor divisor;
+
+    // The bitwise words of the reducer when the field has a prime of two, otherwise null. This is never mutated, so it
+    // is safe to share between the per-thread scratch buffers that are reduced by it.
+    private final MutableBitPolynomial bitReducer;
+    private final ThreadLocal<MutableBitPolynomial> scratch = ThreadLocal.withInitial(MutableBitPolynomial::new);
+
+    // The reducer itself when it is a trinomial, pentanomial or other sparse polynomial, otherwise null. Reduction by a
+    // sparse reducer only touches its few lower terms at each step, which beats every dense strategy.
+    private final SparsePolynomial sparseReducer;
+
     public ModularPolynomialReducer(final GaloisField field,
                                     final ModularPolynomial reducer) {
         this.field = field;
         this.reducer = reducer;
+        this.divisor = new ModularPolynomialDivisor(reducer);
+        this.bitReducer = BigInteger.TWO.equals(reducer.modulus()) ? new MutableBitPolynomial(reducer.value()) : null;
+        this.sparseReducer = reducer instanceof SparsePolynomial ? (SparsePolynomial) reducer : null;
     }
 
     public ModularPolynomialReducer(final GaloisField field,
@@ -38,55 +51,79 @@ public class ModularPolynomialReducer implements ModularPolynomialVisitor {
     @Override
     public ModularPolynomial visit(final BitPolynomial polynomial) {
 
-        final int degreeDiff = polynomial.degree() - reducer.degree();
-        if (degreeDiff < 0) {
+        if (polynomial.degree() < reducer.degree()) {
             return polynomial;
-        } else {
-            final BigInteger shifted = reducer.value().shiftLeft(degreeDiff);
-            final ModularPolynomial reduced = ModularPolynomialFactory.fromValue()
-                    .withValue(polynomial.value().xor(shifted))
-                    .withModulus(polynomial.modulus())
-                    .build();
-            return reduced.accepts(this);
         }
+        return reduceBits(polynomial);
     }
 
     @Override
     public ModularPolynomial visit(final NonBitPolynomial polynomial) {
+        if (sparseReducer != null) {
+            return sparseReducer.reduce(polynomial);
+        }
+        return divisor.remainder(polynomial);
+    }
 
-        final int degreeDiff = polynomial.degree() - reducer.degree();
+    @Override
+    public ModularPolynomial visit(final PackedPolynomial polynomial) {
+        if (sparseReducer != null) {
+            return sparseReducer.reduce(polynomial);
+        }
+        final int quotientLength = polynomial.degree() - reducer.degree() + 1;
+        if (Math.min(quotientLength, reducer.degree() + 1) >= ModularPolynomialDivisor.PACKED_NEWTON_THRESHOLD) {
+            return divisor.remainder(polynomial);
+        }
+        return polynomial.remainder(reducer);
+    }
 
-        if (degreeDiff < 0) {
+    @Override
+    public ModularPolynomial visit(final SparsePolynomial polynomial) {
+        if (sparseReducer != null) {
+            return sparseReducer.reduce(polynomial);
+        }
+        if (polynomial.degree() < reducer.degree()) {
             return polynomial;
-        } else {
-
-            final List<BigInteger> polynomialCoefficients = polynomial.coefficients();
-            final List<BigInteger> reducerCoefficients = reducer.coefficients();
-
-            // Shift the irreducible polynomial until the degree of the shifted reducer equals the degree of the
-            // polynomial to reduce.
-            final List<BigInteger> shifter = Collections.nCopies(polynomialCoefficients.size() - reducerCoefficients.size(), BigInteger.ZERO);
-            reducerCoefficients.addAll(0, shifter);
-            final ModularPolynomial shiftedReducer = ModularPolynomialFactory.fromCoefficients()
-                    .withCoefficients(reducerCoefficients)
-                    .withModulus(field.prime())
-                    .build();
-
-            final BigInteger leadingPolynomialCoefficient = polynomialCoefficients.get(polynomialCoefficients.size() - 1);
-            final BigInteger leadingReducerCoefficient = reducerCoefficients.get(reducerCoefficients.size() - 1);
-
-            // Calculate the scale factor required such that the highest degree coefficient of the reducer polynomial
-            // is equal to the highest degree coefficient of the polynomial to reduce.
-            final GaloisField primeField = new GaloisPrimeField(field.prime());
-            final GaloisElement leadingReducerInverse = primeField.multiplicativeInverseOf(leadingReducerCoefficient);
-            final BigInteger factor = leadingReducerInverse.multiply(leadingPolynomialCoefficient).value().mod(field.prime());
-
-            final ModularPolynomial scaledReducer = shiftedReducer.scale(factor);
-            final NonBitPolynomial reduced = polynomial.subtract(scaledReducer);
-
-            // One reduction operation is guaranteed to lower the degree of the polynomial to reduce, however does not
-            // guarantee that we have made it all the way to being a member of this reducer's galois field.
-            return reduced.accepts(this);
         }
+        // A sparse binary polynomial is reduced by a dense binary reducer in scratch words, just like a dense one.
+        if (BigInteger.TWO.equals(reducer.modulus())) {
+            return reduceBits(polynomial);
+        }
+        return divisor.remainder(polynomial);
+    }
+
+    @Override
+    public ModularPolynomial visit(final WordBitPolynomial polynomial) {
+        return polynomial.remainder(reducer);
+    }
+
+    @Override
+    public ModularPolynomial visit(final MutableBitPolynomial polynomial) {
+        if (sparseReducer != null) {
+            return sparseReducer.reduceInPlace(polynomial);
+        }
+        return polynomial.reduceInPlace(bitReducer());
+    }
+
+    @Override
+    public ModularPolynomial visit(final MutablePolynomial polynomial) {
+        return polynomial.reduceInPlace(reducer);
+    }
+
+    private MutableBitPolynomial bitReducer() {
+        if (bitReducer == null) {
+            throw new IllegalArgumentException("Invalid " + getClass().getSimpleName() + ": modulus="
+                    + reducer.modulus());
+        }
+        return bitReducer;
+    }
+
+    // Reduce inside of this thread's scratch words rather than copying the whole BigInteger for every step.
+    private ModularPolynomial reduceBits(final ModularPolynomial polynomial) {
+        final MutableBitPolynomial remainder = scratch.get().set(polynomial);
+        if (sparseReducer != null) {
+            return sparseReducer.reduceInPlace(remainder).freeze();
+        }
+        return remainder.reduceInPlace(bitReducer()).freeze();
     }
 }
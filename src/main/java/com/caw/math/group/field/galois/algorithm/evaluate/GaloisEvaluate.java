@@ -0,0 +1,53 @@
+package com.caw.math.group.field.galois.algorithm.evaluate;
+
+import com.caw.math.group.field.galois.GaloisField;
+import com.caw.math.model.polynomial.ModularPolynomial;
+
+import java.math.BigInteger;
+
+/**
+ * An interface for algorithms that are able to evaluate a {@link ModularPolynomial} at many points of a
+ * {@link GaloisField}. The coefficients of the polynomial are members of the prime subfield of the galois field, so the
+ * modulus of the polynomial must be the prime of the galois field.
+ *
+ * @author cwhitmore
+ */
+
+public interface GaloisEvaluate {
+
+    /**
+     * Evaluate the specified {@code polynomial} at each of the specified {@code points} inside of the specified galois
+     * field.
+     *
+     * @param field
+     *      The galois field to evaluate the polynomial inside of.
+     * @param polynomial
+     *      The polynomial to evaluate, with a modulus equal to the prime of the galois field.
+     * @param points
+     *      The values of the galois elements to evaluate the polynomial at.
+     * @return
+     *      A new array of the value of the polynomial at each point, in the order of the points.
+     * @throws IllegalArgumentException
+     *      If a point is not the value of an element of the field, i.e. not in {@code [0, size)}.
+     */
+
+    BigInteger[] evaluate(final GaloisField field, final ModularPolynomial polynomial, final BigInteger[] points);
+
+    /**
+     * Evaluate the specified {@code polynomial} at each of the specified {@code points} inside of the specified galois
+     * field, whose elements must have values that fit inside of a {@code long}.
+     *
+     * @param field
+     *      The galois field to evaluate the polynomial inside of.
+     * @param polynomial
+     *      The polynomial to evaluate, with a modulus equal to the prime of the galois field.
+     * @param points
+     *      The values of the galois elements to evaluate the polynomial at.
+     * @return
+     *      A new array of the value of the polynomial at each point, in the order of the points.
+     * @throws IllegalArgumentException
+     *      If a point is not the value of an element of the field, i.e. not in {@code [0, size)}.
+     */
+
+    long[] evaluate(final GaloisField field, final ModularPolynomial polynomial, final long[] points);
+}
@@ -0,0 +1,12 @@
+package com.caw.math.group.field.galois.algorithm.evaluate;
+
+/**
+ * An enumeration of the available algorithms for {@link GaloisEvaluate} implementations.
+ *
+ * @author cwhitmore
+ */
+
+public enum GaloisEvaluateAlgorithm {
+    HORNER,
+    PARALLEL_HORNER
+}
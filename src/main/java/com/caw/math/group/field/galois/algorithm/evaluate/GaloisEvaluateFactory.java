@@ -0,0 +1,62 @@
+package com.caw.math.group.field.galois.algorithm.evaluate;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A factory class to provide {@link GaloisEvaluate} implementations.
+ *
+ * @author cwhitmore
+ */
+
+public final class GaloisEvaluateFactory {
+
+    private GaloisEvaluateFactory() {
+        // disable public instantiation.
+    }
+
+    /**
+     * Returns a new instance of the default {@link HornerGaloisEvaluate} implementation.
+     *
+     * @return
+     *      A new instance of the default {@link HornerGaloisEvaluate} implementation.
+     */
+
+    public static GaloisEvaluate make() {
+        return new HornerGaloisEvaluate();
+    }
+
+    /**
+     * Returns a {@link GaloisEvaluate} implementation based on the specified {@code algorithm}. The parallel
+     * implementation runs inside of the common {@link ForkJoinPool}.
+     *
+     * @param algorithm
+     *      The algorithm that dictates what implementation is used.
+     * @return
+     *      A new instance of a {@link GaloisEvaluate} implementation based on the specified {@code algorithm}.
+     */
+
+    public static GaloisEvaluate make(final GaloisEvaluateAlgorithm algorithm) {
+        return switch (algorithm) {
+            case HORNER -> new HornerGaloisEvaluate();
+            case PARALLEL_HORNER -> new ParallelHornerGaloisEvaluate(ForkJoinPool.commonPool(),
+                    ParallelHornerGaloisEvaluate.DEFAULT_THRESHOLD);
+        };
+    }
+
+    /**
+     * Returns a new instance of the {@link ParallelHornerGaloisEvaluate} implementation that splits the points across
+     * the specified {@code pool}.
+     *
+     * @param pool
+     *      The pool to evaluate the points inside of.
+     * @param threshold
+     *      The number of coefficient-point products below which a batch of points is evaluated on a single thread.
+     * @return
+     *      A new instance of the {@link ParallelHornerGaloisEvaluate} implementation.
+     */
+
+    public static GaloisEvaluate makeParallel(final ForkJoinPool pool,
+                                              final int threshold) {
+        return new ParallelHornerGaloisEvaluate(pool, threshold);
+    }
+}
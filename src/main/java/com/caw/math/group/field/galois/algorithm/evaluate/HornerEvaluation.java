@@ -0,0 +1,219 @@
+package com.caw.math.group.field.galois.algorithm.evaluate;
+
+import com.caw.math.group.field.galois.GaloisField;
+import com.caw.math.group.field.galois.GaloisPolynomialField;
+import com.caw.math.model.polynomial.ModularPolynomial;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * The Horner loop of a single polynomial inside of a single {@link GaloisField}, prepared once so that any number of
+ * points, or ranges of points on different threads, can be evaluated against it.
+ *
+ * <p>The coefficients are converted up front into the cheapest representation that the field allows:
+ * <ul>
+ *     <li>a prime field with a prime of at most {@link Integer#MAX_VALUE} uses {@code long} coefficients and
+ *     {@code (v * x + c) mod p}, whose product always fits inside of a {@code long};</li>
+ *     <li>a binary polynomial field of degree at most 62 uses {@code long} elements, where multiplying by the point is
+ *     a carry-less shift-and-xor that reduces by the irreducible polynomial as it goes;</li>
+ *     <li>any other prime field uses {@link BigInteger} arithmetic modulo the prime;</li>
+ *     <li>any other field falls back to the arithmetic of the field itself.</li>
+ * </ul>
+ * The first two loops do not allocate at all. Every point must be the value of an element of the field, i.e. in
+ * {@code [0, size)}, whatever the representation, or an {@link IllegalArgumentException} is thrown.
+ *
+ * @author cwhitmore
+ */
+
+/* default */ final class HornerEvaluation {
+
+    private static final int MAX_BINARY_DEGREE = Long.SIZE - 2;
+
+    private enum Representation {
+        PRIME_WORD,
+        BINARY_WORD,
+        PRIME,
+        FIELD
+    }
+
+    private final GaloisField field;
+    private final Representation representation;
+    private final BigInteger[] coefficients;
+    private final long[] words;
+    private final long prime;
+    private final long irreducible;
+    private final int degree;
+
+    // The largest value of the field, which bounds every point, and the same as a long if it fits in one.
+    private final BigInteger largest;
+    private final long largestWord;
+
+    /* default */ HornerEvaluation(final GaloisField field,
+                                   final ModularPolynomial polynomial) {
+
+        if (!field.prime().equals(polynomial.modulus())) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + polynomial.modulus());
+        }
+        this.field = field;
+        this.largest = field.size().subtract(BigInteger.ONE);
+        this.largestWord = this.largest.bitLength() < Long.SIZE ? this.largest.longValue() : Long.MAX_VALUE;
+
+        final List<BigInteger> coefficientList = polynomial.coefficients();
+        int length = coefficientList.size();
+        while (length > 0 && coefficientList.get(length - 1).signum() == 0) {
+            length--;
+        }
+        this.coefficients = coefficientList.subList(0, length).toArray(new BigInteger[0]);
+
+        final BigInteger fieldPrime = field.prime();
+        final BigInteger irreduciblePolynomial = field instanceof GaloisPolynomialField
+                ? ((GaloisPolynomialField) field).irreduciblePolynomial()
+                : null;
+
+        if (field.primePower() == 1 && fieldPrime.bitLength() < Integer.SIZE) {
+            this.representation = Representation.PRIME_WORD;
+            this.prime = fieldPrime.longValue();
+            this.irreducible = 0;
+            this.degree = 1;
+        } else if (BigInteger.TWO.equals(fieldPrime) && irreduciblePolynomial != null
+                && field.primePower() <= MAX_BINARY_DEGREE
+                && irreduciblePolynomial.bitLength() - 1 == field.primePower()) {
+            this.representation = Representation.BINARY_WORD;
+            this.prime = 2;
+            this.irreducible = irreduciblePolynomial.longValue();
+            this.degree = field.primePower();
+        } else {
+            this.representation = field.primePower() == 1 ? Representation.PRIME : Representation.FIELD;
+            this.prime = 0;
+            this.irreducible = 0;
+            this.degree = field.primePower();
+        }
+
+        this.words = new long[this.coefficients.length];
+        if (this.representation == Representation.PRIME_WORD || this.representation == Representation.BINARY_WORD) {
+            for (int i = 0; i < this.words.length; i++) {
+                this.words[i] = this.coefficients[i].longValue();
+            }
+        }
+    }
+
+    /**
+     * Report the number of coefficients of the polynomial, without any leading zero coefficients.
+     */
+
+    /* default */ int length() {
+        return this.coefficients.length;
+    }
+
+    /**
+     * Evaluate the polynomial at the points in {@code [from, to)}, writing each value into the same index of
+     * {@code values}.
+     */
+
+    /* default */ void evaluate(final BigInteger[] points,
+                                final BigInteger[] values,
+                                final int from,
+                                final int to) {
+        for (int i = from; i < to; i++) {
+            values[i] = switch (this.representation) {
+                case PRIME_WORD -> BigInteger.valueOf(hornerPrime(point(points[i]).longValue()));
+                case BINARY_WORD -> BigInteger.valueOf(hornerBinary(point(points[i]).longValue()));
+                case PRIME -> hornerPrime(point(points[i]));
+                case FIELD -> hornerField(point(points[i]));
+            };
+        }
+    }
+
+    /**
+     * Evaluate the polynomial at the points in {@code [from, to)}, writing each value into the same index of
+     * {@code values}.
+     */
+
+    /* default */ void evaluate(final long[] points,
+                                final long[] values,
+                                final int from,
+                                final int to) {
+
+        if (this.field.size().subtract(BigInteger.ONE).bitLength() >= Long.SIZE) {
+            throw new IllegalArgumentException("Illegal parameter: field=" + this.field.size());
+        }
+        for (int i = from; i < to; i++) {
+            values[i] = switch (this.representation) {
+                case PRIME_WORD -> hornerPrime(point(points[i]));
+                case BINARY_WORD -> hornerBinary(point(points[i]));
+                case PRIME -> hornerPrime(BigInteger.valueOf(point(points[i]))).longValue();
+                case FIELD -> hornerField(BigInteger.valueOf(point(points[i]))).longValue();
+            };
+        }
+    }
+
+    private long hornerPrime(final long point) {
+        long value = 0;
+        for (int i = this.words.length - 1; i >= 0; i--) {
+            value = (value * point + this.words[i]) % this.prime;
+        }
+        return value;
+    }
+
+    private long hornerBinary(final long point) {
+        long value = 0;
+        for (int i = this.words.length - 1; i >= 0; i--) {
+            value = multiplyBinary(value, point) ^ this.words[i];
+        }
+        return value;
+    }
+
+    /**
+     * Multiply two elements of the binary field, reducing the shifted multiplicand by the irreducible polynomial each
+     * time that it reaches the degree of the field.
+     */
+
+    private long multiplyBinary(final long multiplicand,
+                                final long multiplier) {
+        long product = 0;
+        long shifted = multiplicand;
+        for (long bits = multiplier; bits != 0; bits >>>= 1) {
+            if ((bits & 1L) != 0) {
+                product ^= shifted;
+            }
+            shifted <<= 1;
+            if ((shifted >>> this.degree) != 0) {
+                shifted ^= this.irreducible;
+            }
+        }
+        return product;
+    }
+
+    private BigInteger hornerPrime(final BigInteger point) {
+        final BigInteger modulus = this.field.prime();
+        BigInteger value = BigInteger.ZERO;
+        for (int i = this.coefficients.length - 1; i >= 0; i--) {
+            value = value.multiply(point).add(this.coefficients[i]).mod(modulus);
+        }
+        return value;
+    }
+
+    private BigInteger hornerField(final BigInteger point) {
+        BigInteger value = BigInteger.ZERO;
+        for (int i = this.coefficients.length - 1; i >= 0; i--) {
+            value = this.field.add(this.field.multiply(value, point).value(), this.coefficients[i]).value();
+        }
+        return value;
+    }
+
+    // Points are validated rather than reduced, in the same way that the field rejects values that are not members.
+    private long point(final long point) {
+        if (point < 0 || point > this.largestWord) {
+            throw new IllegalArgumentException("Illegal parameter: point=" + point);
+        }
+        return point;
+    }
+
+    private BigInteger point(final BigInteger point) {
+        if (point.signum() < 0 || point.compareTo(this.largest) > 0) {
+            throw new IllegalArgumentException("Illegal parameter: point=" + point);
+        }
+        return point;
+    }
+}
@@ -0,0 +1,39 @@
+package com.caw.math.group.field.galois.algorithm.evaluate;
+
+import com.caw.math.group.field.galois.GaloisField;
+import com.caw.math.model.polynomial.ModularPolynomial;
+
+import java.math.BigInteger;
+
+/**
+ * An implementation of {@link GaloisEvaluate} that evaluates the polynomial at each point in turn with Horner's
+ * method. Prime fields with a word-sized prime and binary fields of degree at most 62 are evaluated over primitive
+ * {@code long} values without any allocation inside of the loop, see {@link HornerEvaluation}.
+ *
+ * @author cwhitmore
+ */
+
+public class HornerGaloisEvaluate implements GaloisEvaluate {
+
+    /* default */ HornerGaloisEvaluate() {
+        // disable non-default instantiation.
+    }
+
+    @Override
+    public BigInteger[] evaluate(final GaloisField field,
+                                 final ModularPolynomial polynomial,
+                                 final BigInteger[] points) {
+        final BigInteger[] values = new BigInteger[points.length];
+        new HornerEvaluation(field, polynomial).evaluate(points, values, 0, points.length);
+        return values;
+    }
+
+    @Override
+    public long[] evaluate(final GaloisField field,
+                           final ModularPolynomial polynomial,
+                           final long[] points) {
+        final long[] values = new long[points.length];
+        new HornerEvaluation(field, polynomial).evaluate(points, values, 0, points.length);
+        return values;
+    }
+}
@@ -0,0 +1,114 @@
+package com.caw.math.group.field.galois.algorithm.evaluate;
+
+import com.caw.math.group.field.galois.GaloisField;
+import com.caw.math.model.polynomial.ModularPolynomial;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * An implementation of {@link GaloisEvaluate} that splits the points across a {@link ForkJoinPool}, evaluating each
+ * batch of points with the same Horner loop as {@link HornerGaloisEvaluate}. Points are halved until a batch costs at
+ * most the threshold number of coefficient-point products, so short polynomials over a few points are still evaluated
+ * on the calling thread.
+ *
+ * @author cwhitmore
+ */
+
+public class ParallelHornerGaloisEvaluate implements GaloisEvaluate {
+
+    /**
+     * The default number of coefficient-point products below which a batch of points is not split any further.
+     */
+
+    public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /* default */ ParallelHornerGaloisEvaluate(final ForkJoinPool pool,
+                                               final int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Invalid " + getClass().getSimpleName() + ": threshold=" + threshold);
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public BigInteger[] evaluate(final GaloisField field,
+                                 final ModularPolynomial polynomial,
+                                 final BigInteger[] points) {
+        final HornerEvaluation evaluation = new HornerEvaluation(field, polynomial);
+        final BigInteger[] values = new BigInteger[points.length];
+        run(evaluation, (from, to) -> evaluation.evaluate(points, values, from, to), points.length);
+        return values;
+    }
+
+    @Override
+    public long[] evaluate(final GaloisField field,
+                          final ModularPolynomial polynomial,
+                          final long[] points) {
+        final HornerEvaluation evaluation = new HornerEvaluation(field, polynomial);
+        final long[] values = new long[points.length];
+        run(evaluation, (from, to) -> evaluation.evaluate(points, values, from, to), points.length);
+        return values;
+    }
+
+    private void run(final HornerEvaluation evaluation,
+                     final Batch batch,
+                     final int length) {
+        final int batchSize = Math.max(1, this.threshold / Math.max(1, evaluation.length()));
+        if (length <= batchSize) {
+            batch.evaluate(0, length);
+        } else {
+            this.pool.invoke(new EvaluateTask(batch, 0, length, batchSize));
+        }
+    }
+
+    /**
+     * A range of points to evaluate on a single thread.
+     */
+
+    @FunctionalInterface
+    private interface Batch {
+        void evaluate(int from, int to);
+    }
+
+    /**
+     * Evaluates the points in {@code [from, to)}, forking half of them to another thread while there are more than
+     * {@code batchSize} points.
+     */
+
+    private static final class EvaluateTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Batch batch;
+        private final int from;
+        private final int to;
+        private final int batchSize;
+
+        private EvaluateTask(final Batch batch,
+                             final int from,
+                             final int to,
+                             final int batchSize) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.to - this.from <= this.batchSize) {
+                this.batch.evaluate(this.from, this.to);
+                return;
+            }
+            final int middle = (this.from + this.to) >>> 1;
+            invokeAll(new EvaluateTask(this.batch, this.from, middle, this.batchSize),
+                    new EvaluateTask(this.batch, middle, this.to, this.batchSize));
+        }
+    }
+}
@@ -69,11 +69,36 @@ public class BitPolynomial implements ModularPolynomial {
         return coefficients;
     }
 
+    @Override
+    public BitPolynomial compose(final ModularPolynomial inner,
+                                 final ModularPolynomial reducer) {
+        return new BitPolynomial(new MutableBitPolynomial(this.value).compose(inner, reducer).value());
+    }
+
     @Override
     public int degree() {
         return this.value.bitLength() > 0 ? this.value.bitLength() - 1 : 0;
     }
 
+    @Override
+    public BitPolynomial[] divideAndRemainder(final ModularPolynomial divisor) {
+        final MutableBitPolynomial[] division = new MutableBitPolynomial(this.value).divideAndRemainder(divisor);
+        return new BitPolynomial[] { new BitPolynomial(division[0].value()), new BitPolynomial(division[1].value()) };
+    }
+
+    @Override
+    public BitPolynomial[] extendedGcd(final ModularPolynomial other) {
+        final MutableBitPolynomial[] gcd = new MutableBitPolynomial(this.value).extendedGcd(other);
+        return new BitPolynomial[] {
+            new BitPolynomial(gcd[0].value()), new BitPolynomial(gcd[1].value()), new BitPolynomial(gcd[2].value()),
+        };
+    }
+
+    @Override
+    public BitPolynomial gcd(final ModularPolynomial other) {
+        return new BitPolynomial(new MutableBitPolynomial(this.value).gcd(other).value());
+    }
+
     @Override
     public BigInteger modulus() {
         return MODULUS;
@@ -87,16 +112,10 @@ public class BitPolynomial implements ModularPolynomial {
     @Override
     public BitPolynomial multiply(final BigInteger multiplier) {
 
-        BigInteger product = BigInteger.ZERO;
-        BigInteger shiftedMultiplier = multiplier;
-        for (int i = 0; i < this.value.bitLength(); i++) {
-            if (this.value.testBit(i)) {
-                product = product.xor(shiftedMultiplier);
-            }
-            shiftedMultiplier = shiftedMultiplier.shiftLeft(1);
-        }
-
-        return new BitPolynomial(product);
+        // Multiply at word granularity (Karatsuba, falling back to the comb method for small operands) rather than
+        // shifting and xor-ing a new BigInteger for every set bit.
+        final MutableBitPolynomial product = new MutableBitPolynomial(this.value).multiply(multiplier);
+        return new BitPolynomial(product.value());
     }
 
     @Override
@@ -135,35 +154,8 @@ public class BitPolynomial implements ModularPolynomial {
     }
 
     @Override
-    @SuppressWarnings("PMD.AvoidLiteralsInIfCondition")
     public String toString() {
-
-        final StringBuilder builder = new StringBuilder();
-        final StringBuilder prepender = new StringBuilder();
-
-        for (int i = 0; i < this.value.bitLength(); i++) {
-            if (this.value.testBit(i)) {
-                if (i == 0) {
-                    builder.append('1');
-                } else {
-                    prepender.setLength(0);
-                    prepender.append('x');
-                    if (i != 1) {
-                        prepender.append('^').append(i);
-                    }
-                    if (builder.length() != 0) {
-                        prepender.append(" + ");
-                    }
-                    builder.insert(0, prepender);
-                }
-            }
-        }
-
-        if (builder.length() == 0) {
-            builder.append('0');
-        }
-
-        return builder.toString();
+        return ModularPolynomialFormat.formatBits(new StringBuilder(), this.value).toString();
     }
 
     @Override
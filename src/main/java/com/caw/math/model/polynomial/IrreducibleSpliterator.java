@@ -0,0 +1,75 @@
+package com.caw.math.model.polynomial;
+
+import java.math.BigInteger;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over the irreducible polynomials whose values lie in a range, in increasing order of value.
+ * Candidates are only built and tested with {@link ModularPolynomialIrreducibility} as the spliterator advances, so
+ * nothing but the bounds of the range is ever held in memory. The range is halved on every split, which lets a
+ * parallel stream test different parts of the range on different cores.
+ *
+ * @author cwhitmore
+ */
+
+/* default */ final class IrreducibleSpliterator implements Spliterator<ModularPolynomial> {
+
+    // Ranges with fewer candidates than this are not split any further.
+    private static final BigInteger MIN_SPLIT = BigInteger.valueOf(64);
+
+    private final BigInteger modulus;
+    private final BigInteger to;
+    private BigInteger from;
+
+    /**
+     * Construct a new {@link IrreducibleSpliterator} over the polynomials with values in {@code [from, to)}.
+     */
+
+    /* default */ IrreducibleSpliterator(final BigInteger modulus,
+                                         final BigInteger from,
+                                         final BigInteger to) {
+        this.modulus = modulus;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+    }
+
+    @Override
+    public long estimateSize() {
+        final BigInteger remaining = this.to.subtract(this.from);
+        return remaining.bitLength() < Long.SIZE ? remaining.longValue() : Long.MAX_VALUE;
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super ModularPolynomial> action) {
+        while (this.from.compareTo(this.to) < 0) {
+            final ModularPolynomial candidate = ModularPolynomialFactory.fromValue()
+                    .withValue(this.from)
+                    .withModulus(this.modulus)
+                    .build();
+            this.from = this.from.add(BigInteger.ONE);
+            if (ModularPolynomialIrreducibility.isIrreducible(candidate)) {
+                action.accept(candidate);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Spliterator<ModularPolynomial> trySplit() {
+        final BigInteger remaining = this.to.subtract(this.from);
+        if (remaining.compareTo(MIN_SPLIT) < 0) {
+            return null;
+        }
+        final BigInteger middle = this.from.add(remaining.shiftRight(1));
+        final Spliterator<ModularPolynomial> prefix = new IrreducibleSpliterator(this.modulus, this.from, middle);
+        this.from = middle;
+        return prefix;
+    }
+}
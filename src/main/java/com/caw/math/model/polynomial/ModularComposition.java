@@ -0,0 +1,342 @@
+package com.caw.math.model.polynomial;
+
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiply;
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiplyFactory;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The modular composition {@code f(g) mod h} of any outer polynomial {@code f} with a fixed inner polynomial {@code g}
+ * and a fixed reducer {@code h}, using the baby-step giant-step matrix method of Brent and Kung.
+ *
+ * <p>With {@code n} the degree of the reducer and {@code m = ceil(sqrt(n))}, the baby steps
+ * {@code g^0, g^1, ..., g^(m - 1) mod h} and the giant step {@code g^m mod h} are calculated once, when the composition
+ * is constructed. The outer polynomial is then split into blocks of {@code m} coefficients,
+ * {@code f = f_0 + f_1 x^m + f_2 x^2m + ...}, so that {@code f(g) = f_0(g) + f_1(g) G + f_2(g) G^2 + ...} with
+ * {@code G = g^m}. Each {@code f_j(g)} is a linear combination of the baby steps, which together form the product of the
+ * block coefficients with the matrix of baby steps, and the sum over the blocks is a Horner loop in {@code G}. A
+ * composition therefore costs about {@code n / m} polynomial multiplications modulo {@code h}, rather than the
+ * {@code n} multiplications of a Horner loop in {@code g}, plus one {@code O(n^2)} matrix product of word-sized
+ * arithmetic whenever the modulus fits inside of an {@code int}.
+ *
+ * <p>The modulus of the coefficients must be prime. Compositions are immutable and so may be shared between threads,
+ * and {@link #of(ModularPolynomial, ModularPolynomial)} shares them between callers that compose with the same inner
+ * polynomial and reducer. The most common inner polynomial is {@code x^p mod h}, see
+ * {@link #frobenius(ModularPolynomial)}.
+ *
+ * @author cwhitmore
+ */
+
+public class ModularComposition {
+
+    // The cache is cleared rather than grown once this many different compositions have been seen.
+    private static final int MAX_COMPOSITIONS = 16;
+
+    private static final Map<List<Object>, ModularComposition> COMPOSITIONS = new ConcurrentHashMap<>();
+
+    private static final PolynomialMultiply MULTIPLY = PolynomialMultiplyFactory.make();
+
+    private final BigInteger modulus;
+    private final ModularPolynomial inner;
+    private final ModularPolynomialDivisor reducer;
+    private final int degree;
+
+    // The baby steps g^i mod h for 0 <= i < m, each padded to the degree of the reducer.
+    private final BigInteger[][] babySteps;
+
+    // The baby steps as words, or null if the modulus does not fit inside of an int.
+    private final long[][] babyWords;
+
+    // The giant step g^m mod h.
+    private final List<BigInteger> giantStep;
+
+    /**
+     * Construct a new {@link ModularComposition} that composes with the specified {@code inner} polynomial modulo the
+     * specified {@code reducer}.
+     *
+     * @param inner
+     *      The inner polynomial {@code g}, which need not be reduced by the {@code reducer}.
+     * @param reducer
+     *      The polynomial {@code h} of degree at least one that every composition is reduced by, with the same modulus
+     *      as the {@code inner} polynomial.
+     */
+
+    public ModularComposition(final ModularPolynomial inner,
+                              final ModularPolynomial reducer) {
+
+        if (!inner.modulus().equals(reducer.modulus())) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + reducer.modulus());
+        }
+        this.modulus = reducer.modulus();
+        this.reducer = ModularPolynomialDivisor.of(reducer);
+        this.degree = this.reducer.divisor().degree();
+        if (this.degree < 1) {
+            throw new IllegalArgumentException("Invalid " + getClass().getSimpleName() + ": reducer=" + reducer);
+        }
+
+        final List<BigInteger> reducedInner = remainder(reduce(inner.coefficients()));
+        this.inner = polynomialOf(reducedInner);
+
+        final int steps = (int) Math.ceil(Math.sqrt(this.degree));
+        this.babySteps = new BigInteger[steps][];
+        List<BigInteger> power = List.of(BigInteger.ONE);
+        for (int i = 0; i < steps; i++) {
+            this.babySteps[i] = pad(power);
+            power = multiply(power, reducedInner);
+        }
+        this.giantStep = power;
+
+        if (this.modulus.bitLength() < Integer.SIZE) {
+            this.babyWords = new long[steps][this.degree];
+            for (int i = 0; i < steps; i++) {
+                for (int j = 0; j < this.degree; j++) {
+                    this.babyWords[i][j] = this.babySteps[i][j].longValue();
+                }
+            }
+        } else {
+            this.babyWords = null;
+        }
+    }
+
+    /**
+     * Retrieve the composition with {@code x^p mod h}, where {@code p} is the modulus of the coefficients and {@code h}
+     * is the specified {@code reducer}. Since {@code a(x)^p = a(x^p)} for any polynomial {@code a} with coefficients
+     * modulo a prime {@code p}, composing {@code x^(p^i) mod h} with the Frobenius composition yields
+     * {@code x^(p^(i + 1)) mod h}, and {@link #iterate(int)} yields {@code x^(p^k) mod h} directly.
+     *
+     * @param reducer
+     *      The polynomial {@code h} of degree at least one that every composition is reduced by.
+     * @return
+     *      A shared composition with the inner polynomial {@code x^p mod h}.
+     */
+
+    public static ModularComposition frobenius(final ModularPolynomial reducer) {
+
+        final ModularPolynomialDivisor divisor = ModularPolynomialDivisor.of(reducer);
+        final BigInteger modulus = reducer.modulus();
+        List<BigInteger> power = List.of(BigInteger.ONE);
+        final List<BigInteger> x = List.of(BigInteger.ZERO, BigInteger.ONE);
+        for (int i = modulus.bitLength() - 1; i >= 0; i--) {
+            power = divisor.divide(MULTIPLY.multiply(power, power, modulus)).get(1);
+            if (modulus.testBit(i)) {
+                power = divisor.divide(MULTIPLY.multiply(power, x, modulus)).get(1);
+            }
+        }
+
+        return of(ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(power.isEmpty() ? List.of(BigInteger.ZERO) : power)
+                .withModulus(modulus)
+                .build(), reducer);
+    }
+
+    /**
+     * Retrieve a {@link ModularComposition} with the specified {@code inner} polynomial and {@code reducer}, sharing the
+     * composition of any earlier call with the same polynomials so that its baby steps are only calculated once.
+     *
+     * @param inner
+     *      The inner polynomial {@code g}, which need not be reduced by the {@code reducer}.
+     * @param reducer
+     *      The polynomial {@code h} of degree at least one that every composition is reduced by, with the same modulus
+     *      as the {@code inner} polynomial.
+     * @return
+     *      A composition with the specified {@code inner} polynomial and {@code reducer}.
+     */
+
+    public static ModularComposition of(final ModularPolynomial inner,
+                                        final ModularPolynomial reducer) {
+
+        final List<Object> key = List.of(reducer.modulus(), inner.value(), reducer.value());
+        final ModularComposition cached = COMPOSITIONS.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final ModularComposition composition = new ModularComposition(inner, reducer);
+        if (COMPOSITIONS.size() >= MAX_COMPOSITIONS) {
+            COMPOSITIONS.clear();
+        }
+        final ModularComposition existing = COMPOSITIONS.putIfAbsent(key, composition);
+        return existing == null ? composition : existing;
+    }
+
+    /**
+     * Calculate {@code f(g) mod h}, where {@code f} is the specified {@code outer} polynomial.
+     *
+     * @param outer
+     *      The outer polynomial {@code f} of any degree, with the same modulus as this composition.
+     * @return
+     *      A new polynomial that is the composition of {@code outer} with the inner polynomial, modulo the reducer.
+     */
+
+    public ModularPolynomial compose(final ModularPolynomial outer) {
+
+        if (!this.modulus.equals(outer.modulus())) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + outer.modulus());
+        }
+        return polynomialOf(compose(outer.coefficients()));
+    }
+
+    /**
+     * Report the inner polynomial of this composition.
+     *
+     * @return
+     *      The inner polynomial {@code g}, reduced by the reducer.
+     */
+
+    public ModularPolynomial inner() {
+        return this.inner;
+    }
+
+    /**
+     * Compose the inner polynomial with itself {@code k} times, so that {@code g(g(...g(x)...)) mod h} is calculated
+     * with {@code k - 1} compositions. For the {@link #frobenius(ModularPolynomial)} composition this is
+     * {@code x^(p^k) mod h}.
+     *
+     * @param k
+     *      The non-negative number of times to apply the inner polynomial.
+     * @return
+     *      A new polynomial that is the {@code k}-th iterate of the inner polynomial, modulo the reducer.
+     */
+
+    public ModularPolynomial iterate(final int k) {
+
+        if (k < 0) {
+            throw new IllegalArgumentException("Illegal parameter: k=" + k);
+        }
+        if (k == 0) {
+            return polynomialOf(remainder(List.of(BigInteger.ZERO, BigInteger.ONE)));
+        }
+        List<BigInteger> iterate = trim(this.inner.coefficients());
+        for (int i = 1; i < k; i++) {
+            iterate = compose(iterate);
+        }
+        return polynomialOf(iterate);
+    }
+
+    /**
+     * Report the polynomial that every composition is reduced by.
+     *
+     * @return
+     *      The reducer {@code h}.
+     */
+
+    public ModularPolynomial reducer() {
+        return this.reducer.divisor();
+    }
+
+    /**
+     * Calculate the trimmed coefficients of {@code f(g) mod h}, where {@code f} has the specified {@code outer}
+     * coefficients.
+     */
+
+    /* default */ List<BigInteger> compose(final List<BigInteger> outer) {
+
+        final List<BigInteger> coefficients = reduce(outer);
+        final int steps = this.babySteps.length;
+        final int blocks = (coefficients.size() + steps - 1) / steps;
+
+        // Horner's method in the giant step G, from the highest block down: r = r * G + f_j(g).
+        List<BigInteger> result = List.of();
+        for (int j = blocks - 1; j >= 0; j--) {
+            final List<BigInteger> block = block(coefficients, j * steps, Math.min(coefficients.size(),
+                    (j + 1) * steps));
+            result = result.isEmpty() ? block : add(multiply(result, this.giantStep), block);
+        }
+        return trim(result);
+    }
+
+    /**
+     * Calculate the linear combination of the baby steps with the outer coefficients in {@code [from, to)}, which is one
+     * row of the product of the outer coefficients with the matrix of baby steps.
+     */
+
+    private List<BigInteger> block(final List<BigInteger> coefficients,
+                                   final int from,
+                                   final int to) {
+
+        final List<BigInteger> block = new ArrayList<>(this.degree);
+        if (this.babyWords != null) {
+            // Every product is below p^2 < 2^62, so subtracting p^2 keeps the accumulator below 2^63.
+            final long prime = this.modulus.longValue();
+            final long square = prime * prime;
+            final long[] words = new long[to - from];
+            for (int i = from; i < to; i++) {
+                words[i - from] = coefficients.get(i).longValue();
+            }
+            for (int k = 0; k < this.degree; k++) {
+                long sum = 0;
+                for (int i = 0; i < words.length; i++) {
+                    sum += words[i] * this.babyWords[i][k];
+                    if (sum >= square) {
+                        sum -= square;
+                    }
+                }
+                block.add(BigInteger.valueOf(sum % prime));
+            }
+        } else {
+            for (int k = 0; k < this.degree; k++) {
+                BigInteger sum = BigInteger.ZERO;
+                for (int i = from; i < to; i++) {
+                    sum = sum.add(coefficients.get(i).multiply(this.babySteps[i - from][k]));
+                }
+                block.add(sum.mod(this.modulus));
+            }
+        }
+        return block;
+    }
+
+    private List<BigInteger> add(final List<BigInteger> augend,
+                                 final List<BigInteger> addend) {
+        final List<BigInteger> sum = new ArrayList<>(Math.max(augend.size(), addend.size()));
+        for (int i = 0; i < Math.max(augend.size(), addend.size()); i++) {
+            final BigInteger left = i < augend.size() ? augend.get(i) : BigInteger.ZERO;
+            final BigInteger right = i < addend.size() ? addend.get(i) : BigInteger.ZERO;
+            sum.add(left.add(right).mod(this.modulus));
+        }
+        return sum;
+    }
+
+    private List<BigInteger> multiply(final List<BigInteger> multiplicand,
+                                      final List<BigInteger> multiplier) {
+        return remainder(MULTIPLY.multiply(multiplicand, multiplier, this.modulus));
+    }
+
+    private BigInteger[] pad(final List<BigInteger> coefficients) {
+        final BigInteger[] padded = new BigInteger[this.degree];
+        for (int i = 0; i < padded.length; i++) {
+            padded[i] = i < coefficients.size() ? coefficients.get(i) : BigInteger.ZERO;
+        }
+        return padded;
+    }
+
+    private ModularPolynomial polynomialOf(final List<BigInteger> coefficients) {
+        return ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(coefficients.isEmpty() ? List.of(BigInteger.ZERO) : coefficients)
+                .withModulus(this.modulus)
+                .build();
+    }
+
+    private List<BigInteger> reduce(final List<BigInteger> coefficients) {
+        final List<BigInteger> reduced = new ArrayList<>(coefficients.size());
+        for (final BigInteger coefficient : coefficients) {
+            reduced.add(coefficient.mod(this.modulus));
+        }
+        return reduced;
+    }
+
+    private List<BigInteger> remainder(final List<BigInteger> coefficients) {
+        return this.reducer.divide(coefficients).get(1);
+    }
+
+    private static List<BigInteger> trim(final List<BigInteger> coefficients) {
+        int length = coefficients.size();
+        while (length > 0 && coefficients.get(length - 1).signum() == 0) {
+            length--;
+        }
+        return new ArrayList<>(coefficients.subList(0, length));
+    }
+}
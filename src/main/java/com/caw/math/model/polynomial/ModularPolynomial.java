@@ -2,7 +2,6 @@ package com.caw.math.model.polynomial;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -73,6 +72,24 @@ public interface ModularPolynomial {
 
     List<BigInteger> coefficients();
 
+    /**
+     * Calculate the modular composition {@code this(inner) mod reducer}, substituting the {@code inner} polynomial for
+     * the variable of this polynomial. The modulus must be prime. The powers of the {@code inner} polynomial are
+     * shared by every composition with the same {@code inner} polynomial and {@code reducer}, see
+     * {@link ModularComposition}, which should be used directly when composing many polynomials.
+     *
+     * @param inner
+     *      The polynomial to substitute for the variable of this polynomial, with the same modulus as this polynomial.
+     * @param reducer
+     *      The polynomial of degree at least one to reduce the composition by, with the same modulus as this
+     *      polynomial.
+     * @return
+     *      A new polynomial that is the composition of this polynomial with {@code inner}, modulo {@code reducer}.
+     */
+
+    ModularPolynomial compose(final ModularPolynomial inner,
+                              final ModularPolynomial reducer);
+
     /**
      * Report the degree of this polynomial.
      *
@@ -82,6 +99,47 @@ public interface ModularPolynomial {
 
     int degree();
 
+    /**
+     * Divide this polynomial by the specified {@code divisor}, such that {@code this = quotient * divisor + remainder}
+     * and the degree of the remainder is less than the degree of the divisor. The leading coefficient of the divisor
+     * must be invertible, which is always the case when the modulus is prime. Large divisions use Newton iteration,
+     * see {@link ModularPolynomialDivisor}, which should be used directly when dividing by the same polynomial many
+     * times.
+     *
+     * @param divisor
+     *      The non-zero polynomial to divide this polynomial by, with the same modulus as this polynomial.
+     * @return
+     *      An array of two new polynomials: the quotient followed by the remainder.
+     */
+
+    ModularPolynomial[] divideAndRemainder(final ModularPolynomial divisor);
+
+    /**
+     * Calculate the monic greatest common divisor {@code g} of this polynomial and the specified {@code other}
+     * polynomial, along with the Bezout cofactors {@code s} and {@code t} such that {@code s * this + t * other = g}.
+     * The modulus must be prime. Large polynomials use the sub-quadratic half-gcd algorithm.
+     *
+     * @param other
+     *      The polynomial to find the greatest common divisor with, with the same modulus as this polynomial.
+     * @return
+     *      An array of three new polynomials: {@code g}, {@code s} and {@code t}, in that order.
+     */
+
+    ModularPolynomial[] extendedGcd(final ModularPolynomial other);
+
+    /**
+     * Calculate the monic greatest common divisor of this polynomial and the specified {@code other} polynomial, which
+     * is zero only if both polynomials are zero. The modulus must be prime. Large polynomials use the sub-quadratic
+     * half-gcd algorithm.
+     *
+     * @param other
+     *      The polynomial to find the greatest common divisor with, with the same modulus as this polynomial.
+     * @return
+     *      A new polynomial that is the monic greatest common divisor of this polynomial and {@code other}.
+     */
+
+    ModularPolynomial gcd(final ModularPolynomial other);
+
     /**
      * Report the modulus of this modular polynomial.
      *
@@ -210,22 +268,7 @@ public interface ModularPolynomial {
      */
 
     static List<BigInteger> coefficientsOf(ModularPolynomial polynomial) {
-
-        BigInteger value = polynomial.value();
-        int degree = polynomial.degree();
-        List<BigInteger> coefficients = new ArrayList<>(Collections.nCopies(degree + 1, BigInteger.ZERO));
-
-        while (!value.equals(BigInteger.ZERO)) {
-
-            BigInteger divisor = polynomial.modulus().pow(degree);
-            BigInteger[] divideAndRemainder = value.divideAndRemainder(divisor);
-
-            coefficients.set(degree, divideAndRemainder[0]);
-            value = divideAndRemainder[1];
-            degree--;
-        }
-
-        return coefficients;
+        return coefficientsOf(polynomial.value(), polynomial.modulus());
     }
 
     /**
@@ -242,11 +285,19 @@ public interface ModularPolynomial {
 
     static List<BigInteger> coefficientsOf(final BigInteger value,
                                            final BigInteger modulus) {
-        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
-                .withValue(value)
-                .withModulus(modulus)
-                .build();
-        return coefficientsOf(polynomial);
+
+        if (value.signum() < 0) {
+            throw new IllegalArgumentException("Illegal parameter: value=" + value);
+        }
+        if (modulus.compareTo(BigInteger.TWO) < 0) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + modulus);
+        }
+
+        final List<BigInteger> coefficients = RadixConversion.decode(value, modulus);
+        if (coefficients.isEmpty()) {
+            coefficients.add(BigInteger.ZERO);
+        }
+        return coefficients;
     }
 
     /**
@@ -267,16 +318,11 @@ public interface ModularPolynomial {
             throw new IllegalArgumentException("Illegal parameter: modulus=" + modulus);
         }
 
-        BigInteger value = BigInteger.ZERO;
-        BigInteger factor = BigInteger.ONE;
-
+        final List<BigInteger> reducedCoefficients = new ArrayList<>(coefficients.size());
         for (final BigInteger coefficient : coefficients) {
-            final BigInteger reducedCoefficient = coefficient.mod(modulus);
-            value = value.add(reducedCoefficient.multiply(factor));
-            factor = factor.multiply(modulus);
+            reducedCoefficients.add(coefficient.mod(modulus));
         }
-
-        return value;
+        return RadixConversion.encode(reducedCoefficients, modulus);
     }
 
     /**
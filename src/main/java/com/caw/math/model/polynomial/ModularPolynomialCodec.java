@@ -0,0 +1,331 @@
+package com.caw.math.model.polynomial;
+
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A compact binary encoding of {@link ModularPolynomial} instances, read from and written to a {@link ByteBuffer} in
+ * place. Heap, direct and memory-mapped buffers are all supported, so polynomials may be decoded straight out of a
+ * mapped file or a network buffer. An encoded polynomial is laid out as:
+ *
+ * <ol>
+ *     <li>the number of bytes {@code m} of the modulus, as an unsigned LEB128 varint,</li>
+ *     <li>the {@code m} bytes of the modulus, most significant first,</li>
+ *     <li>the number of coefficients {@code n}, i.e. the degree plus one or zero for the zero polynomial, as an
+ *     unsigned LEB128 varint,</li>
+ *     <li>the {@code n} coefficients, lowest degree first, packed into {@code ceil(n * w / 8)} bytes where {@code w}
+ *     is the number of bits of {@code modulus - 1}, least significant bit first.</li>
+ * </ol>
+ *
+ * <p>A binary polynomial of degree {@code 232} therefore takes {@code 2 + 2 + 30} bytes, and its packed coefficients
+ * are exactly the little-endian bytes of its {@link ModularPolynomial#value()}. Decoded polynomials are provided with
+ * the same implementation, and for small values the same interned instance, that {@link ModularPolynomialFactory}
+ * would provide. Every polynomial has exactly one encoding, so {@link #read(ByteBuffer)} rejects overlong varints,
+ * leading zero bytes of the modulus and zero leading coefficients.
+ *
+ * @author cwhitmore
+ */
+
+public final class ModularPolynomialCodec {
+
+    private static final int VARINT_BITS = 7;
+    private static final int VARINT_MASK = (1 << VARINT_BITS) - 1;
+    private static final int CHUNK_BITS = Integer.SIZE;
+
+    private ModularPolynomialCodec() {
+        // disable public instantiation.
+    }
+
+    /**
+     * Calculate the number of bytes that the specified {@code polynomial} is encoded in, e.g. to size a buffer.
+     *
+     * @param polynomial
+     *      The polynomial to measure.
+     * @return
+     *      The number of bytes that {@link #write(ByteBuffer, ModularPolynomial)} writes for the {@code polynomial}.
+     */
+
+    public static int encodedLength(final ModularPolynomial polynomial) {
+        final int modulusLength = modulusBytes(polynomial.modulus()).length;
+        final int count = count(polynomial);
+        return varintLength(modulusLength) + modulusLength + varintLength(count)
+                + packedLength(count, width(polynomial.modulus()));
+    }
+
+    /**
+     * Decode a polynomial from the specified {@code buffer}, starting at its position and advancing the position past
+     * the encoded polynomial.
+     *
+     * @param buffer
+     *      The buffer to read from.
+     * @return
+     *      The decoded polynomial.
+     * @throws IllegalArgumentException
+     *      If the encoding is malformed, e.g. if a coefficient is not reduced by the modulus or if the leading
+     *      coefficient is zero, so that every polynomial has exactly one valid encoding.
+     * @throws java.nio.BufferUnderflowException
+     *      If the buffer ends before the encoded polynomial does.
+     */
+
+    public static ModularPolynomial read(final ByteBuffer buffer) {
+
+        final byte[] magnitude = new byte[checkRemaining(buffer, readVarint(buffer))];
+        buffer.get(magnitude);
+        if (magnitude.length > 0 && magnitude[0] == 0) {
+            throw new IllegalArgumentException("Invalid encoding: modulus has a leading zero byte");
+        }
+        final BigInteger modulus = new BigInteger(1, magnitude);
+        if (modulus.compareTo(BigInteger.TWO) < 0) {
+            throw new IllegalArgumentException("Invalid encoding: modulus=" + modulus);
+        }
+        final int count = readVarint(buffer);
+        final int width = width(modulus);
+        checkRemaining(buffer, packedLength(count, width));
+
+        if (width == 1) {
+            final byte[] bytes = new byte[packedLength(count, width)];
+            buffer.get(bytes);
+            reverse(bytes);
+            final BigInteger value = new BigInteger(1, bytes);
+            if (value.bitLength() != count) {
+                throw new IllegalArgumentException("Invalid encoding: value=" + value);
+            }
+            return ModularPolynomialFactory.interned(ModularPolynomialFactory.bitPolynomialOf(value));
+        }
+
+        final BitReader reader = new BitReader(buffer);
+        if (modulus.compareTo(BigInteger.valueOf(PackedPolynomial.MAX_MODULUS)) <= 0) {
+            final long longModulus = modulus.longValueExact();
+            final long[] coefficients = new long[count];
+            for (int i = 0; i < count; i++) {
+                coefficients[i] = reader.read(width);
+                if (coefficients[i] >= longModulus) {
+                    throw new IllegalArgumentException("Invalid encoding: coefficient=" + coefficients[i]);
+                }
+            }
+            reader.finish();
+            if (count > 0 && coefficients[count - 1] == 0) {
+                throw new IllegalArgumentException("Invalid encoding: leading coefficient=0");
+            }
+            return ModularPolynomialFactory.interned(ModularPolynomialFactory.sparseOrDense(
+                    new PackedPolynomial(coefficients, longModulus, null, null), null));
+        }
+
+        final BigInteger[] coefficients = new BigInteger[count];
+        for (int i = 0; i < count; i++) {
+            BigInteger coefficient = BigInteger.ZERO;
+            for (int shift = 0; shift < width; shift += CHUNK_BITS) {
+                final long chunk = reader.read(Math.min(CHUNK_BITS, width - shift));
+                coefficient = coefficient.or(BigInteger.valueOf(chunk).shiftLeft(shift));
+            }
+            if (coefficient.compareTo(modulus) >= 0) {
+                throw new IllegalArgumentException("Invalid encoding: coefficient=" + coefficient);
+            }
+            coefficients[i] = coefficient;
+        }
+        reader.finish();
+        if (count > 0 && coefficients[count - 1].signum() == 0) {
+            throw new IllegalArgumentException("Invalid encoding: leading coefficient=0");
+        }
+        return ModularPolynomialFactory.interned(ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(List.of(coefficients))
+                .withModulus(modulus)
+                .build());
+    }
+
+    /**
+     * Encode the specified {@code polynomial} into the specified {@code buffer}, starting at its position and
+     * advancing the position past the encoded polynomial.
+     *
+     * @param buffer
+     *      The buffer to write to, with at least {@link #encodedLength(ModularPolynomial)} bytes remaining.
+     * @param polynomial
+     *      The polynomial to encode.
+     * @throws java.nio.BufferOverflowException
+     *      If the buffer does not have enough space remaining.
+     */
+
+    public static void write(final ByteBuffer buffer,
+                             final ModularPolynomial polynomial) {
+
+        final byte[] magnitude = modulusBytes(polynomial.modulus());
+        writeVarint(buffer, magnitude.length);
+        buffer.put(magnitude);
+        final int count = count(polynomial);
+        writeVarint(buffer, count);
+        final int width = width(polynomial.modulus());
+
+        if (width == 1) {
+            final byte[] bytes = polynomial.value().toByteArray();
+            final int length = packedLength(count, width);
+            for (int i = 0; i < length; i++) {
+                buffer.put(bytes[bytes.length - 1 - i]);
+            }
+            return;
+        }
+
+        final BitWriter writer = new BitWriter(buffer);
+        if (polynomial instanceof PackedPolynomial) {
+            for (final long coefficient : ((PackedPolynomial) polynomial).packedCoefficients()) {
+                writer.write(coefficient, width);
+            }
+        } else {
+            final List<BigInteger> coefficients = polynomial.coefficients();
+            for (int i = 0; i < count; i++) {
+                final BigInteger coefficient = coefficients.get(i);
+                for (int shift = 0; shift < width; shift += CHUNK_BITS) {
+                    writer.write(coefficient.shiftRight(shift).longValue(), Math.min(CHUNK_BITS, width - shift));
+                }
+            }
+        }
+        writer.finish();
+    }
+
+    // Fail before allocating for a length that a corrupt encoding claims, but that the buffer cannot hold.
+    private static int checkRemaining(final ByteBuffer buffer,
+                                      final int length) {
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return length;
+    }
+
+    // The number of coefficients up to and including the leading non-zero coefficient.
+    private static int count(final ModularPolynomial polynomial) {
+        if (polynomial.modulus().equals(BigInteger.TWO)) {
+            return polynomial.value().bitLength();
+        }
+        if (polynomial instanceof PackedPolynomial) {
+            return ((PackedPolynomial) polynomial).packedCoefficients().length;
+        }
+        final List<BigInteger> coefficients = polynomial.coefficients();
+        int count = coefficients.size();
+        while (count > 0 && coefficients.get(count - 1).signum() == 0) {
+            count--;
+        }
+        return count;
+    }
+
+    private static byte[] modulusBytes(final BigInteger modulus) {
+        final byte[] bytes = modulus.toByteArray();
+        return bytes[0] == 0 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+    }
+
+    private static int packedLength(final int count,
+                                     final int width) {
+        return (int) (((long) count * width + Byte.SIZE - 1) / Byte.SIZE);
+    }
+
+    private static int readVarint(final ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; true; shift += VARINT_BITS) {
+            final byte next = buffer.get();
+            // The fifth byte only has room for the last three bits of a non-negative int, and must be the last.
+            if (shift == 4 * VARINT_BITS && (next & ~0x07) != 0) {
+                throw new IllegalArgumentException("Invalid encoding: varint out of range");
+            }
+            // A final zero byte after the first adds no bits, so it would give a second encoding of the same value.
+            if (shift > 0 && next == 0) {
+                throw new IllegalArgumentException("Invalid encoding: overlong varint");
+            }
+            value |= (next & VARINT_MASK) << shift;
+            if (next >= 0) {
+                return value;
+            }
+        }
+    }
+
+    private static void reverse(final byte[] bytes) {
+        for (int i = 0, j = bytes.length - 1; i < j; i++, j--) {
+            final byte swap = bytes[i];
+            bytes[i] = bytes[j];
+            bytes[j] = swap;
+        }
+    }
+
+    private static int varintLength(final int value) {
+        return Math.max(1, (Integer.SIZE - Integer.numberOfLeadingZeros(value) + VARINT_BITS - 1) / VARINT_BITS);
+    }
+
+    private static int width(final BigInteger modulus) {
+        return modulus.subtract(BigInteger.ONE).bitLength();
+    }
+
+    private static void writeVarint(final ByteBuffer buffer,
+                                    final int value) {
+        int remaining = value;
+        while ((remaining & ~VARINT_MASK) != 0) {
+            buffer.put((byte) (remaining & VARINT_MASK | 1 << VARINT_BITS));
+            remaining >>>= VARINT_BITS;
+        }
+        buffer.put((byte) remaining);
+    }
+
+    /**
+     * Reads values of up to {@link #CHUNK_BITS} bits at a time, least significant bit first.
+     */
+
+    private static final class BitReader {
+
+        private final ByteBuffer buffer;
+        private long bits;
+        private int available;
+
+        private BitReader(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private long read(final int width) {
+            while (this.available < width) {
+                this.bits |= (this.buffer.get() & 0xFFL) << this.available;
+                this.available += Byte.SIZE;
+            }
+            final long value = this.bits & (1L << width) - 1;
+            this.bits >>>= width;
+            this.available -= width;
+            return value;
+        }
+
+        // The padding bits of the final byte must be zero, so that corrupt input is not silently truncated.
+        private void finish() {
+            if (this.bits != 0) {
+                throw new IllegalArgumentException("Invalid encoding: non-zero padding");
+            }
+        }
+    }
+
+    /**
+     * Writes values of up to {@link #CHUNK_BITS} bits at a time, least significant bit first.
+     */
+
+    private static final class BitWriter {
+
+        private final ByteBuffer buffer;
+        private long bits;
+        private int pending;
+
+        private BitWriter(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        private void write(final long value,
+                           final int width) {
+            this.bits |= (value & (1L << width) - 1) << this.pending;
+            this.pending += width;
+            while (this.pending >= Byte.SIZE) {
+                this.buffer.put((byte) this.bits);
+                this.bits >>>= Byte.SIZE;
+                this.pending -= Byte.SIZE;
+            }
+        }
+
+        private void finish() {
+            if (this.pending > 0) {
+                this.buffer.put((byte) this.bits);
+            }
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.caw.math.model.polynomial;
+
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiply;
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiplyFactory;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A divisor that divides many {@link ModularPolynomial} dividends by the same polynomial, such as the modulus of a
+ * galois field. The modulus of the polynomials must be prime, or at least the leading coefficient of the divisor must
+ * be invertible.
+ *
+ * <p>Small divisions use schoolbook long division. Once both the divisor and the quotient have at least
+ * {@link #NEWTON_THRESHOLD} coefficients, the quotient is instead calculated as the product of the reversed dividend
+ * and the reciprocal of the reversed divisor, modulo {@code x^(n - m + 1)}. The reciprocal is found by Newton iteration
+ * and cached by this divisor, so every subsequent division costs two polynomial multiplications: one for the quotient
+ * and one for the remainder.
+ *
+ * <p>Instances are immutable apart from the cached reciprocal, which is safely published, so a divisor may be shared
+ * between threads. {@link #of(ModularPolynomial)} shares one divisor per polynomial, which is how
+ * {@link ModularPolynomial#divideAndRemainder(ModularPolynomial)} keeps the reciprocal across repeated divisions by
+ * the same polynomial.
+ *
+ * @author cwhitmore
+ */
+
+public class ModularPolynomialDivisor {
+
+    /**
+     * The number of coefficients that both the divisor and the quotient must have before Newton division is used.
+     */
+
+    public static final int NEWTON_THRESHOLD = 64;
+
+    /**
+     * The number of coefficients that both the divisor and the quotient must have before Newton division is used for
+     * a {@link PackedPolynomial}, whose schoolbook division runs over primitive words and so stays faster for longer.
+     */
+
+    public static final int PACKED_NEWTON_THRESHOLD = 256;
+
+    // The cache is cleared rather than grown once this many different divisors have been seen.
+    private static final int MAX_DIVISORS = 16;
+
+    // Keyed by the modulus and either the value of a divisor polynomial or its list of coefficients.
+    private static final Map<List<Object>, ModularPolynomialDivisor> DIVISORS = new ConcurrentHashMap<>();
+
+    private static final PolynomialMultiply MULTIPLY = PolynomialMultiplyFactory.make();
+
+    private final BigInteger modulus;
+    private final List<BigInteger> coefficients;
+    private final BigInteger leadingInverse;
+
+    // The divisor polynomial, which is only built on demand when this divisor was constructed from coefficients.
+    private volatile ModularPolynomial divisor;
+
+    // The reciprocal of the reversed divisor, to the precision of its size; grown on demand.
+    private volatile List<BigInteger> reciprocal;
+
+    /**
+     * Construct a new {@link ModularPolynomialDivisor} that divides by the specified {@code divisor}.
+     *
+     * @param divisor
+     *      The non-zero polynomial to divide by.
+     */
+
+    public ModularPolynomialDivisor(final ModularPolynomial divisor) {
+        this(reduce(divisor.coefficients(), divisor.modulus()), divisor.modulus());
+        this.divisor = divisor;
+    }
+
+    /**
+     * Construct a new {@link ModularPolynomialDivisor} that divides by the polynomial with the specified reduced
+     * {@code coefficients}.
+     */
+
+    /* default */ ModularPolynomialDivisor(final List<BigInteger> coefficients,
+                                           final BigInteger modulus) {
+        this.modulus = modulus;
+        this.coefficients = trim(coefficients);
+        if (this.coefficients.isEmpty()) {
+            throw new IllegalArgumentException("Invalid " + getClass().getSimpleName() + ": divisor=0");
+        }
+
+        final BigInteger leading = this.coefficients.get(this.coefficients.size() - 1);
+        if (!leading.gcd(this.modulus).equals(BigInteger.ONE)) {
+            throw new IllegalArgumentException("Invalid " + getClass().getSimpleName() + ": coefficients="
+                    + this.coefficients);
+        }
+        this.leadingInverse = leading.modInverse(this.modulus);
+        this.reciprocal = List.of(this.leadingInverse);
+    }
+
+    /**
+     * Return the polynomial that this divisor divides by.
+     *
+     * @return
+     *      The divisor polynomial.
+     */
+
+    public ModularPolynomial divisor() {
+        ModularPolynomial polynomial = this.divisor;
+        if (polynomial == null) {
+            polynomial = polynomialOf(this.coefficients);
+            this.divisor = polynomial;
+        }
+        return polynomial;
+    }
+
+    /**
+     * Divide the specified {@code dividend} by the divisor polynomial.
+     *
+     * @param dividend
+     *      The polynomial to divide, with the same modulus as the divisor.
+     * @return
+     *      An array of two polynomials: the quotient followed by the remainder.
+     */
+
+    public ModularPolynomial[] divideAndRemainder(final ModularPolynomial dividend) {
+        final List<List<BigInteger>> division = divide(coefficientsOf(dividend));
+        return new ModularPolynomial[] { polynomialOf(division.get(0)), polynomialOf(division.get(1)) };
+    }
+
+    /**
+     * Retrieve a {@link ModularPolynomialDivisor} that divides by the specified {@code divisor}, sharing the divisor of
+     * any earlier call with the same polynomial so that its reciprocal is only calculated once.
+     *
+     * @param divisor
+     *      The non-zero polynomial to divide by.
+     * @return
+     *      A divisor that divides by the specified {@code divisor}.
+     */
+
+    public static ModularPolynomialDivisor of(final ModularPolynomial divisor) {
+        return cached(List.of(divisor.modulus(), divisor.value()), () -> new ModularPolynomialDivisor(divisor));
+    }
+
+    /**
+     * Retrieve a {@link ModularPolynomialDivisor} that divides by the polynomial with the specified reduced
+     * {@code coefficients}, sharing the divisor of any earlier call with the same coefficients.
+     */
+
+    /* default */ static ModularPolynomialDivisor of(final List<BigInteger> coefficients,
+                                                     final BigInteger modulus) {
+        return cached(List.of(modulus, trim(coefficients)),
+                () -> new ModularPolynomialDivisor(coefficients, modulus));
+    }
+
+    /**
+     * Calculate the remainder of dividing the specified {@code dividend} by the divisor polynomial.
+     *
+     * @param dividend
+     *      The polynomial to divide, with the same modulus as the divisor.
+     * @return
+     *      The remainder, whose degree is less than that of the divisor.
+     */
+
+    public ModularPolynomial remainder(final ModularPolynomial dividend) {
+        final List<BigInteger> coefficients = coefficientsOf(dividend);
+        if (coefficients.size() < this.coefficients.size()) {
+            return dividend;
+        }
+        return polynomialOf(divide(coefficients).get(1));
+    }
+
+    /**
+     * Divide the specified reduced {@code dividend} coefficients by the divisor polynomial.
+     *
+     * @param dividend
+     *      The reduced coefficients of the dividend, which may have leading zeros.
+     * @return
+     *      A list of two coefficient lists: the trimmed quotient followed by the trimmed remainder.
+     */
+
+    /* default */ List<List<BigInteger>> divide(final List<BigInteger> dividend) {
+
+        final List<BigInteger> trimmed = trim(dividend);
+        final int divisorLength = this.coefficients.size();
+        if (trimmed.size() < divisorLength) {
+            return List.of(new ArrayList<>(), trimmed);
+        }
+
+        final int quotientLength = trimmed.size() - divisorLength + 1;
+        if (Math.min(quotientLength, divisorLength) < NEWTON_THRESHOLD) {
+            return schoolbook(trimmed);
+        }
+
+        // rev(q) = rev(a) * rev(b)^-1 (mod x^k), where k is the length of the quotient.
+        final List<BigInteger> reversedDividend = new ArrayList<>(trimmed.subList(trimmed.size() - quotientLength,
+                trimmed.size()));
+        Collections.reverse(reversedDividend);
+        final List<BigInteger> quotient = truncate(MULTIPLY.multiply(reversedDividend, reciprocal(quotientLength),
+                this.modulus), quotientLength);
+        Collections.reverse(quotient);
+
+        // r = a - q * b, of which only the coefficients below the degree of the divisor are non-zero.
+        final List<BigInteger> product = MULTIPLY.multiply(quotient, this.coefficients, this.modulus);
+        final List<BigInteger> remainder = new ArrayList<>(divisorLength - 1);
+        for (int i = 0; i < divisorLength - 1; i++) {
+            remainder.add(trimmed.get(i).subtract(product.get(i)).mod(this.modulus));
+        }
+        return List.of(trim(quotient), trim(remainder));
+    }
+
+    /**
+     * Retrieve the reciprocal of the reversed divisor to the specified {@code precision}, extending the cached
+     * reciprocal by Newton iteration, {@code g = g * (2 - rev(b) * g)}, if it is not yet precise enough.
+     */
+
+    private List<BigInteger> reciprocal(final int precision) {
+
+        List<BigInteger> current = this.reciprocal;
+        if (current.size() >= precision) {
+            return current.subList(0, precision);
+        }
+
+        final List<BigInteger> reversedDivisor = new ArrayList<>(this.coefficients);
+        Collections.reverse(reversedDivisor);
+
+        while (current.size() < precision) {
+            final int next = Math.min(current.size() * 2, precision);
+            final List<BigInteger> error = truncate(MULTIPLY.multiply(
+                    reversedDivisor.subList(0, Math.min(next, reversedDivisor.size())), current, this.modulus), next);
+            for (int i = 0; i < error.size(); i++) {
+                error.set(i, error.get(i).negate().mod(this.modulus));
+            }
+            error.set(0, error.get(0).add(BigInteger.TWO).mod(this.modulus));
+            current = truncate(MULTIPLY.multiply(current, error, this.modulus), next);
+        }
+
+        final List<BigInteger> computed = Collections.unmodifiableList(current);
+        this.reciprocal = computed;
+        return computed;
+    }
+
+    /**
+     * Divide the specified trimmed {@code dividend} by repeatedly subtracting multiples of the divisor.
+     */
+
+    private List<List<BigInteger>> schoolbook(final List<BigInteger> dividend) {
+
+        final BigInteger[] remainder = dividend.toArray(new BigInteger[0]);
+        final int divisorDegree = this.coefficients.size() - 1;
+        final BigInteger[] quotient = new BigInteger[remainder.length - divisorDegree];
+
+        for (int i = remainder.length - 1; i >= divisorDegree; i--) {
+            final BigInteger factor = remainder[i].multiply(this.leadingInverse).mod(this.modulus);
+            quotient[i - divisorDegree] = factor;
+            if (factor.signum() != 0) {
+                for (int j = 0; j < divisorDegree; j++) {
+                    final int index = i - divisorDegree + j;
+                    remainder[index] = remainder[index].subtract(factor.multiply(this.coefficients.get(j)))
+                            .mod(this.modulus);
+                }
+            }
+        }
+
+        return List.of(trim(Arrays.asList(quotient)), trim(Arrays.asList(remainder).subList(0, divisorDegree)));
+    }
+
+    private List<BigInteger> coefficientsOf(final ModularPolynomial polynomial) {
+        if (!polynomial.modulus().equals(this.modulus)) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + polynomial.modulus());
+        }
+        return reduce(polynomial.coefficients(), this.modulus);
+    }
+
+    private ModularPolynomial polynomialOf(final List<BigInteger> coefficients) {
+        return ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(coefficients)
+                .withModulus(this.modulus)
+                .build();
+    }
+
+    private static ModularPolynomialDivisor cached(final List<Object> key,
+                                                   final Supplier<ModularPolynomialDivisor> factory) {
+
+        final ModularPolynomialDivisor cached = DIVISORS.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final ModularPolynomialDivisor created = factory.get();
+        if (DIVISORS.size() >= MAX_DIVISORS) {
+            DIVISORS.clear();
+        }
+        final ModularPolynomialDivisor existing = DIVISORS.putIfAbsent(key, created);
+        return existing == null ? created : existing;
+    }
+
+    private static List<BigInteger> reduce(final List<BigInteger> coefficients,
+                                           final BigInteger modulus) {
+        final List<BigInteger> reduced = new ArrayList<>(coefficients.size());
+        for (final BigInteger coefficient : coefficients) {
+            reduced.add(coefficient.mod(modulus));
+        }
+        return reduced;
+    }
+
+    private static List<BigInteger> trim(final List<BigInteger> coefficients) {
+        int length = coefficients.size();
+        while (length > 0 && coefficients.get(length - 1).signum() == 0) {
+            length--;
+        }
+        return new ArrayList<>(coefficients.subList(0, length));
+    }
+
+    private static List<BigInteger> truncate(final List<BigInteger> coefficients,
+                                             final int length) {
+        final List<BigInteger> truncated = new ArrayList<>(coefficients.subList(0, Math.min(length,
+                coefficients.size())));
+        while (truncated.size() < length) {
+            truncated.add(BigInteger.ZERO);
+        }
+        return truncated;
+    }
+}
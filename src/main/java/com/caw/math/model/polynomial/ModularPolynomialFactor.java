@@ -0,0 +1,47 @@
+package com.caw.math.model.polynomial;
+
+/**
+ * A monic irreducible factor of a {@link ModularPolynomial}, together with the number of times that it divides the
+ * polynomial. See {@link ModularPolynomialFactorizer}.
+ *
+ * @author cwhitmore
+ */
+
+public final class ModularPolynomialFactor {
+
+    private final ModularPolynomial polynomial;
+    private final int multiplicity;
+
+    /* default */ ModularPolynomialFactor(final ModularPolynomial polynomial,
+                                          final int multiplicity) {
+        this.polynomial = polynomial;
+        this.multiplicity = multiplicity;
+    }
+
+    /**
+     * Report the number of times that this factor divides the factored polynomial.
+     *
+     * @return
+     *      The positive multiplicity of this factor.
+     */
+
+    public int multiplicity() {
+        return this.multiplicity;
+    }
+
+    /**
+     * Report the factor itself.
+     *
+     * @return
+     *      The monic irreducible factor.
+     */
+
+    public ModularPolynomial polynomial() {
+        return this.polynomial;
+    }
+
+    @Override
+    public String toString() {
+        return this.multiplicity == 1 ? "(" + this.polynomial + ")" : "(" + this.polynomial + ")^" + this.multiplicity;
+    }
+}
@@ -0,0 +1,407 @@
+package com.caw.math.model.polynomial;
+
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiply;
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiplyFactory;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Factors a {@link ModularPolynomial} with a prime modulus {@code p} into monic irreducible polynomials, in three
+ * stages:
+ * <ol>
+ *     <li>square-free decomposition splits the polynomial into square-free products by the multiplicity of their
+ *     factors, using {@code gcd(f, f')} and, for multiplicities that are divisible by {@code p}, the {@code p}-th root of
+ *     the remaining polynomial;</li>
+ *     <li>distinct-degree factorization splits each square-free product into the products of its irreducible factors of
+ *     each degree {@code d}, as {@code gcd(f, x^(p^d) - x)}, where each Frobenius power {@code x^(p^d) mod f} is one
+ *     {@link ModularComposition} away from the last;</li>
+ *     <li>equal-degree factorization splits each product of irreducible factors of the same degree with the randomized
+ *     algorithm of Cantor and Zassenhaus.</li>
+ * </ol>
+ * The first two stages are deterministic and run on the calling thread. Every product of the last stage is split on its
+ * own {@link ForkJoinTask} inside of the factorizer's {@link ForkJoinPool}, and each split forks again, so large degree
+ * classes are split in parallel too.
+ *
+ * <p>Instances hold no state other than their pool, and so may be shared between threads.
+ *
+ * @author cwhitmore
+ */
+
+public class ModularPolynomialFactorizer {
+
+    private static final PolynomialMultiply MULTIPLY = PolynomialMultiplyFactory.make();
+
+    private static final List<BigInteger> ONE = List.of(BigInteger.ONE);
+    private static final List<BigInteger> X = List.of(BigInteger.ZERO, BigInteger.ONE);
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Construct a new {@link ModularPolynomialFactorizer} that splits equal-degree products inside of the common
+     * {@link ForkJoinPool}.
+     */
+
+    public ModularPolynomialFactorizer() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a new {@link ModularPolynomialFactorizer} that splits equal-degree products inside of the specified
+     * {@code pool}.
+     *
+     * @param pool
+     *      The pool to split equal-degree products inside of.
+     */
+
+    public ModularPolynomialFactorizer(final ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Split the specified square-free {@code polynomial} into the products of its irreducible factors of each degree.
+     *
+     * @param polynomial
+     *      The non-zero square-free polynomial to split, with a prime modulus.
+     * @return
+     *      A new {@link SortedMap} from each degree that some irreducible factor has to the monic product of every
+     *      irreducible factor of that degree.
+     */
+
+    public SortedMap<Integer, ModularPolynomial> distinctDegree(final ModularPolynomial polynomial) {
+        final BigInteger modulus = polynomial.modulus();
+        return polynomialsOf(distinctDegree(monic(polynomial), modulus), modulus);
+    }
+
+    /**
+     * Split the specified {@code polynomial}, which must be a product of distinct irreducible polynomials of the same
+     * {@code degree}, into those irreducible polynomials.
+     *
+     * @param polynomial
+     *      The non-zero product of distinct irreducible polynomials of the specified {@code degree}, with a prime
+     *      modulus.
+     * @param degree
+     *      The degree of every irreducible factor, which must divide the degree of the {@code polynomial}.
+     * @return
+     *      A new {@link List} of the monic irreducible factors, in order of their value.
+     */
+
+    public List<ModularPolynomial> equalDegree(final ModularPolynomial polynomial,
+                                               final int degree) {
+
+        final List<BigInteger> product = monic(polynomial);
+        if (degree < 1 || (product.size() - 1) % degree != 0) {
+            throw new IllegalArgumentException("Illegal parameter: degree=" + degree);
+        }
+
+        final List<ModularPolynomial> factors = new ArrayList<>();
+        if (product.size() > 1) {
+            for (final List<BigInteger> factor : this.pool.invoke(new EqualDegreeTask(product, degree,
+                    polynomial.modulus()))) {
+                factors.add(polynomialOf(factor, polynomial.modulus()));
+            }
+        }
+        factors.sort(Comparator.comparing(ModularPolynomial::value));
+        return factors;
+    }
+
+    /**
+     * Factor the specified {@code polynomial} into monic irreducible polynomials. The leading coefficient is not a
+     * factor, so the product of the factors is the monic multiple of the {@code polynomial}; and a constant polynomial
+     * has no factors at all.
+     *
+     * @param polynomial
+     *      The non-zero polynomial to factor, with a prime modulus.
+     * @return
+     *      A new {@link List} of the distinct monic irreducible factors with their multiplicities, in order of their
+     *      degree and then their value.
+     */
+
+    public List<ModularPolynomialFactor> factor(final ModularPolynomial polynomial) {
+
+        final BigInteger modulus = polynomial.modulus();
+        final List<Integer> multiplicities = new ArrayList<>();
+        final List<EqualDegreeTask> tasks = new ArrayList<>();
+        for (final Map.Entry<Integer, List<BigInteger>> squareFree : squareFree(monic(polynomial), modulus)
+                .entrySet()) {
+            for (final Map.Entry<Integer, List<BigInteger>> distinctDegree : distinctDegree(squareFree.getValue(),
+                    modulus).entrySet()) {
+                multiplicities.add(squareFree.getKey());
+                tasks.add(new EqualDegreeTask(distinctDegree.getValue(), distinctDegree.getKey(), modulus));
+            }
+        }
+
+        for (final EqualDegreeTask task : tasks) {
+            this.pool.execute(task);
+        }
+        final List<ModularPolynomialFactor> factors = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            for (final List<BigInteger> factor : tasks.get(i).join()) {
+                factors.add(new ModularPolynomialFactor(polynomialOf(factor, modulus), multiplicities.get(i)));
+            }
+        }
+
+        factors.sort(Comparator.comparingInt((ModularPolynomialFactor factor) -> factor.polynomial().degree())
+                .thenComparing(factor -> factor.polynomial().value()));
+        return factors;
+    }
+
+    /**
+     * Split the specified {@code polynomial} into square-free products by the multiplicity of their irreducible
+     * factors, such that the monic multiple of the {@code polynomial} is the product of each {@code f_m^m}.
+     *
+     * @param polynomial
+     *      The non-zero polynomial to split, with a prime modulus.
+     * @return
+     *      A new {@link SortedMap} from each multiplicity {@code m} that some irreducible factor has to the monic
+     *      square-free product {@code f_m} of every irreducible factor with that multiplicity.
+     */
+
+    public SortedMap<Integer, ModularPolynomial> squareFree(final ModularPolynomial polynomial) {
+        final BigInteger modulus = polynomial.modulus();
+        return polynomialsOf(squareFree(monic(polynomial), modulus), modulus);
+    }
+
+    private static SortedMap<Integer, List<BigInteger>> distinctDegree(final List<BigInteger> polynomial,
+                                                                       final BigInteger modulus) {
+
+        final SortedMap<Integer, List<BigInteger>> products = new TreeMap<>();
+        if (polynomial.size() < 2) {
+            return products;
+        }
+
+        // Each irreducible factor of degree d divides x^(p^d) - x, but no factor of a lower degree is left by then.
+        final ModularComposition frobenius = ModularComposition.frobenius(polynomialOf(polynomial, modulus));
+        List<BigInteger> remaining = polynomial;
+        List<BigInteger> power = trim(frobenius.inner().coefficients());
+        for (int degree = 1; 2 * degree < remaining.size(); degree++) {
+            final List<BigInteger> factor = ModularPolynomialGcd.gcd(remaining, subtract(power, X, modulus), modulus);
+            if (factor.size() > 1) {
+                products.put(degree, factor);
+                remaining = divide(remaining, factor, modulus);
+            }
+            power = frobenius.compose(power);
+        }
+
+        if (remaining.size() > 1) {
+            products.put(remaining.size() - 1, remaining);
+        }
+        return products;
+    }
+
+    private static SortedMap<Integer, List<BigInteger>> squareFree(final List<BigInteger> polynomial,
+                                                                   final BigInteger modulus) {
+        final SortedMap<Integer, List<BigInteger>> products = new TreeMap<>();
+        squareFree(polynomial, 1, modulus, products);
+        return products;
+    }
+
+    /**
+     * Add the square-free products of the specified monic {@code polynomial} to {@code products}, with each
+     * multiplicity scaled by the {@code multiplier}.
+     */
+
+    private static void squareFree(final List<BigInteger> polynomial,
+                                   final int multiplier,
+                                   final BigInteger modulus,
+                                   final Map<Integer, List<BigInteger>> products) {
+
+        if (polynomial.size() < 2) {
+            return;
+        }
+
+        // c holds every factor with multiplicity m > 1 to the power m - 1, and w holds every factor once.
+        final List<BigInteger> derivative = derivative(polynomial, modulus);
+        List<BigInteger> c = derivative.isEmpty() ? polynomial : ModularPolynomialGcd.gcd(polynomial, derivative,
+                modulus);
+        List<BigInteger> w = divide(polynomial, c, modulus);
+        for (int multiplicity = 1; w.size() > 1; multiplicity++) {
+            final List<BigInteger> y = ModularPolynomialGcd.gcd(w, c, modulus);
+            final List<BigInteger> factor = divide(w, y, modulus);
+            if (factor.size() > 1) {
+                products.merge(multiplicity * multiplier, factor, (a, b) -> MULTIPLY.multiply(a, b, modulus));
+            }
+            w = y;
+            c = divide(c, y, modulus);
+        }
+
+        // Whatever is left has a zero derivative, so it is the p-th power of the polynomial of every p-th coefficient.
+        if (c.size() > 1) {
+            final int prime = modulus.intValueExact();
+            final List<BigInteger> root = new ArrayList<>();
+            for (int i = 0; i < c.size(); i += prime) {
+                root.add(c.get(i));
+            }
+            squareFree(root, Math.multiplyExact(multiplier, prime), modulus, products);
+        }
+    }
+
+    private static List<BigInteger> derivative(final List<BigInteger> polynomial,
+                                               final BigInteger modulus) {
+        final List<BigInteger> derivative = new ArrayList<>(polynomial.size());
+        for (int i = 1; i < polynomial.size(); i++) {
+            derivative.add(polynomial.get(i).multiply(BigInteger.valueOf(i)).mod(modulus));
+        }
+        return trim(derivative);
+    }
+
+    private static List<BigInteger> divide(final List<BigInteger> dividend,
+                                           final List<BigInteger> divisor,
+                                           final BigInteger modulus) {
+        return ModularPolynomialDivisor.of(divisor, modulus).divide(dividend).get(0);
+    }
+
+    private static List<BigInteger> monic(final ModularPolynomial polynomial) {
+
+        final BigInteger modulus = polynomial.modulus();
+        final List<BigInteger> coefficients = new ArrayList<>();
+        for (final BigInteger coefficient : polynomial.coefficients()) {
+            coefficients.add(coefficient.mod(modulus));
+        }
+        final List<BigInteger> trimmed = trim(coefficients);
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException("Illegal parameter: polynomial=" + polynomial);
+        }
+
+        final BigInteger inverse = trimmed.get(trimmed.size() - 1).modInverse(modulus);
+        trimmed.replaceAll(coefficient -> coefficient.multiply(inverse).mod(modulus));
+        return trimmed;
+    }
+
+    private static ModularPolynomial polynomialOf(final List<BigInteger> coefficients,
+                                                  final BigInteger modulus) {
+        return ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(coefficients.isEmpty() ? List.of(BigInteger.ZERO) : coefficients)
+                .withModulus(modulus)
+                .build();
+    }
+
+    private static SortedMap<Integer, ModularPolynomial> polynomialsOf(final SortedMap<Integer, List<BigInteger>> map,
+                                                                       final BigInteger modulus) {
+        final SortedMap<Integer, ModularPolynomial> polynomials = new TreeMap<>();
+        map.forEach((key, coefficients) -> polynomials.put(key, polynomialOf(coefficients, modulus)));
+        return polynomials;
+    }
+
+    private static List<BigInteger> subtract(final List<BigInteger> minuend,
+                                             final List<BigInteger> subtrahend,
+                                             final BigInteger modulus) {
+        final List<BigInteger> difference = new ArrayList<>(Math.max(minuend.size(), subtrahend.size()));
+        for (int i = 0; i < Math.max(minuend.size(), subtrahend.size()); i++) {
+            final BigInteger left = i < minuend.size() ? minuend.get(i) : BigInteger.ZERO;
+            final BigInteger right = i < subtrahend.size() ? subtrahend.get(i) : BigInteger.ZERO;
+            difference.add(left.subtract(right).mod(modulus));
+        }
+        return trim(difference);
+    }
+
+    private static List<BigInteger> trim(final List<BigInteger> coefficients) {
+        int length = coefficients.size();
+        while (length > 0 && coefficients.get(length - 1).signum() == 0) {
+            length--;
+        }
+        return new ArrayList<>(coefficients.subList(0, length));
+    }
+
+    /**
+     * Splits a monic product of distinct irreducible polynomials of the same degree into those polynomials, forking one
+     * half of every split to another thread.
+     */
+
+    private static final class EqualDegreeTask extends RecursiveTask<List<List<BigInteger>>> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final List<BigInteger> product;
+        private final int degree;
+        private final BigInteger modulus;
+
+        private EqualDegreeTask(final List<BigInteger> product,
+                                final int degree,
+                                final BigInteger modulus) {
+            this.product = product;
+            this.degree = degree;
+            this.modulus = modulus;
+        }
+
+        @Override
+        protected List<List<BigInteger>> compute() {
+
+            if (this.product.size() - 1 == this.degree) {
+                final List<List<BigInteger>> factors = new ArrayList<>();
+                factors.add(this.product);
+                return factors;
+            }
+
+            final List<BigInteger> factor = split();
+            final EqualDegreeTask left = new EqualDegreeTask(factor, this.degree, this.modulus);
+            left.fork();
+            final List<List<BigInteger>> factors = new EqualDegreeTask(divide(this.product, factor, this.modulus),
+                    this.degree, this.modulus).compute();
+            factors.addAll(left.join());
+            return factors;
+        }
+
+        /**
+         * Find a proper monic factor of the product with the algorithm of Cantor and Zassenhaus. For a random
+         * polynomial {@code a}, {@code a^((p^d - 1) / 2) - 1} is zero modulo about half of the irreducible factors when
+         * {@code p} is odd; and when {@code p = 2}, the trace {@code a + a^2 + a^4 + ... + a^(2^(d - 1))} is.
+         */
+
+        private List<BigInteger> split() {
+
+            final ModularPolynomialDivisor divisor = ModularPolynomialDivisor.of(this.product, this.modulus);
+            final Random random = ThreadLocalRandom.current();
+            final boolean binary = BigInteger.TWO.equals(this.modulus);
+            final BigInteger exponent = binary ? BigInteger.ZERO
+                    : this.modulus.pow(this.degree).subtract(BigInteger.ONE).shiftRight(1);
+
+            while (true) {
+                final List<BigInteger> a = new ArrayList<>(this.product.size() - 1);
+                for (int i = 0; i < this.product.size() - 1; i++) {
+                    a.add(new BigInteger(this.modulus.bitLength() + Long.SIZE, random).mod(this.modulus));
+                }
+
+                List<BigInteger> candidate;
+                if (binary) {
+                    candidate = trim(a);
+                    List<BigInteger> square = candidate;
+                    for (int i = 1; i < this.degree; i++) {
+                        square = divisor.divide(MULTIPLY.multiply(square, square, this.modulus)).get(1);
+                        candidate = subtract(candidate, square, this.modulus);
+                    }
+                } else {
+                    candidate = subtract(pow(trim(a), exponent, divisor), ONE, this.modulus);
+                }
+
+                final List<BigInteger> factor = ModularPolynomialGcd.gcd(this.product, candidate, this.modulus);
+                if (factor.size() > 1 && factor.size() < this.product.size()) {
+                    return factor;
+                }
+            }
+        }
+
+        private List<BigInteger> pow(final List<BigInteger> base,
+                                     final BigInteger exponent,
+                                     final ModularPolynomialDivisor divisor) {
+            List<BigInteger> power = ONE;
+            for (int i = exponent.bitLength() - 1; i >= 0; i--) {
+                power = divisor.divide(MULTIPLY.multiply(power, power, this.modulus)).get(1);
+                if (exponent.testBit(i)) {
+                    power = divisor.divide(MULTIPLY.multiply(power, base, this.modulus)).get(1);
+                }
+            }
+            return power;
+        }
+    }
+}
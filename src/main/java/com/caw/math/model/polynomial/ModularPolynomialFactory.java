@@ -1,19 +1,49 @@
 package com.caw.math.model.polynomial;
 
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiply;
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiplyAlgorithm;
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiplyFactory;
+
 import java.math.BigInteger;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
 
 /**
  * Factory class to abstract away the underlying implementations of {@link ModularPolynomial}. As a general rule, bitwise
  * polynomials and bitwise arithmetic is treated as the default use case for modular polynomials, and if no modulus is
  * provided, a default modulus of two will be interpreted and the {@link BitPolynomial} implementation will be
- * provided behind the scenes.
+ * provided behind the scenes. Bitwise polynomials whose value fits inside of a single machine word are backed by the
+ * {@link WordBitPolynomial} implementation instead. Any other modulus that fits inside of a machine word is backed by the packed
+ * {@link PackedPolynomial} implementation, and only larger moduli fall back to {@link NonBitPolynomial}. Polynomials of
+ * any modulus with a high degree but only a few non-zero terms, such as the trinomial and pentanomial moduli of binary
+ * fields, are backed by {@link SparsePolynomial} instead. The algorithm used to multiply non-bitwise polynomials may be
+ * selected with a {@link PolynomialMultiplyAlgorithm}, in which case the dense implementation is always provided, and
+ * is otherwise left to the default of the underlying implementation.
+ *
+ * <p>Polynomials are immutable, so those built from a value below {@link #MAX_CACHED_VALUE} with the default
+ * multiplication are interned, and building the same small polynomial again returns the same instance rather than
+ * allocating a new one. This covers every element of the small galois fields, which are rebuilt for every operation.
  *
  * @author cwhitmore
  */
 
 public final class ModularPolynomialFactory {
 
+    /**
+     * The exclusive upper bound of the values of the polynomials that are interned.
+     */
+
+    public static final int MAX_CACHED_VALUE = 1 << 16;
+
+    // The cache is cleared rather than grown once this many different moduli have been seen.
+    private static final int MAX_CACHED_MODULI = 16;
+
+    private static final Map<BigInteger, AtomicReferenceArray<ModularPolynomial>> SMALL_POLYNOMIALS =
+            new ConcurrentHashMap<>();
+
     private ModularPolynomialFactory() {
         // disable public instantiation.
     }
@@ -26,9 +56,95 @@ public final class ModularPolynomialFactory {
         return new CoefficientSourceBuilder();
     }
 
+    /**
+     * Provide the bitwise polynomial implementation best suited to the specified {@code value}.
+     */
+
+    /* default */ static ModularPolynomial bitPolynomialOf(final BigInteger value) {
+        if (WordBitPolynomial.fits(value)) {
+            return new WordBitPolynomial(value.longValue());
+        }
+        return sparseOrDense(new BitPolynomial(value), null);
+    }
+
+    /**
+     * Provide the interned polynomial with the specified small {@code value} and {@code modulus}, building it with the
+     * specified {@code factory} the first time it is asked for.
+     */
+
+    private static ModularPolynomial cached(final int value,
+                                            final BigInteger modulus,
+                                            final Supplier<ModularPolynomial> factory) {
+
+        final AtomicReferenceArray<ModularPolynomial> table = SMALL_POLYNOMIALS.get(modulus);
+        final ModularPolynomial cached = table == null ? null : table.get(value);
+        if (cached != null) {
+            return cached;
+        }
+
+        final ModularPolynomial polynomial = factory.get();
+        if (SMALL_POLYNOMIALS.size() >= MAX_CACHED_MODULI && table == null) {
+            SMALL_POLYNOMIALS.clear();
+        }
+        final ModularPolynomial existing = SMALL_POLYNOMIALS
+                .computeIfAbsent(modulus, key -> new AtomicReferenceArray<>(MAX_CACHED_VALUE))
+                .compareAndExchange(value, null, polynomial);
+        return existing == null ? polynomial : existing;
+    }
+
+    /**
+     * Provide the interned instance of the specified {@code polynomial}, which was built with the default
+     * multiplication, if its value is small enough to be interned, so that polynomials built outside of the builders
+     * are shared in the same way as those built by them.
+     */
+
+    /* default */ static ModularPolynomial interned(final ModularPolynomial polynomial) {
+        // Every value below 2^16 has a degree below 16, so larger polynomials are never converted to their value.
+        if (polynomial.degree() >= Integer.numberOfTrailingZeros(MAX_CACHED_VALUE)) {
+            return polynomial;
+        }
+        final BigInteger value = polynomial.value();
+        if (value.compareTo(BigInteger.valueOf(MAX_CACHED_VALUE)) >= 0) {
+            return polynomial;
+        }
+        return cached(value.intValue(), polynomial.modulus(), () -> polynomial);
+    }
+
+    /**
+     * Report whether the specified {@code modulus} is small enough to be handled by a {@link PackedPolynomial}.
+     */
+
+    private static boolean isWordSized(final BigInteger modulus) {
+        return modulus.compareTo(BigInteger.valueOf(PackedPolynomial.MAX_MODULUS)) <= 0;
+    }
+
+    /**
+     * Provide the multiplication strategy for the specified {@code algorithm}, or {@code null} to let the underlying
+     * implementation choose its own default.
+     */
+
+    private static PolynomialMultiply multiplicationOf(final PolynomialMultiplyAlgorithm algorithm) {
+        return algorithm == null ? null : PolynomialMultiplyFactory.make(algorithm);
+    }
+
+    /**
+     * Provide a {@link SparsePolynomial} in place of the specified {@code dense} polynomial if it has few enough
+     * non-zero terms, unless a multiplication {@code algorithm} was explicitly requested for it.
+     */
+
+    /* default */ static ModularPolynomial sparseOrDense(final ModularPolynomial dense,
+                                                   final PolynomialMultiplyAlgorithm algorithm) {
+        if (algorithm != null) {
+            return dense;
+        }
+        final SparsePolynomial sparse = SparsePolynomial.of(dense);
+        return sparse == null ? dense : sparse;
+    }
+
     public static class ValueSourceBuilder {
         private BigInteger value;
         private BigInteger modulus;
+        private PolynomialMultiplyAlgorithm multiplyAlgorithm;
 
         public ValueSourceBuilder withValue(final BigInteger value) {
             this.value = value;
@@ -50,12 +166,31 @@ public final class ModularPolynomialFactory {
             return this;
         }
 
+        public ValueSourceBuilder withMultiplyAlgorithm(final PolynomialMultiplyAlgorithm multiplyAlgorithm) {
+            this.multiplyAlgorithm = multiplyAlgorithm;
+            return this;
+        }
+
         public ModularPolynomial build() {
 
+            if (this.multiplyAlgorithm == null && this.value.signum() >= 0
+                    && this.value.compareTo(BigInteger.valueOf(MAX_CACHED_VALUE)) < 0) {
+                return cached(this.value.intValue(), this.modulus == null ? BigInteger.TWO : this.modulus,
+                        this::create);
+            }
+            return create();
+        }
+
+        private ModularPolynomial create() {
+
             if (this.modulus == null || this.modulus.equals(BigInteger.TWO)) {
-                return new BitPolynomial(value);
+                return bitPolynomialOf(value);
+            } else if (isWordSized(this.modulus)) {
+                return sparseOrDense(new PackedPolynomial(value, modulus.longValueExact(),
+                        multiplicationOf(multiplyAlgorithm)), multiplyAlgorithm);
             } else {
-                return new NonBitPolynomial(value, modulus);
+                return sparseOrDense(new NonBitPolynomial(value, modulus, multiplicationOf(multiplyAlgorithm)),
+                        multiplyAlgorithm);
             }
         }
     }
@@ -64,6 +199,7 @@ public final class ModularPolynomialFactory {
 
         private List<BigInteger> coefficients;
         private BigInteger modulus;
+        private PolynomialMultiplyAlgorithm multiplyAlgorithm;
 
         public CoefficientSourceBuilder withCoefficients(final List<BigInteger> coefficients) {
             this.coefficients = coefficients;
@@ -80,12 +216,21 @@ public final class ModularPolynomialFactory {
             return this;
         }
 
+        public CoefficientSourceBuilder withMultiplyAlgorithm(final PolynomialMultiplyAlgorithm multiplyAlgorithm) {
+            this.multiplyAlgorithm = multiplyAlgorithm;
+            return this;
+        }
+
         public ModularPolynomial build() {
 
             if (this.modulus == null || this.modulus.equals(BigInteger.TWO)) {
-                return new BitPolynomial(coefficients);
+                return bitPolynomialOf(ModularPolynomial.valueOf(coefficients, BigInteger.TWO));
+            } else if (isWordSized(this.modulus)) {
+                return sparseOrDense(new PackedPolynomial(coefficients, modulus.longValueExact(),
+                        multiplicationOf(multiplyAlgorithm)), multiplyAlgorithm);
             } else {
-                return new NonBitPolynomial(coefficients, modulus);
+                return sparseOrDense(new NonBitPolynomial(coefficients, modulus, multiplicationOf(multiplyAlgorithm)),
+                        multiplyAlgorithm);
             }
         }
     }
@@ -0,0 +1,437 @@
+package com.caw.math.model.polynomial;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Converts {@link ModularPolynomial} instances to and from the human-readable notation that their {@code toString}
+ * methods produce, e.g. {@code x^8 + x^4 + x^3 + x + 1} or {@code 2x^8 + 3x^6 + 4}.
+ *
+ * <p>The formatter appends terms from the leading term down, so it takes time linear in the length of its output. The
+ * parser makes a single pass over its input, which it reads from any {@link Readable} in fixed-size chunks, so even a
+ * polynomial with millions of terms is parsed without first being read into one {@link String}. The parser accepts
+ * more than the formatter produces:
+ *
+ * <ul>
+ *     <li>whitespace anywhere between tokens,</li>
+ *     <li>terms in any order, where terms of the same degree are added together,</li>
+ *     <li>terms that are subtracted rather than added, e.g. {@code x^2 - 1},</li>
+ *     <li>coefficients that are not reduced by the modulus, optionally followed by {@code *}, e.g. {@code 7*x^2},</li>
+ *     <li>{@code x^1} and {@code x^0} in place of {@code x} and {@code 1}.</li>
+ * </ul>
+ *
+ * <p>Terms of a degree above {@link #MAX_DEGREE} are rejected, since a parsed polynomial is stored densely unless it
+ * is sparse. A sparse polynomial, e.g. {@code x^16777215 + 1}, is built straight from its terms, so its dense form is
+ * never allocated. Parsed polynomials are provided with the same implementation, and for small values the same
+ * interned instance, that {@link ModularPolynomialFactory} would provide.
+ *
+ * @author cwhitmore
+ */
+
+public final class ModularPolynomialFormat {
+
+    /**
+     * The largest degree of a term that the parser accepts, which bounds the memory that a short input can demand.
+     */
+
+    public static final int MAX_DEGREE = (1 << 24) - 1;
+
+    private static final int BUFFER_SIZE = 8192;
+    private static final int END = -1;
+
+    private ModularPolynomialFormat() {
+        // disable public instantiation.
+    }
+
+    /**
+     * Format the specified {@code polynomial}, e.g. {@code x^8 + x^4 + x^3 + x + 1}.
+     *
+     * @param polynomial
+     *      The polynomial to format.
+     * @return
+     *      The human-readable notation of the {@code polynomial}.
+     */
+
+    public static String format(final ModularPolynomial polynomial) {
+        return format(new StringBuilder(), polynomial).toString();
+    }
+
+    /**
+     * Append the human-readable notation of the specified {@code polynomial} to the specified {@code builder}, e.g.
+     * to log it without creating an intermediate {@link String}.
+     *
+     * @param builder
+     *      The builder to append to.
+     * @param polynomial
+     *      The polynomial to format.
+     * @return
+     *      The {@code builder}, for chaining.
+     */
+
+    public static StringBuilder format(final StringBuilder builder,
+                                       final ModularPolynomial polynomial) {
+        if (polynomial.modulus().equals(BigInteger.TWO)) {
+            return formatBits(builder, polynomial.value());
+        }
+        return formatCoefficients(builder, polynomial.coefficients());
+    }
+
+    /**
+     * Parse a polynomial with the specified {@code modulus} from the specified {@code text}.
+     *
+     * @param text
+     *      The human-readable notation of the polynomial.
+     * @param modulus
+     *      The modulus of the polynomial.
+     * @return
+     *      The parsed polynomial.
+     * @throws IllegalArgumentException
+     *      If the {@code text} is not a polynomial.
+     */
+
+    public static ModularPolynomial parse(final CharSequence text,
+                                          final BigInteger modulus) {
+        try {
+            return read(CharBuffer.wrap(text), modulus);
+        } catch (final IOException e) {
+            // A CharBuffer never throws.
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Parse a polynomial with the specified {@code modulus} from the specified {@code text}.
+     *
+     * @param text
+     *      The human-readable notation of the polynomial.
+     * @param modulus
+     *      The modulus of the polynomial.
+     * @return
+     *      The parsed polynomial.
+     * @throws IllegalArgumentException
+     *      If the {@code text} is not a polynomial.
+     */
+
+    public static ModularPolynomial parse(final CharSequence text,
+                                          final long modulus) {
+        return parse(text, BigInteger.valueOf(modulus));
+    }
+
+    /**
+     * Read a polynomial with the specified {@code modulus} from the specified {@code source}, which is read until it
+     * is exhausted but is not closed.
+     *
+     * @param source
+     *      The source of the human-readable notation of the polynomial, e.g. a {@link java.io.Reader}.
+     * @param modulus
+     *      The modulus of the polynomial.
+     * @return
+     *      The parsed polynomial.
+     * @throws IOException
+     *      If the {@code source} cannot be read.
+     * @throws IllegalArgumentException
+     *      If the read text is not a polynomial.
+     */
+
+    public static ModularPolynomial read(final Readable source,
+                                         final BigInteger modulus) throws IOException {
+        if (modulus.compareTo(BigInteger.TWO) < 0) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + modulus);
+        }
+        return new Parser(source, modulus).parse();
+    }
+
+    /**
+     * Append the binary polynomial with the specified {@code value} to the specified {@code builder}.
+     */
+
+    /* default */ static StringBuilder formatBits(final StringBuilder builder,
+                                                  final BigInteger value) {
+        if (value.signum() == 0) {
+            return builder.append('0');
+        }
+        final int start = builder.length();
+        for (int degree = value.bitLength() - 1; degree >= 0; degree--) {
+            if (value.testBit(degree)) {
+                if (builder.length() != start) {
+                    builder.append(" + ");
+                }
+                appendTerm(builder, BigInteger.ONE, degree);
+            }
+        }
+        return builder;
+    }
+
+    /**
+     * Append the polynomial with the specified {@code coefficients}, lowest degree first, to the specified
+     * {@code builder}.
+     */
+
+    /* default */ static StringBuilder formatCoefficients(final StringBuilder builder,
+                                                          final List<BigInteger> coefficients) {
+        final int start = builder.length();
+        for (int degree = coefficients.size() - 1; degree >= 0; degree--) {
+            final BigInteger coefficient = coefficients.get(degree);
+            if (coefficient.signum() != 0) {
+                if (builder.length() != start) {
+                    builder.append(" + ");
+                }
+                appendTerm(builder, coefficient, degree);
+            }
+        }
+        if (builder.length() == start) {
+            builder.append('0');
+        }
+        return builder;
+    }
+
+    private static void appendTerm(final StringBuilder builder,
+                                   final BigInteger coefficient,
+                                   final int degree) {
+        if (degree == 0 || !coefficient.equals(BigInteger.ONE)) {
+            builder.append(coefficient);
+        }
+        if (degree > 1) {
+            builder.append("x^").append(degree);
+        } else if (degree == 1) {
+            builder.append('x');
+        }
+    }
+
+    /**
+     * A single-pass parser over a {@link Readable}, which collects terms in whatever order they appear.
+     */
+
+    private static final class Parser {
+
+        private final Readable source;
+        private final BigInteger modulus;
+        private final CharBuffer buffer = CharBuffer.allocate(BUFFER_SIZE);
+
+        private int[] degrees = new int[16];
+        private BigInteger[] coefficients = new BigInteger[16];
+        private int terms;
+        private int leadingDegree;
+        private int position;
+
+        private Parser(final Readable source,
+                       final BigInteger modulus) {
+            this.source = source;
+            this.modulus = modulus;
+            this.buffer.flip();
+        }
+
+        private ModularPolynomial parse() throws IOException {
+            boolean negative = false;
+            int next = skipWhitespace();
+            if (next == '-') {
+                negative = true;
+                take();
+                next = skipWhitespace();
+            }
+            while (true) {
+                parseTerm(negative);
+                next = skipWhitespace();
+                if (next == END) {
+                    return build();
+                }
+                if (next != '+' && next != '-') {
+                    throw error("expected '+' or '-'");
+                }
+                negative = take() == '-';
+                skipWhitespace();
+            }
+        }
+
+        private void parseTerm(final boolean negative) throws IOException {
+            BigInteger coefficient = BigInteger.ONE;
+            int next = peek();
+            final boolean hasCoefficient = isDigit(next);
+            if (hasCoefficient) {
+                coefficient = parseNumber();
+                next = skipWhitespace();
+                if (next == '*') {
+                    take();
+                    next = skipWhitespace();
+                    if (next != 'x') {
+                        throw error("expected 'x'");
+                    }
+                }
+            }
+
+            int degree = 0;
+            if (next == 'x') {
+                take();
+                degree = 1;
+                if (skipWhitespace() == '^') {
+                    take();
+                    skipWhitespace();
+                    if (!isDigit(peek())) {
+                        throw error("expected an exponent");
+                    }
+                    final BigInteger exponent = parseNumber();
+                    if (exponent.compareTo(BigInteger.valueOf(MAX_DEGREE)) > 0) {
+                        throw error("exponent out of range");
+                    }
+                    degree = exponent.intValue();
+                }
+            } else if (!hasCoefficient) {
+                throw error("expected a term");
+            }
+            addTerm(degree, negative ? coefficient.negate() : coefficient);
+        }
+
+        private BigInteger parseNumber() throws IOException {
+            long small = 0;
+            int digits = 0;
+            BigInteger large = null;
+            while (isDigit(peek())) {
+                small = small * 10 + take() - '0';
+                // Flush every 18 digits, which is the most that fit into a long without overflow.
+                if (++digits == 18) {
+                    large = large == null ? BigInteger.valueOf(small)
+                            : large.multiply(BigInteger.TEN.pow(digits)).add(BigInteger.valueOf(small));
+                    small = 0;
+                    digits = 0;
+                }
+            }
+            if (large == null) {
+                return BigInteger.valueOf(small);
+            }
+            return digits == 0 ? large : large.multiply(BigInteger.TEN.pow(digits)).add(BigInteger.valueOf(small));
+        }
+
+        private void addTerm(final int degree,
+                             final BigInteger coefficient) {
+            if (this.terms == this.degrees.length) {
+                this.degrees = Arrays.copyOf(this.degrees, 2 * this.terms);
+                this.coefficients = Arrays.copyOf(this.coefficients, 2 * this.terms);
+            }
+            this.degrees[this.terms] = degree;
+            this.coefficients[this.terms] = coefficient;
+            this.terms++;
+            this.leadingDegree = Math.max(this.leadingDegree, degree);
+        }
+
+        private ModularPolynomial build() {
+            if (this.leadingDegree >= SparsePolynomial.MIN_DEGREE) {
+                final SparsePolynomial sparse = sparse();
+                if (sparse != null) {
+                    return sparse;
+                }
+            }
+            if (this.modulus.equals(BigInteger.TWO)) {
+                final long[] words = new long[(this.leadingDegree >>> 6) + 1];
+                for (int i = 0; i < this.terms; i++) {
+                    if (this.coefficients[i].testBit(0)) {
+                        words[this.degrees[i] >>> 6] ^= 1L << this.degrees[i];
+                    }
+                }
+                return ModularPolynomialFactory.interned(ModularPolynomialFactory.bitPolynomialOf(valueOf(words)));
+            }
+            if (this.modulus.compareTo(BigInteger.valueOf(PackedPolynomial.MAX_MODULUS)) <= 0) {
+                final long longModulus = this.modulus.longValueExact();
+                final long[] packed = new long[this.leadingDegree + 1];
+                for (int i = 0; i < this.terms; i++) {
+                    final long coefficient = this.coefficients[i].mod(this.modulus).longValue();
+                    packed[this.degrees[i]] = (packed[this.degrees[i]] + coefficient) % longModulus;
+                }
+                return ModularPolynomialFactory.interned(ModularPolynomialFactory.sparseOrDense(
+                        new PackedPolynomial(packed, longModulus, null, null), null));
+            }
+            final BigInteger[] dense = new BigInteger[this.leadingDegree + 1];
+            Arrays.fill(dense, BigInteger.ZERO);
+            for (int i = 0; i < this.terms; i++) {
+                dense[this.degrees[i]] = dense[this.degrees[i]].add(this.coefficients[i]).mod(this.modulus);
+            }
+            return ModularPolynomialFactory.interned(ModularPolynomialFactory.fromCoefficients()
+                    .withCoefficients(List.of(dense))
+                    .withModulus(this.modulus)
+                    .build());
+        }
+
+        /**
+         * Merge the terms of the same degree and build the polynomial sparsely, or return {@code null} as soon as it
+         * has too many non-zero terms to be sparse.
+         */
+
+        private SparsePolynomial sparse() {
+            // Sort the terms by degree, keeping the index of each in the low half of its key.
+            final long[] order = new long[this.terms];
+            for (int i = 0; i < this.terms; i++) {
+                order[i] = (long) this.degrees[i] << Integer.SIZE | i;
+            }
+            Arrays.sort(order);
+
+            final int[] exponents = new int[SparsePolynomial.MAX_WEIGHT];
+            final BigInteger[] sums = new BigInteger[SparsePolynomial.MAX_WEIGHT];
+            int weight = 0;
+            int i = 0;
+            while (i < this.terms) {
+                final int degree = (int) (order[i] >>> Integer.SIZE);
+                BigInteger sum = BigInteger.ZERO;
+                while (i < this.terms && (int) (order[i] >>> Integer.SIZE) == degree) {
+                    sum = sum.add(this.coefficients[(int) order[i++]]);
+                }
+                sum = sum.mod(this.modulus);
+                if (sum.signum() != 0) {
+                    if (weight == SparsePolynomial.MAX_WEIGHT) {
+                        return null;
+                    }
+                    exponents[weight] = degree;
+                    sums[weight++] = sum;
+                }
+            }
+            return SparsePolynomial.of(Arrays.copyOf(exponents, weight), Arrays.copyOf(sums, weight), this.modulus);
+        }
+
+        private IllegalArgumentException error(final String expectation) {
+            return new IllegalArgumentException("Invalid polynomial: " + expectation + " at index " + this.position);
+        }
+
+        private int peek() throws IOException {
+            while (!this.buffer.hasRemaining()) {
+                this.buffer.clear();
+                final int read = this.source.read(this.buffer);
+                this.buffer.flip();
+                if (read < 0) {
+                    return END;
+                }
+            }
+            return this.buffer.get(this.buffer.position());
+        }
+
+        private int skipWhitespace() throws IOException {
+            int next = peek();
+            while (next != END && Character.isWhitespace(next)) {
+                take();
+                next = peek();
+            }
+            return next;
+        }
+
+        private char take() throws IOException {
+            peek();
+            this.position++;
+            return this.buffer.get();
+        }
+
+        private static boolean isDigit(final int character) {
+            return character >= '0' && character <= '9';
+        }
+
+        private static BigInteger valueOf(final long[] words) {
+            final byte[] bytes = new byte[words.length * Long.BYTES];
+            for (int i = 0; i < words.length; i++) {
+                for (int j = 0; j < Long.BYTES; j++) {
+                    bytes[bytes.length - 1 - i * Long.BYTES - j] = (byte) (words[i] >>> j * Byte.SIZE);
+                }
+            }
+            return new BigInteger(1, bytes);
+        }
+    }
+}
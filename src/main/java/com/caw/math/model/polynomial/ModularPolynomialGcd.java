@@ -0,0 +1,415 @@
+package com.caw.math.model.polynomial;
+
+import com.caw.math.model.polynomial.algorithm.coefficient.CoefficientKernel;
+import com.caw.math.model.polynomial.algorithm.coefficient.CoefficientKernelFactory;
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiply;
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiplyFactory;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Utility class to calculate the greatest common divisor of two polynomials over a prime modulus, along with the Bezout
+ * cofactors {@code s} and {@code t} such that {@code s * a + t * b = gcd(a, b)}. The greatest common divisor is always
+ * monic, apart from the greatest common divisor of two zero polynomials, which is zero.
+ *
+ * <p>Small polynomials use the classical Euclidean algorithm. Once the larger polynomial has at least
+ * {@link #THRESHOLD} coefficients, the half-gcd algorithm is used instead: the quotients of the first half of the
+ * Euclidean remainder sequence only depend on the top half of the coefficients, so they are found recursively from the
+ * top halves and applied to the full polynomials as a single 2x2 matrix of polynomials. Combined with sub-quadratic
+ * multiplication and Newton division, see {@link ModularPolynomialDivisor}, this completes in {@code O(M(n) log n)}
+ * operations rather than {@code O(n^2)}.
+ *
+ * <p>Polynomials are represented by their coefficients, least significant first and without any leading zero
+ * coefficients, so the zero polynomial has no coefficients at all.
+ *
+ * @author cwhitmore
+ */
+
+/* default */ final class ModularPolynomialGcd {
+
+    // The number of coefficients below which the remainder sequence is found one quotient at a time.
+    /* default */ static final int THRESHOLD = 128;
+
+    private static final PolynomialMultiply MULTIPLY = PolynomialMultiplyFactory.make();
+    private static final CoefficientKernel KERNEL = CoefficientKernelFactory.make();
+
+    private final BigInteger modulus;
+
+    private ModularPolynomialGcd(final BigInteger modulus) {
+        this.modulus = modulus;
+    }
+
+    /**
+     * Calculate the monic greatest common divisor of the specified polynomials.
+     *
+     * @param a
+     *      The trimmed, reduced coefficients of the first polynomial.
+     * @param b
+     *      The trimmed, reduced coefficients of the second polynomial.
+     * @param modulus
+     *      The prime modulus of the coefficients.
+     * @return
+     *      The trimmed coefficients of the monic greatest common divisor.
+     */
+
+    /* default */ static List<BigInteger> gcd(final List<BigInteger> a,
+                                              final List<BigInteger> b,
+                                              final BigInteger modulus) {
+        return new ModularPolynomialGcd(modulus).run(a, b, false).get(0);
+    }
+
+    /**
+     * Calculate the monic greatest common divisor {@code g} of the specified polynomials, along with the cofactors
+     * {@code s} and {@code t} such that {@code s * a + t * b = g}.
+     *
+     * @param a
+     *      The trimmed, reduced coefficients of the first polynomial.
+     * @param b
+     *      The trimmed, reduced coefficients of the second polynomial.
+     * @param modulus
+     *      The prime modulus of the coefficients.
+     * @return
+     *      A list of the trimmed coefficients of {@code g}, {@code s} and {@code t}, in that order.
+     */
+
+    /* default */ static List<List<BigInteger>> extendedGcd(final List<BigInteger> a,
+                                                            final List<BigInteger> b,
+                                                            final BigInteger modulus) {
+        return new ModularPolynomialGcd(modulus).run(a, b, true);
+    }
+
+    /**
+     * Calculate the monic greatest common divisor of the specified packed polynomials with the classical Euclidean
+     * algorithm over primitive words, optionally along with the cofactors {@code s} and {@code t}.
+     *
+     * @param a
+     *      The trimmed, reduced coefficients of the first polynomial.
+     * @param b
+     *      The trimmed, reduced coefficients of the second polynomial.
+     * @param modulus
+     *      The prime modulus of the coefficients, at most {@link PackedPolynomial#MAX_MODULUS}.
+     * @param cofactors
+     *      {@code true} if the cofactors should also be calculated.
+     * @return
+     *      An array of {@code g}, {@code s} and {@code t}, in that order; the cofactors are {@code null} unless
+     *      requested.
+     */
+
+    /* default */ static long[][] gcd(final long[] a,
+                                      final long[] b,
+                                      final long modulus,
+                                      final boolean cofactors) {
+
+        long[] r0 = a;
+        long[] r1 = b;
+        long[] s0 = cofactors ? new long[] { 1 } : null;
+        long[] s1 = cofactors ? new long[0] : null;
+        long[] t0 = cofactors ? new long[0] : null;
+        long[] t1 = cofactors ? new long[] { 1 } : null;
+
+        while (r1.length > 0) {
+            final long[][] division = divide(r0, r1, modulus);
+            r0 = r1;
+            r1 = division[1];
+            if (cofactors) {
+                final long[] s = subtract(s0, multiply(division[0], s1, modulus), modulus);
+                s0 = s1;
+                s1 = s;
+                final long[] t = subtract(t0, multiply(division[0], t1, modulus), modulus);
+                t0 = t1;
+                t1 = t;
+            }
+        }
+
+        if (r0.length == 0) {
+            return new long[][] { r0, s0, t0 };
+        }
+        final long scale = PackedPolynomial.inverse(r0[r0.length - 1], modulus);
+        return new long[][] {
+            scale(r0, scale, modulus),
+            cofactors ? scale(s0, scale, modulus) : null,
+            cofactors ? scale(t0, scale, modulus) : null,
+        };
+    }
+
+    /**
+     * Run the Euclidean algorithm, switching to the half-gcd algorithm while the remainders are large.
+     */
+
+    private List<List<BigInteger>> run(final List<BigInteger> a,
+                                       final List<BigInteger> b,
+                                       final boolean cofactors) {
+
+        List<BigInteger> r0 = a;
+        List<BigInteger> r1 = b;
+        Matrix transform = Matrix.IDENTITY;
+        if (r0.size() < r1.size()) {
+            r0 = b;
+            r1 = a;
+            transform = Matrix.SWAP;
+        }
+
+        while (!r1.isEmpty()) {
+            if (r1.size() >= THRESHOLD && r0.size() > r1.size()) {
+                final Matrix half = halfGcd(r0, r1);
+                final List<List<BigInteger>> reduced = half.apply(r0, r1, this);
+                r0 = reduced.get(0);
+                r1 = reduced.get(1);
+                if (cofactors) {
+                    transform = half.multiply(transform, this);
+                }
+                if (r1.isEmpty()) {
+                    break;
+                }
+            }
+
+            final List<List<BigInteger>> division = divide(r0, r1);
+            r0 = r1;
+            r1 = division.get(1);
+            if (cofactors) {
+                transform = transform.step(division.get(0), this);
+            }
+        }
+
+        if (r0.isEmpty()) {
+            return List.of(r0, transform.a00, transform.a01);
+        }
+        final BigInteger scale = r0.get(r0.size() - 1).modInverse(this.modulus);
+        return List.of(scale(r0, scale), scale(transform.a00, scale), scale(transform.a01, scale));
+    }
+
+    /**
+     * Calculate the matrix of the quotients of the remainder sequence of the specified polynomials, where the degree
+     * of {@code a} is greater than the degree of {@code b}, until the degree of the second remainder drops below half
+     * of the degree of {@code a}.
+     */
+
+    private Matrix halfGcd(final List<BigInteger> a,
+                           final List<BigInteger> b) {
+
+        final int half = a.size() / 2;
+        if (b.size() - 1 < half) {
+            return Matrix.IDENTITY;
+        }
+
+        if (a.size() < THRESHOLD) {
+            List<BigInteger> r0 = a;
+            List<BigInteger> r1 = b;
+            Matrix transform = Matrix.IDENTITY;
+            while (r1.size() - 1 >= half) {
+                final List<List<BigInteger>> division = divide(r0, r1);
+                r0 = r1;
+                r1 = division.get(1);
+                transform = transform.step(division.get(0), this);
+            }
+            return transform;
+        }
+
+        // The quotients of the top halves of a and b are also the first quotients of a and b themselves.
+        Matrix transform = halfGcd(shift(a, half), shift(b, half));
+        final List<List<BigInteger>> reduced = transform.apply(a, b, this);
+        final List<BigInteger> r0 = reduced.get(0);
+        final List<BigInteger> r1 = reduced.get(1);
+        if (r1.size() - 1 < half) {
+            return transform;
+        }
+
+        final List<List<BigInteger>> division = divide(r0, r1);
+        transform = transform.step(division.get(0), this);
+        final List<BigInteger> r2 = division.get(1);
+        if (r2.size() - 1 < half) {
+            return transform;
+        }
+
+        // The degree of r1 is between half and the degree of a, so the next quotients depend on its top coefficients.
+        final int shift = 2 * half - (r1.size() - 1);
+        return halfGcd(shift(r1, shift), shift(r2, shift)).multiply(transform, this);
+    }
+
+    private List<List<BigInteger>> divide(final List<BigInteger> dividend,
+                                          final List<BigInteger> divisor) {
+        return new ModularPolynomialDivisor(divisor, this.modulus).divide(dividend);
+    }
+
+    private List<BigInteger> multiply(final List<BigInteger> multiplicand,
+                                      final List<BigInteger> multiplier) {
+        return trim(MULTIPLY.multiply(multiplicand, multiplier, this.modulus));
+    }
+
+    private List<BigInteger> subtract(final List<BigInteger> minuend,
+                                      final List<BigInteger> subtrahend) {
+        final int length = Math.max(minuend.size(), subtrahend.size());
+        final List<BigInteger> difference = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            final BigInteger left = i < minuend.size() ? minuend.get(i) : BigInteger.ZERO;
+            final BigInteger right = i < subtrahend.size() ? subtrahend.get(i) : BigInteger.ZERO;
+            difference.add(left.subtract(right).mod(this.modulus));
+        }
+        return trim(difference);
+    }
+
+    private List<BigInteger> add(final List<BigInteger> augend,
+                                 final List<BigInteger> addend) {
+        final int length = Math.max(augend.size(), addend.size());
+        final List<BigInteger> sum = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            final BigInteger left = i < augend.size() ? augend.get(i) : BigInteger.ZERO;
+            final BigInteger right = i < addend.size() ? addend.get(i) : BigInteger.ZERO;
+            sum.add(left.add(right).mod(this.modulus));
+        }
+        return trim(sum);
+    }
+
+    private List<BigInteger> scale(final List<BigInteger> coefficients,
+                                   final BigInteger factor) {
+        final List<BigInteger> scaled = new ArrayList<>(coefficients.size());
+        for (final BigInteger coefficient : coefficients) {
+            scaled.add(coefficient.multiply(factor).mod(this.modulus));
+        }
+        return scaled;
+    }
+
+    /**
+     * Divide the specified polynomial by {@code x^shift}, discarding the remainder.
+     */
+
+    private static List<BigInteger> shift(final List<BigInteger> coefficients,
+                                          final int shift) {
+        return coefficients.size() <= shift ? List.of() : coefficients.subList(shift, coefficients.size());
+    }
+
+    private static List<BigInteger> trim(final List<BigInteger> coefficients) {
+        int length = coefficients.size();
+        while (length > 0 && coefficients.get(length - 1).signum() == 0) {
+            length--;
+        }
+        return length == coefficients.size() ? coefficients : new ArrayList<>(coefficients.subList(0, length));
+    }
+
+    private static long[][] divide(final long[] dividend,
+                                   final long[] divisor,
+                                   final long modulus) {
+
+        if (dividend.length < divisor.length) {
+            return new long[][] { new long[0], dividend };
+        }
+
+        final long[] remainder = Arrays.copyOf(dividend, dividend.length);
+        final int divisorDegree = divisor.length - 1;
+        final long leadingInverse = PackedPolynomial.inverse(divisor[divisorDegree], modulus);
+        final long[] quotient = new long[dividend.length - divisorDegree];
+
+        for (int i = remainder.length - 1; i >= divisorDegree; i--) {
+            if (remainder[i] != 0) {
+                final long factor = remainder[i] * leadingInverse % modulus;
+                final int shift = i - divisorDegree;
+                quotient[shift] = factor;
+                KERNEL.multiplyAccumulate(remainder, shift, divisor, modulus - factor, divisor.length, modulus);
+            }
+        }
+        return new long[][] { trim(quotient), trim(Arrays.copyOf(remainder, divisorDegree)) };
+    }
+
+    private static long[] multiply(final long[] multiplicand,
+                                   final long[] multiplier,
+                                   final long modulus) {
+        return trim(MULTIPLY.multiply(multiplicand, multiplier, modulus));
+    }
+
+    private static long[] subtract(final long[] minuend,
+                                   final long[] subtrahend,
+                                   final long modulus) {
+        final long[] difference = Arrays.copyOf(minuend, Math.max(minuend.length, subtrahend.length));
+        KERNEL.subtract(difference, subtrahend, subtrahend.length, modulus);
+        return trim(difference);
+    }
+
+    private static long[] scale(final long[] coefficients,
+                                final long factor,
+                                final long modulus) {
+        final long[] scaled = Arrays.copyOf(coefficients, coefficients.length);
+        KERNEL.scale(scaled, factor, scaled.length, modulus);
+        return scaled;
+    }
+
+    private static long[] trim(final long[] coefficients) {
+        int length = coefficients.length;
+        while (length > 0 && coefficients[length - 1] == 0) {
+            length--;
+        }
+        return length == coefficients.length ? coefficients : Arrays.copyOf(coefficients, length);
+    }
+
+    /**
+     * A 2x2 matrix of polynomials {@code [[a00, a01], [a10, a11]]}, which maps a pair of remainders {@code (r0, r1)}
+     * to a later pair {@code (a00 * r0 + a01 * r1, a10 * r0 + a11 * r1)} of the same remainder sequence.
+     */
+
+    private static final class Matrix {
+
+        private static final List<BigInteger> ZERO = List.of();
+        private static final List<BigInteger> ONE = List.of(BigInteger.ONE);
+
+        private static final Matrix IDENTITY = new Matrix(ONE, ZERO, ZERO, ONE);
+        private static final Matrix SWAP = new Matrix(ZERO, ONE, ONE, ZERO);
+
+        private final List<BigInteger> a00;
+        private final List<BigInteger> a01;
+        private final List<BigInteger> a10;
+        private final List<BigInteger> a11;
+
+        private Matrix(final List<BigInteger> a00,
+                       final List<BigInteger> a01,
+                       final List<BigInteger> a10,
+                       final List<BigInteger> a11) {
+            this.a00 = a00;
+            this.a01 = a01;
+            this.a10 = a10;
+            this.a11 = a11;
+        }
+
+        /**
+         * Apply this matrix to the pair of polynomials {@code (r0, r1)}.
+         */
+
+        private List<List<BigInteger>> apply(final List<BigInteger> r0,
+                                             final List<BigInteger> r1,
+                                             final ModularPolynomialGcd gcd) {
+            return List.of(gcd.add(gcd.multiply(this.a00, r0), gcd.multiply(this.a01, r1)),
+                    gcd.add(gcd.multiply(this.a10, r0), gcd.multiply(this.a11, r1)));
+        }
+
+        /**
+         * Return the product of this matrix and the specified {@code other} matrix, which applies {@code other} first.
+         */
+
+        private Matrix multiply(final Matrix other,
+                                final ModularPolynomialGcd gcd) {
+            if (other == IDENTITY) {
+                return this;
+            }
+            if (this == IDENTITY) {
+                return other;
+            }
+            return new Matrix(
+                    gcd.add(gcd.multiply(this.a00, other.a00), gcd.multiply(this.a01, other.a10)),
+                    gcd.add(gcd.multiply(this.a00, other.a01), gcd.multiply(this.a01, other.a11)),
+                    gcd.add(gcd.multiply(this.a10, other.a00), gcd.multiply(this.a11, other.a10)),
+                    gcd.add(gcd.multiply(this.a10, other.a01), gcd.multiply(this.a11, other.a11)));
+        }
+
+        /**
+         * Return the product of the single Euclidean step {@code [[0, 1], [1, -quotient]]} and this matrix.
+         */
+
+        private Matrix step(final List<BigInteger> quotient,
+                            final ModularPolynomialGcd gcd) {
+            return new Matrix(this.a10, this.a11,
+                    gcd.subtract(this.a00, gcd.multiply(quotient, this.a10)),
+                    gcd.subtract(this.a01, gcd.multiply(quotient, this.a11)));
+        }
+    }
+}
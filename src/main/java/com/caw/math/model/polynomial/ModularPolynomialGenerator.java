@@ -0,0 +1,229 @@
+package com.caw.math.model.polynomial;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SortedSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generates random irreducible and primitive polynomials of any degree with any prime modulus {@code p}, by sampling
+ * random monic polynomials until one passes {@link ModularPolynomialIrreducibility#isIrreducible(ModularPolynomial)}.
+ * Roughly one in every {@code n} monic polynomials of degree {@code n} is irreducible, see
+ * {@link #countIrreducibles(BigInteger, int)}, so only about {@code n} candidates are tested on average, and most of
+ * them fail on the first few degrees of the test.
+ *
+ * <p>An irreducible polynomial {@code f} of degree {@code n} is primitive if {@code x} generates the multiplicative
+ * group of {@code GF(p)[x] / f}, which is to say that {@code x^((p^n - 1) / q) != 1 mod f} for every prime factor
+ * {@code q} of {@code p^n - 1}. The test therefore has to factor {@code p^n - 1}, which is quick when it splits into
+ * small cyclotomic values, as for {@code p = 2} and composite {@code n}, but may take much longer when {@code p^n - 1}
+ * has several large prime factors.
+ *
+ * <p>Instances hold no state other than their source of randomness, and so may be shared between threads whenever
+ * that source may.
+ *
+ * @author cwhitmore
+ */
+
+public class ModularPolynomialGenerator {
+
+    private final Random random;
+
+    /**
+     * Construct a new {@link ModularPolynomialGenerator} that draws from the {@link ThreadLocalRandom} of the calling
+     * thread.
+     */
+
+    public ModularPolynomialGenerator() {
+        this.random = null;
+    }
+
+    /**
+     * Construct a new {@link ModularPolynomialGenerator} that draws from the specified {@code random}, for repeatable
+     * sequences of polynomials.
+     *
+     * @param random
+     *      The source of randomness.
+     */
+
+    public ModularPolynomialGenerator(final Random random) {
+        this.random = random;
+    }
+
+    /**
+     * Count the monic irreducible polynomials of the specified {@code degree} with the specified prime {@code modulus}
+     * exactly, with the Mobius formula: the sum of {@code mu(d) p^(n / d)} over every divisor {@code d} of {@code n},
+     * divided by {@code n}. The chance that a random monic polynomial is irreducible is this count over {@code p^n}.
+     *
+     * @param modulus
+     *      The prime modulus of the polynomials.
+     * @param degree
+     *      The positive degree of the polynomials.
+     * @return
+     *      The number of monic irreducible polynomials.
+     */
+
+    public static BigInteger countIrreducibles(final BigInteger modulus,
+                                               final int degree) {
+        validate(modulus, degree);
+        BigInteger sum = BigInteger.ZERO;
+        for (int d = 1; d <= degree; d++) {
+            if (degree % d == 0) {
+                sum = sum.add(modulus.pow(degree / d).multiply(BigInteger.valueOf(PrimeFactors.mobius(d))));
+            }
+        }
+        return sum.divide(BigInteger.valueOf(degree));
+    }
+
+    /**
+     * Count the monic primitive polynomials of the specified {@code degree} with the specified prime {@code modulus}
+     * exactly, as {@code phi(p^n - 1) / n}. This factors {@code p^n - 1}, see {@link ModularPolynomialGenerator}.
+     *
+     * @param modulus
+     *      The prime modulus of the polynomials.
+     * @param degree
+     *      The positive degree of the polynomials.
+     * @return
+     *      The number of monic primitive polynomials.
+     */
+
+    public static BigInteger countPrimitives(final BigInteger modulus,
+                                             final int degree) {
+        validate(modulus, degree);
+        BigInteger totient = modulus.pow(degree).subtract(BigInteger.ONE);
+        for (final BigInteger prime : PrimeFactors.ofPowerMinusOne(modulus, degree)) {
+            totient = totient.divide(prime).multiply(prime.subtract(BigInteger.ONE));
+        }
+        return totient.divide(BigInteger.valueOf(degree));
+    }
+
+    /**
+     * Generate a random monic irreducible polynomial of the specified {@code degree} with the specified prime
+     * {@code modulus}.
+     *
+     * @param modulus
+     *      The prime modulus of the polynomial.
+     * @param degree
+     *      The positive degree of the polynomial.
+     * @return
+     *      A new monic irreducible {@link ModularPolynomial}.
+     */
+
+    public ModularPolynomial irreducible(final BigInteger modulus,
+                                         final int degree) {
+        validate(modulus, degree);
+        final Random source = random();
+        while (true) {
+            final ModularPolynomial candidate = candidate(modulus, degree, source);
+            if (ModularPolynomialIrreducibility.isIrreducible(candidate)) {
+                return candidate;
+            }
+        }
+    }
+
+    /**
+     * Report whether the specified {@code polynomial} is primitive, which is to say that it is irreducible and that
+     * {@code x} generates the multiplicative group of the field that it defines. The modulus must be prime.
+     *
+     * @param polynomial
+     *      The polynomial to test.
+     * @return
+     *      {@code true} if the {@code polynomial} is primitive.
+     */
+
+    public static boolean isPrimitive(final ModularPolynomial polynomial) {
+        if (polynomial.degree() < 1 || polynomial.coefficients().get(0).signum() == 0
+                || !ModularPolynomialIrreducibility.isIrreducible(polynomial)) {
+            return false;
+        }
+        return hasPrimitiveOrder(polynomial, PrimeFactors.ofPowerMinusOne(polynomial.modulus(), polynomial.degree()));
+    }
+
+    /**
+     * Generate a random monic primitive polynomial of the specified {@code degree} with the specified prime
+     * {@code modulus}. The order {@code p^n - 1} is factored only once, however many candidates are tested.
+     *
+     * @param modulus
+     *      The prime modulus of the polynomial.
+     * @param degree
+     *      The positive degree of the polynomial.
+     * @return
+     *      A new monic primitive {@link ModularPolynomial}.
+     */
+
+    public ModularPolynomial primitive(final BigInteger modulus,
+                                       final int degree) {
+        validate(modulus, degree);
+        final SortedSet<BigInteger> factors = PrimeFactors.ofPowerMinusOne(modulus, degree);
+        while (true) {
+            final ModularPolynomial candidate = irreducible(modulus, degree);
+            if (candidate.coefficients().get(0).signum() != 0 && hasPrimitiveOrder(candidate, factors)) {
+                return candidate;
+            }
+        }
+    }
+
+    private Random random() {
+        return this.random == null ? ThreadLocalRandom.current() : this.random;
+    }
+
+    // Build a random monic polynomial, with a non-zero constant unless it is linear, since x divides the rest.
+    private static ModularPolynomial candidate(final BigInteger modulus,
+                                               final int degree,
+                                               final Random random) {
+        final List<BigInteger> coefficients = new ArrayList<>(degree + 1);
+        for (int i = 0; i < degree; i++) {
+            BigInteger coefficient = new BigInteger(modulus.bitLength() + Long.SIZE, random).mod(modulus);
+            while (i == 0 && degree > 1 && coefficient.signum() == 0) {
+                coefficient = new BigInteger(modulus.bitLength() + Long.SIZE, random).mod(modulus);
+            }
+            coefficients.add(coefficient);
+        }
+        coefficients.add(BigInteger.ONE);
+        return ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(coefficients)
+                .withModulus(modulus)
+                .build();
+    }
+
+    private static boolean hasPrimitiveOrder(final ModularPolynomial polynomial,
+                                             final SortedSet<BigInteger> factors) {
+        final BigInteger order = polynomial.modulus().pow(polynomial.degree()).subtract(BigInteger.ONE);
+        final ModularPolynomial x = ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(List.of(BigInteger.ZERO, BigInteger.ONE))
+                .withModulus(polynomial.modulus())
+                .build();
+        for (final BigInteger factor : factors) {
+            final ModularPolynomial power = power(x, order.divide(factor), polynomial);
+            if (power.degree() == 0 && power.value().equals(BigInteger.ONE)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static ModularPolynomial power(final ModularPolynomial base,
+                                           final BigInteger exponent,
+                                           final ModularPolynomial polynomial) {
+        ModularPolynomial power = base.divideAndRemainder(polynomial)[1];
+        final ModularPolynomial reduced = power;
+        for (int i = exponent.bitLength() - 2; i >= 0; i--) {
+            power = power.multiply(power).divideAndRemainder(polynomial)[1];
+            if (exponent.testBit(i)) {
+                power = power.multiply(reduced).divideAndRemainder(polynomial)[1];
+            }
+        }
+        return power;
+    }
+
+    private static void validate(final BigInteger modulus,
+                                 final int degree) {
+        if (modulus.compareTo(BigInteger.TWO) < 0) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + modulus);
+        }
+        if (degree < 1) {
+            throw new IllegalArgumentException("Illegal parameter: degree=" + degree);
+        }
+    }
+}
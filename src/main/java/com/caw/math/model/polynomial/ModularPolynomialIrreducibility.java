@@ -0,0 +1,139 @@
+package com.caw.math.model.polynomial;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A polynomial-time irreducibility test for a {@link ModularPolynomial} with a prime modulus {@code p}, following
+ * Ben-Or: a polynomial {@code f} of degree {@code n} is irreducible if and only if {@code gcd(f, x^(p^i) - x) = 1} for
+ * every {@code 1 <= i <= n / 2}, since {@code x^(p^i) - x} is the product of every monic irreducible polynomial whose
+ * degree divides {@code i}. Random polynomials usually have a small factor, so the test usually stops after the first
+ * few degrees.
+ *
+ * <p>Each Frobenius power {@code x^(p^(i + 1)) mod f} is calculated from the last, either by raising it to the power
+ * {@code p} with repeated squaring when {@code p} is small, or by composing it with {@code x^p mod f}, see
+ * {@link ModularComposition}, when {@code log p} exceeds the square root of the degree.
+ *
+ * @author cwhitmore
+ */
+
+public final class ModularPolynomialIrreducibility {
+
+    // Below this degree, building the composition table costs more than the repeated squaring that it saves.
+    private static final int COMPOSITION_THRESHOLD = 64;
+
+    private ModularPolynomialIrreducibility() {
+        // disable public instantiation.
+    }
+
+    /**
+     * Stream every irreducible polynomial of the specified {@code degree} with the specified prime {@code modulus}, of
+     * any leading coefficient, in increasing order of value. The stream is lazy, so the first few polynomials are found
+     * without testing the rest of the {@code modulus^degree * (modulus - 1)} candidates; and it is parallel, so that the
+     * candidates are split between cores. Call {@link Stream#sequential()} to test them on the calling thread.
+     *
+     * @param modulus
+     *      The prime modulus of the polynomials.
+     * @param degree
+     *      The positive degree of the polynomials.
+     * @return
+     *      A lazy parallel {@link Stream} of the irreducible polynomials.
+     */
+
+    public static Stream<ModularPolynomial> irreducibles(final BigInteger modulus,
+                                                         final int degree) {
+        final BigInteger floor = floor(modulus, degree);
+        return StreamSupport.stream(new IrreducibleSpliterator(modulus, floor, floor.multiply(modulus)), true);
+    }
+
+    /**
+     * Report whether the specified {@code polynomial} is irreducible, which is to say that it has a degree of at least
+     * one and is not the product of two polynomials of a lower degree. The modulus must be prime.
+     *
+     * @param polynomial
+     *      The polynomial to test.
+     * @return
+     *      {@code true} if the {@code polynomial} is irreducible.
+     */
+
+    public static boolean isIrreducible(final ModularPolynomial polynomial) {
+
+        final int degree = polynomial.degree();
+        if (degree < 1) {
+            return false;
+        }
+        if (degree == 1) {
+            return true;
+        }
+
+        final BigInteger modulus = polynomial.modulus();
+        final boolean compose = degree >= COMPOSITION_THRESHOLD && modulus.bitLength() > Math.sqrt(degree);
+        final ModularComposition composition = compose ? ModularComposition.frobenius(polynomial) : null;
+        final ModularPolynomial x = ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(List.of(BigInteger.ZERO, BigInteger.ONE))
+                .withModulus(modulus)
+                .build();
+
+        ModularPolynomial power = x;
+        for (int i = 1; 2 * i <= degree; i++) {
+            power = composition == null ? frobenius(power, polynomial) : composition.compose(power);
+            if (polynomial.gcd(power.subtract(x)).degree() > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stream every monic irreducible polynomial of the specified {@code degree} with the specified prime
+     * {@code modulus}, in increasing order of value. The stream is lazy and parallel, see
+     * {@link #irreducibles(BigInteger, int)}.
+     *
+     * @param modulus
+     *      The prime modulus of the polynomials.
+     * @param degree
+     *      The positive degree of the polynomials.
+     * @return
+     *      A lazy parallel {@link Stream} of the monic irreducible polynomials.
+     */
+
+    public static Stream<ModularPolynomial> monicIrreducibles(final BigInteger modulus,
+                                                              final int degree) {
+        final BigInteger floor = floor(modulus, degree);
+        return StreamSupport.stream(new IrreducibleSpliterator(modulus, floor, floor.shiftLeft(1)), true);
+    }
+
+    /**
+     * Report the value of {@code x^degree}, which is the smallest value of any polynomial of that degree.
+     */
+
+    private static BigInteger floor(final BigInteger modulus,
+                                    final int degree) {
+        if (modulus.compareTo(BigInteger.TWO) < 0) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + modulus);
+        }
+        if (degree < 1) {
+            throw new IllegalArgumentException("Illegal parameter: degree=" + degree);
+        }
+        return modulus.pow(degree);
+    }
+
+    /**
+     * Raise the specified {@code base} to the power of the prime modulus, modulo the specified {@code polynomial}.
+     */
+
+    private static ModularPolynomial frobenius(final ModularPolynomial base,
+                                               final ModularPolynomial polynomial) {
+        final BigInteger modulus = polynomial.modulus();
+        ModularPolynomial power = base;
+        for (int i = modulus.bitLength() - 2; i >= 0; i--) {
+            power = power.multiply(power).divideAndRemainder(polynomial)[1];
+            if (modulus.testBit(i)) {
+                power = power.multiply(base).divideAndRemainder(polynomial)[1];
+            }
+        }
+        return power;
+    }
+}
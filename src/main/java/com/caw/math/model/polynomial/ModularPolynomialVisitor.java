@@ -31,4 +31,61 @@ public interface ModularPolynomialVisitor {
      */
 
     ModularPolynomial visit(final NonBitPolynomial polynomial);
+
+    /**
+     * Visits the specified packed {@code polynomial}, performing implementation-specific operations on it.
+     *
+     * @param polynomial
+     *      The packed {@code polynomial} to visit.
+     * @return
+     *      Some {@link ModularPolynomial} instance, controlled by the visitor implementation.
+     */
+
+    ModularPolynomial visit(final PackedPolynomial polynomial);
+
+    /**
+     * Visits the specified sparse {@code polynomial}, performing implementation-specific operations on it.
+     *
+     * @param polynomial
+     *      The sparse {@code polynomial} to visit.
+     * @return
+     *      Some {@link ModularPolynomial} instance, controlled by the visitor implementation.
+     */
+
+    ModularPolynomial visit(final SparsePolynomial polynomial);
+
+    /**
+     * Visits the specified single word bitwise {@code polynomial}, performing implementation-specific operations on it.
+     *
+     * @param polynomial
+     *      The single word bitwise {@code polynomial} to visit.
+     * @return
+     *      Some {@link ModularPolynomial} instance, controlled by the visitor implementation.
+     */
+
+    ModularPolynomial visit(final WordBitPolynomial polynomial);
+
+    /**
+     * Visits the specified mutable bitwise {@code polynomial}, performing implementation-specific operations on it.
+     * Implementations may update the visited polynomial in place.
+     *
+     * @param polynomial
+     *      The mutable bitwise {@code polynomial} to visit.
+     * @return
+     *      Some {@link ModularPolynomial} instance, controlled by the visitor implementation.
+     */
+
+    ModularPolynomial visit(final MutableBitPolynomial polynomial);
+
+    /**
+     * Visits the specified mutable word-sized {@code polynomial}, performing implementation-specific operations on it.
+     * Implementations may update the visited polynomial in place.
+     *
+     * @param polynomial
+     *      The mutable word-sized {@code polynomial} to visit.
+     * @return
+     *      Some {@link ModularPolynomial} instance, controlled by the visitor implementation.
+     */
+
+    ModularPolynomial visit(final MutablePolynomial polynomial);
 }
@@ -0,0 +1,764 @@
+package com.caw.math.model.polynomial;
+
+import com.caw.math.model.polynomial.algorithm.multiply.BitMultiply;
+import com.caw.math.model.polynomial.algorithm.multiply.BitMultiplyFactory;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A mutable implementation of {@link ModularPolynomial} for polynomials with a modulus of two, backed by a
+ * {@code long[]} of words where bit {@code i} of the polynomial is bit {@code i % 64} of word {@code i / 64}. Unlike
+ * {@link BitPolynomial}, which has to copy its whole {@link BigInteger} magnitude for every xor and shift, the
+ * {@code *InPlace} operations of this class update the words directly, so large binary field arithmetic can run inside
+ * of a single scratch buffer that is re-used across calls.
+ *
+ * The operations declared by {@link ModularPolynomial} never mutate this polynomial and return a new
+ * {@code MutableBitPolynomial} instead. Instances are not thread-safe; a scratch buffer should be confined to a single
+ * thread, e.g. via a {@link ThreadLocal}.
+ *
+ * @author cwhitmore
+ */
+
+@SuppressWarnings("PMD.TooManyMethods")
+public class MutableBitPolynomial implements ModularPolynomial {
+
+    private static final BigInteger MODULUS = BigInteger.TWO;
+    private static final int WORD_SHIFT = 6;
+    private static final int BIT_MASK = Long.SIZE - 1;
+    private static final BitMultiply MULTIPLY = BitMultiplyFactory.make();
+
+    private long[] words;
+
+    // The number of words in use; the most significant word in use is always non-zero.
+    private int length;
+
+    /**
+     * Construct a new zero-valued {@link MutableBitPolynomial} with room for a polynomial of degree 63 before the
+     * backing words need to grow.
+     */
+
+    public MutableBitPolynomial() {
+        this(Long.SIZE - 1);
+    }
+
+    /**
+     * Construct a new zero-valued {@link MutableBitPolynomial} with room for a polynomial of the specified
+     * {@code capacity} degree before the backing words need to grow.
+     *
+     * @param capacity
+     *      The largest degree that this polynomial can hold without growing its backing words.
+     */
+
+    public MutableBitPolynomial(final int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Invalid " + getClass().getSimpleName() + ": capacity=" + capacity);
+        }
+        this.words = new long[wordsFor(capacity + 1)];
+    }
+
+    /**
+     * Construct a new {@link MutableBitPolynomial} with the specified {@code value}.
+     *
+     * @param value
+     *      The value of the new polynomial.
+     */
+
+    public MutableBitPolynomial(final BigInteger value) {
+        this(Math.max(value.bitLength() - 1, 0));
+        set(value);
+    }
+
+    @Override
+    public ModularPolynomial accepts(final ModularPolynomialVisitor visitor) {
+        return visitor.visit(this);
+    }
+
+    @Override
+    public MutableBitPolynomial add(final ModularPolynomial addend) {
+        return copy().xorInPlace(addend);
+    }
+
+    @Override
+    public MutableBitPolynomial add(final BigInteger addend) {
+        return copy().xorInPlace(new MutableBitPolynomial(addend));
+    }
+
+    @Override
+    public MutableBitPolynomial add(final long addend) {
+        return add(BigInteger.valueOf(addend));
+    }
+
+    /**
+     * Set every coefficient of this polynomial to zero, retaining the backing words for re-use.
+     *
+     * @return
+     *      This polynomial.
+     */
+
+    public MutableBitPolynomial clear() {
+        Arrays.fill(this.words, 0, this.length, 0L);
+        this.length = 0;
+        return this;
+    }
+
+    /**
+     * Set the coefficient of the specified {@code degree} to zero.
+     *
+     * @param degree
+     *      The degree of the coefficient to clear.
+     * @return
+     *      This polynomial.
+     */
+
+    public MutableBitPolynomial clearBit(final int degree) {
+        final int word = degree >>> WORD_SHIFT;
+        if (word < this.length) {
+            this.words[word] &= ~(1L << (degree & BIT_MASK));
+            normalize();
+        }
+        return this;
+    }
+
+    @Override
+    public List<BigInteger> coefficients() {
+        final int size = bitLength();
+        final List<BigInteger> coefficients = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            coefficients.add(testBit(i) ? BigInteger.ONE : BigInteger.ZERO);
+        }
+
+        return coefficients;
+    }
+
+    @Override
+    public MutableBitPolynomial compose(final ModularPolynomial inner,
+                                        final ModularPolynomial reducer) {
+
+        if (!MODULUS.equals(reducer.modulus())) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + reducer.modulus());
+        }
+        final List<BigInteger> composition = ModularComposition.of(inner, reducer).compose(coefficients());
+        return new MutableBitPolynomial(ModularPolynomial.valueOf(composition, MODULUS));
+    }
+
+    /**
+     * Return a new {@link MutableBitPolynomial} with the same value as this polynomial.
+     *
+     * @return
+     *      An independent copy of this polynomial.
+     */
+
+    public MutableBitPolynomial copy() {
+        final MutableBitPolynomial copy = new MutableBitPolynomial(Math.max(bitLength() - 1, 0));
+        System.arraycopy(this.words, 0, copy.words, 0, this.length);
+        copy.length = this.length;
+        return copy;
+    }
+
+    @Override
+    public int degree() {
+        return Math.max(bitLength() - 1, 0);
+    }
+
+    @Override
+    public MutableBitPolynomial[] divideAndRemainder(final ModularPolynomial divisor) {
+
+        if (!MODULUS.equals(divisor.modulus())) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + divisor.modulus());
+        }
+        final MutableBitPolynomial reducer = of(divisor);
+        if (reducer.isZero()) {
+            throw new IllegalArgumentException("Illegal parameter: divisor=" + divisor);
+        }
+
+        final int reducerDegree = reducer.degree();
+        final MutableBitPolynomial remainder = copy();
+        final MutableBitPolynomial quotient = new MutableBitPolynomial(Math.max(0, degree() - reducerDegree));
+        for (int i = remainder.bitLength() - 1; i >= reducerDegree; i--) {
+            if (remainder.testBit(i)) {
+                remainder.xorShiftedInPlace(reducer, i - reducerDegree);
+                quotient.setBit(i - reducerDegree);
+            }
+        }
+        return new MutableBitPolynomial[] { quotient, remainder };
+    }
+
+    @Override
+    public MutableBitPolynomial[] extendedGcd(final ModularPolynomial other) {
+        return gcd(other, true);
+    }
+
+    /**
+     * Flip the coefficient of the specified {@code degree}.
+     *
+     * @param degree
+     *      The degree of the coefficient to flip.
+     * @return
+     *      This polynomial.
+     */
+
+    public MutableBitPolynomial flipBit(final int degree) {
+        final int word = degree >>> WORD_SHIFT;
+        ensureCapacity(word + 1);
+        this.words[word] ^= 1L << (degree & BIT_MASK);
+        this.length = Math.max(this.length, word + 1);
+        normalize();
+        return this;
+    }
+
+    /**
+     * Return an immutable {@link ModularPolynomial} with the current value of this polynomial, which is unaffected by
+     * any further mutation of this polynomial.
+     *
+     * @return
+     *      An immutable bitwise polynomial with the current value of this polynomial.
+     */
+
+    public ModularPolynomial freeze() {
+        if (this.length == 0) {
+            return new WordBitPolynomial(0);
+        }
+        if (this.length == 1 && this.words[0] >= 0) {
+            return new WordBitPolynomial(this.words[0]);
+        }
+        return new BitPolynomial(value());
+    }
+
+    @Override
+    public MutableBitPolynomial gcd(final ModularPolynomial other) {
+        return gcd(other, false)[0];
+    }
+
+    /**
+     * Report whether every coefficient of this polynomial is zero.
+     *
+     * @return
+     *      {@code true} if this polynomial is the zero polynomial.
+     */
+
+    public boolean isZero() {
+        return this.length == 0;
+    }
+
+    @Override
+    public BigInteger modulus() {
+        return MODULUS;
+    }
+
+    @Override
+    public MutableBitPolynomial multiply(final ModularPolynomial multiplier) {
+        final MutableBitPolynomial product = new MutableBitPolynomial(degree() + multiplier.degree());
+        return product.setProduct(this, of(multiplier));
+    }
+
+    @Override
+    public MutableBitPolynomial multiply(final BigInteger multiplier) {
+        return multiply(new MutableBitPolynomial(multiplier));
+    }
+
+    @Override
+    public MutableBitPolynomial multiply(final long multiplier) {
+        return multiply(BigInteger.valueOf(multiplier));
+    }
+
+    /**
+     * Reduce this polynomial in place to its remainder after division by the specified {@code modulus}.
+     *
+     * @param modulus
+     *      The non-zero polynomial to reduce this polynomial by.
+     * @return
+     *      This polynomial.
+     */
+
+    public MutableBitPolynomial reduceInPlace(final MutableBitPolynomial modulus) {
+
+        if (modulus.isZero()) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + modulus);
+        }
+
+        final int modulusDegree = modulus.degree();
+        for (int i = bitLength() - 1; i >= modulusDegree; i--) {
+            if (testBit(i)) {
+                xorShiftedInPlace(modulus, i - modulusDegree);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Reduce this polynomial in place by the sparse modulus whose non-zero terms have the specified ascending
+     * {@code exponents}, see {@link SparsePolynomial}. Rather than cancelling one leading bit at a time, each step folds
+     * up to a word of the leading bits onto the lower terms of the modulus, since {@code x^n} is congruent to the sum of
+     * those terms, so that reduction by a trinomial costs a handful of word xors per word of this polynomial.
+     */
+
+    /* default */ MutableBitPolynomial reduceInPlace(final int[] exponents) {
+
+        final int modulusDegree = exponents[exponents.length - 1];
+        for (int top = bitLength() - 1; top >= modulusDegree; top = bitLength() - 1) {
+            final int start = Math.max(modulusDegree, top - BIT_MASK);
+            final long chunk = bitsAt(start);
+            xorBitsAt(chunk, start);
+            for (int i = 0; i < exponents.length - 1; i++) {
+                xorBitsAt(chunk, start - modulusDegree + exponents[i]);
+            }
+            normalize();
+        }
+        return this;
+    }
+
+    @Override
+    public MutableBitPolynomial scale(final BigInteger factor) {
+        return factor.testBit(0) ? copy() : new MutableBitPolynomial();
+    }
+
+    @Override
+    public MutableBitPolynomial scale(final long factor) {
+        return scale(BigInteger.valueOf(factor));
+    }
+
+    /**
+     * Set the value of this polynomial to the specified {@code value}.
+     *
+     * @param value
+     *      The new value of this polynomial.
+     * @return
+     *      This polynomial.
+     */
+
+    public MutableBitPolynomial set(final BigInteger value) {
+
+        if (value.signum() < 0) {
+            throw new IllegalArgumentException("Illegal parameter: value=" + value);
+        }
+
+        clear();
+        final byte[] bytes = value.toByteArray();
+        ensureCapacity(wordsFor(bytes.length * Byte.SIZE));
+
+        for (int i = 0; i < bytes.length; i++) {
+            final int bit = i * Byte.SIZE;
+            this.words[bit >>> WORD_SHIFT] |= (bytes[bytes.length - 1 - i] & 0xFFL) << (bit & BIT_MASK);
+        }
+        this.length = wordsFor(bytes.length * Byte.SIZE);
+        normalize();
+        return this;
+    }
+
+    /**
+     * Set the value of this polynomial to the value of the specified bitwise {@code polynomial}.
+     *
+     * @param polynomial
+     *      The polynomial whose value is copied into this polynomial.
+     * @return
+     *      This polynomial.
+     */
+
+    public MutableBitPolynomial set(final ModularPolynomial polynomial) {
+
+        if (polynomial instanceof MutableBitPolynomial) {
+            final MutableBitPolynomial source = (MutableBitPolynomial) polynomial;
+            if (source != this) {
+                clear();
+                ensureCapacity(source.length);
+                System.arraycopy(source.words, 0, this.words, 0, source.length);
+                this.length = source.length;
+            }
+            return this;
+        }
+        if (polynomial instanceof WordBitPolynomial) {
+            clear();
+            this.words[0] = ((WordBitPolynomial) polynomial).longValue();
+            this.length = 1;
+            normalize();
+            return this;
+        }
+        return set(polynomial.value());
+    }
+
+    /**
+     * Set the coefficient of the specified {@code degree} to one.
+     *
+     * @param degree
+     *      The degree of the coefficient to set.
+     * @return
+     *      This polynomial.
+     */
+
+    public MutableBitPolynomial setBit(final int degree) {
+        if (!testBit(degree)) {
+            flipBit(degree);
+        }
+        return this;
+    }
+
+    /**
+     * Set the value of this polynomial to the product of the specified {@code multiplicand} and {@code multiplier},
+     * using the default {@link BitMultiply} algorithm. Either operand may be this polynomial.
+     *
+     * @param multiplicand
+     *      The multiplicand of the multiply operation.
+     * @param multiplier
+     *      The multiplier of the multiply operation.
+     * @return
+     *      This polynomial.
+     */
+
+    public MutableBitPolynomial setProduct(final MutableBitPolynomial multiplicand,
+                                           final MutableBitPolynomial multiplier) {
+        return setProduct(multiplicand, multiplier, MULTIPLY);
+    }
+
+    /**
+     * Set the value of this polynomial to the product of the specified {@code multiplicand} and {@code multiplier},
+     * using the specified {@link BitMultiply} {@code algorithm}. Either operand may be this polynomial.
+     *
+     * @param multiplicand
+     *      The multiplicand of the multiply operation.
+     * @param multiplier
+     *      The multiplier of the multiply operation.
+     * @param algorithm
+     *      The carry-less multiplication algorithm to calculate the product with.
+     * @return
+     *      This polynomial.
+     */
+
+    public MutableBitPolynomial setProduct(final MutableBitPolynomial multiplicand,
+                                           final MutableBitPolynomial multiplier,
+                                           final BitMultiply algorithm) {
+
+        final long[] product = algorithm.multiply(multiplicand.words, multiplicand.length,
+                multiplier.words, multiplier.length);
+
+        clear();
+        ensureCapacity(product.length);
+        System.arraycopy(product, 0, this.words, 0, product.length);
+        this.length = product.length;
+        normalize();
+        return this;
+    }
+
+    /**
+     * Shift this polynomial left by the specified number of {@code bits}, i.e. multiply it by x^bits.
+     *
+     * @param bits
+     *      The non-negative number of bits to shift by.
+     * @return
+     *      This polynomial.
+     */
+
+    public MutableBitPolynomial shiftLeftInPlace(final int bits) {
+
+        if (bits < 0) {
+            throw new IllegalArgumentException("Illegal parameter: bits=" + bits);
+        }
+        if (this.length == 0 || bits == 0) {
+            return this;
+        }
+
+        final int wordShift = bits >>> WORD_SHIFT;
+        final int bitShift = bits & BIT_MASK;
+        final int newLength = this.length + wordShift + 1;
+        ensureCapacity(newLength);
+
+        for (int i = newLength - 1; i >= wordShift; i--) {
+            final int source = i - wordShift;
+            long word = source < this.length ? this.words[source] << bitShift : 0L;
+            if (bitShift != 0 && source > 0 && source - 1 < this.length) {
+                word |= this.words[source - 1] >>> (Long.SIZE - bitShift);
+            }
+            this.words[i] = word;
+        }
+        Arrays.fill(this.words, 0, wordShift, 0L);
+        this.length = newLength;
+        normalize();
+        return this;
+    }
+
+    /**
+     * Shift this polynomial right by the specified number of {@code bits}, discarding the coefficients of degree lower
+     * than {@code bits}.
+     *
+     * @param bits
+     *      The non-negative number of bits to shift by.
+     * @return
+     *      This polynomial.
+     */
+
+    public MutableBitPolynomial shiftRightInPlace(final int bits) {
+
+        if (bits < 0) {
+            throw new IllegalArgumentException("Illegal parameter: bits=" + bits);
+        }
+
+        final int wordShift = bits >>> WORD_SHIFT;
+        final int bitShift = bits & BIT_MASK;
+        if (wordShift >= this.length) {
+            return clear();
+        }
+
+        final int newLength = this.length - wordShift;
+        for (int i = 0; i < newLength; i++) {
+            long word = this.words[i + wordShift] >>> bitShift;
+            if (bitShift != 0 && i + wordShift + 1 < this.length) {
+                word |= this.words[i + wordShift + 1] << (Long.SIZE - bitShift);
+            }
+            this.words[i] = word;
+        }
+        Arrays.fill(this.words, newLength, this.length, 0L);
+        this.length = newLength;
+        normalize();
+        return this;
+    }
+
+    @Override
+    public MutableBitPolynomial subtract(final ModularPolynomial subtrahend) {
+        return add(subtrahend);
+    }
+
+    @Override
+    public MutableBitPolynomial subtract(final BigInteger subtrahend) {
+        return add(subtrahend);
+    }
+
+    @Override
+    public MutableBitPolynomial subtract(final long subtrahend) {
+        return add(subtrahend);
+    }
+
+    /**
+     * Report whether the coefficient of the specified {@code degree} is one.
+     *
+     * @param degree
+     *      The degree of the coefficient to test.
+     * @return
+     *      {@code true} if the coefficient of the specified degree is one.
+     */
+
+    public boolean testBit(final int degree) {
+        final int word = degree >>> WORD_SHIFT;
+        return word < this.length && (this.words[word] >>> (degree & BIT_MASK) & 1L) != 0;
+    }
+
+    @Override
+    public String toString() {
+
+        if (this.length == 0) {
+            return "0";
+        }
+
+        final StringBuilder builder = new StringBuilder();
+        for (int degree = bitLength() - 1; degree >= 0; degree--) {
+            if (testBit(degree)) {
+                if (builder.length() != 0) {
+                    builder.append(" + ");
+                }
+                if (degree == 0) {
+                    builder.append('1');
+                } else {
+                    builder.append('x');
+                    if (degree != 1) {
+                        builder.append('^').append(degree);
+                    }
+                }
+            }
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public BigInteger value() {
+
+        final byte[] bytes = new byte[this.length * Long.BYTES];
+        for (int i = 0; i < this.length; i++) {
+            final long word = this.words[i];
+            for (int b = 0; b < Long.BYTES; b++) {
+                bytes[bytes.length - 1 - i * Long.BYTES - b] = (byte) (word >>> (b * Byte.SIZE));
+            }
+        }
+        return new BigInteger(1, bytes);
+    }
+
+    /**
+     * Xor the specified {@code addend} into this polynomial, i.e. add it in place.
+     *
+     * @param addend
+     *      The polynomial to add to this polynomial.
+     * @return
+     *      This polynomial.
+     */
+
+    public MutableBitPolynomial xorInPlace(final ModularPolynomial addend) {
+        return xorShiftedInPlace(of(addend), 0);
+    }
+
+    /**
+     * Xor the specified {@code addend} multiplied by x^shift into this polynomial. This is the core step of both
+     * shift-and-add multiplication and of reduction by a modulus polynomial, and never materializes the shifted addend.
+     *
+     * @param addend
+     *      The polynomial to shift and add to this polynomial.
+     * @param shift
+     *      The non-negative number of bits to shift the {@code addend} by before adding it.
+     * @return
+     *      This polynomial.
+     */
+
+    public MutableBitPolynomial xorShiftedInPlace(final MutableBitPolynomial addend,
+                                                  final int shift) {
+
+        if (shift < 0) {
+            throw new IllegalArgumentException("Illegal parameter: shift=" + shift);
+        }
+
+        final int wordShift = shift >>> WORD_SHIFT;
+        final int bitShift = shift & BIT_MASK;
+        final int addendLength = addend.length;
+        final int newLength = addendLength + wordShift + (bitShift == 0 ? 0 : 1);
+        ensureCapacity(newLength);
+
+        // Walk downwards so that xor-ing a polynomial with a shifted copy of itself reads every word before writing it.
+        final long[] source = addend.words;
+        for (int i = addendLength - 1; i >= 0; i--) {
+            final long word = source[i];
+            if (bitShift != 0) {
+                this.words[i + wordShift + 1] ^= word >>> (Long.SIZE - bitShift);
+            }
+            this.words[i + wordShift] ^= word << bitShift;
+        }
+        this.length = Math.max(this.length, newLength);
+        normalize();
+        return this;
+    }
+
+    /**
+     * Read the word of bits starting at the specified {@code offset}, zero-filled beyond the most significant word.
+     */
+
+    private long bitsAt(final int offset) {
+        final int word = offset >>> WORD_SHIFT;
+        final int bitShift = offset & BIT_MASK;
+        long bits = this.words[word] >>> bitShift;
+        if (bitShift != 0 && word + 1 < this.length) {
+            bits |= this.words[word + 1] << (Long.SIZE - bitShift);
+        }
+        return bits;
+    }
+
+    /**
+     * Xor the specified word of {@code bits} into this polynomial at the specified {@code offset}. The bits must not
+     * reach beyond the words in use.
+     */
+
+    private void xorBitsAt(final long bits,
+                           final int offset) {
+        final int word = offset >>> WORD_SHIFT;
+        final int bitShift = offset & BIT_MASK;
+        this.words[word] ^= bits << bitShift;
+        if (bitShift != 0) {
+            final long carry = bits >>> (Long.SIZE - bitShift);
+            if (carry != 0) {
+                this.words[word + 1] ^= carry;
+            }
+        }
+    }
+
+    /**
+     * Report the number of significant bits in this polynomial, i.e. its degree plus one, or zero for the zero
+     * polynomial.
+     */
+
+    private int bitLength() {
+        return this.length == 0 ? 0
+                : (this.length << WORD_SHIFT) - Long.numberOfLeadingZeros(this.words[this.length - 1]);
+    }
+
+    /**
+     * Grow the backing words, if required, so that they can hold at least the specified number of {@code words}.
+     */
+
+    private void ensureCapacity(final int words) {
+        if (words > this.words.length) {
+            this.words = Arrays.copyOf(this.words, Math.max(words, this.words.length * 2));
+        }
+    }
+
+    /**
+     * Trim the number of words in use so that the most significant word in use is non-zero.
+     */
+
+    private void normalize() {
+        while (this.length > 0 && this.words[this.length - 1] == 0) {
+            this.length--;
+        }
+    }
+
+    /**
+     * View the specified bitwise {@code polynomial} as a {@link MutableBitPolynomial}, copying it only if required.
+     */
+
+    /**
+     * Run the Euclidean algorithm on copies of this polynomial and the specified {@code other} polynomial, cancelling
+     * the leading coefficient of the larger remainder with one shifted xor at a time. The cofactors follow the same
+     * shifted xors, but are left {@code null} unless requested.
+     */
+
+    private MutableBitPolynomial[] gcd(final ModularPolynomial other,
+                                       final boolean cofactors) {
+
+        if (!MODULUS.equals(other.modulus())) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + other.modulus());
+        }
+
+        MutableBitPolynomial r0 = copy();
+        MutableBitPolynomial r1 = of(other).copy();
+        MutableBitPolynomial s0 = cofactors ? new MutableBitPolynomial().setBit(0) : null;
+        MutableBitPolynomial s1 = cofactors ? new MutableBitPolynomial() : null;
+        MutableBitPolynomial t0 = cofactors ? new MutableBitPolynomial() : null;
+        MutableBitPolynomial t1 = cofactors ? new MutableBitPolynomial().setBit(0) : null;
+
+        while (!r1.isZero()) {
+            final int degree = r1.degree();
+            while (!r0.isZero() && r0.degree() >= degree) {
+                final int shift = r0.degree() - degree;
+                r0.xorShiftedInPlace(r1, shift);
+                if (cofactors) {
+                    s0.xorShiftedInPlace(s1, shift);
+                    t0.xorShiftedInPlace(t1, shift);
+                }
+            }
+
+            final MutableBitPolynomial remainder = r0;
+            r0 = r1;
+            r1 = remainder;
+            if (cofactors) {
+                final MutableBitPolynomial s = s0;
+                s0 = s1;
+                s1 = s;
+                final MutableBitPolynomial t = t0;
+                t0 = t1;
+                t1 = t;
+            }
+        }
+        return new MutableBitPolynomial[] { r0, s0, t0 };
+    }
+
+    private static MutableBitPolynomial of(final ModularPolynomial polynomial) {
+        if (polynomial instanceof MutableBitPolynomial) {
+            return (MutableBitPolynomial) polynomial;
+        }
+        return new MutableBitPolynomial().set(polynomial);
+    }
+
+    /**
+     * Report the number of words required to hold the specified number of {@code bits}.
+     */
+
+    private static int wordsFor(final int bits) {
+        return Math.max((bits + BIT_MASK) >>> WORD_SHIFT, 1);
+    }
+}
@@ -0,0 +1,522 @@
+package com.caw.math.model.polynomial;
+
+import com.caw.math.model.polynomial.algorithm.coefficient.CoefficientKernel;
+import com.caw.math.model.polynomial.algorithm.coefficient.CoefficientKernelFactory;
+import com.caw.math.model.polynomial.algorithm.multiply.AdaptivePolynomialMultiply;
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiply;
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiplyFactory;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A mutable implementation of {@link ModularPolynomial} for polynomials with a modulus of greater than two that still
+ * fits inside of a machine word, i.e. the moduli handled by {@link PackedPolynomial}. It is intended to be used as an
+ * accumulator: the {@code *InPlace} operations and {@link #multiplyAccumulate(ModularPolynomial, ModularPolynomial)}
+ * update the backing coefficients directly, growing them only when a result no longer fits, so a long sum of products
+ * can be calculated without allocating an object per term. The result is turned into an immutable polynomial with
+ * {@link #freeze()} once the chain of operations is complete.
+ *
+ * The operations declared by {@link ModularPolynomial} never mutate this polynomial and return a new
+ * {@code MutablePolynomial} instead. Instances are not thread-safe; an accumulator should be confined to a single
+ * thread, e.g. via a {@link ThreadLocal}.
+ *
+ * @author cwhitmore
+ */
+
+@SuppressWarnings("PMD.TooManyMethods")
+public class MutablePolynomial implements ModularPolynomial {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final PolynomialMultiply MULTIPLY = PolynomialMultiplyFactory.make();
+    private static final CoefficientKernel KERNEL = CoefficientKernelFactory.make();
+
+    private final long modulus;
+
+    private long[] coefficients;
+
+    // The number of coefficients in use; the most significant coefficient in use is always non-zero.
+    private int length;
+
+    // Re-used to hold a copy of an operand that aliases this accumulator.
+    private long[] scratch = new long[0];
+
+    /**
+     * Construct a new zero-valued {@link MutablePolynomial} with the specified {@code modulus}.
+     *
+     * @param modulus
+     *      The modulus of the coefficients, greater than two and at most {@link PackedPolynomial#MAX_MODULUS}.
+     */
+
+    public MutablePolynomial(final long modulus) {
+        this(modulus, DEFAULT_CAPACITY - 1);
+    }
+
+    /**
+     * Construct a new zero-valued {@link MutablePolynomial} with the specified {@code modulus} and room for a
+     * polynomial of degree {@code capacity} before the backing coefficients need to grow.
+     *
+     * @param modulus
+     *      The modulus of the coefficients, greater than two and at most {@link PackedPolynomial#MAX_MODULUS}.
+     * @param capacity
+     *      The non-negative degree to reserve space for.
+     */
+
+    public MutablePolynomial(final long modulus,
+                             final int capacity) {
+        if (modulus <= 2 || modulus > PackedPolynomial.MAX_MODULUS) {
+            throw new IllegalArgumentException("Invalid " + getClass().getSimpleName() + ": modulus=" + modulus);
+        }
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Invalid " + getClass().getSimpleName() + ": capacity=" + capacity);
+        }
+        this.modulus = modulus;
+        this.coefficients = new long[capacity + 1];
+    }
+
+    /**
+     * Construct a new {@link MutablePolynomial} with the same modulus and coefficients as the specified
+     * {@code polynomial}.
+     *
+     * @param polynomial
+     *      The polynomial to copy, whose modulus is greater than two and at most {@link PackedPolynomial#MAX_MODULUS}.
+     */
+
+    public MutablePolynomial(final ModularPolynomial polynomial) {
+        this(polynomial.modulus().longValueExact(), Math.max(polynomial.degree(), DEFAULT_CAPACITY - 1));
+        set(polynomial);
+    }
+
+    @Override
+    public ModularPolynomial accepts(final ModularPolynomialVisitor visitor) {
+        return visitor.visit(this);
+    }
+
+    @Override
+    public MutablePolynomial add(final ModularPolynomial addend) {
+        return copy().addInPlace(addend);
+    }
+
+    @Override
+    public MutablePolynomial add(final BigInteger addend) {
+        return copy().addInPlace(addend);
+    }
+
+    @Override
+    public MutablePolynomial add(final long addend) {
+        return add(BigInteger.valueOf(addend));
+    }
+
+    /**
+     * Add the specified {@code addend} to this polynomial, in place.
+     *
+     * @param addend
+     *      The polynomial to add, with the same modulus as this polynomial.
+     * @return
+     *      This polynomial, for chaining.
+     */
+
+    public MutablePolynomial addInPlace(final ModularPolynomial addend) {
+        final long[] other = coefficientsOf(addend);
+        return addInPlace(other, lengthOf(addend, other), 1);
+    }
+
+    /**
+     * Add the polynomial with the specified {@code addend} value to this polynomial, in place.
+     *
+     * @param addend
+     *      The value of the polynomial to add.
+     * @return
+     *      This polynomial, for chaining.
+     */
+
+    public MutablePolynomial addInPlace(final BigInteger addend) {
+        final long[] other = PackedPolynomial.decode(validate(addend), this.modulus);
+        return addInPlace(other, other.length, 1);
+    }
+
+    /**
+     * Reset this polynomial to zero, keeping its backing coefficients for re-use.
+     *
+     * @return
+     *      This polynomial, for chaining.
+     */
+
+    public MutablePolynomial clear() {
+        Arrays.fill(this.coefficients, 0, this.length, 0);
+        this.length = 0;
+        return this;
+    }
+
+    @Override
+    public List<BigInteger> coefficients() {
+        final List<BigInteger> coefficients = new ArrayList<>(Math.max(1, this.length));
+        for (int i = 0; i < this.length; i++) {
+            coefficients.add(BigInteger.valueOf(this.coefficients[i]));
+        }
+        if (coefficients.isEmpty()) {
+            coefficients.add(BigInteger.ZERO);
+        }
+        return coefficients;
+    }
+
+    @Override
+    public MutablePolynomial compose(final ModularPolynomial inner,
+                                     final ModularPolynomial reducer) {
+        return new MutablePolynomial(freeze().compose(inner, reducer));
+    }
+
+    /**
+     * Create an independent copy of this polynomial.
+     *
+     * @return
+     *      A new {@link MutablePolynomial} with the same modulus and coefficients as this polynomial.
+     */
+
+    public MutablePolynomial copy() {
+        final MutablePolynomial copy = new MutablePolynomial(this.modulus, Math.max(this.length, 1) - 1);
+        System.arraycopy(this.coefficients, 0, copy.coefficients, 0, this.length);
+        copy.length = this.length;
+        return copy;
+    }
+
+    @Override
+    public int degree() {
+        return Math.max(this.length - 1, 0);
+    }
+
+    @Override
+    public MutablePolynomial[] divideAndRemainder(final ModularPolynomial divisor) {
+        final PackedPolynomial[] division = freeze().divideAndRemainder(divisor);
+        return new MutablePolynomial[] { new MutablePolynomial(division[0]), new MutablePolynomial(division[1]) };
+    }
+
+    @Override
+    public MutablePolynomial[] extendedGcd(final ModularPolynomial other) {
+        final PackedPolynomial[] gcd = freeze().extendedGcd(other);
+        return new MutablePolynomial[] {
+            new MutablePolynomial(gcd[0]), new MutablePolynomial(gcd[1]), new MutablePolynomial(gcd[2]),
+        };
+    }
+
+    /**
+     * Create an immutable polynomial with the current coefficients of this polynomial. Later changes to this polynomial
+     * do not affect the returned polynomial.
+     *
+     * @return
+     *      A new {@link PackedPolynomial} with the same modulus and coefficients as this polynomial.
+     */
+
+    public PackedPolynomial freeze() {
+        return new PackedPolynomial(Arrays.copyOf(this.coefficients, this.length), this.modulus, null, null);
+    }
+
+    @Override
+    public MutablePolynomial gcd(final ModularPolynomial other) {
+        return new MutablePolynomial(freeze().gcd(other));
+    }
+
+    /**
+     * Report whether this polynomial is zero.
+     *
+     * @return
+     *      {@code true} if every coefficient of this polynomial is zero.
+     */
+
+    public boolean isZero() {
+        return this.length == 0;
+    }
+
+    @Override
+    public BigInteger modulus() {
+        return BigInteger.valueOf(this.modulus);
+    }
+
+    @Override
+    public MutablePolynomial multiply(final ModularPolynomial multiplier) {
+        return new MutablePolynomial(this.modulus, this.length + multiplier.degree())
+                .multiplyAccumulate(this, multiplier);
+    }
+
+    @Override
+    public MutablePolynomial multiply(final BigInteger multiplier) {
+        return multiply(new PackedPolynomial(validate(multiplier), this.modulus));
+    }
+
+    @Override
+    public MutablePolynomial multiply(final long multiplier) {
+        return multiply(BigInteger.valueOf(multiplier));
+    }
+
+    /**
+     * Add the product of the specified {@code multiplicand} and {@code multiplier} to this polynomial, in place. Either
+     * operand may be this polynomial itself.
+     *
+     * @param multiplicand
+     *      The multiplicand of the product, with the same modulus as this polynomial.
+     * @param multiplier
+     *      The multiplier of the product, with the same modulus as this polynomial.
+     * @return
+     *      This polynomial, for chaining.
+     */
+
+    public MutablePolynomial multiplyAccumulate(final ModularPolynomial multiplicand,
+                                                final ModularPolynomial multiplier) {
+
+        final long[] left = operand(multiplicand, false);
+        final int leftLength = lengthOf(multiplicand, left);
+        final long[] right = multiplier == multiplicand ? left : operand(multiplier, left == this.scratch);
+        final int rightLength = lengthOf(multiplier, right);
+        if (leftLength == 0 || rightLength == 0) {
+            return this;
+        }
+
+        // Large products are handed to the sub-quadratic algorithms, which need trimmed operands of their own.
+        if (Math.min(leftLength, rightLength) >= AdaptivePolynomialMultiply.DEFAULT_NTT_THRESHOLD) {
+            final long[] product = MULTIPLY.multiply(Arrays.copyOf(left, leftLength), Arrays.copyOf(right, rightLength),
+                    this.modulus);
+            return addInPlace(product, product.length, 1);
+        }
+
+        ensureCapacity(leftLength + rightLength - 1);
+        for (int i = 0; i < leftLength; i++) {
+            final long coefficient = left[i];
+            if (coefficient != 0) {
+                KERNEL.multiplyAccumulate(this.coefficients, i, right, coefficient, rightLength, this.modulus);
+            }
+        }
+        this.length = Math.max(this.length, leftLength + rightLength - 1);
+        normalize();
+        return this;
+    }
+
+    /**
+     * Reduce this polynomial, in place, to its remainder after dividing by the specified {@code divisor}.
+     *
+     * @param divisor
+     *      The non-zero polynomial to divide by, with the same modulus as this polynomial.
+     * @return
+     *      This polynomial, for chaining.
+     */
+
+    public MutablePolynomial reduceInPlace(final ModularPolynomial divisor) {
+
+        final long[] reducer = operand(divisor, false);
+        final int reducerLength = lengthOf(divisor, reducer);
+        if (reducerLength == 0) {
+            throw new IllegalArgumentException("Illegal parameter: divisor=" + divisor);
+        }
+        if (this.length < reducerLength) {
+            return this;
+        }
+
+        final int reducerDegree = reducerLength - 1;
+        final long leadingInverse = PackedPolynomial.inverse(reducer[reducerDegree], this.modulus);
+        for (int i = this.length - 1; i >= reducerDegree; i--) {
+            final long remainder = this.coefficients[i];
+            if (remainder != 0) {
+                final long factor = this.modulus - remainder * leadingInverse % this.modulus;
+                final int shift = i - reducerDegree;
+                KERNEL.multiplyAccumulate(this.coefficients, shift, reducer, factor, reducerDegree, this.modulus);
+                this.coefficients[i] = 0;
+            }
+        }
+
+        this.length = reducerDegree;
+        normalize();
+        return this;
+    }
+
+    @Override
+    public MutablePolynomial scale(final BigInteger factor) {
+        return copy().scaleInPlace(factor);
+    }
+
+    @Override
+    public MutablePolynomial scale(final long factor) {
+        return copy().scaleInPlace(factor);
+    }
+
+    /**
+     * Multiply every coefficient of this polynomial by the specified {@code factor}, in place.
+     *
+     * @param factor
+     *      The factor to scale by.
+     * @return
+     *      This polynomial, for chaining.
+     */
+
+    public MutablePolynomial scaleInPlace(final BigInteger factor) {
+        return scaleInPlace(factor.mod(modulus()).longValueExact());
+    }
+
+    /**
+     * Multiply every coefficient of this polynomial by the specified {@code factor}, in place.
+     *
+     * @param factor
+     *      The factor to scale by.
+     * @return
+     *      This polynomial, for chaining.
+     */
+
+    public MutablePolynomial scaleInPlace(final long factor) {
+        final long reducedFactor = Math.floorMod(factor, this.modulus);
+        KERNEL.scale(this.coefficients, reducedFactor, this.length, this.modulus);
+        normalize();
+        return this;
+    }
+
+    /**
+     * Set this polynomial to the polynomial with the specified {@code value}.
+     *
+     * @param value
+     *      The non-negative value of the polynomial.
+     * @return
+     *      This polynomial, for chaining.
+     */
+
+    public MutablePolynomial set(final BigInteger value) {
+        clear();
+        return addInPlace(value);
+    }
+
+    /**
+     * Set this polynomial to the specified {@code polynomial}.
+     *
+     * @param polynomial
+     *      The polynomial to copy, with the same modulus as this polynomial.
+     * @return
+     *      This polynomial, for chaining.
+     */
+
+    public MutablePolynomial set(final ModularPolynomial polynomial) {
+        if (polynomial == this) {
+            return this;
+        }
+        clear();
+        return addInPlace(polynomial);
+    }
+
+    @Override
+    public MutablePolynomial subtract(final ModularPolynomial subtrahend) {
+        return copy().subtractInPlace(subtrahend);
+    }
+
+    @Override
+    public MutablePolynomial subtract(final BigInteger subtrahend) {
+        return copy().subtractInPlace(new PackedPolynomial(validate(subtrahend), this.modulus));
+    }
+
+    @Override
+    public MutablePolynomial subtract(final long subtrahend) {
+        return subtract(BigInteger.valueOf(subtrahend));
+    }
+
+    /**
+     * Subtract the specified {@code subtrahend} from this polynomial, in place.
+     *
+     * @param subtrahend
+     *      The polynomial to subtract, with the same modulus as this polynomial.
+     * @return
+     *      This polynomial, for chaining.
+     */
+
+    public MutablePolynomial subtractInPlace(final ModularPolynomial subtrahend) {
+        final long[] other = coefficientsOf(subtrahend);
+        return addInPlace(other, lengthOf(subtrahend, other), this.modulus - 1);
+    }
+
+    @Override
+    public String toString() {
+        return freeze().toString();
+    }
+
+    @Override
+    public BigInteger value() {
+        return freeze().value();
+    }
+
+    /**
+     * Add {@code factor} times the first {@code addendLength} {@code addend} coefficients to this polynomial.
+     */
+
+    private MutablePolynomial addInPlace(final long[] addend,
+                                         final int addendLength,
+                                         final long factor) {
+        ensureCapacity(addendLength);
+        KERNEL.multiplyAccumulate(this.coefficients, 0, addend, factor, addendLength, this.modulus);
+        this.length = Math.max(this.length, addendLength);
+        normalize();
+        return this;
+    }
+
+    /**
+     * Retrieve the coefficients of the specified {@code polynomial}, sharing them where possible. The coefficients of
+     * this polynomial itself are shared, which is only safe for operations that read each coefficient before writing
+     * it.
+     */
+
+    private long[] coefficientsOf(final ModularPolynomial polynomial) {
+        if (polynomial instanceof MutablePolynomial && ((MutablePolynomial) polynomial).modulus == this.modulus) {
+            return ((MutablePolynomial) polynomial).coefficients;
+        }
+        if (polynomial instanceof PackedPolynomial && polynomial.modulus().longValue() == this.modulus) {
+            return ((PackedPolynomial) polynomial).packedCoefficients();
+        }
+        if (!polynomial.modulus().equals(modulus())) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + polynomial.modulus());
+        }
+        return PackedPolynomial.decode(validate(polynomial.value()), this.modulus);
+    }
+
+    /**
+     * Retrieve the coefficients of the specified {@code polynomial} for an operation that writes to this polynomial
+     * while reading the operand. If the operand is this polynomial, its coefficients are copied into the scratch
+     * buffer first, or into a new array if the scratch buffer is already {@code busy} holding the other operand.
+     */
+
+    private long[] operand(final ModularPolynomial polynomial,
+                           final boolean busy) {
+        if (polynomial != this) {
+            return coefficientsOf(polynomial);
+        }
+        if (busy) {
+            return Arrays.copyOf(this.coefficients, this.length);
+        }
+        if (this.scratch.length < this.length) {
+            this.scratch = new long[this.coefficients.length];
+        }
+        System.arraycopy(this.coefficients, 0, this.scratch, 0, this.length);
+        return this.scratch;
+    }
+
+    /**
+     * Report the number of coefficients of the specified {@code polynomial} that are in use in {@code coefficients}.
+     */
+
+    private int lengthOf(final ModularPolynomial polynomial,
+                         final long[] coefficients) {
+        return polynomial instanceof MutablePolynomial ? ((MutablePolynomial) polynomial).length : coefficients.length;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > this.coefficients.length) {
+            this.coefficients = Arrays.copyOf(this.coefficients, Math.max(capacity, this.coefficients.length * 2));
+        }
+    }
+
+    private void normalize() {
+        while (this.length > 0 && this.coefficients[this.length - 1] == 0) {
+            this.length--;
+        }
+    }
+
+    private static BigInteger validate(final BigInteger value) {
+        if (value.signum() < 0) {
+            throw new IllegalArgumentException("Illegal parameter: value=" + value);
+        }
+        return value;
+    }
+}
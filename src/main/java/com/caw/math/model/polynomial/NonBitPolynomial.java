@@ -1,15 +1,18 @@
 package com.caw.math.model.polynomial;
 
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiply;
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiplyFactory;
+
 import java.math.BigInteger;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.function.BinaryOperator;
+import java.util.Objects;
 
 /**
  * An implementation of {@link ModularPolynomial} that handles polynomials with a modulus of greater than two. If using
  * a {@code ModularPolynomial} with a modulus of two, {@link BitPolynomial} should be used, as this class sacrifices
- * speed and memory in order to provide correctness in complex cases.
+ * speed and memory in order to provide correctness in complex cases. Products are calculated by a
+ * {@link PolynomialMultiply} strategy, which is passed on to every polynomial derived from this one.
  *
  * @author cwhitmore
  */
@@ -17,24 +20,48 @@ import java.util.function.BinaryOperator;
 @SuppressWarnings("PMD.TooManyMethods")
 public class NonBitPolynomial implements ModularPolynomial {
 
-    private final BigInteger value;
+    private static final PolynomialMultiply DEFAULT_MULTIPLICATION = PolynomialMultiplyFactory.make();
+
     private final BigInteger modulus;
+    private final PolynomialMultiply multiplication;
+
+    // Both representations are computed at most once, from whichever one this polynomial was built with, and are
+    // published through volatile fields. The cached coefficients are reduced, trimmed and unmodifiable.
+    private volatile BigInteger value;
+    private volatile List<BigInteger> coefficients;
 
     /* default */ NonBitPolynomial(final BigInteger value,
                      final BigInteger modulus) {
+        this(value, modulus, DEFAULT_MULTIPLICATION);
+    }
+
+    /* default */ NonBitPolynomial(final BigInteger value,
+                     final BigInteger modulus,
+                     final PolynomialMultiply multiplication) {
         if (value.compareTo(BigInteger.ZERO) < 0) {
             throw new IllegalArgumentException("Invalid " + getClass().getSimpleName() + ": value=" + value);
         }
-        if (modulus.compareTo(BigInteger.TWO) <= 0) {
-            throw new IllegalArgumentException("Invalid " + getClass().getSimpleName() + ": modulus=" + modulus);
-        }
+        this.modulus = validate(modulus);
+        this.multiplication = Objects.requireNonNullElse(multiplication, DEFAULT_MULTIPLICATION);
         this.value = value;
-        this.modulus = modulus;
     }
 
     /* default */ NonBitPolynomial(final List<BigInteger> coefficients,
                      final BigInteger modulus) {
-        this(ModularPolynomial.valueOf(coefficients, modulus), modulus);
+        this(coefficients, modulus, DEFAULT_MULTIPLICATION);
+    }
+
+    /**
+     * Construct a new {@link NonBitPolynomial} from the specified {@code coefficients}, which are reduced by the
+     * {@code modulus}. The value of the new polynomial is not encoded until {@link #value()} is first called.
+     */
+
+    /* default */ NonBitPolynomial(final List<BigInteger> coefficients,
+                     final BigInteger modulus,
+                     final PolynomialMultiply multiplication) {
+        this.modulus = validate(modulus);
+        this.multiplication = Objects.requireNonNullElse(multiplication, DEFAULT_MULTIPLICATION);
+        this.coefficients = reduce(coefficients, modulus);
     }
 
     /* default */ NonBitPolynomial(final BigInteger value,
@@ -54,21 +81,12 @@ public class NonBitPolynomial implements ModularPolynomial {
 
     @Override
     public NonBitPolynomial add(final ModularPolynomial addend) {
-        return add(addend.value());
+        return add(coefficientsOf(addend));
     }
 
     @Override
     public NonBitPolynomial add(final BigInteger polynomial) {
-
-        final List<BigInteger> augend = coefficients();
-        final List<BigInteger> addend = ModularPolynomial.coefficientsOf(polynomial, this.modulus);
-        final int sumLength = Math.max(augend.size(), addend.size());
-        final List<BigInteger> sum = new ArrayList<>(sumLength);
-
-        for (int i = 0; i < sumLength; i++) {
-            sum.add(coefficient(augend, i).add(coefficient(addend, i)));
-        }
-        return new NonBitPolynomial(sum, this.modulus);
+        return add(decode(polynomial, this.modulus));
     }
 
     @Override
@@ -78,22 +96,46 @@ public class NonBitPolynomial implements ModularPolynomial {
 
     @Override
     public List<BigInteger> coefficients() {
-        return ModularPolynomial.coefficientsOf(this);
+        return new ArrayList<>(decoded());
     }
 
-
+    @Override
+    public NonBitPolynomial compose(final ModularPolynomial inner,
+                                    final ModularPolynomial reducer) {
+        final List<BigInteger> composition = ModularComposition.of(inner, validate(reducer)).compose(decoded());
+        return new NonBitPolynomial(composition, this.modulus, this.multiplication);
+    }
 
     @Override
     public int degree() {
-        int degree = 0;
-        BigInteger ceiling = this.modulus;
+        return decoded().size() - 1;
+    }
 
-        while (this.value.compareTo(ceiling) >= 0) {
-            degree++;
-            ceiling = ceiling.multiply(this.modulus);
-        }
+    @Override
+    public NonBitPolynomial[] divideAndRemainder(final ModularPolynomial divisor) {
+        final List<List<BigInteger>> division = ModularPolynomialDivisor.of(validate(divisor)).divide(decoded());
+        return new NonBitPolynomial[] {
+            new NonBitPolynomial(division.get(0), this.modulus, this.multiplication),
+            new NonBitPolynomial(division.get(1), this.modulus, this.multiplication),
+        };
+    }
 
-        return degree;
+    @Override
+    public NonBitPolynomial[] extendedGcd(final ModularPolynomial other) {
+        final List<List<BigInteger>> gcd = ModularPolynomialGcd.extendedGcd(trimmed(decoded()),
+                trimmed(coefficientsOf(validate(other))), this.modulus);
+        return new NonBitPolynomial[] {
+            new NonBitPolynomial(gcd.get(0), this.modulus, this.multiplication),
+            new NonBitPolynomial(gcd.get(1), this.modulus, this.multiplication),
+            new NonBitPolynomial(gcd.get(2), this.modulus, this.multiplication),
+        };
+    }
+
+    @Override
+    public NonBitPolynomial gcd(final ModularPolynomial other) {
+        final List<BigInteger> gcd = ModularPolynomialGcd.gcd(trimmed(decoded()),
+                trimmed(coefficientsOf(validate(other))), this.modulus);
+        return new NonBitPolynomial(gcd, this.modulus, this.multiplication);
     }
 
     @Override
@@ -103,26 +145,12 @@ public class NonBitPolynomial implements ModularPolynomial {
 
     @Override
     public NonBitPolynomial multiply(final ModularPolynomial multiplier) {
-        return multiply(multiplier.value());
+        return multiply(coefficientsOf(multiplier));
     }
 
     @Override
     public NonBitPolynomial multiply(final BigInteger polynomial) {
-
-        final List<BigInteger> multiplicand = coefficients();
-        final List<BigInteger> multiplier = ModularPolynomial.coefficientsOf(polynomial, this.modulus);
-        final int multiplicandLength = multiplicand.size();
-        final int multiplierLength = multiplier.size();
-        final List<BigInteger> product = new ArrayList<>(Collections.nCopies(multiplicandLength + multiplierLength - 1, BigInteger.ZERO));
-
-        for (int multiplicandIndex = 0; multiplicandIndex < multiplicandLength; multiplicandIndex++) {
-            for (int multiplierIndex = 0; multiplierIndex < multiplierLength; multiplierIndex++) {
-
-                final BigInteger raw = coefficient(multiplicand, multiplicandIndex).multiply(coefficient(multiplier, multiplierIndex));
-                merge(product, raw, BigInteger::add, multiplicandIndex + multiplierIndex);
-            }
-        }
-        return new NonBitPolynomial(product, this.modulus);
+        return multiply(decode(polynomial, this.modulus));
     }
 
     @Override
@@ -134,10 +162,10 @@ public class NonBitPolynomial implements ModularPolynomial {
     public NonBitPolynomial scale(final BigInteger factor) {
 
         final List<BigInteger> newCoefficients = new ArrayList<>();
-        for (final BigInteger coefficient : coefficients()) {
+        for (final BigInteger coefficient : decoded()) {
             newCoefficients.add(coefficient.multiply(factor));
         }
-        return new NonBitPolynomial(newCoefficients, this.modulus);
+        return new NonBitPolynomial(newCoefficients, this.modulus, this.multiplication);
     }
 
     @Override
@@ -147,21 +175,12 @@ public class NonBitPolynomial implements ModularPolynomial {
 
     @Override
     public NonBitPolynomial subtract(final ModularPolynomial subtrahend) {
-        return subtract(subtrahend.value());
+        return subtract(coefficientsOf(subtrahend));
     }
 
     @Override
     public NonBitPolynomial subtract(final BigInteger polynomial) {
-
-        final List<BigInteger> minuend = coefficients();
-        final List<BigInteger> subtrahend = ModularPolynomial.coefficientsOf(polynomial, this.modulus);
-        final int differenceLength = Math.max(minuend.size(), subtrahend.size());
-        final List<BigInteger> difference = new ArrayList<>(differenceLength);
-
-        for (int i = 0; i < differenceLength; i++) {
-            difference.add(coefficient(minuend, i).subtract(coefficient(subtrahend, i)));
-        }
-        return new NonBitPolynomial(difference, this.modulus);
+        return subtract(decode(polynomial, this.modulus));
     }
 
     @Override
@@ -170,42 +189,91 @@ public class NonBitPolynomial implements ModularPolynomial {
     }
 
     @Override
-    @SuppressWarnings("PMD.AvoidLiteralsInIfCondition")
     public String toString() {
+        return ModularPolynomialFormat.formatCoefficients(new StringBuilder(), decoded()).toString();
+    }
 
-        final List<BigInteger> coefficients = coefficients();
-        final StringBuilder builder = new StringBuilder();
-        boolean initial = true;
+    @Override
+    public BigInteger value() {
+        BigInteger encoded = this.value;
+        if (encoded == null) {
+            encoded = ModularPolynomial.valueOf(this.coefficients, this.modulus);
+            this.value = encoded;
+        }
+        return encoded;
+    }
 
-        int degree = 0;
-        for (final BigInteger coefficient : coefficients) {
-            if (!coefficient.equals(BigInteger.ZERO)) {
-                if (!initial) {
-                    builder.insert(0, " + ");
-                }
-                final String prefix = coefficient.equals(BigInteger.ONE) ? "" : String.valueOf(coefficient);
-                if (degree > 1) {
-                    builder.insert(0, prefix + "x^" + degree);
-                } else if (degree == 1) {
-                    builder.insert(0, prefix + 'x');
-                } else if (degree == 0) {
-                    builder.insert(0, coefficient.longValueExact());
-                }
-                initial = false;
-            }
-            degree++;
+    /**
+     * Add the specified reduced {@code addend} coefficients to the coefficients of this polynomial.
+     */
+
+    private NonBitPolynomial add(final List<BigInteger> addend) {
+
+        final List<BigInteger> augend = decoded();
+        final int sumLength = Math.max(augend.size(), addend.size());
+        final List<BigInteger> sum = new ArrayList<>(sumLength);
+
+        for (int i = 0; i < sumLength; i++) {
+            sum.add(coefficient(augend, i).add(coefficient(addend, i)));
         }
+        return new NonBitPolynomial(sum, this.modulus, this.multiplication);
+    }
+
+    /**
+     * Multiply the coefficients of this polynomial by the specified reduced {@code multiplier} coefficients.
+     */
+
+    private NonBitPolynomial multiply(final List<BigInteger> multiplier) {
+        final List<BigInteger> product = this.multiplication.multiply(decoded(), multiplier, this.modulus);
+        return new NonBitPolynomial(product, this.modulus, this.multiplication);
+    }
+
+    /**
+     * Subtract the specified reduced {@code subtrahend} coefficients from the coefficients of this polynomial.
+     */
+
+    private NonBitPolynomial subtract(final List<BigInteger> subtrahend) {
+
+        final List<BigInteger> minuend = decoded();
+        final int differenceLength = Math.max(minuend.size(), subtrahend.size());
+        final List<BigInteger> difference = new ArrayList<>(differenceLength);
 
-        if (builder.length() == 0) {
-            builder.append('0');
+        for (int i = 0; i < differenceLength; i++) {
+            difference.add(coefficient(minuend, i).subtract(coefficient(subtrahend, i)));
         }
+        return new NonBitPolynomial(difference, this.modulus, this.multiplication);
+    }
+
+    /**
+     * Retrieve the cached coefficients of this polynomial, decoding them from its value on first use.
+     */
 
-        return builder.toString();
+    private List<BigInteger> decoded() {
+        List<BigInteger> decoded = this.coefficients;
+        if (decoded == null) {
+            decoded = decode(this.value, this.modulus);
+            this.coefficients = decoded;
+        }
+        return decoded;
     }
 
-    @Override
-    public BigInteger value() {
-        return this.value;
+    /**
+     * Retrieve the reduced coefficients of the specified {@code polynomial} with respect to the modulus of this
+     * polynomial. Other non-bit polynomials of the same modulus share their cached coefficients directly.
+     */
+
+    private List<BigInteger> coefficientsOf(final ModularPolynomial polynomial) {
+        if (polynomial instanceof NonBitPolynomial && this.modulus.equals(polynomial.modulus())) {
+            return ((NonBitPolynomial) polynomial).decoded();
+        }
+        return decode(polynomial.value(), this.modulus);
+    }
+
+    private ModularPolynomial validate(final ModularPolynomial polynomial) {
+        if (!this.modulus.equals(polynomial.modulus())) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + polynomial.modulus());
+        }
+        return polynomial;
     }
 
     /**
@@ -225,29 +293,57 @@ public class NonBitPolynomial implements ModularPolynomial {
                                    final int index) {
         return index < coefficients.size() ? coefficients.get(index) : BigInteger.ZERO;
     }
+    /**
+     * Decode the specified non-negative {@code value} into its unmodifiable list of base-{@code modulus} digits, with
+     * the zero polynomial being decoded as a single zero coefficient.
+     */
+
+    private static List<BigInteger> decode(final BigInteger value,
+                                           final BigInteger modulus) {
+
+        if (value.signum() < 0) {
+            throw new IllegalArgumentException("Illegal parameter: value=" + value);
+        }
+        if (value.signum() == 0) {
+            return List.of(BigInteger.ZERO);
+        }
+
+        return List.copyOf(RadixConversion.decode(value, modulus));
+    }
 
     /**
-     * Merge the specified {@code value} into the specified {@link List} of {@code coefficients} at index {@code index},
-     * using the specified {@link BinaryOperator} {@code operator}. Before updating the coefficient, the value to merge
-     * is reduced using the modulus of this polynomial.
-     *
-     * @param coefficients
-     *      The list of coefficients that the value will be merged into.
-     * @param value
-     *      The value to merge into the list of coefficients.
-     * @param operator
-     *      The operator to use while merging the new {@code value} with the existing value in the list of coefficients.
-     * @param index
-     *      The index in the list of coefficients to merge the value into.
+     * Reduce the specified {@code coefficients} by the {@code modulus} into an unmodifiable list without any leading
+     * zero coefficients.
      */
 
-    private void merge(final List<BigInteger> coefficients,
-                       final BigInteger value,
-                       final BinaryOperator<BigInteger> operator,
-                       final int index) {
+    private static List<BigInteger> reduce(final List<BigInteger> coefficients,
+                                           final BigInteger modulus) {
+
+        final List<BigInteger> reduced = new ArrayList<>(coefficients.size());
+        for (final BigInteger coefficient : coefficients) {
+            reduced.add(coefficient.mod(modulus));
+        }
 
-        final BigInteger newValue = operator.apply(coefficients.get(index), value);
-        coefficients.set(index, newValue);
+        int length = reduced.size();
+        while (length > 1 && reduced.get(length - 1).signum() == 0) {
+            length--;
+        }
+        return length == 0 ? List.of(BigInteger.ZERO) : List.copyOf(reduced.subList(0, length));
     }
 
+    /**
+     * Strip the single zero coefficient of the zero polynomial, so that it has no coefficients at all.
+     */
+
+    private static List<BigInteger> trimmed(final List<BigInteger> coefficients) {
+        return coefficients.size() == 1 && coefficients.get(0).signum() == 0 ? List.of() : coefficients;
+    }
+
+    private static BigInteger validate(final BigInteger modulus) {
+        if (modulus.compareTo(BigInteger.TWO) <= 0) {
+            throw new IllegalArgumentException("Invalid " + NonBitPolynomial.class.getSimpleName()
+                    + ": modulus=" + modulus);
+        }
+        return modulus;
+    }
 }
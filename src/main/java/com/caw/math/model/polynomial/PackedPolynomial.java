@@ -0,0 +1,536 @@
+package com.caw.math.model.polynomial;
+
+import com.caw.math.model.polynomial.algorithm.coefficient.CoefficientKernel;
+import com.caw.math.model.polynomial.algorithm.coefficient.CoefficientKernelFactory;
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiply;
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiplyFactory;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An implementation of {@link ModularPolynomial} for polynomials with a modulus of greater than two that still fits
+ * inside of a machine word. The coefficients of this polynomial are stored in a packed {@code long[]} where the index
+ * of a coefficient is equal to its degree, so that mathematical operations can be completed with primitive arithmetic
+ * rather than round-tripping every coefficient through {@link BigInteger}. The base-{@code modulus} {@link #value()}
+ * of this polynomial is only calculated when a caller asks for it. For moduli that do not fit inside of a machine
+ * word, {@link NonBitPolynomial} must be used.
+ *
+ * @author cwhitmore
+ */
+
+@SuppressWarnings("PMD.TooManyMethods")
+public class PackedPolynomial implements ModularPolynomial {
+
+    /**
+     * The largest supported modulus. Any two reduced coefficients can be multiplied, and the product added to a
+     * reduced coefficient, without overflowing a {@code long}.
+     */
+
+    public static final long MAX_MODULUS = Integer.MAX_VALUE;
+
+    private static final long[] ZERO = new long[0];
+    private static final CoefficientKernel KERNEL = CoefficientKernelFactory.make();
+    private static final PolynomialMultiply DEFAULT_MULTIPLICATION = PolynomialMultiplyFactory.make();
+
+    private final long[] coefficients;
+    private final long modulus;
+    private final PolynomialMultiply multiplication;
+
+    // Racy single-check: BigInteger is immutable, so a thread that sees a stale null simply re-computes the value.
+    private BigInteger value;
+
+    /* default */ PackedPolynomial(final BigInteger value,
+                                   final long modulus) {
+        this(value, modulus, DEFAULT_MULTIPLICATION);
+    }
+
+    /* default */ PackedPolynomial(final BigInteger value,
+                                   final long modulus,
+                                   final PolynomialMultiply multiplication) {
+        this(decode(validate(value), validate(modulus)), modulus, value, multiplication);
+    }
+
+    /* default */ PackedPolynomial(final List<BigInteger> coefficients,
+                                   final long modulus) {
+        this(coefficients, modulus, DEFAULT_MULTIPLICATION);
+    }
+
+    /* default */ PackedPolynomial(final List<BigInteger> coefficients,
+                                   final long modulus,
+                                   final PolynomialMultiply multiplication) {
+        this(pack(coefficients, validate(modulus)), modulus, null, multiplication);
+    }
+
+    /* default */ PackedPolynomial(final long value,
+                                   final long modulus) {
+        this(BigInteger.valueOf(value), modulus);
+    }
+
+    /**
+     * Construct a new {@link PackedPolynomial} from already reduced {@code coefficients}. The array is trimmed of any
+     * leading zero coefficients and is owned by the new polynomial from this point onwards. Products of the new
+     * polynomial are calculated by the specified {@code multiplication}, or by the default strategy if {@code null},
+     * which is passed on to every polynomial derived from it.
+     */
+
+    /* default */ PackedPolynomial(final long[] coefficients,
+                                   final long modulus,
+                                   final BigInteger value,
+                                   final PolynomialMultiply multiplication) {
+        this.coefficients = trim(coefficients);
+        this.modulus = modulus;
+        this.value = value;
+        this.multiplication = Objects.requireNonNullElse(multiplication, DEFAULT_MULTIPLICATION);
+    }
+
+    @Override
+    public ModularPolynomial accepts(final ModularPolynomialVisitor visitor) {
+        return visitor.visit(this);
+    }
+
+    @Override
+    public PackedPolynomial add(final ModularPolynomial addend) {
+        return add(coefficientsOf(addend));
+    }
+
+    @Override
+    public PackedPolynomial add(final BigInteger addend) {
+        return add(decode(validate(addend), this.modulus));
+    }
+
+    @Override
+    public PackedPolynomial add(final long addend) {
+        return add(BigInteger.valueOf(addend));
+    }
+
+    @Override
+    public List<BigInteger> coefficients() {
+        final List<BigInteger> list = new ArrayList<>(Math.max(this.coefficients.length, 1));
+        for (final long coefficient : this.coefficients) {
+            list.add(BigInteger.valueOf(coefficient));
+        }
+        if (list.isEmpty()) {
+            list.add(BigInteger.ZERO);
+        }
+        return list;
+    }
+
+    @Override
+    public PackedPolynomial compose(final ModularPolynomial inner,
+                                    final ModularPolynomial reducer) {
+        final List<BigInteger> composition = ModularComposition.of(inner, validate(reducer)).compose(coefficients());
+        return new PackedPolynomial(composition, this.modulus, this.multiplication);
+    }
+
+    @Override
+    public int degree() {
+        return Math.max(this.coefficients.length - 1, 0);
+    }
+
+    @Override
+    public PackedPolynomial[] divideAndRemainder(final ModularPolynomial divisor) {
+
+        final long[] reducer = coefficientsOf(divisor);
+        if (reducer.length == 0) {
+            throw new IllegalArgumentException("Illegal parameter: divisor=" + divisor);
+        }
+        if (this.coefficients.length < reducer.length) {
+            return new PackedPolynomial[] { new PackedPolynomial(ZERO, this.modulus, null, this.multiplication), this };
+        }
+
+        final long[] quotient = new long[this.coefficients.length - reducer.length + 1];
+        if (Math.min(quotient.length, reducer.length) >= ModularPolynomialDivisor.PACKED_NEWTON_THRESHOLD) {
+            final List<List<BigInteger>> division = ModularPolynomialDivisor.of(divisor).divide(coefficients());
+            return new PackedPolynomial[] {
+                new PackedPolynomial(pack(division.get(0), this.modulus), this.modulus, null, this.multiplication),
+                new PackedPolynomial(pack(division.get(1), this.modulus), this.modulus, null, this.multiplication),
+            };
+        }
+
+        final long[] remainder = divide(reducer, quotient);
+        return new PackedPolynomial[] {
+            new PackedPolynomial(quotient, this.modulus, null, this.multiplication),
+            new PackedPolynomial(remainder, this.modulus, null, this.multiplication),
+        };
+    }
+
+    @Override
+    public PackedPolynomial[] extendedGcd(final ModularPolynomial other) {
+        final long[][] gcd = gcd(coefficientsOf(validate(other)), true);
+        return new PackedPolynomial[] {
+            new PackedPolynomial(gcd[0], this.modulus, null, this.multiplication),
+            new PackedPolynomial(gcd[1], this.modulus, null, this.multiplication),
+            new PackedPolynomial(gcd[2], this.modulus, null, this.multiplication),
+        };
+    }
+
+    @Override
+    public PackedPolynomial gcd(final ModularPolynomial other) {
+        final long[][] gcd = gcd(coefficientsOf(validate(other)), false);
+        return new PackedPolynomial(gcd[0], this.modulus, null, this.multiplication);
+    }
+
+    @Override
+    public BigInteger modulus() {
+        return BigInteger.valueOf(this.modulus);
+    }
+
+    @Override
+    public PackedPolynomial multiply(final ModularPolynomial multiplier) {
+        return multiply(coefficientsOf(multiplier));
+    }
+
+    @Override
+    public PackedPolynomial multiply(final BigInteger multiplier) {
+        return multiply(decode(validate(multiplier), this.modulus));
+    }
+
+    @Override
+    public PackedPolynomial multiply(final long multiplier) {
+        return multiply(BigInteger.valueOf(multiplier));
+    }
+
+    /**
+     * Return a new {@link PackedPolynomial} that is the remainder of dividing this polynomial by the specified
+     * {@code divisor}, using schoolbook long division over the packed coefficients.
+     *
+     * @param divisor
+     *      The non-zero polynomial to divide this polynomial by.
+     * @return
+     *      A new polynomial that is the remainder of dividing this polynomial by the specified {@code divisor}.
+     */
+
+    public PackedPolynomial remainder(final ModularPolynomial divisor) {
+
+        final long[] reducer = coefficientsOf(divisor);
+        if (reducer.length == 0) {
+            throw new IllegalArgumentException("Illegal parameter: divisor=" + divisor);
+        }
+        if (this.coefficients.length < reducer.length) {
+            return this;
+        }
+        return new PackedPolynomial(divide(reducer, null), this.modulus, null, this.multiplication);
+    }
+
+    @Override
+    public PackedPolynomial scale(final BigInteger factor) {
+        return scale(factor.mod(modulus()).longValueExact());
+    }
+
+    @Override
+    public PackedPolynomial scale(final long factor) {
+
+        final long reducedFactor = Math.floorMod(factor, this.modulus);
+        final long[] scaled = Arrays.copyOf(this.coefficients, this.coefficients.length);
+        KERNEL.scale(scaled, reducedFactor, scaled.length, this.modulus);
+        return new PackedPolynomial(scaled, this.modulus, null, this.multiplication);
+    }
+
+    @Override
+    public PackedPolynomial subtract(final ModularPolynomial subtrahend) {
+        return subtract(coefficientsOf(subtrahend));
+    }
+
+    @Override
+    public PackedPolynomial subtract(final BigInteger subtrahend) {
+        return subtract(decode(validate(subtrahend), this.modulus));
+    }
+
+    @Override
+    public PackedPolynomial subtract(final long subtrahend) {
+        return subtract(BigInteger.valueOf(subtrahend));
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidLiteralsInIfCondition")
+    public String toString() {
+
+        final StringBuilder builder = new StringBuilder();
+
+        for (int degree = this.coefficients.length - 1; degree >= 0; degree--) {
+            final long coefficient = this.coefficients[degree];
+            if (coefficient != 0) {
+                if (builder.length() != 0) {
+                    builder.append(" + ");
+                }
+                if (degree == 0 || coefficient != 1) {
+                    builder.append(coefficient);
+                }
+                if (degree > 1) {
+                    builder.append("x^").append(degree);
+                } else if (degree == 1) {
+                    builder.append('x');
+                }
+            }
+        }
+
+        if (builder.length() == 0) {
+            builder.append('0');
+        }
+
+        return builder.toString();
+    }
+
+    @Override
+    public BigInteger value() {
+        BigInteger result = this.value;
+        if (result == null) {
+            result = encode(this.coefficients, this.modulus);
+            this.value = result;
+        }
+        return result;
+    }
+
+    /**
+     * Retrieve the reduced and trimmed coefficients of this polynomial. The array is shared, not copied, so it must
+     * never be mutated by the caller.
+     */
+
+    /* default */ long[] packedCoefficients() {
+        return this.coefficients;
+    }
+
+    /**
+     * Add the specified reduced {@code addend} coefficients to the coefficients of this polynomial.
+     */
+
+    private PackedPolynomial add(final long[] addend) {
+
+        final long[] sum = Arrays.copyOf(this.coefficients, Math.max(this.coefficients.length, addend.length));
+        KERNEL.add(sum, addend, addend.length, this.modulus);
+        return new PackedPolynomial(sum, this.modulus, null, this.multiplication);
+    }
+
+    /**
+     * Multiply the coefficients of this polynomial by the specified reduced {@code multiplier} coefficients.
+     */
+
+    private PackedPolynomial multiply(final long[] multiplier) {
+
+        if (this.coefficients.length == 0 || multiplier.length == 0) {
+            return new PackedPolynomial(ZERO, this.modulus, BigInteger.ZERO, this.multiplication);
+        }
+
+        final long[] product = this.multiplication.multiply(this.coefficients, multiplier, this.modulus);
+        return new PackedPolynomial(product, this.modulus, null, this.multiplication);
+    }
+
+    /**
+     * Subtract the specified reduced {@code subtrahend} coefficients from the coefficients of this polynomial.
+     */
+
+    private PackedPolynomial subtract(final long[] subtrahend) {
+
+        final long[] difference = Arrays.copyOf(this.coefficients, Math.max(this.coefficients.length, subtrahend.length));
+        KERNEL.subtract(difference, subtrahend, subtrahend.length, this.modulus);
+        return new PackedPolynomial(difference, this.modulus, null, this.multiplication);
+    }
+
+    /**
+     * Divide the coefficients of this polynomial by the trimmed {@code reducer} coefficients with schoolbook long
+     * division, recording the quotient in {@code quotient} if it is not {@code null}, and return the remainder.
+     */
+
+    private long[] divide(final long[] reducer,
+                          final long[] quotient) {
+
+        final long[] remainder = Arrays.copyOf(this.coefficients, this.coefficients.length);
+        final int reducerDegree = reducer.length - 1;
+        final long leadingInverse = inverse(reducer[reducerDegree], this.modulus);
+
+        for (int i = remainder.length - 1; i >= reducerDegree; i--) {
+            if (remainder[i] != 0) {
+                final long factor = remainder[i] * leadingInverse % this.modulus;
+                final int shift = i - reducerDegree;
+                if (quotient != null) {
+                    quotient[shift] = factor;
+                }
+                KERNEL.multiplyAccumulate(remainder, shift, reducer, this.modulus - factor, reducer.length,
+                        this.modulus);
+            }
+        }
+        return Arrays.copyOf(remainder, reducerDegree);
+    }
+
+    /**
+     * Calculate the greatest common divisor of this polynomial and the specified {@code other} coefficients, over
+     * primitive words while both are small and with the half-gcd algorithm once either is large.
+     */
+
+    private long[][] gcd(final long[] other,
+                         final boolean cofactors) {
+
+        if (Math.max(this.coefficients.length, other.length) < ModularPolynomialGcd.THRESHOLD) {
+            return ModularPolynomialGcd.gcd(this.coefficients, other, this.modulus, cofactors);
+        }
+
+        final BigInteger bigModulus = BigInteger.valueOf(this.modulus);
+        if (!cofactors) {
+            return new long[][] {
+                pack(ModularPolynomialGcd.gcd(listOf(this.coefficients), listOf(other), bigModulus), this.modulus),
+            };
+        }
+        final List<List<BigInteger>> gcd = ModularPolynomialGcd.extendedGcd(listOf(this.coefficients), listOf(other),
+                bigModulus);
+        return new long[][] {
+            pack(gcd.get(0), this.modulus), pack(gcd.get(1), this.modulus), pack(gcd.get(2), this.modulus),
+        };
+    }
+
+    /**
+     * Retrieve the reduced coefficients of the specified {@code polynomial} with respect to the modulus of this
+     * polynomial. Other packed polynomials of the same modulus share their coefficients directly, as they are never
+     * mutated.
+     */
+
+    private long[] coefficientsOf(final ModularPolynomial polynomial) {
+
+        if (polynomial instanceof PackedPolynomial) {
+            final PackedPolynomial packed = (PackedPolynomial) polynomial;
+            if (packed.modulus == this.modulus) {
+                return packed.coefficients;
+            }
+        }
+        return decode(validate(polynomial.value()), this.modulus);
+    }
+
+    private ModularPolynomial validate(final ModularPolynomial polynomial) {
+        if (polynomial.modulus().compareTo(BigInteger.valueOf(this.modulus)) != 0) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + polynomial.modulus());
+        }
+        return polynomial;
+    }
+
+    /**
+     * Report the largest power of the specified {@code modulus} that fits inside of a {@code long}, used to convert
+     * between a base-{@code modulus} value and its coefficients one word at a time.
+     */
+
+    private static int digitsPerWord(final long modulus) {
+        int digits = 1;
+        long radix = modulus;
+        while (radix <= Long.MAX_VALUE / modulus) {
+            radix *= modulus;
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * Convert a base-{@code modulus} {@code value} into the packed coefficients it represents.
+     */
+
+    /* default */ static long[] decode(final BigInteger value,
+                                       final long modulus) {
+
+        if (value.signum() == 0) {
+            return ZERO;
+        }
+
+        // Convert to base-(modulus^digitsPerWord) words first, then split each word into its coefficients.
+        final int digitsPerWord = digitsPerWord(modulus);
+        final List<BigInteger> words = RadixConversion.decode(value, BigInteger.valueOf(modulus).pow(digitsPerWord));
+        final long[] coefficients = new long[words.size() * digitsPerWord];
+
+        for (int w = 0; w < words.size(); w++) {
+            long word = words.get(w).longValue();
+            for (int i = w * digitsPerWord; word != 0; i++) {
+                coefficients[i] = word % modulus;
+                word /= modulus;
+            }
+        }
+
+        return trim(coefficients);
+    }
+
+    /**
+     * Convert packed {@code coefficients} into the base-{@code modulus} value that they represent.
+     */
+
+    private static BigInteger encode(final long[] coefficients,
+                                     final long modulus) {
+
+        final int digitsPerWord = digitsPerWord(modulus);
+        final List<BigInteger> words = new ArrayList<>((coefficients.length + digitsPerWord - 1) / digitsPerWord);
+
+        for (int start = 0; start < coefficients.length; start += digitsPerWord) {
+            long word = 0;
+            for (int i = Math.min(coefficients.length, start + digitsPerWord) - 1; i >= start; i--) {
+                word = word * modulus + coefficients[i];
+            }
+            words.add(BigInteger.valueOf(word));
+        }
+
+        return RadixConversion.encode(words, BigInteger.valueOf(modulus).pow(digitsPerWord));
+    }
+
+    /**
+     * Calculate the multiplicative inverse of the specified {@code value} modulo the specified prime {@code modulus}.
+     */
+
+    /* default */ static long inverse(final long value,
+                                      final long modulus) {
+        return BigInteger.valueOf(value).modInverse(BigInteger.valueOf(modulus)).longValueExact();
+    }
+
+    /**
+     * Widen packed coefficients into the {@link BigInteger} coefficients that {@link ModularPolynomialGcd} works on.
+     */
+
+    private static List<BigInteger> listOf(final long[] coefficients) {
+        final List<BigInteger> list = new ArrayList<>(coefficients.length);
+        for (final long coefficient : coefficients) {
+            list.add(BigInteger.valueOf(coefficient));
+        }
+        return list;
+    }
+
+    /**
+     * Reduce a {@link List} of arbitrary coefficients into packed coefficients.
+     */
+
+    private static long[] pack(final List<BigInteger> coefficients,
+                               final long modulus) {
+
+        final BigInteger bigModulus = BigInteger.valueOf(modulus);
+        final long[] packed = new long[coefficients.size()];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = coefficients.get(i).mod(bigModulus).longValueExact();
+        }
+        return packed;
+    }
+
+    /**
+     * Strip any leading zero coefficients from the specified {@code coefficients}.
+     */
+
+    private static long[] trim(final long[] coefficients) {
+
+        int length = coefficients.length;
+        while (length > 0 && coefficients[length - 1] == 0) {
+            length--;
+        }
+        if (length == 0) {
+            return ZERO;
+        }
+        return length == coefficients.length ? coefficients : Arrays.copyOf(coefficients, length);
+    }
+
+    private static BigInteger validate(final BigInteger value) {
+        if (value.compareTo(BigInteger.ZERO) < 0) {
+            throw new IllegalArgumentException("Invalid " + PackedPolynomial.class.getSimpleName() + ": value=" + value);
+        }
+        return value;
+    }
+
+    private static long validate(final long modulus) {
+        if (modulus <= 2 || modulus > MAX_MODULUS) {
+            throw new IllegalArgumentException("Invalid " + PackedPolynomial.class.getSimpleName() + ": modulus=" + modulus);
+        }
+        return modulus;
+    }
+}
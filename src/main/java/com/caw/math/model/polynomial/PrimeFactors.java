@@ -0,0 +1,145 @@
+package com.caw.math.model.polynomial;
+
+import java.math.BigInteger;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Finds the distinct prime factors of an integer, by trial division for the small factors and with Brent's variant of
+ * Pollard's rho algorithm for the rest. The order {@code p^n - 1} of the multiplicative group of a field is split into
+ * cyclotomic values {@code Phi_d(p)} first, since each of them is far smaller, and so far quicker to factor, than their
+ * product.
+ *
+ * @author cwhitmore
+ */
+
+/* default */ final class PrimeFactors {
+
+    private static final int CERTAINTY = 64;
+    private static final int TRIAL_LIMIT = 1 << 12;
+    private static final int BATCH = 128;
+
+    private PrimeFactors() {
+        // disable public instantiation.
+    }
+
+    /**
+     * Report the Mobius function of the specified positive {@code n}: zero if it has a square factor, otherwise one or
+     * minus one as it has an even or odd number of prime factors.
+     */
+
+    /* default */ static int mobius(final int n) {
+        int remaining = n;
+        int sign = 1;
+        for (int q = 2; q <= remaining / q; q++) {
+            if (remaining % q == 0) {
+                remaining /= q;
+                if (remaining % q == 0) {
+                    return 0;
+                }
+                sign = -sign;
+            }
+        }
+        return remaining > 1 ? -sign : sign;
+    }
+
+    /**
+     * Report the distinct prime factors of {@code base^exponent - 1}, for some {@code base} of at least two.
+     */
+
+    /* default */ static SortedSet<BigInteger> ofPowerMinusOne(final BigInteger base,
+                                                              final int exponent) {
+        final SortedSet<BigInteger> factors = new TreeSet<>();
+        for (int d = 1; d <= exponent; d++) {
+            if (exponent % d == 0) {
+                addFactors(cyclotomic(base, d), factors);
+            }
+        }
+        return factors;
+    }
+
+    private static void addFactors(final BigInteger n,
+                                   final SortedSet<BigInteger> factors) {
+        BigInteger remaining = n;
+        for (int q = 2; q < TRIAL_LIMIT && remaining.compareTo(BigInteger.ONE) > 0; q++) {
+            final BigInteger prime = BigInteger.valueOf(q);
+            if (remaining.mod(prime).signum() == 0) {
+                factors.add(prime);
+                do {
+                    remaining = remaining.divide(prime);
+                } while (remaining.mod(prime).signum() == 0);
+            }
+        }
+        addLargeFactors(remaining, factors);
+    }
+
+    private static void addLargeFactors(final BigInteger n,
+                                        final SortedSet<BigInteger> factors) {
+        if (n.compareTo(BigInteger.ONE) <= 0) {
+            return;
+        }
+        if (n.isProbablePrime(CERTAINTY)) {
+            factors.add(n);
+            return;
+        }
+        final BigInteger divisor = rho(n);
+        addLargeFactors(divisor, factors);
+        addLargeFactors(n.divide(divisor), factors);
+    }
+
+    // Phi_d(base) is the product of (base^e - 1)^mu(d / e) over every divisor e of d.
+    private static BigInteger cyclotomic(final BigInteger base,
+                                         final int d) {
+        BigInteger numerator = BigInteger.ONE;
+        BigInteger denominator = BigInteger.ONE;
+        for (int e = 1; e <= d; e++) {
+            if (d % e == 0) {
+                final int sign = mobius(d / e);
+                if (sign > 0) {
+                    numerator = numerator.multiply(base.pow(e).subtract(BigInteger.ONE));
+                } else if (sign < 0) {
+                    denominator = denominator.multiply(base.pow(e).subtract(BigInteger.ONE));
+                }
+            }
+        }
+        return numerator.divide(denominator);
+    }
+
+    // Find a proper divisor of the odd composite n, with Brent's cycle detection and batched gcds.
+    private static BigInteger rho(final BigInteger n) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (true) {
+            final BigInteger c = new BigInteger(n.bitLength(), random).mod(n);
+            BigInteger y = new BigInteger(n.bitLength(), random).mod(n);
+            BigInteger x = y;
+            BigInteger saved = y;
+            BigInteger product = BigInteger.ONE;
+            BigInteger divisor = BigInteger.ONE;
+            for (long length = 1; divisor.equals(BigInteger.ONE); length <<= 1) {
+                x = y;
+                for (long i = 0; i < length; i++) {
+                    y = y.multiply(y).add(c).mod(n);
+                }
+                for (long k = 0; k < length && divisor.equals(BigInteger.ONE); k += BATCH) {
+                    saved = y;
+                    for (long i = 0; i < Math.min(BATCH, length - k); i++) {
+                        y = y.multiply(y).add(c).mod(n);
+                        product = product.multiply(x.subtract(y)).mod(n);
+                    }
+                    divisor = product.gcd(n);
+                }
+            }
+            if (divisor.equals(n)) {
+                // the batch overshot, so step through it again one gcd at a time.
+                do {
+                    saved = saved.multiply(saved).add(c).mod(n);
+                    divisor = x.subtract(saved).gcd(n);
+                } while (divisor.equals(BigInteger.ONE));
+            }
+            if (!divisor.equals(n)) {
+                return divisor;
+            }
+        }
+    }
+}
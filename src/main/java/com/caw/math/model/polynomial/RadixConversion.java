@@ -0,0 +1,187 @@
+package com.caw.math.model.polynomial;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Utility class to convert between a non-negative integer and its digits in some radix, which for a
+ * {@link ModularPolynomial} are the integer value of the polynomial and its coefficients respectively.
+ *
+ * <p>Both directions use divide-and-conquer rather than a linear chain of multiplications or divisions. A number with
+ * {@code 2^(k+1)} digits is split by the radix power {@code r^(2^k)} into a high and low half that are converted
+ * recursively, so the total cost is dominated by a handful of multiplications and divisions of the full size, which
+ * {@link BigInteger} completes in sub-quadratic time. The radix powers {@code r, r^2, r^4, ...} are cached per radix,
+ * so repeated conversions with the same modulus only square each power once. Only powers of at most
+ * {@link #MAX_CACHED_BITS} bits are kept, so the cache stays small however large the converted values are; the larger
+ * powers are squared again by each conversion that needs them, at a cost no larger than that of the conversion.
+ *
+ * @author cwhitmore
+ */
+
+/* default */ final class RadixConversion {
+
+    // Below this many digits, the digits are converted one at a time.
+    private static final int THRESHOLD = 16;
+
+    // The cache is cleared rather than grown once this many different radices have been seen.
+    private static final int MAX_RADICES = 64;
+
+    // The largest power that is cached, in bits, so each radix holds fewer than 2 * MAX_CACHED_BITS bits of powers.
+    private static final int MAX_CACHED_BITS = 1 << 16;
+
+    private static final Map<BigInteger, BigInteger[]> POWERS = new ConcurrentHashMap<>();
+
+    private RadixConversion() {
+        // disable public instantiation.
+    }
+
+    /**
+     * Convert the specified {@code digits}, least significant first and each in the range {@code [0, radix)}, into
+     * the integer that they represent.
+     *
+     * @param digits
+     *      The digits to convert.
+     * @param radix
+     *      The radix of the digits, at least two.
+     * @return
+     *      The integer that is represented by the specified {@code digits}.
+     */
+
+    /* default */ static BigInteger encode(final List<BigInteger> digits,
+                                           final BigInteger radix) {
+        if (digits.isEmpty()) {
+            return BigInteger.ZERO;
+        }
+        final int levels = 32 - Integer.numberOfLeadingZeros(digits.size() - 1);
+        return encode(digits, 0, digits.size(), powers(radix, levels));
+    }
+
+    /**
+     * Convert the specified non-negative {@code value} into its digits in the specified {@code radix}, least
+     * significant first and without any leading zero digits, so that zero has no digits at all.
+     *
+     * @param value
+     *      The non-negative integer to convert.
+     * @param radix
+     *      The radix of the digits, at least two.
+     * @return
+     *      A new {@link List} of the digits of the specified {@code value}.
+     */
+
+    /* default */ static List<BigInteger> decode(final BigInteger value,
+                                                 final BigInteger radix) {
+        if (value.signum() == 0) {
+            return new ArrayList<>();
+        }
+
+        // Find the smallest level k such that value < r^(2^k), so that the value has at most 2^k digits.
+        BigInteger[] powers = powers(radix, 1);
+        int level = 0;
+        while (powers[level].compareTo(value) <= 0) {
+            level++;
+            if (level == powers.length) {
+                powers = powers(radix, level + 1);
+            }
+        }
+
+        final BigInteger[] digits = new BigInteger[1 << level];
+        decode(value, level, powers, digits, 0);
+
+        int length = digits.length;
+        while (digits[length - 1].signum() == 0) {
+            length--;
+        }
+        return new ArrayList<>(Arrays.asList(digits).subList(0, length));
+    }
+
+    private static BigInteger encode(final List<BigInteger> digits,
+                                     final int from,
+                                     final int to,
+                                     final BigInteger[] powers) {
+
+        final int length = to - from;
+        if (length <= THRESHOLD) {
+            final BigInteger radix = powers[0];
+            BigInteger value = BigInteger.ZERO;
+            for (int i = to - 1; i >= from; i--) {
+                value = value.multiply(radix).add(digits.get(i));
+            }
+            return value;
+        }
+
+        // Split off the largest power of two digits that leaves a non-empty high half.
+        final int level = 31 - Integer.numberOfLeadingZeros(length - 1);
+        final int middle = from + (1 << level);
+        return encode(digits, middle, to, powers).multiply(powers[level]).add(encode(digits, from, middle, powers));
+    }
+
+    /**
+     * Write the {@code 2^level} digits of the specified {@code value}, which is less than {@code r^(2^level)}, into
+     * {@code digits} from the specified {@code offset} onwards.
+     */
+
+    private static void decode(final BigInteger value,
+                               final int level,
+                               final BigInteger[] powers,
+                               final BigInteger[] digits,
+                               final int offset) {
+
+        final int length = 1 << level;
+        if (value.signum() == 0) {
+            Arrays.fill(digits, offset, offset + length, BigInteger.ZERO);
+        } else if (length <= THRESHOLD) {
+            final BigInteger radix = powers[0];
+            BigInteger remaining = value;
+            for (int i = 0; i < length; i++) {
+                final BigInteger[] divideAndRemainder = remaining.divideAndRemainder(radix);
+                digits[offset + i] = divideAndRemainder[1];
+                remaining = divideAndRemainder[0];
+            }
+        } else {
+            final BigInteger[] divideAndRemainder = value.divideAndRemainder(powers[level - 1]);
+            decode(divideAndRemainder[1], level - 1, powers, digits, offset);
+            decode(divideAndRemainder[0], level - 1, powers, digits, offset + (length >>> 1));
+        }
+    }
+
+    /**
+     * Retrieve at least {@code levels} cached powers {@code r^(2^k)} of the specified {@code radix}, squaring and
+     * caching any that are missing.
+     */
+
+    private static BigInteger[] powers(final BigInteger radix,
+                                       final int levels) {
+
+        final BigInteger[] cached = POWERS.get(radix);
+        if (cached != null && cached.length >= levels) {
+            return cached;
+        }
+
+        final int start = cached == null ? 1 : cached.length;
+        final BigInteger[] powers = cached == null
+                ? new BigInteger[Math.max(1, levels)]
+                : Arrays.copyOf(cached, levels);
+        powers[0] = radix;
+        for (int i = start; i < powers.length; i++) {
+            powers[i] = powers[i - 1].multiply(powers[i - 1]);
+        }
+
+        int cachedLevels = 1;
+        while (cachedLevels < powers.length && powers[cachedLevels].bitLength() <= MAX_CACHED_BITS) {
+            cachedLevels++;
+        }
+        if (cached == null || cached.length < cachedLevels) {
+            if (POWERS.size() >= MAX_RADICES) {
+                POWERS.clear();
+            }
+            final BigInteger[] cacheable = cachedLevels == powers.length ? powers : Arrays.copyOf(powers, cachedLevels);
+            POWERS.merge(radix, cacheable,
+                    (current, computed) -> current.length >= computed.length ? current : computed);
+        }
+        return powers;
+    }
+}
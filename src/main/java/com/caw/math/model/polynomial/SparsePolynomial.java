@@ -0,0 +1,505 @@
+package com.caw.math.model.polynomial;
+
+import com.caw.math.model.polynomial.algorithm.coefficient.CoefficientKernel;
+import com.caw.math.model.polynomial.algorithm.coefficient.CoefficientKernelFactory;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An implementation of {@link ModularPolynomial} for polynomials of a high degree with only a few non-zero terms, such
+ * as the trinomials and pentanomials that are used as the moduli of binary fields, e.g. {@code x^233 + x^74 + 1}. Only
+ * the exponents and coefficients of the non-zero terms are stored, in increasing order of exponent, and
+ * {@link ModularPolynomialFactory} picks this implementation whenever a polynomial of a degree of at least
+ * {@link #MIN_DEGREE} has between two and {@link #MAX_WEIGHT} non-zero terms.
+ *
+ * <p>Multiplying any polynomial by a sparse one costs one shifted, scaled addition per term, and
+ * {@link #reduce(ModularPolynomial)} reduces any polynomial modulo a sparse one while only touching the few
+ * coefficients below the leading term that each step of the division changes. The remaining operations are delegated
+ * to the equivalent dense polynomial, which is only built when first needed.
+ *
+ * @author cwhitmore
+ */
+
+@SuppressWarnings("PMD.TooManyMethods")
+public class SparsePolynomial implements ModularPolynomial {
+
+    /**
+     * The largest number of non-zero terms of a polynomial that the factory represents sparsely.
+     */
+
+    public static final int MAX_WEIGHT = 5;
+
+    /**
+     * The smallest degree of a polynomial that the factory represents sparsely. Below this degree, the dense
+     * implementations fit the polynomial into a handful of words anyway.
+     */
+
+    public static final int MIN_DEGREE = 64;
+
+    private static final CoefficientKernel KERNEL = CoefficientKernelFactory.make();
+
+    private final int[] exponents;
+    private final BigInteger[] coefficients;
+    private final BigInteger modulus;
+
+    // Racy single-check: both are immutable, so a thread that sees a stale null simply re-computes them.
+    private BigInteger value;
+    private ModularPolynomial dense;
+
+    /* default */ SparsePolynomial(final List<BigInteger> coefficients,
+                                   final BigInteger modulus) {
+        this.modulus = validate(modulus);
+        final List<Integer> exponents = new ArrayList<>();
+        final List<BigInteger> nonZero = new ArrayList<>();
+        for (int i = 0; i < coefficients.size(); i++) {
+            final BigInteger coefficient = coefficients.get(i).mod(modulus);
+            if (coefficient.signum() != 0) {
+                exponents.add(i);
+                nonZero.add(coefficient);
+            }
+        }
+        this.exponents = exponents.stream().mapToInt(Integer::intValue).toArray();
+        this.coefficients = nonZero.toArray(new BigInteger[0]);
+    }
+
+    /* default */ SparsePolynomial(final BigInteger value,
+                                   final BigInteger modulus) {
+        this(ModularPolynomial.coefficientsOf(value, modulus), modulus);
+        this.value = value;
+    }
+
+    private SparsePolynomial(final int[] exponents,
+                             final BigInteger[] coefficients,
+                             final BigInteger modulus,
+                             final ModularPolynomial dense) {
+        this.exponents = exponents;
+        this.coefficients = coefficients;
+        this.modulus = modulus;
+        this.dense = dense;
+    }
+
+    /**
+     * Represent the specified dense {@code polynomial} sparsely if it has a degree of at least {@link #MIN_DEGREE} and
+     * between two and {@link #MAX_WEIGHT} non-zero terms, keeping it as the dense form of the new polynomial.
+     *
+     * @return
+     *      A new {@link SparsePolynomial}, or {@code null} if the {@code polynomial} is not sparse enough.
+     */
+
+    /* default */ static SparsePolynomial of(final ModularPolynomial polynomial) {
+
+        if (polynomial.degree() < MIN_DEGREE) {
+            return null;
+        }
+
+        final BigInteger modulus = polynomial.modulus();
+        final int[] exponents = new int[MAX_WEIGHT];
+        final BigInteger[] coefficients = new BigInteger[MAX_WEIGHT];
+        int weight = 0;
+
+        if (BigInteger.TWO.equals(modulus)) {
+            BigInteger remaining = polynomial.value();
+            if (remaining.bitCount() > MAX_WEIGHT) {
+                return null;
+            }
+            while (remaining.signum() != 0) {
+                exponents[weight] = remaining.getLowestSetBit();
+                coefficients[weight++] = BigInteger.ONE;
+                remaining = remaining.clearBit(exponents[weight - 1]);
+            }
+        } else if (polynomial instanceof PackedPolynomial) {
+            final long[] packed = ((PackedPolynomial) polynomial).packedCoefficients();
+            for (int i = 0; i < packed.length; i++) {
+                if (packed[i] != 0) {
+                    if (weight == MAX_WEIGHT) {
+                        return null;
+                    }
+                    exponents[weight] = i;
+                    coefficients[weight++] = BigInteger.valueOf(packed[i]);
+                }
+            }
+        } else {
+            final List<BigInteger> list = polynomial.coefficients();
+            for (int i = 0; i < list.size(); i++) {
+                final BigInteger coefficient = list.get(i).mod(modulus);
+                if (coefficient.signum() != 0) {
+                    if (weight == MAX_WEIGHT) {
+                        return null;
+                    }
+                    exponents[weight] = i;
+                    coefficients[weight++] = coefficient;
+                }
+            }
+        }
+
+        if (weight < 2) {
+            return null;
+        }
+        return new SparsePolynomial(Arrays.copyOf(exponents, weight), Arrays.copyOf(coefficients, weight), modulus,
+                polynomial);
+    }
+
+    /**
+     * Represent the polynomial with the specified non-zero, reduced {@code coefficients} at the specified increasing
+     * {@code exponents} sparsely, by the same rule as {@link #of(ModularPolynomial)}, without ever building its dense
+     * form.
+     *
+     * @return
+     *      A new {@link SparsePolynomial}, or {@code null} if the terms are not sparse enough.
+     */
+
+    /* default */ static SparsePolynomial of(final int[] exponents,
+                                             final BigInteger[] coefficients,
+                                             final BigInteger modulus) {
+        if (exponents.length < 2 || exponents.length > MAX_WEIGHT || exponents[exponents.length - 1] < MIN_DEGREE) {
+            return null;
+        }
+        return new SparsePolynomial(exponents.clone(), coefficients.clone(), validate(modulus), null);
+    }
+
+    @Override
+    public ModularPolynomial accepts(final ModularPolynomialVisitor visitor) {
+        return visitor.visit(this);
+    }
+
+    @Override
+    public ModularPolynomial add(final ModularPolynomial addend) {
+        return dense().add(addend);
+    }
+
+    @Override
+    public ModularPolynomial add(final BigInteger addend) {
+        return dense().add(addend);
+    }
+
+    @Override
+    public ModularPolynomial add(final long addend) {
+        return dense().add(addend);
+    }
+
+    @Override
+    public List<BigInteger> coefficients() {
+        final List<BigInteger> list = new ArrayList<>(Collections.nCopies(degree() + 1, BigInteger.ZERO));
+        for (int i = 0; i < this.exponents.length; i++) {
+            list.set(this.exponents[i], this.coefficients[i]);
+        }
+        return list;
+    }
+
+    @Override
+    public ModularPolynomial compose(final ModularPolynomial inner,
+                                     final ModularPolynomial reducer) {
+        return dense().compose(inner, reducer);
+    }
+
+    @Override
+    public int degree() {
+        return this.exponents.length == 0 ? 0 : this.exponents[this.exponents.length - 1];
+    }
+
+    @Override
+    public ModularPolynomial[] divideAndRemainder(final ModularPolynomial divisor) {
+        return dense().divideAndRemainder(divisor);
+    }
+
+    @Override
+    public ModularPolynomial[] extendedGcd(final ModularPolynomial other) {
+        return dense().extendedGcd(other);
+    }
+
+    @Override
+    public ModularPolynomial gcd(final ModularPolynomial other) {
+        return dense().gcd(other);
+    }
+
+    @Override
+    public BigInteger modulus() {
+        return this.modulus;
+    }
+
+    /**
+     * Multiply the specified {@code multiplier} by this polynomial with one shifted, scaled addition of the multiplier
+     * for each term of this polynomial.
+     *
+     * @param multiplier
+     *      The polynomial to multiply by this polynomial, with the same modulus.
+     * @return
+     *      A new dense polynomial that is the product.
+     */
+
+    @Override
+    public ModularPolynomial multiply(final ModularPolynomial multiplier) {
+        validate(multiplier);
+        if (isBinary()) {
+            return multiplyBits(multiplier.value());
+        }
+        if (multiplier instanceof PackedPolynomial) {
+            return multiplyWords(((PackedPolynomial) multiplier).packedCoefficients());
+        }
+        return multiplyCoefficients(multiplier.coefficients());
+    }
+
+    @Override
+    public ModularPolynomial multiply(final BigInteger multiplier) {
+        if (isBinary()) {
+            return multiplyBits(multiplier);
+        }
+        return multiplyCoefficients(ModularPolynomial.coefficientsOf(multiplier, this.modulus));
+    }
+
+    @Override
+    public ModularPolynomial multiply(final long multiplier) {
+        return multiply(BigInteger.valueOf(multiplier));
+    }
+
+    /**
+     * Reduce the specified {@code polynomial} modulo this polynomial. Each step of the long division cancels the
+     * leading coefficient of the remainder by subtracting a multiple of the lower terms of this polynomial, so the cost
+     * is proportional to the number of terms of this polynomial rather than to its degree.
+     *
+     * @param polynomial
+     *      The polynomial to reduce, with the same prime modulus as this polynomial.
+     * @return
+     *      The remainder of dividing the {@code polynomial} by this polynomial, or the {@code polynomial} itself if its
+     *      degree is already less than that of this polynomial.
+     */
+
+    public ModularPolynomial reduce(final ModularPolynomial polynomial) {
+
+        validate(polynomial);
+        if (polynomial.degree() < degree()) {
+            return polynomial;
+        }
+        if (isBinary()) {
+            return reduceInPlace(new MutableBitPolynomial().set(polynomial)).freeze();
+        }
+        if (this.modulus.compareTo(BigInteger.valueOf(PackedPolynomial.MAX_MODULUS)) <= 0) {
+            final long[] remainder = polynomial instanceof PackedPolynomial
+                    ? ((PackedPolynomial) polynomial).packedCoefficients().clone()
+                    : pack(polynomial.coefficients());
+            return new PackedPolynomial(reduceWords(remainder), this.modulus.longValueExact(), null, null);
+        }
+        final BigInteger[] remainder = polynomial.coefficients().toArray(new BigInteger[0]);
+        return new NonBitPolynomial(reduceCoefficients(remainder), this.modulus);
+    }
+
+    /**
+     * Reduce the specified bitwise {@code polynomial} in place modulo this polynomial, which must have a modulus of
+     * two, by folding its leading words onto the lower terms of this polynomial.
+     *
+     * @param polynomial
+     *      The bitwise polynomial to reduce.
+     * @return
+     *      The {@code polynomial}, reduced.
+     */
+
+    public MutableBitPolynomial reduceInPlace(final MutableBitPolynomial polynomial) {
+        if (!isBinary()) {
+            throw new IllegalArgumentException("Invalid " + getClass().getSimpleName() + ": modulus=" + this.modulus);
+        }
+        return polynomial.reduceInPlace(this.exponents);
+    }
+
+    @Override
+    public ModularPolynomial scale(final BigInteger factor) {
+        final BigInteger reduced = factor.mod(this.modulus);
+        if (reduced.signum() == 0) {
+            return dense().scale(reduced);
+        }
+        final BigInteger[] scaled = new BigInteger[this.coefficients.length];
+        for (int i = 0; i < scaled.length; i++) {
+            scaled[i] = this.coefficients[i].multiply(reduced).mod(this.modulus);
+        }
+        return new SparsePolynomial(this.exponents, scaled, this.modulus, null);
+    }
+
+    @Override
+    public ModularPolynomial scale(final long factor) {
+        return scale(BigInteger.valueOf(factor));
+    }
+
+    @Override
+    public ModularPolynomial subtract(final ModularPolynomial subtrahend) {
+        return dense().subtract(subtrahend);
+    }
+
+    @Override
+    public ModularPolynomial subtract(final BigInteger subtrahend) {
+        return dense().subtract(subtrahend);
+    }
+
+    @Override
+    public ModularPolynomial subtract(final long subtrahend) {
+        return dense().subtract(subtrahend);
+    }
+
+    @Override
+    public String toString() {
+
+        final StringBuilder builder = new StringBuilder();
+
+        for (int i = this.exponents.length - 1; i >= 0; i--) {
+            final int degree = this.exponents[i];
+            final BigInteger coefficient = this.coefficients[i];
+            if (builder.length() != 0) {
+                builder.append(" + ");
+            }
+            if (degree == 0 || !BigInteger.ONE.equals(coefficient)) {
+                builder.append(coefficient);
+            }
+            if (degree > 1) {
+                builder.append("x^").append(degree);
+            } else if (degree == 1) {
+                builder.append('x');
+            }
+        }
+
+        if (builder.length() == 0) {
+            builder.append('0');
+        }
+
+        return builder.toString();
+    }
+
+    @Override
+    public BigInteger value() {
+        BigInteger result = this.value;
+        if (result == null) {
+            result = BigInteger.ZERO;
+            for (int i = this.exponents.length - 1; i >= 0; i--) {
+                final int gap = i == 0 ? this.exponents[0] : this.exponents[i] - this.exponents[i - 1];
+                result = result.add(this.coefficients[i]);
+                result = isBinary() ? result.shiftLeft(gap) : result.multiply(this.modulus.pow(gap));
+            }
+            this.value = result;
+        }
+        return result;
+    }
+
+    /**
+     * Retrieve the equivalent dense polynomial, building it the first time that it is needed. This never goes through
+     * the factory, which would only hand back another sparse polynomial.
+     */
+
+    private ModularPolynomial dense() {
+        ModularPolynomial result = this.dense;
+        if (result == null) {
+            if (isBinary()) {
+                result = new BitPolynomial(value());
+            } else if (this.modulus.compareTo(BigInteger.valueOf(PackedPolynomial.MAX_MODULUS)) <= 0) {
+                result = new PackedPolynomial(coefficients(), this.modulus.longValueExact());
+            } else {
+                result = new NonBitPolynomial(coefficients(), this.modulus);
+            }
+            this.dense = result;
+        }
+        return result;
+    }
+
+    private boolean isBinary() {
+        return BigInteger.TWO.equals(this.modulus);
+    }
+
+    private ModularPolynomial multiplyBits(final BigInteger multiplier) {
+        final MutableBitPolynomial factor = new MutableBitPolynomial(multiplier);
+        final MutableBitPolynomial product = new MutableBitPolynomial(degree() + factor.degree());
+        for (final int exponent : this.exponents) {
+            product.xorShiftedInPlace(factor, exponent);
+        }
+        return product.freeze();
+    }
+
+    private ModularPolynomial multiplyCoefficients(final List<BigInteger> multiplier) {
+        if (this.modulus.compareTo(BigInteger.valueOf(PackedPolynomial.MAX_MODULUS)) <= 0) {
+            return multiplyWords(pack(multiplier));
+        }
+        final BigInteger[] product = new BigInteger[degree() + multiplier.size()];
+        Arrays.fill(product, BigInteger.ZERO);
+        for (int t = 0; t < this.exponents.length; t++) {
+            final int exponent = this.exponents[t];
+            final BigInteger coefficient = this.coefficients[t];
+            for (int i = 0; i < multiplier.size(); i++) {
+                product[exponent + i] = product[exponent + i].add(coefficient.multiply(multiplier.get(i)));
+            }
+        }
+        return new NonBitPolynomial(Arrays.asList(product), this.modulus);
+    }
+
+    private ModularPolynomial multiplyWords(final long[] multiplier) {
+        final long modulus = this.modulus.longValueExact();
+        final long[] product = new long[multiplier.length == 0 ? 0 : degree() + multiplier.length];
+        for (int t = 0; t < this.exponents.length; t++) {
+            final int exponent = this.exponents[t];
+            final long coefficient = this.coefficients[t].longValue();
+            KERNEL.multiplyAccumulate(product, exponent, multiplier, coefficient, multiplier.length, modulus);
+        }
+        return new PackedPolynomial(product, modulus, null, null);
+    }
+
+    private long[] pack(final List<BigInteger> coefficients) {
+        final long[] packed = new long[coefficients.size()];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = coefficients.get(i).mod(this.modulus).longValue();
+        }
+        return packed;
+    }
+
+    private List<BigInteger> reduceCoefficients(final BigInteger[] remainder) {
+        final int degree = degree();
+        final int last = this.exponents.length - 1;
+        final BigInteger leadingInverse = this.coefficients[last].modInverse(this.modulus);
+        for (int i = remainder.length - 1; i >= degree; i--) {
+            final BigInteger factor = remainder[i].multiply(leadingInverse).mod(this.modulus);
+            remainder[i] = BigInteger.ZERO;
+            if (factor.signum() != 0) {
+                for (int t = 0; t < last; t++) {
+                    final int index = i - degree + this.exponents[t];
+                    remainder[index] = remainder[index].subtract(factor.multiply(this.coefficients[t]))
+                            .mod(this.modulus);
+                }
+            }
+        }
+        return Arrays.asList(Arrays.copyOf(remainder, degree));
+    }
+
+    private long[] reduceWords(final long[] remainder) {
+        final long modulus = this.modulus.longValueExact();
+        final int degree = degree();
+        final int last = this.exponents.length - 1;
+        final long leadingInverse = PackedPolynomial.inverse(this.coefficients[last].longValue(), modulus);
+        final long[] negated = new long[last];
+        for (int t = 0; t < last; t++) {
+            negated[t] = modulus - this.coefficients[t].longValue();
+        }
+        for (int i = remainder.length - 1; i >= degree; i--) {
+            final long factor = remainder[i] * leadingInverse % modulus;
+            remainder[i] = 0;
+            if (factor != 0) {
+                for (int t = 0; t < last; t++) {
+                    final int index = i - degree + this.exponents[t];
+                    remainder[index] = (remainder[index] + factor * negated[t]) % modulus;
+                }
+            }
+        }
+        return Arrays.copyOf(remainder, degree);
+    }
+
+    private ModularPolynomial validate(final ModularPolynomial polynomial) {
+        if (!this.modulus.equals(polynomial.modulus())) {
+            throw new IllegalArgumentException("Invalid " + getClass().getSimpleName() + ": modulus=" + this.modulus);
+        }
+        return polynomial;
+    }
+
+    private static BigInteger validate(final BigInteger modulus) {
+        if (modulus.compareTo(BigInteger.TWO) < 0) {
+            throw new IllegalArgumentException("Invalid " + SparsePolynomial.class.getSimpleName()
+                    + ": modulus=" + modulus);
+        }
+        return modulus;
+    }
+}
@@ -0,0 +1,348 @@
+package com.caw.math.model.polynomial;
+
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiply;
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiplyFactory;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A subproduct tree over a fixed set of points modulo a prime, which evaluates a {@link ModularPolynomial} at every
+ * point, and interpolates a polynomial through a value at every point, in {@code O(M(n) log n)} operations rather than
+ * the {@code O(n^2)} operations of Horner's method and Lagrange interpolation.
+ *
+ * <p>Each leaf of the tree is the linear polynomial {@code x - p} of a single point, and each node is the product of
+ * its two children, so the root is the product of {@code x - p} over every point. A polynomial is evaluated by reducing
+ * it modulo the root and then modulo each node on the way down, until the remainder at each leaf is the value at its
+ * point. Small subtrees are evaluated with Horner's method directly. Interpolation reverses this: the weighted values
+ * are combined on the way up, where the weights {@code 1 / m'(p)} come from evaluating the derivative of the root.
+ *
+ * <p>The node products, the {@link ModularPolynomialDivisor} of every node and the interpolation weights are all
+ * computed once and cached, so repeated evaluations and interpolations over the same points only pay for the
+ * remainders and products that depend on the polynomial or values. Instances are safe to share between threads, and
+ * {@link #of(List, BigInteger)} shares them between callers that use the same points.
+ *
+ * @author cwhitmore
+ */
+
+public class SubproductTree {
+
+    // Subtrees with at most this many points are evaluated with Horner's method rather than further remainders.
+    private static final int HORNER_THRESHOLD = 32;
+
+    // The cache is cleared rather than grown once this many different point sets have been seen.
+    private static final int MAX_TREES = 16;
+
+    private static final Map<List<Object>, SubproductTree> TREES = new ConcurrentHashMap<>();
+
+    private static final PolynomialMultiply MULTIPLY = PolynomialMultiplyFactory.make();
+
+    private final BigInteger modulus;
+    private final List<BigInteger> points;
+    private final Node root;
+
+    // The interpolation weights 1 / m'(p) of every point, calculated on first use.
+    private volatile List<BigInteger> weights;
+
+    /**
+     * Construct a new {@link SubproductTree} over the specified {@code points}.
+     *
+     * @param points
+     *      The points to evaluate at and interpolate through, which are reduced by the {@code modulus}.
+     * @param modulus
+     *      The prime modulus of the points and of the polynomials.
+     */
+
+    public SubproductTree(final List<BigInteger> points,
+                          final BigInteger modulus) {
+
+        if (modulus.compareTo(BigInteger.TWO) < 0) {
+            throw new IllegalArgumentException("Invalid " + getClass().getSimpleName() + ": modulus=" + modulus);
+        }
+        this.modulus = modulus;
+
+        final List<BigInteger> reduced = new ArrayList<>(points.size());
+        for (final BigInteger point : points) {
+            reduced.add(point.mod(modulus));
+        }
+        this.points = List.copyOf(reduced);
+        this.root = this.points.isEmpty() ? null : build(0, this.points.size());
+    }
+
+    /**
+     * Retrieve a {@link SubproductTree} over the specified {@code points}, sharing the tree of any earlier call with
+     * the same points and modulus so that its products, divisors and weights are only calculated once.
+     *
+     * @param points
+     *      The points to evaluate at and interpolate through, which are reduced by the {@code modulus}.
+     * @param modulus
+     *      The prime modulus of the points and of the polynomials.
+     * @return
+     *      A subproduct tree over the specified {@code points}.
+     */
+
+    public static SubproductTree of(final List<BigInteger> points,
+                                    final BigInteger modulus) {
+
+        final List<Object> key = List.of(modulus, List.copyOf(points));
+        final SubproductTree cached = TREES.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final SubproductTree tree = new SubproductTree(points, modulus);
+        if (TREES.size() >= MAX_TREES) {
+            TREES.clear();
+        }
+        final SubproductTree existing = TREES.putIfAbsent(key, tree);
+        return existing == null ? tree : existing;
+    }
+
+    /**
+     * Report the modulus of the points and of the polynomials.
+     *
+     * @return
+     *      The prime modulus of this tree.
+     */
+
+    public BigInteger modulus() {
+        return this.modulus;
+    }
+
+    /**
+     * Report the points of this tree, reduced by the modulus.
+     *
+     * @return
+     *      An unmodifiable {@link List} of the points of this tree.
+     */
+
+    public List<BigInteger> points() {
+        return this.points;
+    }
+
+    /**
+     * Return the product of {@code x - p} over every point {@code p} of this tree, which is the root of the tree.
+     *
+     * @return
+     *      The monic polynomial whose roots are the points of this tree.
+     */
+
+    public ModularPolynomial product() {
+        return polynomialOf(this.root == null ? List.of(BigInteger.ONE) : this.root.coefficients);
+    }
+
+    /**
+     * Evaluate the specified {@code polynomial} at every point of this tree.
+     *
+     * @param polynomial
+     *      The polynomial to evaluate, with the same modulus as this tree.
+     * @return
+     *      A new {@link List} of the value of the polynomial at each point, in the order of the points.
+     */
+
+    public List<BigInteger> evaluate(final ModularPolynomial polynomial) {
+
+        if (!this.modulus.equals(polynomial.modulus())) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + polynomial.modulus());
+        }
+        final BigInteger[] values = new BigInteger[this.points.size()];
+        if (this.root != null) {
+            evaluate(this.root, trim(reduce(polynomial.coefficients())), values);
+        }
+        return new ArrayList<>(Arrays.asList(values));
+    }
+
+    /**
+     * Interpolate the unique polynomial of degree less than the number of points that takes each of the specified
+     * {@code values} at the corresponding point of this tree. The points must be distinct.
+     *
+     * @param values
+     *      The values of the polynomial at each point, in the order of the points.
+     * @return
+     *      A new polynomial that takes the specified {@code values} at the points of this tree.
+     */
+
+    public ModularPolynomial interpolate(final List<BigInteger> values) {
+
+        if (values.size() != this.points.size()) {
+            throw new IllegalArgumentException("Illegal parameter: values=" + values.size());
+        }
+        if (this.root == null) {
+            return polynomialOf(List.of());
+        }
+
+        final List<BigInteger> weights = weights();
+        final BigInteger[] weighted = new BigInteger[values.size()];
+        for (int i = 0; i < weighted.length; i++) {
+            weighted[i] = values.get(i).multiply(weights.get(i)).mod(this.modulus);
+        }
+        return polynomialOf(combine(this.root, weighted));
+    }
+
+    /**
+     * Retrieve the interpolation weights {@code 1 / m'(p)} of every point, where {@code m} is the product of the tree.
+     */
+
+    private List<BigInteger> weights() {
+
+        List<BigInteger> cached = this.weights;
+        if (cached != null) {
+            return cached;
+        }
+
+        final List<BigInteger> product = this.root.coefficients;
+        final List<BigInteger> derivative = new ArrayList<>(product.size() - 1);
+        for (int i = 1; i < product.size(); i++) {
+            derivative.add(product.get(i).multiply(BigInteger.valueOf(i)).mod(this.modulus));
+        }
+
+        final BigInteger[] values = new BigInteger[this.points.size()];
+        evaluate(this.root, trim(derivative), values);
+        final List<BigInteger> inverses = new ArrayList<>(values.length);
+        for (final BigInteger value : values) {
+            if (value.signum() == 0) {
+                throw new IllegalStateException("Cannot interpolate through repeated points: " + this.points);
+            }
+            inverses.add(value.modInverse(this.modulus));
+        }
+
+        cached = List.copyOf(inverses);
+        this.weights = cached;
+        return cached;
+    }
+
+    /**
+     * Build the subtree over the points in {@code [from, to)}.
+     */
+
+    private Node build(final int from,
+                       final int to) {
+
+        if (to - from == 1) {
+            final BigInteger point = this.points.get(from);
+            return new Node(from, to, List.of(point.negate().mod(this.modulus), BigInteger.ONE), null, null);
+        }
+
+        final int middle = (from + to) >>> 1;
+        final Node left = build(from, middle);
+        final Node right = build(middle, to);
+        return new Node(from, to, MULTIPLY.multiply(left.coefficients, right.coefficients, this.modulus), left, right);
+    }
+
+    /**
+     * Write the value of the polynomial with the specified {@code coefficients} at every point of the subtree into
+     * {@code values}.
+     */
+
+    private void evaluate(final Node node,
+                          final List<BigInteger> coefficients,
+                          final BigInteger[] values) {
+
+        final List<BigInteger> remainder = node.divisor(this.modulus).divide(coefficients).get(1);
+        if (node.to - node.from <= HORNER_THRESHOLD) {
+            for (int i = node.from; i < node.to; i++) {
+                values[i] = horner(remainder, this.points.get(i));
+            }
+        } else {
+            evaluate(node.left, remainder, values);
+            evaluate(node.right, remainder, values);
+        }
+    }
+
+    /**
+     * Calculate the sum of {@code weighted[i] * m(x) / (x - p_i)} over the points of the subtree, where {@code m} is
+     * the product of the subtree.
+     */
+
+    private List<BigInteger> combine(final Node node,
+                                     final BigInteger[] weighted) {
+
+        if (node.left == null) {
+            return List.of(weighted[node.from]);
+        }
+
+        final List<BigInteger> left = MULTIPLY.multiply(combine(node.left, weighted), node.right.coefficients,
+                this.modulus);
+        final List<BigInteger> right = MULTIPLY.multiply(combine(node.right, weighted), node.left.coefficients,
+                this.modulus);
+        final List<BigInteger> sum = new ArrayList<>(Math.max(left.size(), right.size()));
+        for (int i = 0; i < Math.max(left.size(), right.size()); i++) {
+            final BigInteger augend = i < left.size() ? left.get(i) : BigInteger.ZERO;
+            final BigInteger addend = i < right.size() ? right.get(i) : BigInteger.ZERO;
+            sum.add(augend.add(addend).mod(this.modulus));
+        }
+        return sum;
+    }
+
+    private BigInteger horner(final List<BigInteger> coefficients,
+                              final BigInteger point) {
+        BigInteger value = BigInteger.ZERO;
+        for (int i = coefficients.size() - 1; i >= 0; i--) {
+            value = value.multiply(point).add(coefficients.get(i)).mod(this.modulus);
+        }
+        return value;
+    }
+
+    private List<BigInteger> reduce(final List<BigInteger> coefficients) {
+        final List<BigInteger> reduced = new ArrayList<>(coefficients.size());
+        for (final BigInteger coefficient : coefficients) {
+            reduced.add(coefficient.mod(this.modulus));
+        }
+        return reduced;
+    }
+
+    private ModularPolynomial polynomialOf(final List<BigInteger> coefficients) {
+        return ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(coefficients.isEmpty() ? List.of(BigInteger.ZERO) : coefficients)
+                .withModulus(this.modulus)
+                .build();
+    }
+
+    private static List<BigInteger> trim(final List<BigInteger> coefficients) {
+        int length = coefficients.size();
+        while (length > 0 && coefficients.get(length - 1).signum() == 0) {
+            length--;
+        }
+        return coefficients.subList(0, length);
+    }
+
+    /**
+     * A node of the tree, holding the product of {@code x - p} over the points in {@code [from, to)}.
+     */
+
+    private static final class Node {
+
+        private final int from;
+        private final int to;
+        private final List<BigInteger> coefficients;
+        private final Node left;
+        private final Node right;
+
+        private volatile ModularPolynomialDivisor divisor;
+
+        private Node(final int from,
+                     final int to,
+                     final List<BigInteger> coefficients,
+                     final Node left,
+                     final Node right) {
+            this.from = from;
+            this.to = to;
+            this.coefficients = List.copyOf(coefficients);
+            this.left = left;
+            this.right = right;
+        }
+
+        private ModularPolynomialDivisor divisor(final BigInteger modulus) {
+            ModularPolynomialDivisor cached = this.divisor;
+            if (cached == null) {
+                cached = new ModularPolynomialDivisor(this.coefficients, modulus);
+                this.divisor = cached;
+            }
+            return cached;
+        }
+    }
+}
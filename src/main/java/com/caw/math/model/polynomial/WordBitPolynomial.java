@@ -0,0 +1,351 @@
+package com.caw.math.model.polynomial;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An implementation of {@link ModularPolynomial} for polynomials with a modulus of two and a value that fits inside of
+ * a non-negative {@code long}, i.e. a degree of at most {@link #MAX_DEGREE}. Every operation is completed using
+ * primitive bit-arithmetic on a single machine word, so the only allocation is the resulting polynomial. Results that
+ * no longer fit inside of a single word, such as the product of two large word polynomials, are returned as a
+ * {@link BitPolynomial}.
+ *
+ * @author cwhitmore
+ */
+
+@SuppressWarnings("PMD.TooManyMethods")
+public class WordBitPolynomial implements ModularPolynomial {
+
+    /**
+     * The largest degree of a polynomial that can be represented by a {@link WordBitPolynomial}.
+     */
+
+    public static final int MAX_DEGREE = Long.SIZE - 2;
+
+    private static final BigInteger MODULUS = BigInteger.TWO;
+
+    private final long value;
+
+    /* default */ WordBitPolynomial(final long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid " + getClass().getSimpleName() + ": value=" + value);
+        }
+        this.value = value;
+    }
+
+    @Override
+    public ModularPolynomial accepts(final ModularPolynomialVisitor visitor) {
+        return visitor.visit(this);
+    }
+
+    @Override
+    public ModularPolynomial add(final ModularPolynomial addend) {
+        if (addend instanceof WordBitPolynomial) {
+            return new WordBitPolynomial(this.value ^ ((WordBitPolynomial) addend).value);
+        }
+        return add(addend.value());
+    }
+
+    @Override
+    public ModularPolynomial add(final BigInteger addend) {
+        if (fits(addend)) {
+            return add(addend.longValue());
+        }
+        return new BitPolynomial(addend.xor(value()));
+    }
+
+    @Override
+    public WordBitPolynomial add(final long addend) {
+        return new WordBitPolynomial(this.value ^ addend);
+    }
+
+    @Override
+    public List<BigInteger> coefficients() {
+        final int length = Long.SIZE - Long.numberOfLeadingZeros(this.value);
+        final List<BigInteger> coefficients = new ArrayList<>(length);
+
+        for (int i = 0; i < length; i++) {
+            coefficients.add((this.value >>> i & 1L) == 0 ? BigInteger.ZERO : BigInteger.ONE);
+        }
+
+        return coefficients;
+    }
+
+    @Override
+    public ModularPolynomial compose(final ModularPolynomial inner,
+                                     final ModularPolynomial reducer) {
+        return ModularComposition.of(inner, validate(reducer)).compose(this);
+    }
+
+    @Override
+    public int degree() {
+        return this.value == 0 ? 0 : Long.SIZE - 1 - Long.numberOfLeadingZeros(this.value);
+    }
+
+    @Override
+    public WordBitPolynomial[] divideAndRemainder(final ModularPolynomial divisor) {
+
+        final BigInteger divisorValue = validate(divisor).value();
+        if (divisorValue.signum() == 0) {
+            throw new IllegalArgumentException("Illegal parameter: divisor=" + divisor);
+        }
+        if (!fits(divisorValue)) {
+            return new WordBitPolynomial[] { new WordBitPolynomial(0), this };
+        }
+
+        final long reducer = divisorValue.longValue();
+        final int reducerDegree = Long.SIZE - 1 - Long.numberOfLeadingZeros(reducer);
+        long quotient = 0;
+        long remainder = this.value;
+        int degree = Long.SIZE - 1 - Long.numberOfLeadingZeros(remainder);
+
+        while (remainder != 0 && degree >= reducerDegree) {
+            quotient |= 1L << (degree - reducerDegree);
+            remainder ^= reducer << (degree - reducerDegree);
+            degree = Long.SIZE - 1 - Long.numberOfLeadingZeros(remainder);
+        }
+
+        return new WordBitPolynomial[] { new WordBitPolynomial(quotient), new WordBitPolynomial(remainder) };
+    }
+
+    @Override
+    public ModularPolynomial[] extendedGcd(final ModularPolynomial other) {
+
+        final BigInteger otherValue = validate(other).value();
+        if (!fits(otherValue)) {
+            return new BitPolynomial(value()).extendedGcd(other);
+        }
+
+        long r0 = this.value;
+        long r1 = otherValue.longValue();
+        long s0 = 1;
+        long s1 = 0;
+        long t0 = 0;
+        long t1 = 1;
+        while (r1 != 0) {
+            final int degree = Long.SIZE - 1 - Long.numberOfLeadingZeros(r1);
+            int remainderDegree = Long.SIZE - 1 - Long.numberOfLeadingZeros(r0);
+            while (r0 != 0 && remainderDegree >= degree) {
+                final int shift = remainderDegree - degree;
+                r0 ^= r1 << shift;
+                s0 ^= s1 << shift;
+                t0 ^= t1 << shift;
+                remainderDegree = Long.SIZE - 1 - Long.numberOfLeadingZeros(r0);
+            }
+
+            long swap = r0;
+            r0 = r1;
+            r1 = swap;
+            swap = s0;
+            s0 = s1;
+            s1 = swap;
+            swap = t0;
+            t0 = t1;
+            t1 = swap;
+        }
+        return new WordBitPolynomial[] { new WordBitPolynomial(r0), new WordBitPolynomial(s0),
+            new WordBitPolynomial(t0) };
+    }
+
+    @Override
+    public ModularPolynomial gcd(final ModularPolynomial other) {
+
+        final BigInteger otherValue = validate(other).value();
+        if (!fits(otherValue)) {
+            return new BitPolynomial(value()).gcd(other);
+        }
+
+        long r0 = this.value;
+        long r1 = otherValue.longValue();
+        while (r1 != 0) {
+            final int degree = Long.SIZE - 1 - Long.numberOfLeadingZeros(r1);
+            int remainderDegree = Long.SIZE - 1 - Long.numberOfLeadingZeros(r0);
+            while (r0 != 0 && remainderDegree >= degree) {
+                r0 ^= r1 << (remainderDegree - degree);
+                remainderDegree = Long.SIZE - 1 - Long.numberOfLeadingZeros(r0);
+            }
+
+            final long remainder = r0;
+            r0 = r1;
+            r1 = remainder;
+        }
+        return new WordBitPolynomial(r0);
+    }
+
+    @Override
+    public BigInteger modulus() {
+        return MODULUS;
+    }
+
+    @Override
+    public ModularPolynomial multiply(final ModularPolynomial multiplier) {
+        if (multiplier instanceof WordBitPolynomial) {
+            return multiply(((WordBitPolynomial) multiplier).value);
+        }
+        return multiply(multiplier.value());
+    }
+
+    @Override
+    public ModularPolynomial multiply(final BigInteger multiplier) {
+        if (fits(multiplier)) {
+            return multiply(multiplier.longValue());
+        }
+        return new BitPolynomial(value()).multiply(multiplier);
+    }
+
+    @Override
+    public ModularPolynomial multiply(final long multiplier) {
+
+        if (multiplier < 0) {
+            throw new IllegalArgumentException("Illegal parameter: multiplier=" + multiplier);
+        }
+
+        // Carry-less multiplication of two 63 bit words into a 126 bit product, walking the set bits of the smaller
+        // operand only.
+        final long multiplicand = Math.max(this.value, multiplier);
+        long bits = Math.min(this.value, multiplier);
+        long low = 0;
+        long high = 0;
+
+        while (bits != 0) {
+            final int shift = Long.numberOfTrailingZeros(bits);
+            low ^= multiplicand << shift;
+            if (shift != 0) {
+                high ^= multiplicand >>> (Long.SIZE - shift);
+            }
+            bits &= bits - 1;
+        }
+
+        if (high == 0 && low >= 0) {
+            return new WordBitPolynomial(low);
+        }
+        return new BitPolynomial(BigInteger.valueOf(high).shiftLeft(Long.SIZE)
+                .or(BigInteger.valueOf(low >>> 1).shiftLeft(1))
+                .or(BigInteger.valueOf(low & 1L)));
+    }
+
+    /**
+     * Return a new {@link ModularPolynomial} that is the remainder of dividing this polynomial by the specified
+     * {@code divisor}.
+     *
+     * @param divisor
+     *      The non-zero polynomial to divide this polynomial by.
+     * @return
+     *      A new polynomial that is the remainder of dividing this polynomial by the specified {@code divisor}.
+     */
+
+    public WordBitPolynomial remainder(final ModularPolynomial divisor) {
+
+        final BigInteger divisorValue = validate(divisor).value();
+        if (divisorValue.signum() == 0) {
+            throw new IllegalArgumentException("Illegal parameter: divisor=" + divisor);
+        }
+        if (!fits(divisorValue)) {
+            return this;
+        }
+
+        final long reducer = divisorValue.longValue();
+        final int reducerDegree = Long.SIZE - 1 - Long.numberOfLeadingZeros(reducer);
+        long remainder = this.value;
+        int degree = Long.SIZE - 1 - Long.numberOfLeadingZeros(remainder);
+
+        while (remainder != 0 && degree >= reducerDegree) {
+            remainder ^= reducer << (degree - reducerDegree);
+            degree = Long.SIZE - 1 - Long.numberOfLeadingZeros(remainder);
+        }
+
+        return remainder == this.value ? this : new WordBitPolynomial(remainder);
+    }
+
+    @Override
+    public WordBitPolynomial scale(final BigInteger factor) {
+        return scale(factor.testBit(0) ? 1 : 0);
+    }
+
+    @Override
+    public WordBitPolynomial scale(final long factor) {
+        return (factor & 1L) == 0 ? new WordBitPolynomial(0) : this;
+    }
+
+    @Override
+    public ModularPolynomial subtract(final ModularPolynomial subtrahend) {
+        // Addition and subtraction are the same operation with a modulus of two.
+        return add(subtrahend);
+    }
+
+    @Override
+    public ModularPolynomial subtract(final BigInteger subtrahend) {
+        return add(subtrahend);
+    }
+
+    @Override
+    public WordBitPolynomial subtract(final long subtrahend) {
+        return add(subtrahend);
+    }
+
+    @Override
+    public String toString() {
+
+        if (this.value == 0) {
+            return "0";
+        }
+
+        final StringBuilder builder = new StringBuilder();
+        long remaining = this.value;
+
+        while (remaining != 0) {
+            final int degree = Long.SIZE - 1 - Long.numberOfLeadingZeros(remaining);
+            if (builder.length() != 0) {
+                builder.append(" + ");
+            }
+            if (degree == 0) {
+                builder.append('1');
+            } else {
+                builder.append('x');
+                if (degree != 1) {
+                    builder.append('^').append(degree);
+                }
+            }
+            remaining ^= 1L << degree;
+        }
+
+        return builder.toString();
+    }
+
+    @Override
+    public BigInteger value() {
+        return BigInteger.valueOf(this.value);
+    }
+
+    /**
+     * Report the value of this polynomial as a primitive {@code long}.
+     *
+     * @return
+     *      The value of this polynomial.
+     */
+
+    public long longValue() {
+        return this.value;
+    }
+
+    /**
+     * Report whether the specified {@code value} is small enough to be represented by a {@link WordBitPolynomial}.
+     *
+     * @param value
+     *      The value of a bitwise polynomial.
+     * @return
+     *      {@code true} if the value is non-negative and fits inside of a single {@code long}.
+     */
+
+    /* default */ static boolean fits(final BigInteger value) {
+        return value.signum() >= 0 && value.bitLength() < Long.SIZE;
+    }
+
+    private static ModularPolynomial validate(final ModularPolynomial polynomial) {
+        if (!MODULUS.equals(polynomial.modulus())) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + polynomial.modulus());
+        }
+        return polynomial;
+    }
+}
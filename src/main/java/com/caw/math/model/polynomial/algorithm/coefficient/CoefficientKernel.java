@@ -0,0 +1,79 @@
+package com.caw.math.model.polynomial.algorithm.coefficient;
+
+/**
+ * An interface for the coefficient-wise kernels that packed polynomial arithmetic is built from. Every kernel works in
+ * place on arrays of reduced coefficients, i.e. values in {@code [0, modulus)}, for a modulus of at most
+ * {@link Integer#MAX_VALUE}, and so doubles as bulk arithmetic over arrays of {@code GF(p)} elements.
+ *
+ * @author cwhitmore
+ */
+
+public interface CoefficientKernel {
+
+    /**
+     * Add the first {@code length} {@code addend} coefficients to the {@code augend} coefficients, in place.
+     *
+     * @param augend
+     *      The reduced coefficients to add to, which hold the sum afterwards.
+     * @param addend
+     *      The reduced coefficients to add.
+     * @param length
+     *      The number of coefficients to add.
+     * @param modulus
+     *      The modulus of the coefficients.
+     */
+
+    void add(final long[] augend, final long[] addend, final int length, final long modulus);
+
+    /**
+     * Add {@code factor} times the first {@code length} {@code multiplicand} coefficients to the {@code accumulator}
+     * coefficients from index {@code offset} onwards, in place. This is the inner loop of both schoolbook
+     * multiplication and long division.
+     *
+     * @param accumulator
+     *      The reduced coefficients to accumulate into.
+     * @param offset
+     *      The index of the {@code accumulator} that the first {@code multiplicand} coefficient is added to.
+     * @param multiplicand
+     *      The reduced coefficients to scale and add.
+     * @param factor
+     *      The reduced factor to scale the {@code multiplicand} coefficients by.
+     * @param length
+     *      The number of coefficients to scale and add.
+     * @param modulus
+     *      The modulus of the coefficients.
+     */
+
+    void multiplyAccumulate(final long[] accumulator, final int offset, final long[] multiplicand, final long factor,
+                            final int length, final long modulus);
+
+    /**
+     * Multiply the first {@code length} {@code coefficients} by the specified {@code factor}, in place.
+     *
+     * @param coefficients
+     *      The reduced coefficients to scale.
+     * @param factor
+     *      The reduced factor to scale the {@code coefficients} by.
+     * @param length
+     *      The number of coefficients to scale.
+     * @param modulus
+     *      The modulus of the coefficients.
+     */
+
+    void scale(final long[] coefficients, final long factor, final int length, final long modulus);
+
+    /**
+     * Subtract the first {@code length} {@code subtrahend} coefficients from the {@code minuend} coefficients, in place.
+     *
+     * @param minuend
+     *      The reduced coefficients to subtract from, which hold the difference afterwards.
+     * @param subtrahend
+     *      The reduced coefficients to subtract.
+     * @param length
+     *      The number of coefficients to subtract.
+     * @param modulus
+     *      The modulus of the coefficients.
+     */
+
+    void subtract(final long[] minuend, final long[] subtrahend, final int length, final long modulus);
+}
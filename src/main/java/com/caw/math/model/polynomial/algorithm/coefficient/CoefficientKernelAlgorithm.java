@@ -0,0 +1,12 @@
+package com.caw.math.model.polynomial.algorithm.coefficient;
+
+/**
+ * An enumeration of the available algorithms for {@link CoefficientKernel} implementations.
+ *
+ * @author cwhitmore
+ */
+
+public enum CoefficientKernelAlgorithm {
+    SCALAR,
+    VECTOR
+}
@@ -0,0 +1,63 @@
+package com.caw.math.model.polynomial.algorithm.coefficient;
+
+/**
+ * A factory class to provide {@link CoefficientKernel} implementations. The {@link VectorCoefficientKernel} depends on
+ * the incubating {@code jdk.incubator.vector} module, which is only resolved when the JVM is started with
+ * {@code --add-modules jdk.incubator.vector}, so it is only provided when that module is present at runtime and its
+ * preferred vectors hold more than one coefficient. Otherwise, the {@link ScalarCoefficientKernel} is provided instead.
+ *
+ * @author cwhitmore
+ */
+
+public final class CoefficientKernelFactory {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private static final boolean VECTORIZED = ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()
+            && VectorCoefficientKernel.isSupported();
+
+    private CoefficientKernelFactory() {
+        // disable public instantiation.
+    }
+
+    /**
+     * Report whether the {@link VectorCoefficientKernel} is available on this JVM.
+     *
+     * @return
+     *      {@code true} if {@link CoefficientKernelAlgorithm#VECTOR} provides a vectorized implementation.
+     */
+
+    public static boolean isVectorized() {
+        return VECTORIZED;
+    }
+
+    /**
+     * Returns a new instance of the fastest {@link CoefficientKernel} implementation that is available on this JVM.
+     *
+     * @return
+     *      A new {@link VectorCoefficientKernel} if {@link #isVectorized()}, otherwise a new
+     *      {@link ScalarCoefficientKernel}.
+     */
+
+    public static CoefficientKernel make() {
+        return make(CoefficientKernelAlgorithm.VECTOR);
+    }
+
+    /**
+     * Returns a {@link CoefficientKernel} implementation based on the specified {@code algorithm}. The
+     * {@link CoefficientKernelAlgorithm#VECTOR} algorithm falls back to the scalar implementation if the vector module
+     * is not available.
+     *
+     * @param algorithm
+     *      The algorithm that dictates what implementation is used.
+     * @return
+     *      A new instance of a {@link CoefficientKernel} implementation based on the specified {@code algorithm}.
+     */
+
+    public static CoefficientKernel make(final CoefficientKernelAlgorithm algorithm) {
+        return switch (algorithm) {
+            case SCALAR -> new ScalarCoefficientKernel();
+            case VECTOR -> VECTORIZED ? new VectorCoefficientKernel() : new ScalarCoefficientKernel();
+        };
+    }
+}
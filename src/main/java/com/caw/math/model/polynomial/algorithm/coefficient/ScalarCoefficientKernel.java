@@ -0,0 +1,59 @@
+package com.caw.math.model.polynomial.algorithm.coefficient;
+
+/**
+ * An implementation of {@link CoefficientKernel} with plain loops over one coefficient at a time. This is the fallback
+ * for JVMs that do not have the vector module available.
+ *
+ * @author cwhitmore
+ */
+
+public class ScalarCoefficientKernel implements CoefficientKernel {
+
+    /* default */ ScalarCoefficientKernel() {
+        // disable non-default instantiation.
+    }
+
+    @Override
+    public void add(final long[] augend,
+                    final long[] addend,
+                    final int length,
+                    final long modulus) {
+        for (int i = 0; i < length; i++) {
+            final long sum = augend[i] + addend[i];
+            augend[i] = sum >= modulus ? sum - modulus : sum;
+        }
+    }
+
+    @Override
+    public void multiplyAccumulate(final long[] accumulator,
+                                   final int offset,
+                                   final long[] multiplicand,
+                                   final long factor,
+                                   final int length,
+                                   final long modulus) {
+        for (int i = 0; i < length; i++) {
+            accumulator[offset + i] = (accumulator[offset + i] + factor * multiplicand[i]) % modulus;
+        }
+    }
+
+    @Override
+    public void scale(final long[] coefficients,
+                      final long factor,
+                      final int length,
+                      final long modulus) {
+        for (int i = 0; i < length; i++) {
+            coefficients[i] = coefficients[i] * factor % modulus;
+        }
+    }
+
+    @Override
+    public void subtract(final long[] minuend,
+                         final long[] subtrahend,
+                         final int length,
+                         final long modulus) {
+        for (int i = 0; i < length; i++) {
+            final long difference = minuend[i] - subtrahend[i];
+            minuend[i] = difference < 0 ? difference + modulus : difference;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.caw.math.model.polynomial.algorithm.coefficient;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * An implementation of {@link CoefficientKernel} that processes as many coefficients at once as the preferred
+ * {@link LongVector} of the machine holds, e.g. eight with AVX-512, with a scalar loop for the remaining tail.
+ *
+ * <p>Products are reduced with Shoup's method rather than by division, which no vector instruction set provides: since
+ * every call scales by the same {@code factor}, the quotient {@code floor(factor * 2^32 / modulus)} is calculated once,
+ * after which {@code factor * c mod modulus} is {@code factor * c - ((c * quotient) >>> 32) * modulus}, give or take one
+ * {@code modulus}. Conditional corrections use the sign bit as a lane mask rather than vector masks, which are far
+ * slower on the current incubator API.
+ *
+ * <p>This class must only be loaded when the {@code jdk.incubator.vector} module is present, see
+ * {@link CoefficientKernelFactory}.
+ *
+ * @author cwhitmore
+ */
+
+public class VectorCoefficientKernel implements CoefficientKernel {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+    private static final int SHOUP_SHIFT = Integer.SIZE;
+    private static final int SIGN_SHIFT = Long.SIZE - 1;
+
+    /* default */ VectorCoefficientKernel() {
+        // disable non-default instantiation.
+    }
+
+    /**
+     * Report whether the preferred vectors of this machine hold more than one coefficient.
+     */
+
+    /* default */ static boolean isSupported() {
+        return SPECIES.length() > 1;
+    }
+
+    @Override
+    public void add(final long[] augend,
+                    final long[] addend,
+                    final int length,
+                    final long modulus) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final LongVector sum = LongVector.fromArray(SPECIES, augend, i)
+                    .add(LongVector.fromArray(SPECIES, addend, i))
+                    .sub(modulus);
+            correct(sum, modulus).intoArray(augend, i);
+        }
+        for (; i < length; i++) {
+            final long sum = augend[i] + addend[i];
+            augend[i] = sum >= modulus ? sum - modulus : sum;
+        }
+    }
+
+    @Override
+    public void multiplyAccumulate(final long[] accumulator,
+                                   final int offset,
+                                   final long[] multiplicand,
+                                   final long factor,
+                                   final int length,
+                                   final long modulus) {
+        final long quotient = (factor << SHOUP_SHIFT) / modulus;
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final LongVector product = product(LongVector.fromArray(SPECIES, multiplicand, i), factor, quotient, modulus);
+            // product is in [0, 2 * modulus), so the sum less one modulus is in [-modulus, 2 * modulus).
+            final LongVector sum = product.add(LongVector.fromArray(SPECIES, accumulator, offset + i)).sub(modulus);
+            correct(correct(sum, modulus).sub(modulus), modulus).intoArray(accumulator, offset + i);
+        }
+        for (; i < length; i++) {
+            accumulator[offset + i] = (accumulator[offset + i] + factor * multiplicand[i]) % modulus;
+        }
+    }
+
+    @Override
+    public void scale(final long[] coefficients,
+                      final long factor,
+                      final int length,
+                      final long modulus) {
+        final long quotient = (factor << SHOUP_SHIFT) / modulus;
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final LongVector product = product(LongVector.fromArray(SPECIES, coefficients, i), factor, quotient,
+                    modulus);
+            correct(product.sub(modulus), modulus).intoArray(coefficients, i);
+        }
+        for (; i < length; i++) {
+            coefficients[i] = coefficients[i] * factor % modulus;
+        }
+    }
+
+    @Override
+    public void subtract(final long[] minuend,
+                         final long[] subtrahend,
+                         final int length,
+                         final long modulus) {
+        final int bound = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < bound; i += SPECIES.length()) {
+            final LongVector difference = LongVector.fromArray(SPECIES, minuend, i)
+                    .sub(LongVector.fromArray(SPECIES, subtrahend, i));
+            correct(difference, modulus).intoArray(minuend, i);
+        }
+        for (; i < length; i++) {
+            final long difference = minuend[i] - subtrahend[i];
+            minuend[i] = difference < 0 ? difference + modulus : difference;
+        }
+    }
+
+    /**
+     * Add the {@code modulus} to every negative lane of the specified {@code vector}.
+     */
+
+    private static LongVector correct(final LongVector vector,
+                                      final long modulus) {
+        return vector.add(vector.lanewise(VectorOperators.ASHR, SIGN_SHIFT).and(modulus));
+    }
+
+    /**
+     * Calculate {@code factor * coefficients} modulo the {@code modulus}, give or take one {@code modulus}, with Shoup's
+     * precomputed {@code quotient}.
+     */
+
+    private static LongVector product(final LongVector coefficients,
+                                      final long factor,
+                                      final long quotient,
+                                      final long modulus) {
+        final LongVector estimate = coefficients.mul(quotient).lanewise(VectorOperators.LSHR, SHOUP_SHIFT);
+        return coefficients.mul(factor).sub(estimate.mul(modulus));
+    }
+}
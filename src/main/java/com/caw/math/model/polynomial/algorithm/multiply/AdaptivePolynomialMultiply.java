@@ -0,0 +1,82 @@
+package com.caw.math.model.polynomial.algorithm.multiply;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * An implementation of {@link PolynomialMultiply} that chooses an algorithm based on the size of the operands. Small
+ * products are calculated by {@link SchoolbookPolynomialMultiply}, which has no set-up cost. Large products are
+ * calculated by {@link NttPolynomialMultiply}, and coefficients that are stored as {@link BigInteger} use
+ * {@link KroneckerPolynomialMultiply} in between the two, or when the modulus is too large for the number-theoretic
+ * transform.
+ *
+ * @author cwhitmore
+ */
+
+public class AdaptivePolynomialMultiply implements PolynomialMultiply {
+
+    /**
+     * The default number of coefficients that the shorter operand of a product must have before coefficients that are
+     * stored as {@link BigInteger} are no longer multiplied using the schoolbook algorithm.
+     */
+
+    public static final int DEFAULT_KRONECKER_THRESHOLD = 16;
+
+    /**
+     * The default number of coefficients that the shorter operand of a product must have before the number-theoretic
+     * transform is used.
+     */
+
+    public static final int DEFAULT_NTT_THRESHOLD = 64;
+
+    private final PolynomialMultiply schoolbook = new SchoolbookPolynomialMultiply();
+    private final PolynomialMultiply kronecker = new KroneckerPolynomialMultiply();
+    private final PolynomialMultiply ntt = new NttPolynomialMultiply();
+
+    private final int kroneckerThreshold;
+    private final int nttThreshold;
+
+    /* default */ AdaptivePolynomialMultiply() {
+        this(DEFAULT_KRONECKER_THRESHOLD, DEFAULT_NTT_THRESHOLD);
+    }
+
+    /* default */ AdaptivePolynomialMultiply(final int kroneckerThreshold,
+                                             final int nttThreshold) {
+        if (kroneckerThreshold < 1) {
+            throw new IllegalArgumentException("Illegal parameter: kroneckerThreshold=" + kroneckerThreshold);
+        }
+        if (nttThreshold < 1) {
+            throw new IllegalArgumentException("Illegal parameter: nttThreshold=" + nttThreshold);
+        }
+        this.kroneckerThreshold = kroneckerThreshold;
+        this.nttThreshold = nttThreshold;
+    }
+
+    @Override
+    public List<BigInteger> multiply(final List<BigInteger> multiplicand,
+                                     final List<BigInteger> multiplier,
+                                     final BigInteger modulus) {
+
+        final int shorter = Math.min(multiplicand.size(), multiplier.size());
+        final int length = multiplicand.size() + multiplier.size() - 1;
+        if (shorter >= this.nttThreshold && NttPolynomialMultiply.supports(modulus, shorter, length)) {
+            return this.ntt.multiply(multiplicand, multiplier, modulus);
+        } else if (shorter >= this.kroneckerThreshold) {
+            return this.kronecker.multiply(multiplicand, multiplier, modulus);
+        }
+        return this.schoolbook.multiply(multiplicand, multiplier, modulus);
+    }
+
+    @Override
+    public long[] multiply(final long[] multiplicand,
+                           final long[] multiplier,
+                           final long modulus) {
+
+        final int shorter = Math.min(multiplicand.length, multiplier.length);
+        final int length = multiplicand.length + multiplier.length - 1;
+        if (shorter >= this.nttThreshold && NttPolynomialMultiply.supports(BigInteger.valueOf(modulus), shorter, length)) {
+            return this.ntt.multiply(multiplicand, multiplier, modulus);
+        }
+        return this.schoolbook.multiply(multiplicand, multiplier, modulus);
+    }
+}
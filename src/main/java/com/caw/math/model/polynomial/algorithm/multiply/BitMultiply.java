@@ -0,0 +1,44 @@
+package com.caw.math.model.polynomial.algorithm.multiply;
+
+/**
+ * An interface for algorithms that calculate the carry-less product of two polynomials with a modulus of two, where
+ * each polynomial is represented as a little-endian array of 64 bit words, i.e. bit {@code i} of the polynomial is bit
+ * {@code i % 64} of word {@code i / 64}.
+ *
+ * @author cwhitmore
+ */
+
+public interface BitMultiply {
+
+    /**
+     * Calculate the carry-less product of the specified {@code multiplicand} and {@code multiplier} words.
+     *
+     * @param multiplicand
+     *      The words of the polynomial to use as the multiplicand of this multiply operation.
+     * @param multiplier
+     *      The words of the polynomial to use as the multiplier of this multiply operation.
+     * @return
+     *      A new array of {@code multiplicand.length + multiplier.length} words holding the product.
+     */
+
+    long[] multiply(final long[] multiplicand, final long[] multiplier);
+
+    /**
+     * Calculate the carry-less product of the first {@code multiplicandLength} words of the specified
+     * {@code multiplicand} and the first {@code multiplierLength} words of the specified {@code multiplier}.
+     *
+     * @param multiplicand
+     *      The words of the polynomial to use as the multiplicand of this multiply operation.
+     * @param multiplicandLength
+     *      The number of words of the {@code multiplicand} that are in use.
+     * @param multiplier
+     *      The words of the polynomial to use as the multiplier of this multiply operation.
+     * @param multiplierLength
+     *      The number of words of the {@code multiplier} that are in use.
+     * @return
+     *      A new array of {@code multiplicandLength + multiplierLength} words holding the product.
+     */
+
+    long[] multiply(final long[] multiplicand, final int multiplicandLength,
+                    final long[] multiplier, final int multiplierLength);
+}
@@ -0,0 +1,12 @@
+package com.caw.math.model.polynomial.algorithm.multiply;
+
+/**
+ * An enumeration of the available algorithms for {@link BitMultiply} implementations.
+ *
+ * @author cwhitmore
+ */
+
+public enum BitMultiplyAlgorithm {
+    COMB,
+    KARATSUBA
+}
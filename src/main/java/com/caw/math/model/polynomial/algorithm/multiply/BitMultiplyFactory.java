@@ -0,0 +1,55 @@
+package com.caw.math.model.polynomial.algorithm.multiply;
+
+/**
+ * A factory class to provide {@link BitMultiply} implementations.
+ *
+ * @author cwhitmore
+ */
+
+public final class BitMultiplyFactory {
+
+    private BitMultiplyFactory() {
+        // disable public instantiation.
+    }
+
+    /**
+     * Returns a new instance of the default {@link KaratsubaBitMultiply} implementation.
+     *
+     * @return
+     *      A new instance of the default {@link KaratsubaBitMultiply} implementation.
+     */
+
+    public static BitMultiply make() {
+        return new KaratsubaBitMultiply();
+    }
+
+    /**
+     * Returns a {@link BitMultiply} implementation based on the specified {@code algorithm}.
+     *
+     * @param algorithm
+     *      The algorithm that dictates what implementation is used.
+     * @return
+     *      A new instance of a {@link BitMultiply} implementation based on the specified {@code algorithm}.
+     */
+
+    public static BitMultiply make(final BitMultiplyAlgorithm algorithm) {
+        return switch (algorithm) {
+            case COMB -> new CombBitMultiply();
+            case KARATSUBA -> new KaratsubaBitMultiply();
+        };
+    }
+
+    /**
+     * Returns a new {@link KaratsubaBitMultiply} implementation that falls back to the comb method once either operand
+     * is shorter than the specified {@code threshold}.
+     *
+     * @param threshold
+     *      The operand length, in words, below which the comb method is used instead of recursing.
+     * @return
+     *      A new instance of a {@link KaratsubaBitMultiply} implementation with the specified {@code threshold}.
+     */
+
+    public static BitMultiply makeKaratsuba(final int threshold) {
+        return new KaratsubaBitMultiply(threshold);
+    }
+}
@@ -0,0 +1,112 @@
+package com.caw.math.model.polynomial.algorithm.multiply;
+
+/**
+ * An implementation of {@link BitMultiply} that uses the left-to-right comb method with a four bit window. The
+ * multiplier is multiplied by every possible four bit polynomial up front, after which each window of the multiplicand
+ * costs a single table row xor instead of one shift and xor per set bit.
+ *
+ * @author cwhitmore
+ */
+
+public class CombBitMultiply implements BitMultiply {
+
+    private static final int WINDOW = 4;
+    private static final int TABLE_SIZE = 1 << WINDOW;
+    private static final int WINDOW_MASK = TABLE_SIZE - 1;
+
+    /* default */ CombBitMultiply() {
+        // disable non-default instantiation.
+    }
+
+    @Override
+    public long[] multiply(final long[] multiplicand, final long[] multiplier) {
+        return multiply(multiplicand, multiplicand.length, multiplier, multiplier.length);
+    }
+
+    @Override
+    public long[] multiply(final long[] multiplicand, final int multiplicandLength,
+                           final long[] multiplier, final int multiplierLength) {
+
+        if (multiplicandLength < 0 || multiplicandLength > multiplicand.length) {
+            throw new IllegalArgumentException("Illegal parameter: multiplicandLength=" + multiplicandLength);
+        }
+        if (multiplierLength < 0 || multiplierLength > multiplier.length) {
+            throw new IllegalArgumentException("Illegal parameter: multiplierLength=" + multiplierLength);
+        }
+
+        final long[] product = new long[multiplicandLength + multiplierLength];
+        multiplyInto(multiplicand, 0, multiplicandLength, multiplier, 0, multiplierLength, product, 0);
+        return product;
+    }
+
+    /**
+     * Xor the carry-less product of the specified word ranges of {@code multiplicand} and {@code multiplier} into the
+     * {@code product} words, starting at {@code productOffset}.
+     */
+
+    @SuppressWarnings("PMD.UseVarargs")
+    /* default */ void multiplyInto(final long[] multiplicand, final int multiplicandOffset, final int multiplicandLength,
+                                    final long[] multiplier, final int multiplierOffset, final int multiplierLength,
+                                    final long[] product, final int productOffset) {
+
+        if (multiplicandLength == 0 || multiplierLength == 0) {
+            return;
+        }
+
+        // table row u holds u(x) * multiplier(x) for every polynomial u of degree less than the window size.
+        final int rowLength = multiplierLength + 1;
+        final long[] table = new long[TABLE_SIZE * rowLength];
+        for (int shift = 0; shift < WINDOW; shift++) {
+            final int row = (1 << shift) * rowLength;
+            long carry = 0;
+            for (int i = 0; i < multiplierLength; i++) {
+                final long word = multiplier[multiplierOffset + i];
+                table[row + i] = word << shift | carry;
+                carry = shift == 0 ? 0 : word >>> (Long.SIZE - shift);
+            }
+            table[row + multiplierLength] = carry;
+        }
+        for (int u = 3; u < TABLE_SIZE; u++) {
+            final int high = Integer.highestOneBit(u);
+            if (high != u) {
+                final int row = u * rowLength;
+                final int highRow = high * rowLength;
+                final int lowRow = (u ^ high) * rowLength;
+                for (int i = 0; i < rowLength; i++) {
+                    table[row + i] = table[highRow + i] ^ table[lowRow + i];
+                }
+            }
+        }
+
+        final long[] accumulator = new long[multiplicandLength + rowLength];
+        for (int window = Long.SIZE / WINDOW - 1; window >= 0; window--) {
+            for (int j = 0; j < multiplicandLength; j++) {
+                final int u = (int) (multiplicand[multiplicandOffset + j] >>> (window * WINDOW)) & WINDOW_MASK;
+                if (u != 0) {
+                    final int row = u * rowLength;
+                    for (int i = 0; i < rowLength; i++) {
+                        accumulator[j + i] ^= table[row + i];
+                    }
+                }
+            }
+            if (window != 0) {
+                shiftLeft(accumulator);
+            }
+        }
+
+        for (int i = 0; i < multiplicandLength + multiplierLength; i++) {
+            product[productOffset + i] ^= accumulator[i];
+        }
+    }
+
+    /**
+     * Shift the specified {@code words} left by one window in place.
+     */
+
+    private static void shiftLeft(final long[] words) {
+        for (int i = words.length - 1; i > 0; i--) {
+            words[i] = words[i] << WINDOW | words[i - 1] >>> (Long.SIZE - WINDOW);
+        }
+        words[0] <<= WINDOW;
+    }
+}
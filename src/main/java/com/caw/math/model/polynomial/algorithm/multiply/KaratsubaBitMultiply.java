@@ -0,0 +1,121 @@
+package com.caw.math.model.polynomial.algorithm.multiply;
+
+/**
+ * An implementation of {@link BitMultiply} that uses the Karatsuba algorithm, splitting each operand into a low and a
+ * high half at word granularity so that a product of two n word polynomials costs three half-sized products instead of
+ * four. Once either operand is shorter than the configured threshold, the product is handed off to the
+ * {@link CombBitMultiply} implementation, which is faster for small operands.
+ *
+ * @author cwhitmore
+ */
+
+public class KaratsubaBitMultiply implements BitMultiply {
+
+    /**
+     * The default operand length, in words, below which the comb method is used instead of recursing.
+     */
+
+    public static final int DEFAULT_THRESHOLD = 16;
+
+    private static final int MIN_THRESHOLD = 2;
+
+    private final CombBitMultiply comb = new CombBitMultiply();
+    private final int threshold;
+
+    /* default */ KaratsubaBitMultiply() {
+        this(DEFAULT_THRESHOLD);
+    }
+
+    /* default */ KaratsubaBitMultiply(final int threshold) {
+        if (threshold < MIN_THRESHOLD) {
+            throw new IllegalArgumentException("Invalid " + getClass().getSimpleName() + ": threshold=" + threshold);
+        }
+        this.threshold = threshold;
+    }
+
+    @Override
+    public long[] multiply(final long[] multiplicand, final long[] multiplier) {
+        return multiply(multiplicand, multiplicand.length, multiplier, multiplier.length);
+    }
+
+    @Override
+    public long[] multiply(final long[] multiplicand, final int multiplicandLength,
+                           final long[] multiplier, final int multiplierLength) {
+
+        if (multiplicandLength < 0 || multiplicandLength > multiplicand.length) {
+            throw new IllegalArgumentException("Illegal parameter: multiplicandLength=" + multiplicandLength);
+        }
+        if (multiplierLength < 0 || multiplierLength > multiplier.length) {
+            throw new IllegalArgumentException("Illegal parameter: multiplierLength=" + multiplierLength);
+        }
+
+        final long[] product = new long[multiplicandLength + multiplierLength];
+        multiplyInto(multiplicand, 0, multiplicandLength, multiplier, 0, multiplierLength, product, 0);
+        return product;
+    }
+
+    /**
+     * Xor the carry-less product of the specified word ranges of {@code multiplicand} and {@code multiplier} into the
+     * {@code product} words, starting at {@code productOffset}.
+     */
+
+    @SuppressWarnings("PMD.UseVarargs")
+    private void multiplyInto(final long[] multiplicand, final int multiplicandOffset, final int multiplicandLength,
+                              final long[] multiplier, final int multiplierOffset, final int multiplierLength,
+                              final long[] product, final int productOffset) {
+
+        if (multiplicandLength < multiplierLength) {
+            multiplyInto(multiplier, multiplierOffset, multiplierLength,
+                    multiplicand, multiplicandOffset, multiplicandLength, product, productOffset);
+            return;
+        }
+        if (multiplierLength < this.threshold) {
+            comb.multiplyInto(multiplicand, multiplicandOffset, multiplicandLength,
+                    multiplier, multiplierOffset, multiplierLength, product, productOffset);
+            return;
+        }
+        if (multiplicandLength > multiplierLength) {
+            // Unbalanced operands: multiply the longer operand one multiplier-sized slice at a time.
+            for (int offset = 0; offset < multiplicandLength; offset += multiplierLength) {
+                final int length = Math.min(multiplierLength, multiplicandLength - offset);
+                multiplyInto(multiplicand, multiplicandOffset + offset, length,
+                        multiplier, multiplierOffset, multiplierLength, product, productOffset + offset);
+            }
+            return;
+        }
+
+        // a = a0 + x^(64 * low) * a1, b = b0 + x^(64 * low) * b1
+        // a * b = z0 + x^(64 * low) * (z1 - z0 - z2) + x^(128 * low) * z2
+        final int length = multiplicandLength;
+        final int low = (length + 1) / 2;
+        final int high = length - low;
+
+        final long[] z0 = new long[2 * low];
+        final long[] z2 = new long[2 * high];
+        multiplyInto(multiplicand, multiplicandOffset, low, multiplier, multiplierOffset, low, z0, 0);
+        multiplyInto(multiplicand, multiplicandOffset + low, high, multiplier, multiplierOffset + low, high, z2, 0);
+
+        final long[] multiplicandSum = new long[low];
+        final long[] multiplierSum = new long[low];
+        System.arraycopy(multiplicand, multiplicandOffset, multiplicandSum, 0, low);
+        System.arraycopy(multiplier, multiplierOffset, multiplierSum, 0, low);
+        for (int i = 0; i < high; i++) {
+            multiplicandSum[i] ^= multiplicand[multiplicandOffset + low + i];
+            multiplierSum[i] ^= multiplier[multiplierOffset + low + i];
+        }
+        final long[] z1 = new long[2 * low];
+        multiplyInto(multiplicandSum, 0, low, multiplierSum, 0, low, z1, 0);
+
+        for (int i = 0; i < z0.length; i++) {
+            product[productOffset + i] ^= z0[i];
+            z1[i] ^= z0[i];
+        }
+        for (int i = 0; i < z2.length; i++) {
+            product[productOffset + 2 * low + i] ^= z2[i];
+            z1[i] ^= z2[i];
+        }
+        for (int i = 0; i < z1.length; i++) {
+            product[productOffset + low + i] ^= z1[i];
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.caw.math.model.polynomial.algorithm.multiply;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An implementation of {@link PolynomialMultiply} that uses Kronecker substitution. The coefficients of each operand
+ * are packed into fixed-width bit slots of a single {@link BigInteger}, which is equivalent to evaluating the
+ * polynomial at {@code x = 2^slot}. The two integers are multiplied with one call to {@link BigInteger#multiply}, which
+ * switches to Karatsuba and Toom-Cook multiplication for large operands, and the coefficients of the product are then
+ * read back out of the slots of the result.
+ *
+ * <p>Each slot is wide enough to hold the largest possible un-reduced coefficient of the product, so no carries ever
+ * cross between slots. For a modulus {@code p} and operands of {@code n} and {@code m} coefficients, that is
+ * {@code 2 * bitLength(p - 1) + bitLength(min(n, m))} bits.
+ *
+ * @author cwhitmore
+ */
+
+public class KroneckerPolynomialMultiply implements PolynomialMultiply {
+
+    private static final long BYTE_MASK = 0xFFL;
+
+    /* default */ KroneckerPolynomialMultiply() {
+        // disable non-default instantiation.
+    }
+
+    @Override
+    public List<BigInteger> multiply(final List<BigInteger> multiplicand,
+                                     final List<BigInteger> multiplier,
+                                     final BigInteger modulus) {
+
+        if (modulus.compareTo(BigInteger.TWO) < 0) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + modulus);
+        }
+        if (multiplicand.isEmpty() || multiplier.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        final int slot = slotBits(modulus.subtract(BigInteger.ONE).bitLength(),
+                Math.min(multiplicand.size(), multiplier.size()));
+        final BigInteger packedMultiplicand = pack(multiplicand, modulus, slot);
+        final BigInteger packedMultiplier = multiplicand == multiplier
+                ? packedMultiplicand
+                : pack(multiplier, modulus, slot);
+        final long[] product = toWords(packedMultiplicand.multiply(packedMultiplier));
+
+        final int length = multiplicand.size() + multiplier.size() - 1;
+        final List<BigInteger> coefficients = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            coefficients.add(readBits(product, i * slot, slot).mod(modulus));
+        }
+        return coefficients;
+    }
+
+    @Override
+    public long[] multiply(final long[] multiplicand,
+                           final long[] multiplier,
+                           final long modulus) {
+
+        if (modulus < 2 || modulus > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + modulus);
+        }
+        if (multiplicand.length == 0 || multiplier.length == 0) {
+            return new long[0];
+        }
+
+        final int slot = slotBits(Long.SIZE - Long.numberOfLeadingZeros(modulus - 1),
+                Math.min(multiplicand.length, multiplier.length));
+        final BigInteger packedMultiplicand = pack(multiplicand, slot);
+        final BigInteger packedMultiplier = multiplicand == multiplier
+                ? packedMultiplicand
+                : pack(multiplier, slot);
+        final long[] product = toWords(packedMultiplicand.multiply(packedMultiplier));
+
+        // A slot holds at most 2 * 31 + 31 bits, so it is read as a low word and a high word, which are combined
+        // as high * 2^64 + low (mod p).
+        final long wordModulus = BigInteger.ONE.shiftLeft(Long.SIZE).mod(BigInteger.valueOf(modulus)).longValue();
+        final long[] coefficients = new long[multiplicand.length + multiplier.length - 1];
+        for (int i = 0; i < coefficients.length; i++) {
+            final long offset = (long) i * slot;
+            long low = readWord(product, offset);
+            long high = 0;
+            if (slot < Long.SIZE) {
+                low &= (1L << slot) - 1;
+            } else if (slot > Long.SIZE) {
+                high = readWord(product, offset + Long.SIZE) & ((1L << (slot - Long.SIZE)) - 1);
+            }
+            coefficients[i] = ((high % modulus) * wordModulus + Long.remainderUnsigned(low, modulus)) % modulus;
+        }
+        return coefficients;
+    }
+
+    private static int slotBits(final int coefficientBits, final int terms) {
+        return 2 * coefficientBits + Integer.SIZE - Integer.numberOfLeadingZeros(terms);
+    }
+
+    private static BigInteger pack(final List<BigInteger> coefficients, final BigInteger modulus, final int slot) {
+        final long[] words = new long[wordsFor((long) coefficients.size() * slot)];
+        for (int i = 0; i < coefficients.size(); i++) {
+            final BigInteger coefficient = coefficients.get(i).mod(modulus);
+            final long offset = (long) i * slot;
+            for (int bit = 0; bit < coefficient.bitLength(); bit += Long.SIZE) {
+                writeWord(words, offset + bit, coefficient.shiftRight(bit).longValue());
+            }
+        }
+        return fromWords(words);
+    }
+
+    private static BigInteger pack(final long[] coefficients, final int slot) {
+        final long[] words = new long[wordsFor((long) coefficients.length * slot)];
+        for (int i = 0; i < coefficients.length; i++) {
+            writeWord(words, (long) i * slot, coefficients[i]);
+        }
+        return fromWords(words);
+    }
+
+    private static BigInteger readBits(final long[] words, final long offset, final int length) {
+        final long[] slot = new long[wordsFor(length)];
+        for (int i = 0; i < slot.length; i++) {
+            slot[i] = readWord(words, offset + (long) i * Long.SIZE);
+        }
+        final int top = length % Long.SIZE;
+        if (top != 0) {
+            slot[slot.length - 1] &= (1L << top) - 1;
+        }
+        return fromWords(slot);
+    }
+
+    private static long readWord(final long[] words, final long offset) {
+        final int index = (int) (offset >>> 6);
+        final int shift = (int) (offset & (Long.SIZE - 1));
+        if (index >= words.length) {
+            return 0;
+        }
+        long word = words[index] >>> shift;
+        if (shift != 0 && index + 1 < words.length) {
+            word |= words[index + 1] << (Long.SIZE - shift);
+        }
+        return word;
+    }
+
+    private static void writeWord(final long[] words, final long offset, final long word) {
+        final int index = (int) (offset >>> 6);
+        final int shift = (int) (offset & (Long.SIZE - 1));
+        words[index] |= word << shift;
+        if (shift != 0 && index + 1 < words.length) {
+            words[index + 1] |= word >>> (Long.SIZE - shift);
+        }
+    }
+
+    private static int wordsFor(final long bits) {
+        return (int) ((bits + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    private static BigInteger fromWords(final long[] words) {
+        final byte[] bytes = new byte[words.length * Long.BYTES];
+        for (int i = 0; i < words.length; i++) {
+            final long word = words[i];
+            for (int j = 0; j < Long.BYTES; j++) {
+                bytes[bytes.length - 1 - i * Long.BYTES - j] = (byte) (word >>> (j * Byte.SIZE));
+            }
+        }
+        return new BigInteger(1, bytes);
+    }
+
+    private static long[] toWords(final BigInteger value) {
+        final byte[] bytes = value.toByteArray();
+        final long[] words = new long[(bytes.length + Long.BYTES - 1) / Long.BYTES];
+        for (int i = 0; i < bytes.length; i++) {
+            words[i / Long.BYTES] |= (bytes[bytes.length - 1 - i] & BYTE_MASK) << (i % Long.BYTES * Byte.SIZE);
+        }
+        return words;
+    }
+}
@@ -0,0 +1,336 @@
+package com.caw.math.model.polynomial.algorithm.multiply;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An implementation of {@link PolynomialMultiply} that uses the number-theoretic transform (NTT), completing a product
+ * in {@code O(n log n)} operations. The modulus of the polynomials rarely supports a transform of its own, so the
+ * product is instead calculated with respect to several NTT-friendly primes of the form {@code c * 2^k + 1}, and each
+ * coefficient is then recombined with the Chinese remainder theorem (using Garner's algorithm) before being reduced
+ * by the actual modulus.
+ *
+ * <p>Enough primes are used that their product exceeds the largest possible un-reduced coefficient of the product,
+ * {@code min(n, m) * (p - 1)^2}, so the recombined coefficients are exact. Three primes are sufficient for any modulus
+ * of at most {@link Integer#MAX_VALUE}. Moduli or products that are too large for the available primes are rejected,
+ * see {@link #supports(BigInteger, int, int)}.
+ *
+ * @author cwhitmore
+ */
+
+public class NttPolynomialMultiply implements PolynomialMultiply {
+
+    // Primes below 2^31, so that the product of two residues fits inside of a long, ordered by the largest power of two
+    // that divides p - 1. A transform of length 2^k exists for every prime with 2^k | p - 1.
+    private static final long[] PRIMES = {
+        2_013_265_921L, 1_811_939_329L, 469_762_049L, 2_113_929_217L,
+        1_711_276_033L, 1_107_296_257L, 167_772_161L, 2_130_706_433L,
+        1_224_736_769L, 754_974_721L, 2_088_763_393L, 1_484_783_617L,
+        1_300_234_241L, 998_244_353L, 897_581_057L, 880_803_841L,
+    };
+
+    private static final int MAX_SIZE = 1 << 23;
+
+    private static final long[] GENERATORS = new long[PRIMES.length];
+    private static final long[][] INVERSES = new long[PRIMES.length][];
+    private static final BigInteger[] BOUNDS = new BigInteger[PRIMES.length];
+
+    static {
+        BigInteger bound = BigInteger.ONE;
+        for (int i = 0; i < PRIMES.length; i++) {
+            final long prime = PRIMES[i];
+
+            // Any quadratic non-residue generates the full 2-power subgroup of the prime.
+            long generator = 2;
+            while (power(generator, (prime - 1) / 2, prime) != prime - 1) {
+                generator++;
+            }
+            GENERATORS[i] = generator;
+
+            INVERSES[i] = new long[i];
+            for (int j = 0; j < i; j++) {
+                INVERSES[i][j] = power(PRIMES[j] % prime, prime - 2, prime);
+            }
+
+            bound = bound.multiply(BigInteger.valueOf(prime));
+            BOUNDS[i] = bound;
+        }
+    }
+
+    /* default */ NttPolynomialMultiply() {
+        // disable non-default instantiation.
+    }
+
+    @Override
+    public List<BigInteger> multiply(final List<BigInteger> multiplicand,
+                                     final List<BigInteger> multiplier,
+                                     final BigInteger modulus) {
+
+        if (modulus.compareTo(BigInteger.TWO) < 0) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + modulus);
+        }
+        if (multiplicand.isEmpty() || multiplier.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        final int length = multiplicand.size() + multiplier.size() - 1;
+        final int primes = primesFor(modulus, Math.min(multiplicand.size(), multiplier.size()), length);
+        final BigInteger[] reducedMultiplicand = reduce(multiplicand, modulus);
+        final BigInteger[] reducedMultiplier = multiplicand == multiplier
+                ? reducedMultiplicand
+                : reduce(multiplier, modulus);
+
+        final long[][] residues = new long[primes][];
+        for (int i = 0; i < primes; i++) {
+            final long prime = PRIMES[i];
+            residues[i] = convolve(residuesOf(reducedMultiplicand, prime), residuesOf(reducedMultiplier, prime),
+                    length, i);
+        }
+
+        final BigInteger[] radices = new BigInteger[primes];
+        BigInteger radix = BigInteger.ONE;
+        for (int i = 0; i < primes; i++) {
+            radices[i] = radix;
+            radix = radix.multiply(BigInteger.valueOf(PRIMES[i])).mod(modulus);
+        }
+
+        final List<BigInteger> product = new ArrayList<>(length);
+        final long[] digits = new long[primes];
+        for (int k = 0; k < length; k++) {
+            garner(residues, k, digits);
+            BigInteger coefficient = BigInteger.ZERO;
+            for (int i = 0; i < primes; i++) {
+                coefficient = coefficient.add(radices[i].multiply(BigInteger.valueOf(digits[i])));
+            }
+            product.add(coefficient.mod(modulus));
+        }
+        return product;
+    }
+
+    @Override
+    public long[] multiply(final long[] multiplicand,
+                           final long[] multiplier,
+                           final long modulus) {
+
+        if (modulus < 2 || modulus > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + modulus);
+        }
+        if (multiplicand.length == 0 || multiplier.length == 0) {
+            return new long[0];
+        }
+
+        final int length = multiplicand.length + multiplier.length - 1;
+        final int primes = primesFor(BigInteger.valueOf(modulus), Math.min(multiplicand.length, multiplier.length),
+                length);
+
+        final long[][] residues = new long[primes][];
+        for (int i = 0; i < primes; i++) {
+            final long prime = PRIMES[i];
+            residues[i] = convolve(residuesOf(multiplicand, prime), residuesOf(multiplier, prime), length, i);
+        }
+
+        final long[] radices = new long[primes];
+        long radix = 1;
+        for (int i = 0; i < primes; i++) {
+            radices[i] = radix;
+            radix = radix * (PRIMES[i] % modulus) % modulus;
+        }
+
+        final long[] product = new long[length];
+        final long[] digits = new long[primes];
+        for (int k = 0; k < length; k++) {
+            garner(residues, k, digits);
+            long coefficient = 0;
+            for (int i = 0; i < primes; i++) {
+                coefficient = (coefficient + digits[i] % modulus * radices[i]) % modulus;
+            }
+            product[k] = coefficient;
+        }
+        return product;
+    }
+
+    /**
+     * Report whether this algorithm is able to multiply polynomials with the specified {@code modulus}, where the
+     * shorter operand has {@code shorter} coefficients and the product has {@code length} coefficients.
+     *
+     * @param modulus
+     *      The modulus that the coefficients of the product respect.
+     * @param shorter
+     *      The number of coefficients of the shorter operand.
+     * @param length
+     *      The number of coefficients of the product.
+     * @return
+     *      {@code true} if the product fits inside of a supported transform length and the available primes.
+     */
+
+    public static boolean supports(final BigInteger modulus, final int shorter, final int length) {
+        return length <= MAX_SIZE && bound(modulus, shorter).compareTo(BOUNDS[PRIMES.length - 1]) < 0;
+    }
+
+    private static BigInteger bound(final BigInteger modulus, final int shorter) {
+        final BigInteger largest = modulus.subtract(BigInteger.ONE);
+        return largest.multiply(largest).multiply(BigInteger.valueOf(shorter));
+    }
+
+    private static int primesFor(final BigInteger modulus, final int shorter, final int length) {
+        if (length > MAX_SIZE) {
+            throw new IllegalArgumentException("Illegal parameter: length=" + length);
+        }
+        final BigInteger bound = bound(modulus, shorter);
+        for (int i = 0; i < PRIMES.length; i++) {
+            if (bound.compareTo(BOUNDS[i]) < 0) {
+                return i + 1;
+            }
+        }
+        throw new IllegalArgumentException("Illegal parameter: modulus=" + modulus);
+    }
+
+    private static BigInteger[] reduce(final List<BigInteger> coefficients, final BigInteger modulus) {
+        final BigInteger[] reduced = new BigInteger[coefficients.size()];
+        for (int i = 0; i < reduced.length; i++) {
+            reduced[i] = coefficients.get(i).mod(modulus);
+        }
+        return reduced;
+    }
+
+    private static long[] residuesOf(final BigInteger[] coefficients, final long prime) {
+        final BigInteger bigPrime = BigInteger.valueOf(prime);
+        final long[] residues = new long[coefficients.length];
+        for (int i = 0; i < residues.length; i++) {
+            final BigInteger coefficient = coefficients[i];
+            residues[i] = coefficient.bitLength() < Long.SIZE
+                    ? coefficient.longValue() % prime
+                    : coefficient.mod(bigPrime).longValue();
+        }
+        return residues;
+    }
+
+    private static long[] residuesOf(final long[] coefficients, final long prime) {
+        final long[] residues = new long[coefficients.length];
+        for (int i = 0; i < residues.length; i++) {
+            residues[i] = coefficients[i] % prime;
+        }
+        return residues;
+    }
+
+    /**
+     * Calculate the first {@code length} coefficients of the cyclic convolution of the specified residues with
+     * respect to the prime at index {@code index}.
+     */
+
+    private static long[] convolve(final long[] multiplicand,
+                                   final long[] multiplier,
+                                   final int length,
+                                   final int index) {
+
+        final long prime = PRIMES[index];
+        final int size = length == 1 ? 1 : Integer.highestOneBit(length - 1) << 1;
+        final long[] roots = roots(size, index);
+
+        final long[] transformed = Arrays.copyOf(multiplicand, size);
+        transform(transformed, roots, prime);
+        if (Arrays.equals(multiplicand, multiplier)) {
+            for (int i = 0; i < size; i++) {
+                transformed[i] = transformed[i] * transformed[i] % prime;
+            }
+        } else {
+            final long[] other = Arrays.copyOf(multiplier, size);
+            transform(other, roots, prime);
+            for (int i = 0; i < size; i++) {
+                transformed[i] = transformed[i] * other[i] % prime;
+            }
+        }
+
+        // The inverse transform is the forward transform with every index but zero reversed, scaled by 1 / size.
+        transform(transformed, roots, prime);
+        final long scale = power(size, prime - 2, prime);
+        final long[] convolution = new long[length];
+        convolution[0] = transformed[0] * scale % prime;
+        for (int i = 1; i < length; i++) {
+            convolution[i] = transformed[size - i] * scale % prime;
+        }
+        return convolution;
+    }
+
+    /**
+     * Calculate the first {@code size / 2} powers of a principal {@code size}-th root of unity of the prime at index
+     * {@code index}.
+     */
+
+    private static long[] roots(final int size, final int index) {
+        final long prime = PRIMES[index];
+        final long root = power(GENERATORS[index], (prime - 1) / size, prime);
+        final long[] roots = new long[Math.max(1, size / 2)];
+        roots[0] = 1;
+        for (int i = 1; i < roots.length; i++) {
+            roots[i] = roots[i - 1] * root % prime;
+        }
+        return roots;
+    }
+
+    /**
+     * Transform the specified {@code values} in place with an iterative radix-2 Cooley-Tukey transform.
+     */
+
+    private static void transform(final long[] values, final long[] roots, final long prime) {
+
+        final int size = values.length;
+        for (int i = 1, j = 0; i < size; i++) {
+            int bit = size >>> 1;
+            while ((j & bit) != 0) {
+                j ^= bit;
+                bit >>>= 1;
+            }
+            j |= bit;
+            if (i < j) {
+                final long swap = values[i];
+                values[i] = values[j];
+                values[j] = swap;
+            }
+        }
+
+        for (int half = 1; half < size; half <<= 1) {
+            final int step = size / (half << 1);
+            for (int start = 0; start < size; start += half << 1) {
+                for (int j = 0; j < half; j++) {
+                    final long even = values[start + j];
+                    final long odd = values[start + j + half] * roots[j * step] % prime;
+                    final long sum = even + odd;
+                    final long difference = even - odd;
+                    values[start + j] = sum >= prime ? sum - prime : sum;
+                    values[start + j + half] = difference < 0 ? difference + prime : difference;
+                }
+            }
+        }
+    }
+
+    /**
+     * Convert the residues of the coefficient at index {@code k} into the mixed-radix {@code digits} of the
+     * coefficient, such that the coefficient is {@code digits[0] + digits[1] * p0 + digits[2] * p0 * p1 + ...}.
+     */
+
+    private static void garner(final long[][] residues, final int k, final long[] digits) {
+        for (int i = 0; i < digits.length; i++) {
+            final long prime = PRIMES[i];
+            long digit = residues[i][k];
+            for (int j = 0; j < i; j++) {
+                digit = Math.floorMod(digit - digits[j], prime) * INVERSES[i][j] % prime;
+            }
+            digits[i] = digit;
+        }
+    }
+
+    private static long power(final long base, final long exponent, final long modulus) {
+        long result = 1;
+        long square = base % modulus;
+        for (long remaining = exponent; remaining > 0; remaining >>>= 1) {
+            if ((remaining & 1L) != 0) {
+                result = result * square % modulus;
+            }
+            square = square * square % modulus;
+        }
+        return result;
+    }
+}
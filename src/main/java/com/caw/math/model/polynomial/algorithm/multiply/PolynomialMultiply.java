@@ -0,0 +1,54 @@
+package com.caw.math.model.polynomial.algorithm.multiply;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * An interface for algorithms that calculate the product of two polynomials whose coefficients respect some modulus.
+ * Polynomials are represented by their coefficients, where the index of a coefficient is equal to its degree.
+ *
+ * @author cwhitmore
+ */
+
+public interface PolynomialMultiply {
+
+    /**
+     * Calculate the product of the polynomials with the specified {@code multiplicand} and {@code multiplier}
+     * coefficients, with every coefficient of the product reduced by the specified {@code modulus}.
+     *
+     * @param multiplicand
+     *      The coefficients of the polynomial to use as the multiplicand of this multiply operation.
+     * @param multiplier
+     *      The coefficients of the polynomial to use as the multiplier of this multiply operation.
+     * @param modulus
+     *      The modulus that the coefficients of the product respect.
+     * @return
+     *      A new {@link List} of {@code multiplicand.size() + multiplier.size() - 1} reduced coefficients of the
+     *      product, or an empty list if either operand has no coefficients.
+     */
+
+    List<BigInteger> multiply(final List<BigInteger> multiplicand,
+                              final List<BigInteger> multiplier,
+                              final BigInteger modulus);
+
+    /**
+     * Calculate the product of the polynomials with the specified reduced {@code multiplicand} and {@code multiplier}
+     * coefficients, with every coefficient of the product reduced by the specified {@code modulus}. The modulus must be
+     * at most {@link Integer#MAX_VALUE}, so that any two reduced coefficients can be multiplied inside of a
+     * {@code long}.
+     *
+     * @param multiplicand
+     *      The reduced coefficients of the polynomial to use as the multiplicand of this multiply operation.
+     * @param multiplier
+     *      The reduced coefficients of the polynomial to use as the multiplier of this multiply operation.
+     * @param modulus
+     *      The modulus that the coefficients of the product respect.
+     * @return
+     *      A new array of {@code multiplicand.length + multiplier.length - 1} reduced coefficients of the product, or
+     *      an empty array if either operand has no coefficients.
+     */
+
+    long[] multiply(final long[] multiplicand,
+                    final long[] multiplier,
+                    final long modulus);
+}
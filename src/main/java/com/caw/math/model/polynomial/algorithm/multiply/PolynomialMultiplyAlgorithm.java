@@ -0,0 +1,14 @@
+package com.caw.math.model.polynomial.algorithm.multiply;
+
+/**
+ * An enumeration of the available algorithms for {@link PolynomialMultiply} implementations.
+ *
+ * @author cwhitmore
+ */
+
+public enum PolynomialMultiplyAlgorithm {
+    ADAPTIVE,
+    KRONECKER,
+    NTT,
+    SCHOOLBOOK
+}
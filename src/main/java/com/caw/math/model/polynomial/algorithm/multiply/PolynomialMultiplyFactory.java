@@ -0,0 +1,60 @@
+package com.caw.math.model.polynomial.algorithm.multiply;
+
+/**
+ * A factory class to provide {@link PolynomialMultiply} implementations.
+ *
+ * @author cwhitmore
+ */
+
+public final class PolynomialMultiplyFactory {
+
+    private PolynomialMultiplyFactory() {
+        // disable public instantiation.
+    }
+
+    /**
+     * Returns a new instance of the default {@link AdaptivePolynomialMultiply} implementation.
+     *
+     * @return
+     *      A new instance of the default {@link AdaptivePolynomialMultiply} implementation.
+     */
+
+    public static PolynomialMultiply make() {
+        return new AdaptivePolynomialMultiply();
+    }
+
+    /**
+     * Returns a {@link PolynomialMultiply} implementation based on the specified {@code algorithm}.
+     *
+     * @param algorithm
+     *      The algorithm that dictates what implementation is used.
+     * @return
+     *      A new instance of a {@link PolynomialMultiply} implementation based on the specified {@code algorithm}.
+     */
+
+    public static PolynomialMultiply make(final PolynomialMultiplyAlgorithm algorithm) {
+        return switch (algorithm) {
+            case ADAPTIVE -> new AdaptivePolynomialMultiply();
+            case KRONECKER -> new KroneckerPolynomialMultiply();
+            case NTT -> new NttPolynomialMultiply();
+            case SCHOOLBOOK -> new SchoolbookPolynomialMultiply();
+        };
+    }
+
+    /**
+     * Returns a new instance of the {@link AdaptivePolynomialMultiply} implementation that switches algorithms at the
+     * specified thresholds.
+     *
+     * @param kroneckerThreshold
+     *      The number of coefficients of the shorter operand from which Kronecker substitution is used.
+     * @param nttThreshold
+     *      The number of coefficients of the shorter operand from which the number-theoretic transform is used.
+     * @return
+     *      A new instance of the {@link AdaptivePolynomialMultiply} implementation.
+     */
+
+    public static PolynomialMultiply makeAdaptive(final int kroneckerThreshold,
+                                                  final int nttThreshold) {
+        return new AdaptivePolynomialMultiply(kroneckerThreshold, nttThreshold);
+    }
+}
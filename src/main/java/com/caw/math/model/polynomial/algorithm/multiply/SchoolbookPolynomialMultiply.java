@@ -0,0 +1,76 @@
+package com.caw.math.model.polynomial.algorithm.multiply;
+
+import com.caw.math.model.polynomial.algorithm.coefficient.CoefficientKernel;
+import com.caw.math.model.polynomial.algorithm.coefficient.CoefficientKernelFactory;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An implementation of {@link PolynomialMultiply} that multiplies every coefficient of the multiplicand with every
+ * coefficient of the multiplier. This is quadratic in the number of coefficients, but has no set-up cost, so it is the
+ * fastest choice for small polynomials.
+ *
+ * @author cwhitmore
+ */
+
+public class SchoolbookPolynomialMultiply implements PolynomialMultiply {
+
+    private static final CoefficientKernel KERNEL = CoefficientKernelFactory.make();
+
+    /* default */ SchoolbookPolynomialMultiply() {
+        // disable non-default instantiation.
+    }
+
+    @Override
+    public List<BigInteger> multiply(final List<BigInteger> multiplicand,
+                                     final List<BigInteger> multiplier,
+                                     final BigInteger modulus) {
+
+        if (modulus.compareTo(BigInteger.TWO) < 0) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + modulus);
+        }
+        if (multiplicand.isEmpty() || multiplier.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        final List<BigInteger> product = new ArrayList<>(
+                Collections.nCopies(multiplicand.size() + multiplier.size() - 1, BigInteger.ZERO));
+
+        for (int i = 0; i < multiplicand.size(); i++) {
+            final BigInteger coefficient = multiplicand.get(i);
+            if (coefficient.signum() != 0) {
+                for (int j = 0; j < multiplier.size(); j++) {
+                    product.set(i + j, product.get(i + j).add(coefficient.multiply(multiplier.get(j))));
+                }
+            }
+        }
+
+        product.replaceAll(coefficient -> coefficient.mod(modulus));
+        return product;
+    }
+
+    @Override
+    public long[] multiply(final long[] multiplicand,
+                           final long[] multiplier,
+                           final long modulus) {
+
+        if (modulus < 2 || modulus > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Illegal parameter: modulus=" + modulus);
+        }
+        if (multiplicand.length == 0 || multiplier.length == 0) {
+            return new long[0];
+        }
+
+        final long[] product = new long[multiplicand.length + multiplier.length - 1];
+        for (int i = 0; i < multiplicand.length; i++) {
+            final long coefficient = multiplicand[i];
+            if (coefficient != 0) {
+                KERNEL.multiplyAccumulate(product, i, multiplier, coefficient, multiplier.length, modulus);
+            }
+        }
+        return product;
+    }
+}
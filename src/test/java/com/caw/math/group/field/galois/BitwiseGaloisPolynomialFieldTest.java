@@ -16,6 +16,12 @@ public class BitwiseGaloisPolynomialFieldTest {
     // Example irreducible polynomial from AES.
     // x^8 + x^4 + x^3 + x + 1 = 256 + 16 + 8 + 2 + 1 = 283
 
+    @Test
+    public void testConstructorReducibleIrreduciblePolynomial() {
+        // x^8 + x^4 + x^3 + x^2 + x + 1 = (x + 1)(x^7 + x^6 + x^5 + x^2 + 1)
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new GaloisPolynomialField(2, 8, 287));
+    }
+
     @Test
     public void testAddNeutralElement() {
         final GaloisPolynomialField field = new GaloisPolynomialField(2, 8, 283);
@@ -241,5 +247,21 @@ public class BitwiseGaloisPolynomialFieldTest {
         Assertions.assertEquals(BigInteger.valueOf(100), difference.value());
     }
 
+    @Test
+    public void testMultiplyLargeField() {
+        // x^232 * x = x^233 = x^74 + 1 inside GF(2^233) with irreducible x^233 + x^74 + 1
+        final BigInteger irreducible = BigInteger.ONE.shiftLeft(233).setBit(74).setBit(0);
+        final GaloisPolynomialField field = new GaloisPolynomialField(BigInteger.TWO, 233, irreducible);
+        final GaloisElement product = field.multiply(BigInteger.ONE.shiftLeft(232), BigInteger.TWO);
+        Assertions.assertEquals(BigInteger.ONE.shiftLeft(74).setBit(0), product.value());
+    }
 
+    @Test
+    public void testMultiplicativeInverseLargeField() {
+        final BigInteger irreducible = BigInteger.ONE.shiftLeft(233).setBit(74).setBit(0);
+        final GaloisPolynomialField field = new GaloisPolynomialField(BigInteger.TWO, 233, irreducible);
+        final GaloisElement element = field.element(BigInteger.ONE.shiftLeft(200).add(BigInteger.valueOf(12_345)));
+        final GaloisElement inverse = field.multiplicativeInverseOf(element);
+        Assertions.assertEquals(BigInteger.ONE, field.multiply(element, inverse).value());
+    }
 }
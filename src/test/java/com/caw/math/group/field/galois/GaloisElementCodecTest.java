@@ -0,0 +1,117 @@
+package com.caw.math.group.field.galois;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A test class for {@link GaloisElementCodec}.
+ *
+ * @author cwhitmore
+ */
+
+public class GaloisElementCodecTest {
+
+    @Test
+    public void testWidth() {
+        Assertions.assertEquals(1, new GaloisElementCodec(new GaloisPolynomialField(2, 8, 283)).width());
+        Assertions.assertEquals(3, new GaloisElementCodec(new GaloisPolynomialField(5, 8, 838_089)).width());
+        Assertions.assertEquals(4, new GaloisElementCodec(new GaloisPrimeField(2_147_483_647)).width());
+        Assertions.assertEquals(16,
+                new GaloisElementCodec(new GaloisPrimeField(BigInteger.TWO.pow(127).subtract(BigInteger.ONE))).width());
+    }
+
+    @Test
+    public void testRoundTrip() {
+        final GaloisPolynomialField field = new GaloisPolynomialField(5, 8, 838_089);
+        final GaloisElementCodec codec = new GaloisElementCodec(field);
+        final ByteBuffer buffer = ByteBuffer.allocate(2 * codec.width());
+        codec.write(buffer, field.element(121_212));
+        codec.write(buffer, field.element(0));
+        Assertions.assertArrayEquals(new byte[] { 0x01, (byte) 0xD9, 0x7C, 0, 0, 0 }, buffer.array());
+        buffer.flip();
+        Assertions.assertEquals(field.element(121_212), codec.read(buffer));
+        Assertions.assertEquals(field.element(0), codec.read(buffer));
+        Assertions.assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testRoundTripLargeField() {
+        final GaloisPrimeField field = new GaloisPrimeField(BigInteger.TWO.pow(127).subtract(BigInteger.ONE));
+        final GaloisElementCodec codec = new GaloisElementCodec(field);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(codec.width());
+        final GaloisElement element = field.element(BigInteger.TWO.pow(100).add(BigInteger.valueOf(12_345)));
+        codec.write(buffer, element);
+        buffer.flip();
+        Assertions.assertEquals(element, codec.read(buffer));
+        Assertions.assertThrows(IllegalStateException.class, () -> codec.read(buffer, new long[1], 0, 1));
+    }
+
+    @Test
+    public void testReadInterned() {
+        final GaloisPolynomialField field = new GaloisPolynomialField(2, 8, 283);
+        final GaloisElementCodec codec = new GaloisElementCodec(field);
+        Assertions.assertSame(field.element(75), codec.read(ByteBuffer.wrap(new byte[] { 75 })));
+    }
+
+    @Test
+    public void testBulk() {
+        final GaloisPrimeField field = new GaloisPrimeField(65_537);
+        final GaloisElementCodec codec = new GaloisElementCodec(field);
+        final long[] values = { 0, 1, 2, 65_535, 65_536, 40_000 };
+        for (final ByteOrder order : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+            final ByteBuffer buffer = ByteBuffer.allocate(values.length * codec.width()).order(order);
+            codec.write(buffer, values, 0, values.length);
+            buffer.flip();
+            Assertions.assertEquals(field.element(65_535), codec.read(buffer.duplicate().position(3 * codec.width())));
+            final long[] decoded = new long[values.length + 1];
+            codec.read(buffer, decoded, 1, values.length);
+            Assertions.assertArrayEquals(new long[] { 0, 0, 1, 2, 65_535, 65_536, 40_000 }, decoded);
+        }
+    }
+
+    @Test
+    public void testBulkEightByteValues() {
+        final GaloisPrimeField field = new GaloisPrimeField(BigInteger.TWO.pow(61).subtract(BigInteger.ONE));
+        final GaloisElementCodec codec = new GaloisElementCodec(field);
+        final long[] values = { 0, (1L << 61) - 2, 123_456_789_012L };
+        final ByteBuffer buffer = ByteBuffer.allocate(values.length * codec.width());
+        codec.write(buffer, values, 0, values.length);
+        buffer.flip();
+        final long[] decoded = new long[values.length];
+        codec.read(buffer, decoded, 0, values.length);
+        Assertions.assertArrayEquals(values, decoded);
+    }
+
+    @Test
+    public void testBulkOutOfBounds() {
+        final GaloisElementCodec codec = new GaloisElementCodec(new GaloisPrimeField(65_537));
+        final long[] values = { 1, 2, 3 };
+
+        // A buffer with room for two of the three values is left untouched.
+        final ByteBuffer buffer = ByteBuffer.allocate(2 * codec.width());
+        Assertions.assertThrows(BufferOverflowException.class, () -> codec.write(buffer, values, 0, 3));
+        Assertions.assertEquals(0, buffer.position());
+        Assertions.assertThrows(BufferUnderflowException.class, () -> codec.read(buffer, new long[3], 0, 3));
+        Assertions.assertEquals(0, buffer.position());
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> codec.write(buffer, values, 2, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> codec.read(buffer, new long[3], -1, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> codec.read(buffer, new long[1], 0, 2));
+    }
+
+    @Test
+    public void testInvalidValues() {
+        final GaloisElementCodec codec = new GaloisElementCodec(new GaloisPrimeField(7));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> codec.read(ByteBuffer.wrap(new byte[] { 7 })));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> codec.write(ByteBuffer.allocate(1), new long[] { 7 }, 0, 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> codec.write(ByteBuffer.allocate(1), new GaloisPrimeField(11).element(3)));
+    }
+}
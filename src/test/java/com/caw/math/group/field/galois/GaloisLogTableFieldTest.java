@@ -0,0 +1,145 @@
+package com.caw.math.group.field.galois;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+/**
+ * A test class for {@link GaloisLogTableField}.
+ *
+ * @author cwhitmore
+ */
+
+public class GaloisLogTableFieldTest {
+
+    @Test
+    public void testMatchesPolynomialFieldExhaustively() {
+        // x^8 + x^4 + x^3 + x + 1 is not primitive, x^8 + x^4 + x^3 + x^2 + 1 is, and x^2 + 2 over GF(5) is not.
+        assertMatchesExhaustively(new GaloisPolynomialField(2, 8, 283));
+        assertMatchesExhaustively(new GaloisPolynomialField(2, 8, 285));
+        assertMatchesExhaustively(new GaloisPolynomialField(5, 2, 27));
+        assertMatchesExhaustively(new GaloisPolynomialField(7, 1, 10));
+    }
+
+    @Test
+    public void testMatchesPolynomialFieldSampled() {
+        // GF(5^8) with the non-monic irreducible polynomial 2x^8 + 3x^6 + 3x^5 + 4x^3 + 3x^2 + 2x + 4
+        final GaloisPolynomialField field = new GaloisPolynomialField(5, 8, 838_089);
+        final GaloisLogTableField table = new GaloisLogTableField(field);
+        final Random random = new Random(838_089);
+        for (int i = 0; i < 500; i++) {
+            final BigInteger left = BigInteger.valueOf(random.nextInt(390_625));
+            final BigInteger right = BigInteger.valueOf(1 + random.nextInt(390_624));
+            Assertions.assertEquals(field.add(left, right).value(), table.add(left, right).value());
+            Assertions.assertEquals(field.subtract(left, right).value(), table.subtract(left, right).value());
+            Assertions.assertEquals(field.multiply(left, right).value(), table.multiply(left, right).value());
+            Assertions.assertEquals(field.divide(left, right).value(), table.divide(left, right).value());
+        }
+    }
+
+    @Test
+    public void testMatchesLargePrimeField() {
+        // GF(65537) as the polynomials modulo x + 3, whose digit products overflow an int.
+        final GaloisPolynomialField field = new GaloisPolynomialField(65_537, 1, 65_540);
+        final GaloisLogTableField table = new GaloisLogTableField(field);
+        // 2 only has order 32 modulo 65537, but 3 is primitive.
+        Assertions.assertEquals(BigInteger.valueOf(3), table.generator().value());
+        final Random random = new Random(65_537);
+        for (int i = 0; i < 2_000; i++) {
+            final BigInteger left = BigInteger.valueOf(random.nextInt(65_537));
+            final BigInteger right = BigInteger.valueOf(1 + random.nextInt(65_536));
+            Assertions.assertEquals(field.add(left, right).value(), table.add(left, right).value());
+            Assertions.assertEquals(field.subtract(left, right).value(), table.subtract(left, right).value());
+            Assertions.assertEquals(field.multiply(left, right).value(), table.multiply(left, right).value());
+            Assertions.assertEquals(field.divide(left, right).value(), table.divide(left, right).value());
+        }
+    }
+
+    @Test
+    public void testGenerator() {
+        Assertions.assertEquals(BigInteger.TWO, new GaloisLogTableField(new GaloisPolynomialField(2, 8, 285))
+                .generator().value());
+        // x only has order 51 modulo x^8 + x^4 + x^3 + x + 1, but x + 1 is primitive.
+        Assertions.assertEquals(BigInteger.valueOf(3), new GaloisLogTableField(new GaloisPolynomialField(2, 8, 283))
+                .generator().value());
+    }
+
+    @Test
+    public void testExplicitGenerator() {
+        final GaloisPolynomialField field = new GaloisPolynomialField(2, 8, 283);
+        final GaloisLogTableField table = new GaloisLogTableField(field, field.element(3));
+        Assertions.assertEquals(0, table.log(1));
+        Assertions.assertEquals(1, table.log(3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new GaloisLogTableField(field, field.element(2)));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new GaloisLogTableField(field, field.element(0)));
+    }
+
+    @Test
+    public void testPow() {
+        final GaloisPolynomialField field = new GaloisPolynomialField(3, 5, 250);
+        final GaloisLogTableField table = new GaloisLogTableField(field);
+        final GaloisElement element = table.element(100);
+        GaloisElement power = table.getMultiplicativeNeutralElement();
+        for (int i = 0; i < 300; i++) {
+            Assertions.assertEquals(power, table.pow(element.value(), BigInteger.valueOf(i)));
+            power = power.multiply(element);
+        }
+        Assertions.assertEquals(table.multiplicativeInverseOf(100), table.pow(BigInteger.valueOf(100), BigInteger.ONE
+                .negate()));
+        Assertions.assertEquals(BigInteger.ONE, table.pow(BigInteger.ZERO, BigInteger.ZERO).value());
+        Assertions.assertEquals(BigInteger.ZERO, table.pow(BigInteger.ZERO, BigInteger.TEN).value());
+    }
+
+    @Test
+    public void testProductAndQuotient() {
+        final GaloisLogTableField table = new GaloisLogTableField(new GaloisPolynomialField(2, 16, 69_643));
+        Assertions.assertEquals(0, table.product(0, 12_345));
+        for (int value = 1; value < 65_536; value += 97) {
+            Assertions.assertEquals(1, table.product(value, table.quotient(1, value)));
+            Assertions.assertEquals(value, table.quotient(table.product(value, 4_321), 4_321));
+        }
+        Assertions.assertThrows(IllegalStateException.class, () -> table.quotient(1, 0));
+    }
+
+    @Test
+    public void testElementsArePolynomialElements() {
+        final GaloisLogTableField table = new GaloisLogTableField(new GaloisPolynomialField(5, 2, 27));
+        final GaloisElement element = table.element(7);
+        Assertions.assertEquals(GaloisPolynomialElement.class, element.getClass());
+        Assertions.assertSame(table, element.field());
+        Assertions.assertSame(table.element(3), element.multiply(element.multiplicativeInverse()).add(2));
+    }
+
+    @Test
+    public void testReducesUnreducedValues() {
+        final GaloisPolynomialField field = new GaloisPolynomialField(2, 8, 283);
+        final GaloisLogTableField table = new GaloisLogTableField(field);
+        Assertions.assertEquals(field.multiply(1_000, 77).value(), table.multiply(1_000, 77).value());
+    }
+
+    @Test
+    public void testTooLarge() {
+        // x^21 + x^2 + 1
+        final GaloisPolynomialField field = new GaloisPolynomialField(2, 21, (1 << 21) + 5);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new GaloisLogTableField(field));
+    }
+
+    private static void assertMatchesExhaustively(final GaloisPolynomialField field) {
+        final GaloisLogTableField table = new GaloisLogTableField(field);
+        final int size = field.size().intValueExact();
+        for (int left = 0; left < size; left++) {
+            Assertions.assertEquals(field.additiveInverseOf(left).value(), table.additiveInverseOf(left).value());
+            if (left != 0) {
+                Assertions.assertEquals(field.multiplicativeInverseOf(left).value(),
+                        table.multiplicativeInverseOf(left).value());
+            }
+            for (int right = 0; right < size; right++) {
+                Assertions.assertEquals(field.add(left, right).value(), table.add(left, right).value());
+                Assertions.assertEquals(field.subtract(left, right).value(), table.subtract(left, right).value());
+                Assertions.assertEquals(field.multiply(left, right).value(), table.multiply(left, right).value());
+            }
+        }
+    }
+}
@@ -16,6 +16,18 @@ public class GaloisPolynomialFieldTest {
     // Let's perform these operations underneath GF(5^8) with irreducible polynomial:
     // 838089 (2x^8 + 3x^6 + 3x^5 + 4x^3 + 3x^2 + 2x + 4)
 
+    @Test
+    public void testConstructorReducibleIrreduciblePolynomial() {
+        // x^8 + 1 = (x^4 + 2)(x^4 + 3) (mod 5)
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new GaloisPolynomialField(5, 8, 390_626));
+    }
+
+    @Test
+    public void testConstructorWrongDegreeIrreduciblePolynomial() {
+        // x^2 + 2 is irreducible, but not of degree eight
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new GaloisPolynomialField(5, 8, 27));
+    }
+
     @Test
     public void testAddNeutralElement() {
         final GaloisPolynomialField field = new GaloisPolynomialField(5, 8, 838_089);
@@ -248,4 +260,26 @@ public class GaloisPolynomialFieldTest {
         final GaloisElement difference = field.subtract(111_111, 100_000);
         Assertions.assertEquals(BigInteger.valueOf(26_736), difference.value());
     }
+
+    @Test
+    public void testElementsInterned() {
+        // GF(5^2) with irreducible polynomial 27 (x^2 + 2)
+        final GaloisPolynomialField field = new GaloisPolynomialField(5, 2, 27);
+        Assertions.assertSame(field.element(7), field.add(5, 2));
+        Assertions.assertSame(field.getMultiplicativeNeutralElement(), field.multiply(field.element(7),
+                field.multiplicativeInverseOf(7)));
+    }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        Assertions.assertEquals(new GaloisPolynomialField(5, 2, 27), new GaloisPolynomialField(5, 2, 27));
+        Assertions.assertEquals(new GaloisPolynomialField(5, 2, 27).hashCode(),
+                new GaloisPolynomialField(5, 2, 27).hashCode());
+        // x^2 + 3 is irreducible as well, but defines a different field
+        Assertions.assertNotEquals(new GaloisPolynomialField(5, 2, 27), new GaloisPolynomialField(5, 2, 28));
+        Assertions.assertNotEquals(new GaloisPolynomialField(5, 2, 27).element(7),
+                new GaloisPolynomialField(5, 2, 28).element(7));
+        Assertions.assertEquals(new GaloisPolynomialField(5, 8, 838_089).element(121_212),
+                new GaloisPolynomialField(5, 8, 838_089).element(121_212));
+    }
 }
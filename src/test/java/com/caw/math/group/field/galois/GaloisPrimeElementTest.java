@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigInteger;
+import java.util.Set;
 
 public class GaloisPrimeElementTest {
 
@@ -203,4 +204,15 @@ public class GaloisPrimeElementTest {
         final GaloisElement difference = minuend.subtract(19);
         Assertions.assertEquals(BigInteger.valueOf(18), difference.value());
     }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        final GaloisElement element = new GaloisPrimeElement(new GaloisPrimeField(7), 3);
+        final GaloisElement other = new GaloisPrimeElement(new GaloisPrimeField(7), 10);
+        Assertions.assertEquals(element, other);
+        Assertions.assertEquals(element.hashCode(), other.hashCode());
+        Assertions.assertNotEquals(element, new GaloisPrimeElement(new GaloisPrimeField(7), 4));
+        Assertions.assertNotEquals(element, new GaloisPrimeElement(new GaloisPrimeField(11), 3));
+        Assertions.assertTrue(Set.of(element).contains(other));
+    }
 }
@@ -4,6 +4,9 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigInteger;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * A test class for {@link GaloisPrimeField}.
@@ -231,4 +234,39 @@ public class GaloisPrimeFieldTest {
         final GaloisElement difference = field.subtract(18, 20);
         Assertions.assertEquals(BigInteger.valueOf(21), difference.value());
     }
+
+    @Test
+    public void testElementsInterned() {
+        final GaloisPrimeField field = new GaloisPrimeField(7);
+        Assertions.assertSame(field.element(3), field.add(1, 2));
+        Assertions.assertSame(field.element(3), field.element(10));
+        Assertions.assertSame(field.getAdditiveNeutralElement(), field.subtract(4, 4));
+        Assertions.assertSame(field.getMultiplicativeNeutralElement(), field.getMultiplicativeNeutralElement());
+    }
+
+    @Test
+    public void testElementsInternedOnFirstUseFromManyThreads() {
+        final GaloisPrimeField field = new GaloisPrimeField(7);
+        final List<GaloisElement> elements = IntStream.range(0, 1_000)
+                .parallel()
+                .mapToObj(i -> field.element(3 + 7L * i))
+                .collect(Collectors.toList());
+        for (final GaloisElement element : elements) {
+            Assertions.assertSame(field.element(3), element);
+        }
+    }
+
+    @Test
+    public void testElementsOfLargeFieldNotInterned() {
+        final GaloisPrimeField field = new GaloisPrimeField(65_537);
+        Assertions.assertNotSame(field.element(3), field.element(3));
+        Assertions.assertEquals(field.element(3), field.element(65_540));
+    }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        Assertions.assertEquals(new GaloisPrimeField(7), new GaloisPrimeField(7));
+        Assertions.assertEquals(new GaloisPrimeField(7).hashCode(), new GaloisPrimeField(7).hashCode());
+        Assertions.assertNotEquals(new GaloisPrimeField(7), new GaloisPrimeField(11));
+    }
 }
@@ -0,0 +1,124 @@
+package com.caw.math.group.field.galois;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+/**
+ * Test class for {@link GaloisZechElement}, which repeats the operations of {@link GaloisPolynomialElementTest} in the
+ * log domain.
+ *
+ * @author cwhitmore
+ */
+
+public class GaloisZechElementTest {
+
+    // GF(5^8) with irreducible polynomial 390627 (x^8 + 2), shared since its tables take a moment to build.
+    private static final GaloisPolynomialField POLYNOMIAL_FIELD = new GaloisPolynomialField(5, 8, 390_627);
+    private static final GaloisZechField FIELD = new GaloisZechField(POLYNOMIAL_FIELD);
+
+    @Test
+    public void testAdd() {
+        final GaloisZechElement sum = FIELD.element(12_345).add(FIELD.element(54_321));
+        Assertions.assertEquals(BigInteger.valueOf(47_141), sum.value());
+        Assertions.assertEquals(FIELD.log(47_141), sum.logarithm());
+    }
+
+    @Test
+    public void testAddNeutralElement() {
+        final GaloisElement sum = FIELD.element(12_345).add(FIELD.getAdditiveNeutralElement());
+        Assertions.assertEquals(BigInteger.valueOf(12_345), sum.value());
+    }
+
+    @Test
+    public void testAddPolynomialElement() {
+        final GaloisElement sum = FIELD.element(12_345).add(POLYNOMIAL_FIELD.element(54_321));
+        Assertions.assertEquals(FIELD.element(47_141), sum);
+    }
+
+    @Test
+    public void testAddToZero() {
+        final GaloisZechElement element = FIELD.element(280);
+        final GaloisZechElement sum = element.add(element.additiveInverse());
+        Assertions.assertEquals(BigInteger.ZERO, sum.value());
+        Assertions.assertEquals(GaloisZechField.LOG_ZERO, sum.logarithm());
+    }
+
+    @Test
+    public void testAdditiveInverse() {
+        Assertions.assertEquals(BigInteger.valueOf(495), FIELD.element(280).additiveInverse().value());
+    }
+
+    @Test
+    public void testDivide() {
+        final GaloisZechElement quotient = FIELD.element(2_468).divide(FIELD.element(13_579));
+        Assertions.assertEquals(BigInteger.valueOf(295_724), quotient.value());
+    }
+
+    @Test
+    public void testDivideLong() {
+        Assertions.assertEquals(BigInteger.valueOf(295_724), FIELD.element(2_468).divide(13_579).value());
+    }
+
+    @Test
+    public void testDivideZero() {
+        final GaloisZechElement zero = FIELD.getAdditiveNeutralElement();
+        Assertions.assertThrows(IllegalStateException.class, () -> FIELD.element(2_468).divide(zero));
+    }
+
+    @Test
+    public void testLogarithm() {
+        Assertions.assertEquals(0, FIELD.getMultiplicativeNeutralElement().logarithm());
+        Assertions.assertEquals(1, FIELD.generator().logarithm());
+        Assertions.assertEquals(GaloisZechField.LOG_ZERO, FIELD.getAdditiveNeutralElement().logarithm());
+    }
+
+    @Test
+    public void testMultiplicativeInverse() {
+        Assertions.assertEquals(BigInteger.valueOf(186_199), FIELD.element(4_081).multiplicativeInverse().value());
+    }
+
+    @Test
+    public void testMultiply() {
+        final GaloisZechElement product = FIELD.element(121_212).multiply(FIELD.element(212_121));
+        Assertions.assertEquals(BigInteger.valueOf(133_131), product.value());
+    }
+
+    @Test
+    public void testMultiplyBigInteger() {
+        final GaloisElement product = FIELD.element(121_212).multiply(BigInteger.valueOf(212_121));
+        Assertions.assertEquals(BigInteger.valueOf(133_131), product.value());
+    }
+
+    @Test
+    public void testMultiplyZero() {
+        final GaloisZechElement product = FIELD.element(121_212).multiply(FIELD.getAdditiveNeutralElement());
+        Assertions.assertEquals(GaloisZechField.LOG_ZERO, product.logarithm());
+    }
+
+    @Test
+    public void testSubtract() {
+        final GaloisZechElement difference = FIELD.element(111_111).subtract(FIELD.element(100_000));
+        Assertions.assertEquals(BigInteger.valueOf(26_736), difference.value());
+    }
+
+    @Test
+    public void testSubtractLong() {
+        Assertions.assertEquals(BigInteger.valueOf(26_736), FIELD.element(111_111).subtract(100_000).value());
+    }
+
+    @Test
+    public void testToPolynomial() {
+        final GaloisElement element = FIELD.element(12_345).toPolynomial();
+        Assertions.assertEquals(GaloisPolynomialElement.class, element.getClass());
+        Assertions.assertEquals(POLYNOMIAL_FIELD.element(12_345), element);
+        Assertions.assertEquals(FIELD.element(12_345), FIELD.fromPolynomial(element));
+    }
+
+    @Test
+    public void testToString() {
+        final GaloisZechElement element = FIELD.generator();
+        Assertions.assertEquals("GaloisZechElement[value=" + element.value() + ", logarithm=1]", element.toString());
+    }
+}
@@ -0,0 +1,136 @@
+package com.caw.math.group.field.galois;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+/**
+ * A test class for {@link GaloisZechField}.
+ *
+ * @author cwhitmore
+ */
+
+public class GaloisZechFieldTest {
+
+    @Test
+    public void testMatchesPolynomialFieldExhaustively() {
+        assertMatchesExhaustively(new GaloisPolynomialField(2, 8, 283));
+        assertMatchesExhaustively(new GaloisPolynomialField(5, 2, 27));
+        assertMatchesExhaustively(new GaloisPolynomialField(7, 1, 10));
+    }
+
+    @Test
+    public void testMatchesLargePrimeField() {
+        // GF(65537) as the polynomials modulo x + 3, whose digit products overflow an int.
+        final GaloisPolynomialField polynomialField = new GaloisPolynomialField(65_537, 1, 65_540);
+        final GaloisZechField field = new GaloisZechField(polynomialField);
+        final Random random = new Random(65_537);
+        for (int i = 0; i < 2_000; i++) {
+            final int left = random.nextInt(65_537);
+            final int right = 1 + random.nextInt(65_536);
+            final GaloisZechElement augend = field.element(left);
+            final GaloisZechElement addend = field.element(right);
+            Assertions.assertEquals(polynomialField.add(left, right).value(), augend.add(addend).value());
+            Assertions.assertEquals(polynomialField.subtract(left, right).value(), augend.subtract(addend).value());
+            Assertions.assertEquals(polynomialField.multiply(left, right).value(), augend.multiply(addend).value());
+            Assertions.assertEquals(polynomialField.divide(left, right).value(), augend.divide(addend).value());
+        }
+    }
+
+    @Test
+    public void testLogArithmetic() {
+        final GaloisZechField field = new GaloisZechField(new GaloisPolynomialField(2, 16, 69_643));
+        final int zero = GaloisZechField.LOG_ZERO;
+        for (int value = 2; value < 65_536; value += 97) {
+            final int logarithm = field.log(value);
+            Assertions.assertEquals(value, field.antilog(logarithm));
+            Assertions.assertEquals(zero, field.logSum(logarithm, logarithm));
+            Assertions.assertEquals(zero, field.logDifference(logarithm, logarithm));
+            Assertions.assertEquals(logarithm, field.logNegate(logarithm));
+            Assertions.assertEquals(0, field.logQuotient(logarithm, logarithm));
+            Assertions.assertEquals(logarithm, field.logSum(logarithm, zero));
+            Assertions.assertEquals(zero, field.logProduct(logarithm, zero));
+            Assertions.assertEquals(field.log(value ^ 1), field.logSum(logarithm, 0));
+        }
+        Assertions.assertEquals(zero, field.logQuotient(zero, 5));
+        Assertions.assertThrows(IllegalStateException.class, () -> field.logQuotient(5, zero));
+    }
+
+    @Test
+    public void testZech() {
+        // In GF(5^2), -1 = g^12, so 1 + g^12 = 0.
+        final GaloisZechField field = new GaloisZechField(new GaloisPolynomialField(5, 2, 27));
+        Assertions.assertEquals(GaloisZechField.LOG_ZERO, field.zech(12));
+        for (int n = 0; n < 24; n++) {
+            if (n != 12) {
+                Assertions.assertEquals(field.log(field.add(1, field.antilog(n)).value().intValueExact()),
+                        field.zech(n));
+            }
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> field.zech(24));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> field.zech(-1));
+    }
+
+    @Test
+    public void testElementsAreZechElements() {
+        final GaloisZechField field = new GaloisZechField(new GaloisPolynomialField(5, 2, 27));
+        Assertions.assertEquals(GaloisZechElement.class, field.add(3, 4).getClass());
+        Assertions.assertSame(field, field.element(7).field());
+        Assertions.assertSame(field.element(7), field.fromLogarithm(field.log(7)));
+        Assertions.assertSame(field.getAdditiveNeutralElement(), field.fromLogarithm(GaloisZechField.LOG_ZERO));
+    }
+
+    @Test
+    public void testConversion() {
+        final GaloisPolynomialField polynomialField = new GaloisPolynomialField(2, 8, 285);
+        final GaloisZechField field = new GaloisZechField(polynomialField);
+        for (int value = 0; value < 256; value++) {
+            final GaloisZechElement element = field.fromPolynomial(polynomialField.element(value));
+            Assertions.assertEquals(BigInteger.valueOf(value), element.value());
+            Assertions.assertEquals(polynomialField.element(value), field.toPolynomial(element));
+        }
+        final GaloisPolynomialField other = new GaloisPolynomialField(2, 8, 283);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> field.fromPolynomial(other.element(3)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> field.toPolynomial(polynomialField.element(3)));
+    }
+
+    @Test
+    public void testDifferentGenerators() {
+        // Elements of fields with different generators have different logarithms, so they are combined by value.
+        final GaloisPolynomialField polynomialField = new GaloisPolynomialField(2, 8, 283);
+        final GaloisZechField first = new GaloisZechField(polynomialField);
+        final GaloisZechField second = new GaloisZechField(polynomialField, polynomialField.element(5));
+        Assertions.assertEquals(polynomialField.multiply(100, 200).value(),
+                first.multiply(first.element(100), second.element(200)).value());
+        Assertions.assertEquals(polynomialField.add(100, 200).value(),
+                first.add(first.element(100), second.element(200)).value());
+    }
+
+    private static void assertMatchesExhaustively(final GaloisPolynomialField polynomialField) {
+        final GaloisZechField field = new GaloisZechField(polynomialField);
+        final int size = polynomialField.size().intValueExact();
+        for (int left = 0; left < size; left++) {
+            final GaloisZechElement augend = field.element(left);
+            Assertions.assertEquals(polynomialField.additiveInverseOf(left).value(), augend.additiveInverse().value());
+            if (left != 0) {
+                Assertions.assertEquals(polynomialField.multiplicativeInverseOf(left).value(),
+                        augend.multiplicativeInverse().value());
+            }
+            for (int right = 0; right < size; right++) {
+                final GaloisZechElement addend = field.element(right);
+                Assertions.assertEquals(polynomialField.add(left, right).value(), augend.add(addend).value());
+                Assertions.assertEquals(polynomialField.subtract(left, right).value(),
+                        augend.subtract(addend).value());
+                Assertions.assertEquals(polynomialField.multiply(left, right).value(),
+                        augend.multiply(addend).value());
+                if (right != 0) {
+                    Assertions.assertEquals(polynomialField.divide(left, right).value(),
+                            augend.divide(addend).value());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.caw.math.group.field.galois;
+
+import com.caw.math.model.polynomial.ModularPolynomial;
+import com.caw.math.model.polynomial.ModularPolynomialDivisor;
+import com.caw.math.model.polynomial.ModularPolynomialFactory;
+import com.caw.math.model.polynomial.MutableBitPolynomial;
+import com.caw.math.model.polynomial.SparsePolynomial;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+/**
+ * Test class for {@link ModularPolynomialReducer}.
+ *
+ * @author cwhitmore
+ */
+
+public class ModularPolynomialReducerTest {
+
+    @Test
+    public void testSparseBinaryPolynomialByDenseReducer() {
+        // x^8 + x^4 + x^3 + x + 1 reducing x^200 + x^77 + 1, which the factory provides as a sparse polynomial.
+        final GaloisPolynomialField field = new GaloisPolynomialField(2, 8, 283);
+        final ModularPolynomial reducer = ModularPolynomialFactory.fromValue().withValue(283).withModulus(2).build();
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(BigInteger.ONE.shiftLeft(200).setBit(77).setBit(0))
+                .withModulus(2)
+                .build();
+        Assertions.assertEquals(SparsePolynomial.class, polynomial.getClass());
+
+        final ModularPolynomial remainder = polynomial.accepts(new ModularPolynomialReducer(field, reducer));
+        Assertions.assertEquals(new ModularPolynomialDivisor(reducer).remainder(polynomial).value(), remainder.value());
+    }
+
+    @Test
+    public void testBitPolynomialByOddPrimeReducerIllegalArgument() {
+        final GaloisPolynomialField field = new GaloisPolynomialField(5, 2, 27);
+        final ModularPolynomialReducer reducer = new ModularPolynomialReducer(field, 27);
+        final ModularPolynomial polynomial = new MutableBitPolynomial(BigInteger.valueOf(1_000));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> polynomial.accepts(reducer));
+    }
+
+    @Test
+    public void testSparseBinaryPolynomialOfSmallerDegree() {
+        final GaloisPolynomialField field = new GaloisPolynomialField(2, 8, 283);
+        // A dense reducer of degree 300 with seven terms.
+        final ModularPolynomialReducer reducer = new ModularPolynomialReducer(field,
+                BigInteger.ONE.shiftLeft(300).or(BigInteger.valueOf(0b111111)));
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(BigInteger.ONE.shiftLeft(200).setBit(0))
+                .withModulus(2)
+                .build();
+        Assertions.assertSame(polynomial, polynomial.accepts(reducer));
+    }
+}
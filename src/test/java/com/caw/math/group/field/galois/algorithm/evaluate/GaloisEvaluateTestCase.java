@@ -0,0 +1,190 @@
+package com.caw.math.group.field.galois.algorithm.evaluate;
+
+import com.caw.math.group.field.galois.GaloisField;
+import com.caw.math.group.field.galois.GaloisPolynomialField;
+import com.caw.math.group.field.galois.GaloisPrimeField;
+import com.caw.math.model.polynomial.ModularPolynomial;
+import com.caw.math.model.polynomial.ModularPolynomialFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
+
+public abstract class GaloisEvaluateTestCase {
+
+    private GaloisEvaluate evaluate;
+
+    @BeforeEach
+    public void setUp() {
+        evaluate = makeGaloisEvaluate();
+    }
+
+    @Test
+    public void testEvaluatePrime() {
+        // 2x^3 + x^2 + 3x + 4 (mod 23) at 0, 1, 2, 22 and 21
+        final GaloisPrimeField field = new GaloisPrimeField(23);
+        final ModularPolynomial polynomial = polynomial(List.of(4L, 3L, 1L, 2L), 23);
+        final long[] actual = evaluate.evaluate(field, polynomial, new long[] { 0, 1, 2, 22, 21 });
+        Assertions.assertArrayEquals(new long[] { 4, 10, 7, 0, 9 }, actual);
+    }
+
+    @Test
+    public void testEvaluatePointOutOfRange() {
+        final ModularPolynomial polynomial = polynomial(List.of(4L, 3L, 1L, 2L), 23);
+        final GaloisPrimeField field = new GaloisPrimeField(23);
+        final BigInteger largePrime = BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE);
+        final GaloisPrimeField largeField = new GaloisPrimeField(largePrime);
+        for (final long point : new long[] { -1, 23 }) {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> evaluate.evaluate(field, polynomial, new long[] { point }));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> evaluate.evaluate(field, polynomial, new BigInteger[] { BigInteger.valueOf(point) }));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> evaluate.evaluate(largeField,
+                polynomial(List.of(4L, 3L), largeField.prime()), new BigInteger[] { largeField.prime() }));
+        final GaloisPolynomialField extensionField = new GaloisPolynomialField(5, 2, 27);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> evaluate.evaluate(extensionField,
+                polynomial(List.of(4L, 3L), 5), new long[] { 25 }));
+    }
+
+    @Test
+    public void testEvaluateZeroPolynomial() {
+        final GaloisPrimeField field = new GaloisPrimeField(23);
+        final ModularPolynomial polynomial = polynomial(List.of(0L), 23);
+        Assertions.assertArrayEquals(new long[] { 0, 0 }, evaluate.evaluate(field, polynomial, new long[] { 3, 7 }));
+    }
+
+    @Test
+    public void testEvaluateLargePrime() {
+        final BigInteger prime = BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE);
+        final GaloisPrimeField field = new GaloisPrimeField(prime);
+        final Random random = new Random(40);
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(new BigInteger(127 * 20, random))
+                .withModulus(prime)
+                .build();
+        final BigInteger[] points = randomPoints(100, prime, random);
+
+        final BigInteger[] actual = evaluate.evaluate(field, polynomial, points);
+        for (int i = 0; i < points.length; i++) {
+            Assertions.assertEquals(expected(field, polynomial, points[i]), actual[i]);
+        }
+    }
+
+    @Test
+    public void testEvaluateBinaryField() {
+        final GaloisPolynomialField field = new GaloisPolynomialField(2, 8, 283);
+        final Random random = new Random(41);
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(new BigInteger(300, random))
+                .withModulus(BigInteger.TWO)
+                .build();
+        final long[] points = new long[256];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = i;
+        }
+
+        final long[] actual = evaluate.evaluate(field, polynomial, points);
+        for (int i = 0; i < points.length; i++) {
+            Assertions.assertEquals(expected(field, polynomial, BigInteger.valueOf(points[i])).longValueExact(),
+                    actual[i]);
+        }
+    }
+
+    @Test
+    public void testEvaluateBinaryFieldPointOutOfRange() {
+        final GaloisPolynomialField field = new GaloisPolynomialField(2, 8, 283);
+        final ModularPolynomial polynomial = polynomial(List.of(1L, 1L), 2);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> evaluate.evaluate(field, polynomial, new long[] { 256 }));
+    }
+
+    @Test
+    public void testEvaluateExtensionField() {
+        final GaloisPolynomialField field = new GaloisPolynomialField(5, 8, 390_627);
+        final Random random = new Random(42);
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(new BigInteger(100, random))
+                .withModulus(BigInteger.valueOf(5))
+                .build();
+        final BigInteger[] points = randomPoints(50, field.size(), random);
+
+        final BigInteger[] actual = evaluate.evaluate(field, polynomial, points);
+        for (int i = 0; i < points.length; i++) {
+            Assertions.assertEquals(expected(field, polynomial, points[i]), actual[i]);
+        }
+    }
+
+    @Test
+    public void testEvaluateLongMatchesBigInteger() {
+        final GaloisPrimeField field = new GaloisPrimeField(1_000_003);
+        final Random random = new Random(43);
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(new BigInteger(20 * 200, random))
+                .withModulus(field.prime())
+                .build();
+        final long[] points = new long[1000];
+        final BigInteger[] bigPoints = new BigInteger[points.length];
+        for (int i = 0; i < points.length; i++) {
+            points[i] = random.nextInt(1_000_003);
+            bigPoints[i] = BigInteger.valueOf(points[i]);
+        }
+
+        final long[] actual = evaluate.evaluate(field, polynomial, points);
+        final BigInteger[] bigActual = evaluate.evaluate(field, polynomial, bigPoints);
+        for (int i = 0; i < points.length; i++) {
+            Assertions.assertEquals(bigActual[i].longValueExact(), actual[i]);
+        }
+    }
+
+    @Test
+    public void testEvaluateModulusMismatch() {
+        final GaloisPrimeField field = new GaloisPrimeField(23);
+        final ModularPolynomial polynomial = polynomial(List.of(1L, 1L), 5);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> evaluate.evaluate(field, polynomial, new long[] { 1 }));
+    }
+
+    protected abstract GaloisEvaluate makeGaloisEvaluate();
+
+    private static ModularPolynomial polynomial(final List<Long> coefficients,
+                                                final long modulus) {
+        return polynomial(coefficients, BigInteger.valueOf(modulus));
+    }
+
+    private static ModularPolynomial polynomial(final List<Long> coefficients,
+                                                final BigInteger modulus) {
+        return ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(coefficients.stream().map(BigInteger::valueOf).toList())
+                .withModulus(modulus)
+                .build();
+    }
+
+    private static BigInteger[] randomPoints(final int count,
+                                             final BigInteger bound,
+                                             final Random random) {
+        final BigInteger[] points = new BigInteger[count];
+        for (int i = 0; i < count; i++) {
+            points[i] = new BigInteger(bound.bitLength(), random).mod(bound);
+        }
+        return points;
+    }
+
+    /**
+     * Evaluate the polynomial with the arithmetic of the field itself.
+     */
+
+    private static BigInteger expected(final GaloisField field,
+                                       final ModularPolynomial polynomial,
+                                       final BigInteger point) {
+        final List<BigInteger> coefficients = polynomial.coefficients();
+        BigInteger value = BigInteger.ZERO;
+        for (int i = coefficients.size() - 1; i >= 0; i--) {
+            value = field.add(field.multiply(value, point).value(), coefficients.get(i)).value();
+        }
+        return value;
+    }
+}
@@ -0,0 +1,9 @@
+package com.caw.math.group.field.galois.algorithm.evaluate;
+
+public class HornerGaloisEvaluateTest extends GaloisEvaluateTestCase {
+
+    @Override
+    protected GaloisEvaluate makeGaloisEvaluate() {
+        return new HornerGaloisEvaluate();
+    }
+}
@@ -0,0 +1,20 @@
+package com.caw.math.group.field.galois.algorithm.evaluate;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelHornerGaloisEvaluateTest extends GaloisEvaluateTestCase {
+
+    @Override
+    protected GaloisEvaluate makeGaloisEvaluate() {
+        return GaloisEvaluateFactory.makeParallel(ForkJoinPool.commonPool(), 64);
+    }
+
+    @Test
+    public void testIllegalThreshold() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ParallelHornerGaloisEvaluate(ForkJoinPool.commonPool(), 0));
+    }
+}
@@ -82,6 +82,13 @@ public class BitPolynomialTest {
         Assertions.assertEquals(BigInteger.ZERO, coefficients.get(0));
     }
 
+    @Test
+    public void testCompose() {
+        // (x^4 + 1)(x^2) = x^8 + 1 = x^4 + x^3 + x (mod x^8 + x^4 + x^3 + x + 1)
+        final BitPolynomial composed = new BitPolynomial(17).compose(new BitPolynomial(4), new BitPolynomial(283));
+        Assertions.assertEquals(BigInteger.valueOf(26), composed.value());
+    }
+
     @Test
     public void testDegreeZero() {
         final BitPolynomial bitPolynomial = new BitPolynomial(BigInteger.ZERO);
@@ -101,6 +108,23 @@ public class BitPolynomialTest {
         Assertions.assertEquals(5, bitPolynomial.degree());
     }
 
+    @Test
+    public void testDivideAndRemainder() {
+        // x^64 = q(x^8 + x^4 + x^3 + x + 1) + r, where the degree of r is less than 8
+        final BitPolynomial dividend = new BitPolynomial(BigInteger.ONE.shiftLeft(64));
+        final BitPolynomial[] division = dividend.divideAndRemainder(new BitPolynomial(283));
+        Assertions.assertTrue(division[1].degree() < 8);
+        Assertions.assertEquals(dividend.value(), division[0].multiply(283).add(division[1].value()).value());
+    }
+
+    @Test
+    public void testGcd() {
+        // gcd((x^8 + x^4 + x^3 + x + 1) x^70, (x^8 + x^4 + x^3 + x + 1)(x + 1)) = x^8 + x^4 + x^3 + x + 1
+        final BitPolynomial a = new BitPolynomial(BigInteger.valueOf(283).shiftLeft(70));
+        final BitPolynomial b = new BitPolynomial(BigInteger.valueOf(283)).multiply(3);
+        Assertions.assertEquals(BigInteger.valueOf(283), a.gcd(b).value());
+    }
+
     @Test
     public void testMultiplyZero() {
         final BitPolynomial multiplicand = new BitPolynomial(55);
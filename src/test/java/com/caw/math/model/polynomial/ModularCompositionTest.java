@@ -0,0 +1,153 @@
+package com.caw.math.model.polynomial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test class for {@link ModularComposition}.
+ *
+ * @author cwhitmore
+ */
+
+public class ModularCompositionTest {
+
+    private static final BigInteger PRIME = BigInteger.valueOf(1_000_003);
+
+    @Test
+    public void testComposeSmall() {
+        // (x^2 + 1)(x + 1) = x^2 + 2x + 2 (mod 5), which is already reduced by x^3 + 1
+        final ModularComposition composition = new ModularComposition(polynomial(List.of(1L, 1L), 5),
+                polynomial(List.of(1L, 0L, 0L, 1L), 5));
+        final ModularPolynomial composed = composition.compose(polynomial(List.of(1L, 0L, 1L), 5));
+        Assertions.assertEquals(List.of(BigInteger.TWO, BigInteger.TWO, BigInteger.ONE), composed.coefficients());
+    }
+
+    @Test
+    public void testComposeMatchesHorner() {
+        final Random random = new Random(50);
+        final ModularPolynomial reducer = random(PRIME, 60, random);
+        final ModularPolynomial inner = random(PRIME, 90, random);
+        final ModularComposition composition = new ModularComposition(inner, reducer);
+        for (final int length : new int[] { 1, 7, 60, 200 }) {
+            final ModularPolynomial outer = random(PRIME, length, random);
+            Assertions.assertEquals(horner(outer, inner, reducer).value(), composition.compose(outer).value());
+        }
+    }
+
+    @Test
+    public void testComposeLargeModulusMatchesHorner() {
+        final BigInteger prime = BigInteger.ONE.shiftLeft(89).subtract(BigInteger.ONE);
+        final Random random = new Random(51);
+        final ModularPolynomial reducer = random(prime, 30, random);
+        final ModularPolynomial inner = random(prime, 20, random);
+        final ModularPolynomial outer = random(prime, 45, random);
+        Assertions.assertEquals(horner(outer, inner, reducer).value(),
+                new ModularComposition(inner, reducer).compose(outer).value());
+    }
+
+    @Test
+    public void testComposeZero() {
+        final ModularComposition composition = new ModularComposition(polynomial(List.of(1L, 1L), 5),
+                polynomial(List.of(1L, 0L, 0L, 1L), 5));
+        Assertions.assertEquals(BigInteger.ZERO, composition.compose(polynomial(List.of(0L), 5)).value());
+    }
+
+    @Test
+    public void testFrobeniusIterate() {
+        // x^(5^3) (mod h) by repeated multiplication.
+        final Random random = new Random(52);
+        final BigInteger five = BigInteger.valueOf(5);
+        final ModularPolynomial reducer = random(five, 11, random);
+        ModularPolynomial expected = polynomial(List.of(1L), 5);
+        for (int i = 0; i < 125; i++) {
+            expected = expected.multiply(polynomial(List.of(0L, 1L), 5)).divideAndRemainder(reducer)[1];
+        }
+        Assertions.assertEquals(expected.value(), ModularComposition.frobenius(reducer).iterate(3).value());
+    }
+
+    @Test
+    public void testFrobeniusIrreducible() {
+        // x^(2^8) = x (mod x^8 + x^4 + x^3 + x + 1), since the polynomial is irreducible.
+        final ModularPolynomial reducer = ModularPolynomialFactory.fromValue()
+                .withValue(BigInteger.valueOf(283))
+                .withModulus(BigInteger.TWO)
+                .build();
+        final ModularComposition frobenius = ModularComposition.frobenius(reducer);
+        Assertions.assertEquals(BigInteger.valueOf(4), frobenius.inner().value());
+        Assertions.assertEquals(BigInteger.TWO, frobenius.iterate(8).value());
+        Assertions.assertEquals(BigInteger.TWO, frobenius.iterate(0).value());
+    }
+
+    @Test
+    public void testIllegalReducer() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ModularComposition(polynomial(List.of(1L, 1L), 5), polynomial(List.of(3L), 5)));
+    }
+
+    @Test
+    public void testModulusMismatchIllegalArgument() {
+        final ModularComposition composition = new ModularComposition(polynomial(List.of(1L, 1L), 5),
+                polynomial(List.of(1L, 0L, 0L, 1L), 5));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> composition.compose(polynomial(List.of(1L, 1L), 7)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ModularComposition(polynomial(List.of(1L, 1L), 7), polynomial(List.of(1L, 0L, 1L), 5)));
+    }
+
+    @Test
+    public void testOfSharesComposition() {
+        final ModularPolynomial inner = polynomial(List.of(1L, 1L), 5);
+        final ModularPolynomial reducer = polynomial(List.of(1L, 0L, 0L, 1L), 5);
+        Assertions.assertSame(ModularComposition.of(inner, reducer), ModularComposition.of(inner, reducer));
+    }
+
+    private static ModularPolynomial polynomial(final List<Long> coefficients,
+                                                final long modulus) {
+        return ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(coefficients.stream().map(BigInteger::valueOf).toList())
+                .withModulus(BigInteger.valueOf(modulus))
+                .build();
+    }
+
+    /**
+     * Generate a random polynomial with exactly {@code length} coefficients.
+     */
+
+    private static ModularPolynomial random(final BigInteger modulus,
+                                            final int length,
+                                            final Random random) {
+        final BigInteger[] coefficients = new BigInteger[length];
+        for (int i = 0; i < length; i++) {
+            coefficients[i] = new BigInteger(modulus.bitLength() + 8, random).mod(modulus);
+        }
+        coefficients[length - 1] = BigInteger.ONE;
+        return ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(List.of(coefficients))
+                .withModulus(modulus)
+                .build();
+    }
+
+    private static ModularPolynomial horner(final ModularPolynomial outer,
+                                            final ModularPolynomial inner,
+                                            final ModularPolynomial reducer) {
+        final List<BigInteger> coefficients = outer.coefficients();
+        ModularPolynomial value = outer.subtract(outer);
+        for (int i = coefficients.size() - 1; i >= 0; i--) {
+            value = value.multiply(inner).add(constant(coefficients.get(i), outer.modulus()))
+                    .divideAndRemainder(reducer)[1];
+        }
+        return value;
+    }
+
+    private static ModularPolynomial constant(final BigInteger coefficient,
+                                              final BigInteger modulus) {
+        return ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(List.of(coefficient))
+                .withModulus(modulus)
+                .build();
+    }
+}
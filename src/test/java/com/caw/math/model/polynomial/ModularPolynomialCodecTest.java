@@ -0,0 +1,193 @@
+package com.caw.math.model.polynomial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test class for {@link ModularPolynomialCodec}.
+ *
+ * @author cwhitmore
+ */
+
+public class ModularPolynomialCodecTest {
+
+    private static final BigInteger LARGE_PRIME = BigInteger.ONE.shiftLeft(89).subtract(BigInteger.ONE);
+
+    @Test
+    public void testEncodeBinary() {
+        // x^8 + x^4 + x^3 + x + 1
+        final ModularPolynomial polynomial = polynomial(283, BigInteger.TWO);
+        Assertions.assertArrayEquals(new byte[] { 1, 2, 9, 0x1B, 1 }, encode(polynomial));
+    }
+
+    @Test
+    public void testEncodePacked() {
+        // 2x^8 + 3x^6 + 3x^5 + 4x^3 + 3x^2 + 2x + 4, three bits per coefficient
+        final ModularPolynomial polynomial = polynomial(838_089, BigInteger.valueOf(5));
+        Assertions.assertArrayEquals(new byte[] { 1, 5, 9, (byte) 0xD4, (byte) 0x88, 0x0D, 0x02 },
+                encode(polynomial));
+    }
+
+    @Test
+    public void testEncodeZero() {
+        Assertions.assertArrayEquals(new byte[] { 1, 7, 0 }, encode(polynomial(0, BigInteger.valueOf(7))));
+    }
+
+    @Test
+    public void testRoundTripBinary() {
+        final Random random = new Random(233);
+        for (final int bits : new int[] { 1, 63, 64, 65, 233, 1000 }) {
+            final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                    .withValue(new BigInteger(bits, random).setBit(bits - 1))
+                    .build();
+            final ModularPolynomial decoded = roundTrip(polynomial);
+            Assertions.assertEquals(polynomial.getClass(), decoded.getClass());
+            Assertions.assertEquals(polynomial.value(), decoded.value());
+        }
+    }
+
+    @Test
+    public void testRoundTripPacked() {
+        final Random random = new Random(5);
+        for (final long modulus : new long[] { 3, 5, 65_537, 998_244_353, PackedPolynomial.MAX_MODULUS }) {
+            final ModularPolynomial polynomial = random(BigInteger.valueOf(modulus), 100, random);
+            final ModularPolynomial decoded = roundTrip(polynomial);
+            Assertions.assertEquals(PackedPolynomial.class, decoded.getClass());
+            Assertions.assertEquals(polynomial.coefficients(), decoded.coefficients());
+        }
+    }
+
+    @Test
+    public void testRoundTripLargeModulus() {
+        final ModularPolynomial polynomial = random(LARGE_PRIME, 40, new Random(89));
+        final ModularPolynomial decoded = roundTrip(polynomial);
+        Assertions.assertEquals(NonBitPolynomial.class, decoded.getClass());
+        Assertions.assertEquals(polynomial.value(), decoded.value());
+    }
+
+    @Test
+    public void testRoundTripSparse() {
+        final ModularPolynomial polynomial = polynomial(BigInteger.ONE.shiftLeft(233).setBit(74).setBit(0),
+                BigInteger.TWO);
+        Assertions.assertEquals(SparsePolynomial.class, roundTrip(polynomial).getClass());
+        final List<BigInteger> coefficients = new ArrayList<>(Collections.nCopies(101, BigInteger.ZERO));
+        coefficients.set(0, BigInteger.ONE);
+        coefficients.set(2, BigInteger.TWO);
+        coefficients.set(100, BigInteger.ONE);
+        final ModularPolynomial packed = ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(coefficients)
+                .withModulus(7)
+                .build();
+        Assertions.assertEquals(SparsePolynomial.class, packed.getClass());
+        Assertions.assertEquals(packed.value(), roundTrip(packed).value());
+    }
+
+    @Test
+    public void testRoundTripSequence() {
+        final ModularPolynomial first = polynomial(838_089, BigInteger.valueOf(5));
+        final ModularPolynomial second = polynomial(283, BigInteger.TWO);
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(ModularPolynomialCodec.encodedLength(first)
+                + ModularPolynomialCodec.encodedLength(second));
+        ModularPolynomialCodec.write(buffer, first);
+        ModularPolynomialCodec.write(buffer, second);
+        Assertions.assertFalse(buffer.hasRemaining());
+        buffer.flip();
+        Assertions.assertEquals(first.value(), ModularPolynomialCodec.read(buffer).value());
+        Assertions.assertEquals(second.value(), ModularPolynomialCodec.read(buffer).value());
+    }
+
+    @Test
+    public void testReadInterned() {
+        for (final BigInteger modulus : new BigInteger[] { BigInteger.TWO, BigInteger.valueOf(5), LARGE_PRIME }) {
+            final ModularPolynomial polynomial = polynomial(27, modulus);
+            Assertions.assertSame(polynomial, ModularPolynomialCodec.read(ByteBuffer.wrap(encode(polynomial))));
+        }
+    }
+
+    @Test
+    public void testReadInvalid() {
+        // coefficient 5 modulo 5
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ModularPolynomialCodec.read(ByteBuffer.wrap(new byte[] { 1, 5, 1, 5 })));
+        // non-zero padding
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ModularPolynomialCodec.read(ByteBuffer.wrap(new byte[] { 1, 2, 1, 3 })));
+        // leading zero coefficients, which would give a second encoding of x + 1
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ModularPolynomialCodec.read(ByteBuffer.wrap(new byte[] { 1, 2, 3, 3 })));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ModularPolynomialCodec.read(ByteBuffer.wrap(new byte[] { 1, 5, 2, 1 })));
+        final ByteBuffer large = ByteBuffer.allocate(ModularPolynomialCodec.encodedLength(polynomial(1, LARGE_PRIME)));
+        ModularPolynomialCodec.write(large, polynomial(1, LARGE_PRIME));
+        // Clear the lowest byte of the single coefficient, which turns the constant 1 into a zero leading coefficient.
+        large.put(large.limit() - 12, (byte) 0).flip();
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularPolynomialCodec.read(large));
+        // leading zero byte of the modulus, which would give a second encoding of x + 1
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ModularPolynomialCodec.read(ByteBuffer.wrap(new byte[] { 2, 0, 5, 1, 3 })));
+        // overlong varints for the number of coefficients and the length of the modulus
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ModularPolynomialCodec.read(ByteBuffer.wrap(new byte[] { 1, 5, (byte) 0x81, 0, 3 })));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ModularPolynomialCodec.read(ByteBuffer.wrap(new byte[] { (byte) 0x81, 0, 5, 1, 3 })));
+        // modulus one
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ModularPolynomialCodec.read(ByteBuffer.wrap(new byte[] { 1, 1, 0 })));
+        // varint past the range of an int
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularPolynomialCodec.read(
+                ByteBuffer.wrap(new byte[] { 1, 5, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F })));
+        // a million coefficients claimed, but none present
+        Assertions.assertThrows(BufferUnderflowException.class, () -> ModularPolynomialCodec.read(
+                ByteBuffer.wrap(new byte[] { 1, 5, (byte) 0xC0, (byte) 0x84, 0x3D })));
+    }
+
+    private static byte[] encode(final ModularPolynomial polynomial) {
+        final byte[] bytes = new byte[ModularPolynomialCodec.encodedLength(polynomial)];
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        ModularPolynomialCodec.write(buffer, polynomial);
+        Assertions.assertFalse(buffer.hasRemaining());
+        return bytes;
+    }
+
+    private static ModularPolynomial polynomial(final long value,
+                                                final BigInteger modulus) {
+        return polynomial(BigInteger.valueOf(value), modulus);
+    }
+
+    private static ModularPolynomial polynomial(final BigInteger value,
+                                                final BigInteger modulus) {
+        return ModularPolynomialFactory.fromValue()
+                .withValue(value)
+                .withModulus(modulus)
+                .build();
+    }
+
+    private static ModularPolynomial random(final BigInteger modulus,
+                                            final int degree,
+                                            final Random random) {
+        final List<BigInteger> coefficients = new ArrayList<>(degree + 1);
+        for (int i = 0; i <= degree; i++) {
+            coefficients.add(new BigInteger(modulus.bitLength() + Long.SIZE, random).mod(modulus));
+        }
+        coefficients.set(degree, BigInteger.ONE);
+        return ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(coefficients)
+                .withModulus(modulus)
+                .build();
+    }
+
+    private static ModularPolynomial roundTrip(final ModularPolynomial polynomial) {
+        final ByteBuffer buffer = ByteBuffer.wrap(encode(polynomial));
+        final ModularPolynomial decoded = ModularPolynomialCodec.read(buffer);
+        Assertions.assertFalse(buffer.hasRemaining());
+        return decoded;
+    }
+}
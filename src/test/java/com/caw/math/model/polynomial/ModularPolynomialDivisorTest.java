@@ -0,0 +1,157 @@
+package com.caw.math.model.polynomial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test class for {@link ModularPolynomialDivisor}.
+ *
+ * @author cwhitmore
+ */
+
+public class ModularPolynomialDivisorTest {
+
+    private static final BigInteger PRIME = BigInteger.valueOf(1_000_003);
+
+    @Test
+    public void testZeroDivisorIllegalArgument() {
+        final ModularPolynomial zero = new NonBitPolynomial(BigInteger.ZERO, PRIME);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ModularPolynomialDivisor(zero));
+    }
+
+    @Test
+    public void testNonInvertibleLeadingCoefficientIllegalArgument() {
+        // 2x + 1 (mod 4)
+        final ModularPolynomial divisor = new NonBitPolynomial(BigInteger.valueOf(9), BigInteger.valueOf(4));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ModularPolynomialDivisor(divisor));
+    }
+
+    @Test
+    public void testModulusMismatchIllegalArgument() {
+        final ModularPolynomialDivisor divisor = new ModularPolynomialDivisor(new PackedPolynomial(27, 5));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> divisor.remainder(new PackedPolynomial(294, 7)));
+    }
+
+    @Test
+    public void testDivideAndRemainder() {
+        // 2x^3 + x^2 + 3x + 4 = (2x + 1)(x^2 + 2) + (4x + 2) (mod 5)
+        final ModularPolynomialDivisor divisor = new ModularPolynomialDivisor(new PackedPolynomial(27, 5));
+        final ModularPolynomial[] division = divisor.divideAndRemainder(new PackedPolynomial(294, 5));
+        Assertions.assertEquals(BigInteger.valueOf(11), division[0].value());
+        Assertions.assertEquals(BigInteger.valueOf(22), division[1].value());
+    }
+
+    @Test
+    public void testOfCoefficientsSharesDivisor() {
+        final BigInteger five = BigInteger.valueOf(5);
+        final List<BigInteger> coefficients = List.of(BigInteger.TWO, BigInteger.ZERO, BigInteger.ONE);
+        final ModularPolynomialDivisor divisor = ModularPolynomialDivisor.of(coefficients, five);
+        Assertions.assertSame(divisor, ModularPolynomialDivisor.of(List.of(BigInteger.TWO, BigInteger.ZERO,
+                BigInteger.ONE, BigInteger.ZERO), five));
+        Assertions.assertNotSame(divisor, ModularPolynomialDivisor.of(coefficients, BigInteger.valueOf(7)));
+        Assertions.assertNotSame(divisor, ModularPolynomialDivisor.of(new PackedPolynomial(27, 5)));
+    }
+
+    @Test
+    public void testOfSharesDivisor() {
+        final ModularPolynomialDivisor divisor = ModularPolynomialDivisor.of(new PackedPolynomial(27, 5));
+        Assertions.assertSame(divisor, ModularPolynomialDivisor.of(new NonBitPolynomial(BigInteger.valueOf(27),
+                BigInteger.valueOf(5))));
+        Assertions.assertNotSame(divisor, ModularPolynomialDivisor.of(new PackedPolynomial(27, 7)));
+    }
+
+    @Test
+    public void testRemainderOfSmallerDegree() {
+        final ModularPolynomial dividend = new PackedPolynomial(22, 5);
+        Assertions.assertSame(dividend, new ModularPolynomialDivisor(new PackedPolynomial(27, 5)).remainder(dividend));
+    }
+
+    @Test
+    public void testNewtonMatchesSchoolbook() {
+        final Random random = new Random(13);
+        final ModularPolynomial divisor = random(200, random);
+        final ModularPolynomialDivisor newton = new ModularPolynomialDivisor(divisor);
+
+        for (final int length : new int[] { 210, 300, 450, 800 }) {
+            final ModularPolynomial dividend = random(length, random);
+            final List<List<BigInteger>> expected = schoolbook(dividend.coefficients(), divisor.coefficients(), PRIME);
+            final List<List<BigInteger>> actual = newton.divide(dividend.coefficients());
+            Assertions.assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    public void testDivideAndRemainderLarge() {
+        final Random random = new Random(14);
+        final ModularPolynomial divisor = random(150, random);
+        final ModularPolynomial dividend = random(400, random);
+
+        final ModularPolynomial[] division = new ModularPolynomialDivisor(divisor).divideAndRemainder(dividend);
+        Assertions.assertTrue(division[1].degree() < divisor.degree());
+        Assertions.assertEquals(dividend.value(), division[0].multiply(divisor).add(division[1]).value());
+    }
+
+    @Test
+    public void testLargeModulus() {
+        final BigInteger modulus = BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE);
+        final Random random = new Random(15);
+        final ModularPolynomial divisor = new NonBitPolynomial(new BigInteger(127 * 100, random), modulus);
+        final ModularPolynomial dividend = new NonBitPolynomial(new BigInteger(127 * 250, random), modulus);
+
+        final ModularPolynomial[] division = new ModularPolynomialDivisor(divisor).divideAndRemainder(dividend);
+        Assertions.assertEquals(schoolbook(dividend.coefficients(), divisor.coefficients(), modulus).get(1),
+                trimmed(division[1].coefficients()));
+        Assertions.assertEquals(dividend.value(), division[0].multiply(divisor).add(division[1]).value());
+    }
+
+    private static ModularPolynomial random(final int length, final Random random) {
+        final BigInteger[] coefficients = new BigInteger[length];
+        for (int i = 0; i < length; i++) {
+            coefficients[i] = BigInteger.valueOf(random.nextInt(PRIME.intValue()));
+        }
+        coefficients[length - 1] = BigInteger.ONE.add(BigInteger.valueOf(random.nextInt(PRIME.intValue() - 1)));
+        return ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(List.of(coefficients))
+                .withModulus(PRIME)
+                .build();
+    }
+
+    /**
+     * Divide by repeatedly subtracting multiples of the divisor, returning the trimmed quotient and remainder.
+     */
+
+    private static List<List<BigInteger>> schoolbook(final List<BigInteger> dividend,
+                                                     final List<BigInteger> divisor,
+                                                     final BigInteger modulus) {
+
+        final List<BigInteger> remainder = new ArrayList<>(trimmed(dividend));
+        final int divisorDegree = divisor.size() - 1;
+        final BigInteger leadingInverse = divisor.get(divisorDegree).modInverse(modulus);
+        final List<BigInteger> quotient = new ArrayList<>(Collections.nCopies(
+                Math.max(remainder.size() - divisorDegree, 0), BigInteger.ZERO));
+
+        for (int i = remainder.size() - 1; i >= divisorDegree; i--) {
+            final BigInteger factor = remainder.get(i).multiply(leadingInverse).mod(modulus);
+            quotient.set(i - divisorDegree, factor);
+            for (int j = 0; j <= divisorDegree; j++) {
+                final int index = i - divisorDegree + j;
+                remainder.set(index, remainder.get(index).subtract(factor.multiply(divisor.get(j))).mod(modulus));
+            }
+        }
+        return List.of(trimmed(quotient), trimmed(remainder));
+    }
+
+    private static List<BigInteger> trimmed(final List<BigInteger> coefficients) {
+        int length = coefficients.size();
+        while (length > 0 && coefficients.get(length - 1).signum() == 0) {
+            length--;
+        }
+        return new ArrayList<>(coefficients.subList(0, length));
+    }
+}
@@ -0,0 +1,203 @@
+package com.caw.math.model.polynomial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test class for {@link ModularPolynomialFactorizer}.
+ *
+ * @author cwhitmore
+ */
+
+public class ModularPolynomialFactorizerTest {
+
+    private final ModularPolynomialFactorizer factorizer = new ModularPolynomialFactorizer();
+
+    @Test
+    public void testFactorSmall() {
+        // 2x^3 + x^2 + 3x + 4 = 2(x + 1)(x + 3)(x + 4) (mod 5), whose roots are 1, 2 and 4
+        final List<ModularPolynomialFactor> factors = factorizer.factor(polynomial(List.of(4L, 3L, 1L, 2L), 5));
+        Assertions.assertEquals(3, factors.size());
+        Assertions.assertEquals(List.of(BigInteger.valueOf(6), BigInteger.valueOf(8), BigInteger.valueOf(9)),
+                factors.stream().map(factor -> factor.polynomial().value()).toList());
+        Assertions.assertTrue(factors.stream().allMatch(factor -> factor.multiplicity() == 1));
+    }
+
+    @Test
+    public void testFactorWithMultiplicities() {
+        // (x + 1)^3 (x^2 + 1)^2 (x^3 + x + 1) (mod 7), with irreducible x^2 + 1 and x^3 + x + 1
+        final ModularPolynomial linear = polynomial(List.of(1L, 1L), 7);
+        final ModularPolynomial quadratic = polynomial(List.of(1L, 0L, 1L), 7);
+        final ModularPolynomial cubic = polynomial(List.of(1L, 1L, 0L, 1L), 7);
+        final ModularPolynomial product = linear.multiply(linear).multiply(linear).multiply(quadratic)
+                .multiply(quadratic).multiply(cubic).multiply(3);
+
+        final List<ModularPolynomialFactor> factors = factorizer.factor(product);
+        Assertions.assertEquals(3, factors.size());
+        assertFactor(linear, 3, factors.get(0));
+        assertFactor(quadratic, 2, factors.get(1));
+        assertFactor(cubic, 1, factors.get(2));
+    }
+
+    @Test
+    public void testFactorMultiplicityOfPrime() {
+        // (x + 1)^5 (x + 2)^7 (mod 5), where the fifth power has a zero derivative
+        final ModularPolynomial a = polynomial(List.of(1L, 1L), 5);
+        final ModularPolynomial b = polynomial(List.of(2L, 1L), 5);
+        ModularPolynomial product = polynomial(List.of(1L), 5);
+        for (int i = 0; i < 5; i++) {
+            product = product.multiply(a);
+        }
+        for (int i = 0; i < 7; i++) {
+            product = product.multiply(b);
+        }
+
+        final List<ModularPolynomialFactor> factors = factorizer.factor(product);
+        Assertions.assertEquals(2, factors.size());
+        assertFactor(a, 5, factors.get(0));
+        assertFactor(b, 7, factors.get(1));
+    }
+
+    @Test
+    public void testFactorDegreeTenReproducesProduct() {
+        final Random random = new Random(60);
+        for (int i = 0; i < 20; i++) {
+            final ModularPolynomial polynomial = random(BigInteger.valueOf(7), 11, random);
+            assertFactorization(polynomial, factorizer.factor(polynomial));
+        }
+    }
+
+    @Test
+    public void testFactorBinary() {
+        final Random random = new Random(61);
+        for (int i = 0; i < 20; i++) {
+            final ModularPolynomial polynomial = random(BigInteger.TWO, 40, random);
+            assertFactorization(polynomial, factorizer.factor(polynomial));
+        }
+    }
+
+    @Test
+    public void testFactorLarge() {
+        final Random random = new Random(62);
+        final ModularPolynomial polynomial = random(BigInteger.valueOf(1_000_003), 80, random);
+        assertFactorization(polynomial, new ModularPolynomialFactorizer(new ForkJoinPool(4)).factor(polynomial));
+    }
+
+    @Test
+    public void testFactorIrreducible() {
+        // x^8 + x^4 + x^3 + x + 1 is irreducible over GF(2).
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(BigInteger.valueOf(283))
+                .withModulus(BigInteger.TWO)
+                .build();
+        final List<ModularPolynomialFactor> factors = factorizer.factor(polynomial);
+        Assertions.assertEquals(1, factors.size());
+        assertFactor(polynomial, 1, factors.get(0));
+    }
+
+    @Test
+    public void testFactorConstant() {
+        Assertions.assertEquals(List.of(), factorizer.factor(polynomial(List.of(3L), 5)));
+    }
+
+    @Test
+    public void testFactorZeroIllegalArgument() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> factorizer.factor(polynomial(List.of(0L), 5)));
+    }
+
+    @Test
+    public void testSquareFree() {
+        // (x + 1)^2 (x + 2) (mod 5)
+        final ModularPolynomial a = polynomial(List.of(1L, 1L), 5);
+        final ModularPolynomial b = polynomial(List.of(2L, 1L), 5);
+        final SortedMap<Integer, ModularPolynomial> squareFree = factorizer.squareFree(a.multiply(a).multiply(b));
+        Assertions.assertEquals(List.of(1, 2), List.copyOf(squareFree.keySet()));
+        Assertions.assertEquals(b.value(), squareFree.get(1).value());
+        Assertions.assertEquals(a.value(), squareFree.get(2).value());
+    }
+
+    @Test
+    public void testDistinctDegree() {
+        // (x + 1)(x + 2)(x^2 + 2) (mod 5), where x^2 + 2 is irreducible
+        final ModularPolynomial linear = polynomial(List.of(2L, 3L, 1L), 5);
+        final ModularPolynomial quadratic = polynomial(List.of(2L, 0L, 1L), 5);
+        final SortedMap<Integer, ModularPolynomial> distinctDegree = factorizer.distinctDegree(
+                linear.multiply(quadratic));
+        Assertions.assertEquals(List.of(1, 2), List.copyOf(distinctDegree.keySet()));
+        Assertions.assertEquals(linear.value(), distinctDegree.get(1).value());
+        Assertions.assertEquals(quadratic.value(), distinctDegree.get(2).value());
+    }
+
+    @Test
+    public void testEqualDegree() {
+        // (x^2 + 2)(x^2 + 3) (mod 5), both irreducible
+        final ModularPolynomial a = polynomial(List.of(2L, 0L, 1L), 5);
+        final ModularPolynomial b = polynomial(List.of(3L, 0L, 1L), 5);
+        final List<ModularPolynomial> factors = factorizer.equalDegree(a.multiply(b), 2);
+        Assertions.assertEquals(List.of(a.value(), b.value()),
+                factors.stream().map(ModularPolynomial::value).toList());
+    }
+
+    @Test
+    public void testEqualDegreeIllegalDegree() {
+        final ModularPolynomial polynomial = polynomial(List.of(2L, 0L, 1L), 5);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> factorizer.equalDegree(polynomial, 3));
+    }
+
+    private static void assertFactor(final ModularPolynomial expected,
+                                     final int multiplicity,
+                                     final ModularPolynomialFactor actual) {
+        Assertions.assertEquals(expected.value(), actual.polynomial().value());
+        Assertions.assertEquals(multiplicity, actual.multiplicity());
+    }
+
+    private void assertFactorization(final ModularPolynomial polynomial,
+                                     final List<ModularPolynomialFactor> factors) {
+
+        final BigInteger modulus = polynomial.modulus();
+        ModularPolynomial product = polynomial(List.of(1L), modulus.longValueExact());
+        for (final ModularPolynomialFactor factor : factors) {
+            final ModularPolynomial irreducible = factor.polynomial();
+            Assertions.assertEquals(BigInteger.ONE, irreducible.coefficients().get(irreducible.degree()));
+            Assertions.assertEquals(List.of(irreducible.degree()),
+                    List.copyOf(factorizer.distinctDegree(irreducible).keySet()));
+            for (int i = 0; i < factor.multiplicity(); i++) {
+                product = product.multiply(irreducible);
+            }
+        }
+        final BigInteger leading = polynomial.coefficients().get(polynomial.degree());
+        Assertions.assertEquals(polynomial.value(), product.multiply(leading).value());
+    }
+
+    private static ModularPolynomial polynomial(final List<Long> coefficients,
+                                                final long modulus) {
+        return ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(coefficients.stream().map(BigInteger::valueOf).toList())
+                .withModulus(BigInteger.valueOf(modulus))
+                .build();
+    }
+
+    /**
+     * Generate a random polynomial with exactly {@code length} coefficients.
+     */
+
+    private static ModularPolynomial random(final BigInteger modulus,
+                                            final int length,
+                                            final Random random) {
+        final BigInteger[] coefficients = new BigInteger[length];
+        for (int i = 0; i < length; i++) {
+            coefficients[i] = new BigInteger(modulus.bitLength() + 8, random).mod(modulus);
+        }
+        coefficients[length - 1] = BigInteger.ONE.add(BigInteger.valueOf(random.nextInt(modulus.intValue() - 1)));
+        return ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(List.of(coefficients))
+                .withModulus(modulus)
+                .build();
+    }
+}
@@ -0,0 +1,185 @@
+package com.caw.math.model.polynomial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Test class for {@link ModularPolynomialFormat}.
+ *
+ * @author cwhitmore
+ */
+
+public class ModularPolynomialFormatTest {
+
+    private static final BigInteger FIVE = BigInteger.valueOf(5);
+    private static final BigInteger LARGE_PRIME = BigInteger.ONE.shiftLeft(89).subtract(BigInteger.ONE);
+
+    @Test
+    public void testFormat() {
+        Assertions.assertEquals("x^8 + x^4 + x^3 + x + 1",
+                ModularPolynomialFormat.format(polynomial(283, BigInteger.TWO)));
+        Assertions.assertEquals("2x^8 + 3x^6 + 3x^5 + 4x^3 + 3x^2 + 2x + 4",
+                ModularPolynomialFormat.format(polynomial(838_089, FIVE)));
+        Assertions.assertEquals("0", ModularPolynomialFormat.format(polynomial(0, FIVE)));
+        Assertions.assertEquals("0", ModularPolynomialFormat.format(polynomial(0, BigInteger.TWO)));
+    }
+
+    @Test
+    public void testFormatAppends() {
+        final StringBuilder builder = new StringBuilder("f = ");
+        ModularPolynomialFormat.format(builder, polynomial(0, FIVE));
+        Assertions.assertEquals("f = 0", builder.toString());
+        builder.setLength(4);
+        ModularPolynomialFormat.format(builder, polynomial(7, FIVE));
+        Assertions.assertEquals("f = x + 2", builder.toString());
+    }
+
+    @Test
+    public void testFormatMatchesToString() {
+        final Random random = new Random(8);
+        for (final BigInteger modulus : new BigInteger[] { BigInteger.TWO, FIVE, LARGE_PRIME }) {
+            final ModularPolynomial polynomial = polynomial(new BigInteger(500, random), modulus);
+            Assertions.assertEquals(polynomial.toString(), ModularPolynomialFormat.format(polynomial));
+        }
+    }
+
+    @Test
+    public void testToStringLargeConstant() {
+        final ModularPolynomial polynomial = polynomial(LARGE_PRIME.subtract(BigInteger.ONE), LARGE_PRIME);
+        Assertions.assertEquals(LARGE_PRIME.subtract(BigInteger.ONE).toString(), polynomial.toString());
+    }
+
+    @Test
+    public void testParse() {
+        Assertions.assertEquals(BigInteger.valueOf(283),
+                ModularPolynomialFormat.parse("x^8 + x^4 + x^3 + x + 1", 2).value());
+        Assertions.assertEquals(BigInteger.valueOf(838_089),
+                ModularPolynomialFormat.parse("2x^8 + 3x^6 + 3x^5 + 4x^3 + 3x^2 + 2x + 4", FIVE).value());
+        Assertions.assertEquals(BigInteger.ZERO, ModularPolynomialFormat.parse("0", FIVE).value());
+    }
+
+    @Test
+    public void testParseLenient() {
+        // 4 + x^1 + 7*x^2 - 2x^0 + x^2 = 3x^2 + x + 2 (mod 5)
+        final ModularPolynomial polynomial = ModularPolynomialFormat.parse(" 4+x^1 +7 * x ^ 2 - 2x^0\n+x^2 ", FIVE);
+        Assertions.assertEquals(ModularPolynomialFormat.parse("3x^2 + x + 2", FIVE).value(), polynomial.value());
+        Assertions.assertEquals(BigInteger.ONE, ModularPolynomialFormat.parse("-x^3 - 1 + x^3 + x^3", 2).value()
+                .xor(BigInteger.valueOf(8)));
+    }
+
+    @Test
+    public void testParseLargeModulus() {
+        final BigInteger coefficient = LARGE_PRIME.subtract(BigInteger.TEN);
+        final ModularPolynomial polynomial = ModularPolynomialFormat.parse(coefficient + "x^2 + "
+                + LARGE_PRIME.add(BigInteger.TWO), LARGE_PRIME);
+        Assertions.assertEquals(coefficient.multiply(LARGE_PRIME.pow(2)).add(BigInteger.TWO), polynomial.value());
+    }
+
+    @Test
+    public void testParseRoundTrip() {
+        final Random random = new Random(233);
+        for (final BigInteger modulus : new BigInteger[] { BigInteger.TWO, FIVE, LARGE_PRIME }) {
+            final ModularPolynomial polynomial = polynomial(new BigInteger(5000, random), modulus);
+            final ModularPolynomial parsed = ModularPolynomialFormat.parse(polynomial.toString(), modulus);
+            Assertions.assertEquals(polynomial.getClass(), parsed.getClass());
+            Assertions.assertEquals(polynomial.value(), parsed.value());
+        }
+    }
+
+    @Test
+    public void testParseSparse() {
+        final ModularPolynomial polynomial = ModularPolynomialFormat.parse("x^233 + x^74 + 1", 2);
+        Assertions.assertEquals(SparsePolynomial.class, polynomial.getClass());
+        Assertions.assertEquals("x^233 + x^74 + 1", polynomial.toString());
+    }
+
+    @Test
+    public void testParseSparseOfLargeDegree() {
+        // Built straight from its terms, so neither 2^24 coefficients are allocated nor a huge value is decoded.
+        final BigInteger mersenne = BigInteger.ONE.shiftLeft(89).subtract(BigInteger.ONE);
+        for (final BigInteger modulus : new BigInteger[] { BigInteger.valueOf(3), mersenne }) {
+            final ModularPolynomial polynomial = ModularPolynomialFormat.parse("x^16777215 + 2x^5 + x^16777215 + 1",
+                    modulus);
+            Assertions.assertEquals(SparsePolynomial.class, polynomial.getClass());
+            Assertions.assertEquals(ModularPolynomialFormat.MAX_DEGREE, polynomial.degree());
+            Assertions.assertEquals("2x^16777215 + 2x^5 + 1", polynomial.toString());
+        }
+        // Terms that cancel leave a polynomial that is no longer sparse.
+        Assertions.assertSame(polynomial(6, FIVE), ModularPolynomialFormat.parse("x^100 + x + 1 - x^100", FIVE));
+        Assertions.assertEquals(SparsePolynomial.class,
+                ModularPolynomialFormat.parse("x^100 + 4x^100 + x^64 + 1", FIVE).getClass());
+    }
+
+    @Test
+    public void testRead() throws IOException {
+        // Longer than the parser buffer, so that terms straddle reads.
+        final ModularPolynomial polynomial = polynomial(BigInteger.ONE.shiftLeft(20_000).subtract(BigInteger.ONE),
+                BigInteger.TWO);
+        Assertions.assertEquals(polynomial.value(), ModularPolynomialFormat.read(
+                new StringReader(polynomial.toString()), BigInteger.TWO).value());
+    }
+
+    @Test
+    public void testParseResources() throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getResourceAsStream("/irreducibles/5/irreducibles_5_3.txt"), StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            while (line != null) {
+                final int open = line.indexOf('(');
+                final ModularPolynomial polynomial = ModularPolynomialFormat.parse(
+                        line.subSequence(open + 1, line.length() - 1), FIVE);
+                Assertions.assertEquals(new BigInteger(line.substring(0, open - 1)), polynomial.value());
+                line = reader.readLine();
+            }
+        }
+    }
+
+    @Test
+    public void testParseInvalid() {
+        for (final String text : new String[] { "", "x^", "x + ", "2 3", "x^8 x", "y", "+", "x^-1", "3*", "x ++ 1" }) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> ModularPolynomialFormat.parse(text, FIVE),
+                    text);
+        }
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularPolynomialFormat.parse("x", 1));
+    }
+
+    @Test
+    public void testParseExponentOutOfRange() {
+        for (final String text : new String[] { "x^99999999999", "x^2000000000 + 1", "x^16777216" }) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> ModularPolynomialFormat.parse(text, 2),
+                    text);
+            Assertions.assertThrows(IllegalArgumentException.class, () -> ModularPolynomialFormat.parse(text, FIVE),
+                    text);
+        }
+        Assertions.assertEquals(ModularPolynomialFormat.MAX_DEGREE,
+                ModularPolynomialFormat.parse("x^16777215 + 1", 2).degree());
+    }
+
+    @Test
+    public void testParseInterned() {
+        Assertions.assertSame(polynomial(11, BigInteger.TWO), ModularPolynomialFormat.parse("x^3 + x + 1", 2));
+        Assertions.assertSame(polynomial(27, FIVE), ModularPolynomialFormat.parse("x^2 + 2", FIVE));
+        Assertions.assertSame(polynomial(0, FIVE), ModularPolynomialFormat.parse("5", FIVE));
+    }
+
+    private static ModularPolynomial polynomial(final long value,
+                                                final BigInteger modulus) {
+        return polynomial(BigInteger.valueOf(value), modulus);
+    }
+
+    private static ModularPolynomial polynomial(final BigInteger value,
+                                                final BigInteger modulus) {
+        return ModularPolynomialFactory.fromValue()
+                .withValue(value)
+                .withModulus(modulus)
+                .build();
+    }
+}
@@ -0,0 +1,163 @@
+package com.caw.math.model.polynomial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test class for {@link ModularPolynomialGcd}.
+ *
+ * @author cwhitmore
+ */
+
+public class ModularPolynomialGcdTest {
+
+    private static final BigInteger PRIME = BigInteger.valueOf(1_000_003);
+
+    @Test
+    public void testGcdZero() {
+        Assertions.assertEquals(List.of(), ModularPolynomialGcd.gcd(List.of(), List.of(), PRIME));
+    }
+
+    @Test
+    public void testGcdWithZeroIsMonic() {
+        // gcd(3x + 6, 0) = x + 2
+        final List<BigInteger> polynomial = List.of(BigInteger.valueOf(6), BigInteger.valueOf(3));
+        Assertions.assertEquals(List.of(BigInteger.TWO, BigInteger.ONE),
+                ModularPolynomialGcd.gcd(List.of(), polynomial, PRIME));
+    }
+
+    @Test
+    public void testCommonFactor() {
+        final Random random = new Random(20);
+        final List<BigInteger> factor = monic(random(40, random));
+        final List<BigInteger> a = multiply(factor, random(30, random));
+        final List<BigInteger> b = multiply(factor, random(25, random));
+        Assertions.assertEquals(factor, ModularPolynomialGcd.gcd(a, b, PRIME));
+    }
+
+    @Test
+    public void testHalfGcdMatchesEuclid() {
+        final Random random = new Random(21);
+        for (final int length : new int[] { ModularPolynomialGcd.THRESHOLD, 300, 700 }) {
+            final List<BigInteger> factor = monic(random(length / 3, random));
+            final List<BigInteger> a = multiply(factor, random(length, random));
+            final List<BigInteger> b = multiply(factor, random(length - 17, random));
+
+            final List<List<BigInteger>> gcd = ModularPolynomialGcd.extendedGcd(a, b, PRIME);
+            Assertions.assertEquals(euclid(a, b), gcd.get(0));
+            Assertions.assertEquals(gcd.get(0), add(multiply(gcd.get(1), a), multiply(gcd.get(2), b)));
+        }
+    }
+
+    @Test
+    public void testExtendedGcdEqualDegrees() {
+        final Random random = new Random(22);
+        final List<BigInteger> a = random(400, random);
+        final List<BigInteger> b = random(400, random);
+
+        final List<List<BigInteger>> gcd = ModularPolynomialGcd.extendedGcd(a, b, PRIME);
+        Assertions.assertEquals(euclid(a, b), gcd.get(0));
+        Assertions.assertEquals(gcd.get(0), add(multiply(gcd.get(1), a), multiply(gcd.get(2), b)));
+    }
+
+    @Test
+    public void testPackedGcdMatchesHalfGcd() {
+        final Random random = new Random(23);
+        final List<BigInteger> factor = monic(random(20, random));
+        final List<BigInteger> a = multiply(factor, random(60, random));
+        final List<BigInteger> b = multiply(factor, random(50, random));
+
+        final long[][] gcd = ModularPolynomialGcd.gcd(pack(a), pack(b), PRIME.longValueExact(), true);
+        final List<List<BigInteger>> expected = ModularPolynomialGcd.extendedGcd(a, b, PRIME);
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertArrayEquals(pack(expected.get(i)), gcd[i]);
+        }
+    }
+
+    private static List<BigInteger> random(final int length, final Random random) {
+        final List<BigInteger> coefficients = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            coefficients.add(BigInteger.valueOf(random.nextInt(PRIME.intValue())));
+        }
+        coefficients.set(length - 1, BigInteger.ONE.add(BigInteger.valueOf(random.nextInt(PRIME.intValue() - 1))));
+        return coefficients;
+    }
+
+    private static List<BigInteger> monic(final List<BigInteger> coefficients) {
+        final BigInteger inverse = coefficients.get(coefficients.size() - 1).modInverse(PRIME);
+        final List<BigInteger> monic = new ArrayList<>(coefficients.size());
+        for (final BigInteger coefficient : coefficients) {
+            monic.add(coefficient.multiply(inverse).mod(PRIME));
+        }
+        return monic;
+    }
+
+    private static List<BigInteger> multiply(final List<BigInteger> multiplicand,
+                                             final List<BigInteger> multiplier) {
+        if (multiplicand.isEmpty() || multiplier.isEmpty()) {
+            return List.of();
+        }
+        final BigInteger[] product = new BigInteger[multiplicand.size() + multiplier.size() - 1];
+        Arrays.fill(product, BigInteger.ZERO);
+        for (int i = 0; i < multiplicand.size(); i++) {
+            for (int j = 0; j < multiplier.size(); j++) {
+                product[i + j] = product[i + j].add(multiplicand.get(i).multiply(multiplier.get(j))).mod(PRIME);
+            }
+        }
+        return trimmed(List.of(product));
+    }
+
+    private static List<BigInteger> add(final List<BigInteger> augend,
+                                        final List<BigInteger> addend) {
+        final List<BigInteger> sum = new ArrayList<>();
+        for (int i = 0; i < Math.max(augend.size(), addend.size()); i++) {
+            final BigInteger left = i < augend.size() ? augend.get(i) : BigInteger.ZERO;
+            final BigInteger right = i < addend.size() ? addend.get(i) : BigInteger.ZERO;
+            sum.add(left.add(right).mod(PRIME));
+        }
+        return trimmed(sum);
+    }
+
+    /**
+     * Calculate the monic greatest common divisor with the classical Euclidean algorithm.
+     */
+
+    private static List<BigInteger> euclid(final List<BigInteger> a,
+                                           final List<BigInteger> b) {
+
+        List<BigInteger> r0 = a;
+        List<BigInteger> r1 = b;
+        while (!r1.isEmpty()) {
+            final List<BigInteger> remainder = new ArrayList<>(r0);
+            final BigInteger inverse = r1.get(r1.size() - 1).modInverse(PRIME);
+            for (int i = remainder.size() - 1; i >= r1.size() - 1; i--) {
+                final BigInteger factor = remainder.get(i).multiply(inverse).mod(PRIME);
+                for (int j = 0; j < r1.size(); j++) {
+                    final int index = i - r1.size() + 1 + j;
+                    remainder.set(index, remainder.get(index).subtract(factor.multiply(r1.get(j))).mod(PRIME));
+                }
+            }
+            r0 = r1;
+            r1 = trimmed(remainder);
+        }
+        return r0.isEmpty() ? r0 : monic(r0);
+    }
+
+    private static List<BigInteger> trimmed(final List<BigInteger> coefficients) {
+        int length = coefficients.size();
+        while (length > 0 && coefficients.get(length - 1).signum() == 0) {
+            length--;
+        }
+        return new ArrayList<>(coefficients.subList(0, length));
+    }
+
+    private static long[] pack(final List<BigInteger> coefficients) {
+        return coefficients.stream().mapToLong(BigInteger::longValueExact).toArray();
+    }
+}
@@ -0,0 +1,118 @@
+package com.caw.math.model.polynomial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test class for {@link ModularPolynomialGenerator}.
+ *
+ * @author cwhitmore
+ */
+
+public class ModularPolynomialGeneratorTest {
+
+    private static final BigInteger THREE = BigInteger.valueOf(3);
+    private static final BigInteger FIVE = BigInteger.valueOf(5);
+
+    private final ModularPolynomialGenerator generator = new ModularPolynomialGenerator(new Random(283));
+
+    @Test
+    public void testCountIrreducibles() {
+        Assertions.assertEquals(BigInteger.TWO, ModularPolynomialGenerator.countIrreducibles(BigInteger.TWO, 1));
+        Assertions.assertEquals(BigInteger.valueOf(30),
+                ModularPolynomialGenerator.countIrreducibles(BigInteger.TWO, 8));
+        Assertions.assertEquals(BigInteger.valueOf(18), ModularPolynomialGenerator.countIrreducibles(THREE, 4));
+        Assertions.assertEquals(new BigInteger("12676506002282282755967953152"),
+                ModularPolynomialGenerator.countIrreducibles(BigInteger.TWO, 100));
+    }
+
+    @Test
+    public void testCountIrreduciblesMatchesEnumeration() {
+        Assertions.assertEquals(ModularPolynomialIrreducibility.monicIrreducibles(FIVE, 3).count(),
+                ModularPolynomialGenerator.countIrreducibles(FIVE, 3).longValueExact());
+    }
+
+    @Test
+    public void testCountPrimitives() {
+        Assertions.assertEquals(BigInteger.valueOf(16), ModularPolynomialGenerator.countPrimitives(BigInteger.TWO, 8));
+        Assertions.assertEquals(new BigInteger("143890337947975680"),
+                ModularPolynomialGenerator.countPrimitives(BigInteger.TWO, 64));
+    }
+
+    @Test
+    public void testCountPrimitivesMatchesEnumeration() {
+        for (final BigInteger modulus : List.of(BigInteger.TWO, THREE, FIVE)) {
+            for (int degree = 1; degree <= 4; degree++) {
+                Assertions.assertEquals(ModularPolynomialGenerator.countPrimitives(modulus, degree).longValueExact(),
+                        ModularPolynomialIrreducibility.monicIrreducibles(modulus, degree)
+                                .filter(ModularPolynomialGenerator::isPrimitive)
+                                .count(),
+                        "modulus=" + modulus + ", degree=" + degree);
+            }
+        }
+    }
+
+    @Test
+    public void testIsPrimitive() {
+        // x^8 + x^4 + x^3 + x + 1 is irreducible, but x only has order 51 modulo it
+        Assertions.assertFalse(ModularPolynomialGenerator.isPrimitive(polynomial(283, 2)));
+        Assertions.assertTrue(ModularPolynomialGenerator.isPrimitive(polynomial(285, 2)));
+        // x is irreducible, but not a unit modulo itself
+        Assertions.assertFalse(ModularPolynomialGenerator.isPrimitive(polynomial(2, 2)));
+        // x^2 + 1 is reducible modulo 2
+        Assertions.assertFalse(ModularPolynomialGenerator.isPrimitive(polynomial(5, 2)));
+        // zero and the constants are not irreducible
+        Assertions.assertFalse(ModularPolynomialGenerator.isPrimitive(polynomial(0, 2)));
+        Assertions.assertFalse(ModularPolynomialGenerator.isPrimitive(polynomial(1, 2)));
+        Assertions.assertFalse(ModularPolynomialGenerator.isPrimitive(polynomial(3, 7)));
+    }
+
+    @Test
+    public void testIrreducibleLargeDegree() {
+        final ModularPolynomial polynomial = generator.irreducible(BigInteger.TWO, 300);
+        Assertions.assertEquals(300, polynomial.degree());
+        Assertions.assertTrue(ModularPolynomialIrreducibility.isIrreducible(polynomial));
+    }
+
+    @Test
+    public void testIrreducibleLargeModulus() {
+        final BigInteger modulus = BigInteger.ONE.shiftLeft(89).subtract(BigInteger.ONE);
+        final ModularPolynomial polynomial = generator.irreducible(modulus, 12);
+        Assertions.assertEquals(12, polynomial.degree());
+        Assertions.assertEquals(BigInteger.ONE, polynomial.coefficients().get(12));
+        Assertions.assertTrue(ModularPolynomialIrreducibility.isIrreducible(polynomial));
+    }
+
+    @Test
+    public void testPrimitive() {
+        final ModularPolynomial polynomial = generator.primitive(BigInteger.TWO, 64);
+        Assertions.assertEquals(64, polynomial.degree());
+        Assertions.assertTrue(ModularPolynomialGenerator.isPrimitive(polynomial));
+    }
+
+    @Test
+    public void testPrimitiveLargeModulus() {
+        final ModularPolynomial polynomial = generator.primitive(BigInteger.valueOf(1_000_003), 6);
+        Assertions.assertEquals(6, polynomial.degree());
+        Assertions.assertTrue(ModularPolynomialGenerator.isPrimitive(polynomial));
+    }
+
+    @Test
+    public void testIllegalParameters() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ModularPolynomialGenerator.countIrreducibles(BigInteger.ONE, 2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> generator.irreducible(BigInteger.TWO, 0));
+    }
+
+    private static ModularPolynomial polynomial(final long value,
+                                                final long modulus) {
+        return ModularPolynomialFactory.fromValue()
+                .withValue(value)
+                .withModulus(modulus)
+                .build();
+    }
+}
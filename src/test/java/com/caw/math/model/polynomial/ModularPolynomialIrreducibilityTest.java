@@ -0,0 +1,139 @@
+package com.caw.math.model.polynomial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test class for {@link ModularPolynomialIrreducibility}.
+ *
+ * @author cwhitmore
+ */
+
+public class ModularPolynomialIrreducibilityTest {
+
+    @Test
+    public void testConstantIsNotIrreducible() {
+        Assertions.assertFalse(ModularPolynomialIrreducibility.isIrreducible(polynomial(3, 5)));
+        Assertions.assertFalse(ModularPolynomialIrreducibility.isIrreducible(polynomial(0, 5)));
+    }
+
+    @Test
+    public void testLinearIsIrreducible() {
+        Assertions.assertTrue(ModularPolynomialIrreducibility.isIrreducible(polynomial(13, 5)));
+    }
+
+    @Test
+    public void testBinary() {
+        // x^8 + x^4 + x^3 + x + 1 and x^8 + x^4 + x^3 + x^2 + 1 are irreducible, x^8 + x^4 + x^3 + x^2 + x + 1 is not.
+        Assertions.assertTrue(ModularPolynomialIrreducibility.isIrreducible(polynomial(283, 2)));
+        Assertions.assertTrue(ModularPolynomialIrreducibility.isIrreducible(polynomial(285, 2)));
+        Assertions.assertFalse(ModularPolynomialIrreducibility.isIrreducible(polynomial(287, 2)));
+    }
+
+    @Test
+    public void testSquareOfIrreducible() {
+        // (x^2 + 2)^2 (mod 5) has no root and no factor of degree one.
+        final ModularPolynomial irreducible = polynomial(27, 5);
+        Assertions.assertFalse(ModularPolynomialIrreducibility.isIrreducible(irreducible.multiply(irreducible)));
+    }
+
+    @Test
+    public void testBinaryLargeDegree() {
+        final ModularPolynomial trinomial = ModularPolynomialFactory.fromValue()
+                .withValue(BigInteger.ONE.shiftLeft(233).setBit(74).setBit(0))
+                .withModulus(BigInteger.TWO)
+                .build();
+        Assertions.assertTrue(ModularPolynomialIrreducibility.isIrreducible(trinomial));
+    }
+
+    @Test
+    public void testMatchesFactorization() {
+        final ModularPolynomialFactorizer factorizer = new ModularPolynomialFactorizer();
+        final Random random = new Random(70);
+        for (int i = 0; i < 200; i++) {
+            final ModularPolynomial polynomial = polynomial(7L * 7 * 7 * 7 * 7 + random.nextInt(6 * 7 * 7 * 7 * 7 * 7), 7);
+            final List<ModularPolynomialFactor> factors = factorizer.factor(polynomial);
+            final boolean irreducible = factors.size() == 1 && factors.get(0).multiplicity() == 1;
+            Assertions.assertEquals(irreducible, ModularPolynomialIrreducibility.isIrreducible(polynomial));
+        }
+    }
+
+    @Test
+    public void testLargeModulusUsesComposition() {
+        // With p = 1 (mod 4), x^(2^k) - a is irreducible exactly when a is not a square, and 3 is not a square
+        // modulo 998244353. So x^64 - 3 is irreducible, while x^64 - 9 = (x^32 - 3)(x^32 + 3) is not.
+        final long prime = 998_244_353;
+        Assertions.assertTrue(ModularPolynomialIrreducibility.isIrreducible(binomial(64, prime - 3, prime)));
+        Assertions.assertFalse(ModularPolynomialIrreducibility.isIrreducible(binomial(64, prime - 9, prime)));
+    }
+
+    @Test
+    public void testIrreduciblesCount() {
+        // 10 monic irreducibles of degree two modulo 5, times four leading coefficients
+        Assertions.assertEquals(40, ModularPolynomialIrreducibility.irreducibles(BigInteger.valueOf(5), 2).count());
+        Assertions.assertEquals(30, ModularPolynomialIrreducibility.irreducibles(BigInteger.TWO, 8).count());
+    }
+
+    @Test
+    public void testMonicIrreduciblesCount() {
+        Assertions.assertEquals(18, ModularPolynomialIrreducibility.monicIrreducibles(BigInteger.valueOf(3), 4).count());
+    }
+
+    @Test
+    public void testIrreduciblesParallelMatchesSequential() {
+        final BigInteger five = BigInteger.valueOf(5);
+        final List<BigInteger> parallel = ModularPolynomialIrreducibility.irreducibles(five, 3)
+                .map(ModularPolynomial::value)
+                .toList();
+        final List<BigInteger> sequential = ModularPolynomialIrreducibility.irreducibles(five, 3)
+                .sequential()
+                .map(ModularPolynomial::value)
+                .toList();
+        Assertions.assertEquals(160, parallel.size());
+        Assertions.assertEquals(sequential, parallel);
+        for (int i = 1; i < parallel.size(); i++) {
+            Assertions.assertTrue(parallel.get(i - 1).compareTo(parallel.get(i)) < 0);
+        }
+    }
+
+    @Test
+    public void testIrreduciblesIsLazy() {
+        // There are about 2.5 * 10^35 candidates, but the first few are found straight away.
+        final BigInteger prime = BigInteger.valueOf(1_000_003);
+        final List<ModularPolynomial> first = ModularPolynomialIrreducibility.monicIrreducibles(prime, 6)
+                .limit(3)
+                .toList();
+        Assertions.assertEquals(3, first.size());
+        for (final ModularPolynomial polynomial : first) {
+            Assertions.assertEquals(6, polynomial.degree());
+            Assertions.assertTrue(ModularPolynomialIrreducibility.isIrreducible(polynomial));
+        }
+    }
+
+    @Test
+    public void testIrreduciblesIllegalDegree() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ModularPolynomialIrreducibility.irreducibles(BigInteger.TWO, 0));
+    }
+
+    private static ModularPolynomial binomial(final int degree,
+                                              final long constant,
+                                              final long modulus) {
+        return ModularPolynomialFactory.fromValue()
+                .withValue(BigInteger.valueOf(modulus).pow(degree).add(BigInteger.valueOf(constant)))
+                .withModulus(BigInteger.valueOf(modulus))
+                .build();
+    }
+
+    private static ModularPolynomial polynomial(final long value,
+                                                final long modulus) {
+        return ModularPolynomialFactory.fromValue()
+                .withValue(BigInteger.valueOf(value))
+                .withModulus(BigInteger.valueOf(modulus))
+                .build();
+    }
+}
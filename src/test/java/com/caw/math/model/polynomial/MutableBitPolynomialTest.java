@@ -0,0 +1,188 @@
+package com.caw.math.model.polynomial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+/**
+ * Test class for {@link MutableBitPolynomial}.
+ *
+ * @author cwhitmore
+ */
+
+public class MutableBitPolynomialTest {
+
+    // x^233 + x^74 + 1
+    private static final BigInteger TRINOMIAL = BigInteger.ONE.shiftLeft(233).setBit(74).setBit(0);
+
+    @Test
+    public void testNegativeValueIllegalArgument() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MutableBitPolynomial(BigInteger.valueOf(-1)));
+    }
+
+    @Test
+    public void testValue() {
+        final Random random = new Random(42);
+        for (int bits = 0; bits < 300; bits += 7) {
+            final BigInteger value = new BigInteger(bits, random);
+            Assertions.assertEquals(value, new MutableBitPolynomial(value).value());
+        }
+    }
+
+    @Test
+    public void testDegree() {
+        Assertions.assertEquals(0, new MutableBitPolynomial().degree());
+        Assertions.assertEquals(233, new MutableBitPolynomial(TRINOMIAL).degree());
+    }
+
+    @Test
+    public void testSetBitsAcrossWords() {
+        final MutableBitPolynomial polynomial = new MutableBitPolynomial();
+        polynomial.setBit(0).setBit(64).setBit(200).flipBit(63);
+        Assertions.assertEquals(BigInteger.ZERO.setBit(0).setBit(63).setBit(64).setBit(200), polynomial.value());
+
+        polynomial.clearBit(200);
+        Assertions.assertEquals(64, polynomial.degree());
+        Assertions.assertTrue(polynomial.testBit(63));
+        Assertions.assertFalse(polynomial.testBit(62));
+    }
+
+    @Test
+    public void testXorInPlace() {
+        final BigInteger augend = BigInteger.ONE.shiftLeft(150).subtract(BigInteger.ONE);
+        final MutableBitPolynomial polynomial = new MutableBitPolynomial(augend);
+        polynomial.xorInPlace(new BitPolynomial(TRINOMIAL));
+        Assertions.assertEquals(augend.xor(TRINOMIAL), polynomial.value());
+    }
+
+    @Test
+    public void testXorInPlaceSelf() {
+        final MutableBitPolynomial polynomial = new MutableBitPolynomial(TRINOMIAL);
+        polynomial.xorInPlace(polynomial);
+        Assertions.assertTrue(polynomial.isZero());
+    }
+
+    @Test
+    public void testXorShiftedInPlace() {
+        final Random random = new Random(7);
+        for (int shift = 0; shift < 200; shift += 13) {
+            final BigInteger augend = new BigInteger(250, random);
+            final BigInteger addend = new BigInteger(180, random);
+            final MutableBitPolynomial polynomial = new MutableBitPolynomial(augend);
+            polynomial.xorShiftedInPlace(new MutableBitPolynomial(addend), shift);
+            Assertions.assertEquals(augend.xor(addend.shiftLeft(shift)), polynomial.value());
+        }
+    }
+
+    @Test
+    public void testXorShiftedInPlaceSelf() {
+        final MutableBitPolynomial polynomial = new MutableBitPolynomial(TRINOMIAL);
+        polynomial.xorShiftedInPlace(polynomial, 70);
+        Assertions.assertEquals(TRINOMIAL.xor(TRINOMIAL.shiftLeft(70)), polynomial.value());
+    }
+
+    @Test
+    public void testShiftInPlace() {
+        final MutableBitPolynomial polynomial = new MutableBitPolynomial(TRINOMIAL);
+        Assertions.assertEquals(TRINOMIAL.shiftLeft(131), polynomial.shiftLeftInPlace(131).value());
+        Assertions.assertEquals(TRINOMIAL.shiftLeft(131).shiftRight(140), polynomial.shiftRightInPlace(140).value());
+        Assertions.assertTrue(polynomial.shiftRightInPlace(1000).isZero());
+    }
+
+    @Test
+    public void testMultiply() {
+        // 42 = 101010
+        // 13 = 1101
+        // 42 * 13 = 101010 + 10101000 + 101010000 = 111010010
+        final MutableBitPolynomial multiplicand = new MutableBitPolynomial(BigInteger.valueOf(42));
+        Assertions.assertEquals(BigInteger.valueOf(466), multiplicand.multiply(13).value());
+        Assertions.assertEquals(BigInteger.valueOf(42), multiplicand.value());
+    }
+
+    @Test
+    public void testSetProductMatchesBitPolynomial() {
+        final Random random = new Random(11);
+        final MutableBitPolynomial product = new MutableBitPolynomial();
+        for (int i = 0; i < 20; i++) {
+            final BigInteger multiplicand = new BigInteger(233, random);
+            final BigInteger multiplier = new BigInteger(233, random);
+            product.setProduct(new MutableBitPolynomial(multiplicand), new MutableBitPolynomial(multiplier));
+            Assertions.assertEquals(new BitPolynomial(multiplicand).multiply(multiplier).value(), product.value());
+        }
+    }
+
+    @Test
+    public void testSetProductSquareInPlace() {
+        final MutableBitPolynomial polynomial = new MutableBitPolynomial(TRINOMIAL);
+        polynomial.setProduct(polynomial, polynomial);
+        Assertions.assertEquals(new BitPolynomial(TRINOMIAL).multiply(TRINOMIAL).value(), polynomial.value());
+    }
+
+    @Test
+    public void testReduceInPlace() {
+        // x^233 = x^74 + 1 (mod x^233 + x^74 + 1)
+        final MutableBitPolynomial polynomial = new MutableBitPolynomial(BigInteger.ONE.shiftLeft(233));
+        polynomial.reduceInPlace(new MutableBitPolynomial(TRINOMIAL));
+        Assertions.assertEquals(BigInteger.ONE.shiftLeft(74).setBit(0), polynomial.value());
+    }
+
+    @Test
+    public void testReduceInPlaceMatchesWordBitPolynomial() {
+        final Random random = new Random(3);
+        final MutableBitPolynomial modulus = new MutableBitPolynomial(BigInteger.valueOf(283));
+        for (int i = 0; i < 50; i++) {
+            final long value = random.nextLong() & Long.MAX_VALUE;
+            final MutableBitPolynomial polynomial = new MutableBitPolynomial(BigInteger.valueOf(value));
+            final WordBitPolynomial expected = new WordBitPolynomial(value).remainder(new WordBitPolynomial(283));
+            Assertions.assertEquals(expected.value(), polynomial.reduceInPlace(modulus).value());
+        }
+    }
+
+    @Test
+    public void testReduceInPlaceZeroIllegalArgument() {
+        final MutableBitPolynomial polynomial = new MutableBitPolynomial(TRINOMIAL);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> polynomial.reduceInPlace(new MutableBitPolynomial()));
+    }
+
+    @Test
+    public void testDivideAndRemainder() {
+        final MutableBitPolynomial dividend = new MutableBitPolynomial(new BigInteger(500, new Random(4)));
+        final MutableBitPolynomial[] division = dividend.divideAndRemainder(new MutableBitPolynomial(TRINOMIAL));
+        Assertions.assertEquals(dividend.copy().reduceInPlace(new MutableBitPolynomial(TRINOMIAL)).value(),
+                division[1].value());
+        Assertions.assertEquals(dividend.value(), division[0].multiply(TRINOMIAL).add(division[1]).value());
+    }
+
+    @Test
+    public void testExtendedGcd() {
+        final MutableBitPolynomial factor = new MutableBitPolynomial(TRINOMIAL);
+        final MutableBitPolynomial a = factor.multiply(new BigInteger(180, new Random(5)).setBit(179));
+        final MutableBitPolynomial b = factor.multiply(new BigInteger(150, new Random(6)).setBit(149));
+
+        final MutableBitPolynomial[] gcd = a.extendedGcd(b);
+        Assertions.assertTrue(gcd[0].divideAndRemainder(factor)[1].isZero());
+        Assertions.assertEquals(gcd[0].value(), a.gcd(b).value());
+        Assertions.assertEquals(gcd[0].value(), gcd[1].multiply(a).add(gcd[2].multiply(b)).value());
+    }
+
+    @Test
+    public void testFreeze() {
+        final MutableBitPolynomial polynomial = new MutableBitPolynomial(BigInteger.valueOf(42));
+        final ModularPolynomial small = polynomial.freeze();
+        Assertions.assertEquals(WordBitPolynomial.class, small.getClass());
+
+        polynomial.setBit(100);
+        final ModularPolynomial large = polynomial.freeze();
+        Assertions.assertEquals(BitPolynomial.class, large.getClass());
+        Assertions.assertEquals(BigInteger.valueOf(42), small.value());
+        Assertions.assertEquals(BigInteger.valueOf(42).setBit(100), large.value());
+    }
+
+    @Test
+    public void testToString() {
+        Assertions.assertEquals("0", new MutableBitPolynomial().toString());
+        Assertions.assertEquals("x^233 + x^74 + 1", new MutableBitPolynomial(TRINOMIAL).toString());
+    }
+}
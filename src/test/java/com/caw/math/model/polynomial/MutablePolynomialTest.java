@@ -0,0 +1,134 @@
+package com.caw.math.model.polynomial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+/**
+ * Test class for {@link MutablePolynomial}.
+ *
+ * @author cwhitmore
+ */
+
+public class MutablePolynomialTest {
+
+    // x^8 + 2 (mod 5)
+    private static final PackedPolynomial IRREDUCIBLE = new PackedPolynomial(390_627, 5);
+
+    @Test
+    public void testIllegalModulus() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MutablePolynomial(2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new MutablePolynomial(PackedPolynomial.MAX_MODULUS + 1));
+    }
+
+    @Test
+    public void testAddInPlace() {
+        // 55 (mod 5) = 2x^2 + x
+        // 22 (mod 5) = 4x + 2
+        // 2x^2 + 5x + 2 = 2x^2 + 2 = 52
+        final MutablePolynomial accumulator = new MutablePolynomial(5).set(BigInteger.valueOf(55));
+        accumulator.addInPlace(new PackedPolynomial(22, 5));
+        Assertions.assertEquals(BigInteger.valueOf(52), accumulator.value());
+        Assertions.assertEquals(2, accumulator.degree());
+    }
+
+    @Test
+    public void testSubtractInPlaceToZero() {
+        final MutablePolynomial accumulator = new MutablePolynomial(new PackedPolynomial(1228, 5));
+        accumulator.subtractInPlace(accumulator);
+        Assertions.assertTrue(accumulator.isZero());
+        Assertions.assertEquals(BigInteger.ZERO, accumulator.value());
+    }
+
+    @Test
+    public void testScaleInPlace() {
+        // 3 * (2x^2 + x) = 6x^2 + 3x = x^2 + 3x (mod 5) = 40
+        final MutablePolynomial accumulator = new MutablePolynomial(5).set(BigInteger.valueOf(55));
+        Assertions.assertEquals(BigInteger.valueOf(40), accumulator.scaleInPlace(3).value());
+        Assertions.assertTrue(accumulator.scaleInPlace(BigInteger.valueOf(10)).isZero());
+    }
+
+    @Test
+    public void testMultiplyAccumulateMatchesPacked() {
+        final Random random = new Random(19);
+        final MutablePolynomial accumulator = new MutablePolynomial(1_000_003);
+        PackedPolynomial expected = new PackedPolynomial(0, 1_000_003);
+
+        for (int i = 0; i < 20; i++) {
+            final PackedPolynomial multiplicand = new PackedPolynomial(new BigInteger(100 + i * 40, random), 1_000_003);
+            final PackedPolynomial multiplier = new PackedPolynomial(new BigInteger(100 + i * 30, random), 1_000_003);
+            accumulator.multiplyAccumulate(multiplicand, multiplier);
+            expected = expected.add(multiplicand.multiply(multiplier));
+        }
+
+        Assertions.assertEquals(expected.value(), accumulator.value());
+    }
+
+    @Test
+    public void testMultiplyAccumulateSelf() {
+        // (x + 1) + (x + 1)^2 = x^2 + 3x + 2
+        final MutablePolynomial accumulator = new MutablePolynomial(7).set(BigInteger.valueOf(8));
+        accumulator.multiplyAccumulate(accumulator, accumulator);
+        Assertions.assertEquals(new PackedPolynomial(49 + 21 + 2, 7).value(), accumulator.value());
+    }
+
+    @Test
+    public void testReduceInPlace() {
+        // x^8 = -2 = 3 (mod x^8 + 2, 5)
+        final MutablePolynomial accumulator = new MutablePolynomial(5).set(BigInteger.valueOf(390_625));
+        Assertions.assertEquals(BigInteger.valueOf(3), accumulator.reduceInPlace(IRREDUCIBLE).value());
+    }
+
+    @Test
+    public void testReduceInPlaceMatchesPacked() {
+        final Random random = new Random(23);
+        final MutablePolynomial accumulator = new MutablePolynomial(5);
+        for (int i = 0; i < 20; i++) {
+            final BigInteger value = new BigInteger(200, random);
+            accumulator.set(value).reduceInPlace(IRREDUCIBLE);
+            Assertions.assertEquals(new PackedPolynomial(value, 5).remainder(IRREDUCIBLE).value(), accumulator.value());
+        }
+    }
+
+    @Test
+    public void testReduceInPlaceZeroIllegalArgument() {
+        final MutablePolynomial accumulator = new MutablePolynomial(5).set(BigInteger.TEN);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> accumulator.reduceInPlace(new MutablePolynomial(5)));
+    }
+
+    @Test
+    public void testDivideAndRemainder() {
+        // x^9 = x(x^8 + 2) - 2x = x(x^8 + 2) + 3x (mod 5)
+        final MutablePolynomial accumulator = new MutablePolynomial(5).set(BigInteger.valueOf(1_953_125));
+        final MutablePolynomial[] division = accumulator.divideAndRemainder(IRREDUCIBLE);
+        Assertions.assertEquals(BigInteger.valueOf(5), division[0].value());
+        Assertions.assertEquals(BigInteger.valueOf(15), division[1].value());
+        Assertions.assertEquals(BigInteger.valueOf(1_953_125), accumulator.value());
+    }
+
+    @Test
+    public void testModulusMismatchIllegalArgument() {
+        final MutablePolynomial accumulator = new MutablePolynomial(5);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> accumulator.addInPlace(new PackedPolynomial(10, 7)));
+    }
+
+    @Test
+    public void testFreezeIsIndependent() {
+        final MutablePolynomial accumulator = new MutablePolynomial(5).set(BigInteger.valueOf(1228));
+        final PackedPolynomial frozen = accumulator.freeze();
+        accumulator.clear();
+        Assertions.assertEquals(BigInteger.valueOf(1228), frozen.value());
+        Assertions.assertEquals("x^4 + 4x^3 + 4x^2 + 3", frozen.toString());
+    }
+
+    @Test
+    public void testOperationsDoNotMutate() {
+        final MutablePolynomial polynomial = new MutablePolynomial(5).set(BigInteger.valueOf(55));
+        Assertions.assertEquals(BigInteger.valueOf(52), polynomial.add(22).value());
+        Assertions.assertEquals(new PackedPolynomial(55, 5).multiply(22).value(), polynomial.multiply(22).value());
+        Assertions.assertEquals(new PackedPolynomial(55, 5).subtract(22).value(), polynomial.subtract(22).value());
+        Assertions.assertEquals(BigInteger.valueOf(55), polynomial.value());
+    }
+}
@@ -1,10 +1,12 @@
 package com.caw.math.model.polynomial;
 
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiplyAlgorithm;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigInteger;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Test class for {@link NonBitPolynomial}.
@@ -215,4 +217,77 @@ public class NonBitPolynomialTest {
         Assertions.assertEquals("x^4 + 4x^3 + 4x^2 + 3", nonBitPolynomial.toString());
     }
 
+    @Test
+    public void testMultiplyAlgorithmsAgree() {
+        final BigInteger modulus = BigInteger.ONE.shiftLeft(61).subtract(BigInteger.ONE);
+        final BigInteger multiplicand = new BigInteger(61 * 40, new Random(8));
+        final BigInteger multiplier = new BigInteger(61 * 25, new Random(9));
+
+        final ModularPolynomial kronecker = ModularPolynomialFactory.fromValue()
+                .withValue(multiplicand)
+                .withModulus(modulus)
+                .withMultiplyAlgorithm(PolynomialMultiplyAlgorithm.KRONECKER)
+                .build();
+        final ModularPolynomial schoolbook = ModularPolynomialFactory.fromValue()
+                .withValue(multiplicand)
+                .withModulus(modulus)
+                .withMultiplyAlgorithm(PolynomialMultiplyAlgorithm.SCHOOLBOOK)
+                .build();
+
+        Assertions.assertEquals(NonBitPolynomial.class, kronecker.getClass());
+        Assertions.assertEquals(schoolbook.multiply(multiplier).value(), kronecker.multiply(multiplier).value());
+    }
+
+    @Test
+    public void testDivideAndRemainder() {
+        final BigInteger modulus = BigInteger.ONE.shiftLeft(61).subtract(BigInteger.ONE);
+        final NonBitPolynomial dividend = new NonBitPolynomial(new BigInteger(61 * 30, new Random(11)), modulus);
+        final NonBitPolynomial divisor = new NonBitPolynomial(new BigInteger(61 * 12, new Random(12)), modulus);
+
+        final NonBitPolynomial[] division = dividend.divideAndRemainder(divisor);
+        Assertions.assertTrue(division[1].degree() < divisor.degree());
+        Assertions.assertEquals(dividend.value(), division[0].multiply(divisor).add(division[1]).value());
+    }
+
+    @Test
+    public void testExtendedGcd() {
+        final BigInteger modulus = BigInteger.ONE.shiftLeft(61).subtract(BigInteger.ONE);
+        final NonBitPolynomial factor = new NonBitPolynomial(new BigInteger(61 * 5, new Random(25)), modulus);
+        final NonBitPolynomial a = factor.multiply(new NonBitPolynomial(new BigInteger(61 * 8, new Random(26)), modulus));
+        final NonBitPolynomial b = factor.multiply(new NonBitPolynomial(new BigInteger(61 * 6, new Random(27)), modulus));
+
+        final NonBitPolynomial[] gcd = a.extendedGcd(b);
+        Assertions.assertEquals(factor.degree(), gcd[0].degree());
+        Assertions.assertEquals(BigInteger.ONE, gcd[0].coefficients().get(gcd[0].degree()));
+        Assertions.assertEquals(gcd[0].value(), gcd[1].multiply(a).add(gcd[2].multiply(b)).value());
+        Assertions.assertEquals(gcd[0].value(), a.gcd(b).value());
+    }
+
+    @Test
+    public void testCoefficientsTrimmedAndReduced() {
+        // (7, -1, 5, 0, 0) (mod 5) = 4x + 2
+        final List<BigInteger> coefficients = List.of(BigInteger.valueOf(7), BigInteger.valueOf(-1), BigInteger.valueOf(5),
+                BigInteger.ZERO, BigInteger.ZERO);
+        final NonBitPolynomial polynomial = new NonBitPolynomial(coefficients, BigInteger.valueOf(5));
+        Assertions.assertEquals(1, polynomial.degree());
+        Assertions.assertEquals(List.of(BigInteger.TWO, BigInteger.valueOf(4)), polynomial.coefficients());
+        Assertions.assertEquals(BigInteger.valueOf(22), polynomial.value());
+    }
+
+    @Test
+    public void testCoefficientsIsMutableCopy() {
+        final NonBitPolynomial polynomial = new NonBitPolynomial(1228, 5);
+        final List<BigInteger> coefficients = polynomial.coefficients();
+        coefficients.add(BigInteger.ONE);
+        Assertions.assertEquals(4, polynomial.degree());
+        Assertions.assertEquals(5, polynomial.coefficients().size());
+    }
+
+    @Test
+    public void testZeroFromCoefficients() {
+        final NonBitPolynomial polynomial = new NonBitPolynomial(List.of(BigInteger.valueOf(5)), BigInteger.valueOf(5));
+        Assertions.assertEquals(0, polynomial.degree());
+        Assertions.assertEquals(List.of(BigInteger.ZERO), polynomial.coefficients());
+        Assertions.assertEquals(BigInteger.ZERO, polynomial.value());
+    }
 }
@@ -0,0 +1,307 @@
+package com.caw.math.model.polynomial;
+
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiplyAlgorithm;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test class for {@link PackedPolynomial}.
+ *
+ * @author cwhitmore
+ */
+
+public class PackedPolynomialTest {
+
+    @Test
+    public void testNegativeBigIntegerValueIllegalArgument() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PackedPolynomial(BigInteger.valueOf(-1), 5));
+    }
+
+    @Test
+    public void testNegativeLongValueIllegalArgument() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PackedPolynomial(-1, 5));
+    }
+
+    @Test
+    public void testModulusTwoIllegalArgument() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PackedPolynomial(123, 2));
+    }
+
+    @Test
+    public void testModulusTooLargeIllegalArgument() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PackedPolynomial(123, PackedPolynomial.MAX_MODULUS + 2));
+    }
+
+    @Test
+    public void testFactoryWordSizedModulus() {
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(123)
+                .withModulus(7)
+                .build();
+        Assertions.assertEquals(PackedPolynomial.class, polynomial.getClass());
+    }
+
+    @Test
+    public void testFactoryLargeModulus() {
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(123)
+                .withModulus(BigInteger.valueOf(PackedPolynomial.MAX_MODULUS).nextProbablePrime())
+                .build();
+        Assertions.assertEquals(NonBitPolynomial.class, polynomial.getClass());
+    }
+
+    @Test
+    public void testAddZero() {
+        final PackedPolynomial augend = new PackedPolynomial(55, 5);
+        final PackedPolynomial sum = augend.add(new PackedPolynomial(0, 5));
+        Assertions.assertEquals(BigInteger.valueOf(55), sum.value());
+    }
+
+    @Test
+    public void testAdd() {
+        // 55 (mod 5) = 2x^2 + x
+        // 22 (mod 5) = 4x + 2
+        // 55 + 22 = 2x^2 + 5x + 2 = 2x^2 + 2 = 52
+        final PackedPolynomial augend = new PackedPolynomial(55, 5);
+        final PackedPolynomial sum = augend.add(new PackedPolynomial(22, 5));
+        Assertions.assertEquals(BigInteger.valueOf(52), sum.value());
+    }
+
+    @Test
+    public void testAddBigInteger() {
+        final PackedPolynomial augend = new PackedPolynomial(55, 5);
+        final PackedPolynomial sum = augend.add(BigInteger.valueOf(22));
+        Assertions.assertEquals(BigInteger.valueOf(52), sum.value());
+    }
+
+    @Test
+    public void testAddLong() {
+        final PackedPolynomial augend = new PackedPolynomial(55, 5);
+        final PackedPolynomial sum = augend.add(22);
+        Assertions.assertEquals(BigInteger.valueOf(52), sum.value());
+    }
+
+    @Test
+    public void testAddNonBitPolynomial() {
+        final PackedPolynomial augend = new PackedPolynomial(55, 5);
+        final PackedPolynomial sum = augend.add(new NonBitPolynomial(22, 5));
+        Assertions.assertEquals(BigInteger.valueOf(52), sum.value());
+    }
+
+    @Test
+    public void testCoefficientsZero() {
+        final PackedPolynomial packedPolynomial = new PackedPolynomial(0, 7);
+        final List<BigInteger> coefficients = packedPolynomial.coefficients();
+        Assertions.assertEquals(1, coefficients.size());
+        Assertions.assertEquals(BigInteger.ZERO, coefficients.get(0));
+    }
+
+    @Test
+    public void testCoefficients() {
+        // 123456 = x^6 (117,649) + 2x^4 (4,802) + 2x^3 (686) + 6x^2 (294) + 3x (21) + 4 (4)
+        final PackedPolynomial packedPolynomial = new PackedPolynomial(123456, 7);
+        final List<BigInteger> coefficients = packedPolynomial.coefficients();
+        Assertions.assertEquals(Arrays.asList(BigInteger.valueOf(4), BigInteger.valueOf(3), BigInteger.valueOf(6),
+                BigInteger.TWO, BigInteger.TWO, BigInteger.ZERO, BigInteger.ONE), coefficients);
+    }
+
+    @Test
+    public void testCoefficientsLargeValue() {
+        final BigInteger value = BigInteger.valueOf(7).pow(200).subtract(BigInteger.ONE);
+        final PackedPolynomial packedPolynomial = new PackedPolynomial(value, 7);
+        Assertions.assertEquals(199, packedPolynomial.degree());
+        Assertions.assertEquals(ModularPolynomial.coefficientsOf(new NonBitPolynomial(value, 7)), packedPolynomial.coefficients());
+    }
+
+    @Test
+    public void testValueFromCoefficients() {
+        // 431 = 4 * 5^2 + 3 * 5 + 1 = 100 + 15 + 1 = 116
+        final PackedPolynomial packedPolynomial = new PackedPolynomial(
+                Arrays.asList(BigInteger.ONE, BigInteger.valueOf(8), BigInteger.valueOf(-1)), 5);
+        Assertions.assertEquals(BigInteger.valueOf(116), packedPolynomial.value());
+    }
+
+    @Test
+    public void testDegreeZero() {
+        final PackedPolynomial packedPolynomial = new PackedPolynomial(0, 3);
+        Assertions.assertEquals(0, packedPolynomial.degree());
+    }
+
+    @Test
+    public void testDegree() {
+        // 99 (mod 3) = x^4 + 2x^2
+        final PackedPolynomial packedPolynomial = new PackedPolynomial(99, 3);
+        Assertions.assertEquals(4, packedPolynomial.degree());
+    }
+
+    @Test
+    public void testMultiplyZero() {
+        final PackedPolynomial multiplicand = new PackedPolynomial(77, 5);
+        final PackedPolynomial product = multiplicand.multiply(new PackedPolynomial(0, 5));
+        Assertions.assertEquals(BigInteger.ZERO, product.value());
+    }
+
+    @Test
+    public void testMultiply() {
+        // 77 (mod 5) =  3x^2 + 2
+        // 22 (mod 5) = 4x + 2
+        // 77 * 22 = (3x^2 + 2) * (4x + 2) = 12x^3 + 6x^2 + 8x + 4 = 2x^3 + x^2 + 3x + 4
+        // = 250 + 25 + 15 + 4 = 294
+        final PackedPolynomial multiplicand = new PackedPolynomial(77, 5);
+        final PackedPolynomial product = multiplicand.multiply(new PackedPolynomial(22, 5));
+        Assertions.assertEquals(BigInteger.valueOf(294), product.value());
+    }
+
+    @Test
+    public void testMultiplyLong() {
+        final PackedPolynomial multiplicand = new PackedPolynomial(77, 5);
+        final PackedPolynomial product = multiplicand.multiply(22);
+        Assertions.assertEquals(BigInteger.valueOf(294), product.value());
+    }
+
+    @Test
+    public void testMultiplyLargeModulus() {
+        // (x + (p - 1))^2 = x^2 + 2(p - 1)x + (p - 1)^2 = x^2 + (p - 2)x + 1
+        final long p = PackedPolynomial.MAX_MODULUS;
+        final PackedPolynomial multiplicand = new PackedPolynomial(p + p - 1, p);
+        final PackedPolynomial product = multiplicand.multiply(multiplicand);
+        Assertions.assertEquals("x^2 + " + (p - 2) + "x + 1", product.toString());
+    }
+
+    @Test
+    public void testRemainder() {
+        // 294 (mod 5) = 2x^3 + x^2 + 3x + 4
+        // 2x^3 + x^2 + 3x + 4 = (2x + 1)(x^2 + 2) + (4x + 2) = 4x + 2 = 22
+        final PackedPolynomial dividend = new PackedPolynomial(294, 5);
+        final PackedPolynomial remainder = dividend.remainder(new PackedPolynomial(27, 5));
+        Assertions.assertEquals(BigInteger.valueOf(22), remainder.value());
+    }
+
+    @Test
+    public void testRemainderZeroIllegalArgument() {
+        final PackedPolynomial dividend = new PackedPolynomial(294, 5);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> dividend.remainder(new PackedPolynomial(0, 5)));
+    }
+
+    @Test
+    public void testCompose() {
+        // (x^2 + 1)(x + 1) = x^2 + 2x + 2 (mod 5, x^3 + 1), where x^2 + 1 = 26, x + 1 = 6, x^3 + 1 = 126 and
+        // x^2 + 2x + 2 = 37
+        final PackedPolynomial composed = new PackedPolynomial(26, 5).compose(new PackedPolynomial(6, 5),
+                new PackedPolynomial(126, 5));
+        Assertions.assertEquals(BigInteger.valueOf(37), composed.value());
+    }
+
+    @Test
+    public void testDivideAndRemainder() {
+        // 2x^3 + x^2 + 3x + 4 = (2x + 1)(x^2 + 2) + (4x + 2), where 2x + 1 = 11 and 4x + 2 = 22
+        final PackedPolynomial[] division = new PackedPolynomial(294, 5).divideAndRemainder(new PackedPolynomial(27, 5));
+        Assertions.assertEquals(BigInteger.valueOf(11), division[0].value());
+        Assertions.assertEquals(BigInteger.valueOf(22), division[1].value());
+    }
+
+    @Test
+    public void testDivideAndRemainderLarge() {
+        final long p = 1_000_003;
+        final Random random = new Random(10);
+        final PackedPolynomial dividend = new PackedPolynomial(new BigInteger(20 * 600, random), p);
+        final PackedPolynomial divisor = new PackedPolynomial(new BigInteger(20 * 280, random), p);
+
+        final PackedPolynomial[] division = dividend.divideAndRemainder(divisor);
+        Assertions.assertEquals(dividend.remainder(divisor).value(), division[1].value());
+        Assertions.assertEquals(dividend.value(), division[0].multiply(divisor).add(division[1]).value());
+    }
+
+    @Test
+    public void testGcd() {
+        // gcd((x^2 + 2)(2x + 1), (x^2 + 2)(x + 4)) = x^2 + 2 (mod 5)
+        final PackedPolynomial factor = new PackedPolynomial(27, 5);
+        final PackedPolynomial a = factor.multiply(new PackedPolynomial(11, 5));
+        final PackedPolynomial b = factor.multiply(new PackedPolynomial(9, 5));
+        Assertions.assertEquals(BigInteger.valueOf(27), a.gcd(b).value());
+    }
+
+    @Test
+    public void testExtendedGcd() {
+        final long p = 1_000_003;
+        final Random random = new Random(24);
+        final PackedPolynomial a = new PackedPolynomial(new BigInteger(20 * 200, random), p);
+        final PackedPolynomial b = new PackedPolynomial(new BigInteger(20 * 150, random), p);
+
+        final PackedPolynomial[] gcd = a.extendedGcd(b);
+        Assertions.assertEquals(a.gcd(b).value(), gcd[0].value());
+        Assertions.assertEquals(gcd[0].value(), gcd[1].multiply(a).add(gcd[2].multiply(b)).value());
+    }
+
+    @Test
+    public void testScale() {
+        // 77 (mod 5) = 3x^2 + 2
+        // 3 * (3x^2 + 2) = 9x^2 + 6 = 4x^2 + 1 = 101
+        final PackedPolynomial polynomial = new PackedPolynomial(77, 5);
+        Assertions.assertEquals(BigInteger.valueOf(101), polynomial.scale(3).value());
+        Assertions.assertEquals(BigInteger.valueOf(101), polynomial.scale(BigInteger.valueOf(-2)).value());
+    }
+
+    @Test
+    public void testSubtract() {
+        // 44 (mod 3) = x^3 (27) + x^2 (9) + 2x (6) + 2 (2)
+        // 54 (mod 3) = 2x^3 (54)
+        // 44 - 27 = -x^3 + x^2 + 2x + 2 = 2x^3 (54) + x^2 (9) + 2x (6) + 2 (2) = 71
+        final PackedPolynomial minuend = new PackedPolynomial(44, 3);
+        final PackedPolynomial difference = minuend.subtract(new PackedPolynomial(54, 3));
+        Assertions.assertEquals(BigInteger.valueOf(71), difference.value());
+    }
+
+    @Test
+    public void testSubtractSelf() {
+        final PackedPolynomial minuend = new PackedPolynomial(44, 3);
+        final PackedPolynomial difference = minuend.subtract(minuend);
+        Assertions.assertEquals(BigInteger.ZERO, difference.value());
+        Assertions.assertEquals(0, difference.degree());
+    }
+
+    @Test
+    public void testToStringZero() {
+        final PackedPolynomial packedPolynomial = new PackedPolynomial(0, 5);
+        Assertions.assertEquals("0", packedPolynomial.toString());
+    }
+
+    @Test
+    public void testToStringTwo() {
+        final PackedPolynomial packedPolynomial = new PackedPolynomial(2, 5);
+        Assertions.assertEquals("2", packedPolynomial.toString());
+    }
+
+    @Test
+    public void testToString() {
+        final PackedPolynomial packedPolynomial = new PackedPolynomial(1228, 5);
+        Assertions.assertEquals("x^4 + 4x^3 + 4x^2 + 3", packedPolynomial.toString());
+    }
+
+    @Test
+    public void testFactorySmallValuesInterned() {
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(123)
+                .withModulus(7)
+                .build();
+        Assertions.assertSame(polynomial, ModularPolynomialFactory.fromValue().withValue(123).withModulus(7).build());
+        Assertions.assertNotSame(polynomial, ModularPolynomialFactory.fromValue().withValue(123).withModulus(11).build());
+        Assertions.assertNotSame(polynomial, ModularPolynomialFactory.fromValue()
+                .withValue(123)
+                .withModulus(7)
+                .withMultiplyAlgorithm(PolynomialMultiplyAlgorithm.SCHOOLBOOK)
+                .build());
+    }
+
+    @Test
+    public void testFactoryLargeValuesNotInterned() {
+        final long value = ModularPolynomialFactory.MAX_CACHED_VALUE;
+        Assertions.assertNotSame(ModularPolynomialFactory.fromValue().withValue(value).withModulus(7).build(),
+                ModularPolynomialFactory.fromValue().withValue(value).withModulus(7).build());
+    }
+}
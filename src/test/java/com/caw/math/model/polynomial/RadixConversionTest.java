@@ -0,0 +1,104 @@
+package com.caw.math.model.polynomial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test class for {@link RadixConversion}.
+ *
+ * @author cwhitmore
+ */
+
+public class RadixConversionTest {
+
+    @Test
+    public void testZero() {
+        Assertions.assertTrue(RadixConversion.decode(BigInteger.ZERO, BigInteger.valueOf(5)).isEmpty());
+        Assertions.assertEquals(BigInteger.ZERO, RadixConversion.encode(List.of(), BigInteger.valueOf(5)));
+    }
+
+    @Test
+    public void testDecode() {
+        // 1228 = 1 * 5^4 + 4 * 5^3 + 4 * 5^2 + 0 * 5 + 3
+        final List<BigInteger> digits = RadixConversion.decode(BigInteger.valueOf(1228), BigInteger.valueOf(5));
+        Assertions.assertEquals(digits(3, 0, 4, 4, 1), digits);
+    }
+
+    @Test
+    public void testEncodeLeadingZeros() {
+        Assertions.assertEquals(BigInteger.valueOf(1228), RadixConversion.encode(digits(3, 0, 4, 4, 1, 0, 0),
+                BigInteger.valueOf(5)));
+    }
+
+    @Test
+    public void testRoundTripAgainstToString() {
+        final Random random = new Random(31);
+        for (final int radix : new int[] { 2, 3, 7, 10, 36 }) {
+            for (int bits = 1; bits < 5000; bits = bits * 3 + 1) {
+                final BigInteger value = new BigInteger(bits, random).setBit(bits - 1);
+                final List<BigInteger> digits = RadixConversion.decode(value, BigInteger.valueOf(radix));
+
+                final String expected = value.toString(radix);
+                Assertions.assertEquals(expected.length(), digits.size());
+                for (int i = 0; i < digits.size(); i++) {
+                    final int digit = Character.digit(expected.charAt(expected.length() - 1 - i), radix);
+                    Assertions.assertEquals(BigInteger.valueOf(digit), digits.get(i));
+                }
+                Assertions.assertEquals(value, RadixConversion.encode(digits, BigInteger.valueOf(radix)));
+            }
+        }
+    }
+
+    @Test
+    public void testRoundTripLargeRadix() {
+        final Random random = new Random(32);
+        final BigInteger radix = BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE);
+        final List<BigInteger> digits = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            digits.add(new BigInteger(126, random));
+        }
+        digits.add(BigInteger.ONE);
+
+        final BigInteger value = RadixConversion.encode(digits, radix);
+        Assertions.assertEquals(digits, RadixConversion.decode(value, radix));
+    }
+
+    @Test
+    public void testRoundTripBeyondCachedPowers() {
+        // Powers of 7 beyond 2^16 bits are not cached, so the second conversion squares them again.
+        final Random random = new Random(7);
+        final BigInteger radix = BigInteger.valueOf(7);
+        final List<BigInteger> digits = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            digits.add(BigInteger.valueOf(random.nextInt(7)));
+        }
+        digits.add(BigInteger.ONE);
+
+        final BigInteger value = RadixConversion.encode(digits, radix);
+        Assertions.assertEquals(digits, RadixConversion.decode(value, radix));
+        Assertions.assertEquals(value, RadixConversion.encode(digits, radix));
+    }
+
+    @Test
+    public void testRoundTripInteriorZeros() {
+        // x^100 with a modulus of 3 is a single digit followed by a long run of zero digits.
+        final BigInteger value = BigInteger.valueOf(3).pow(100);
+        final List<BigInteger> digits = RadixConversion.decode(value, BigInteger.valueOf(3));
+        Assertions.assertEquals(101, digits.size());
+        Assertions.assertEquals(BigInteger.ONE, digits.get(100));
+        Assertions.assertEquals(value, RadixConversion.encode(digits, BigInteger.valueOf(3)));
+    }
+
+    private static List<BigInteger> digits(final long... digits) {
+        final List<BigInteger> list = new ArrayList<>();
+        for (final long digit : digits) {
+            list.add(BigInteger.valueOf(digit));
+        }
+        return list;
+    }
+}
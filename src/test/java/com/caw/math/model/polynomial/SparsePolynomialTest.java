@@ -0,0 +1,247 @@
+package com.caw.math.model.polynomial;
+
+import com.caw.math.model.polynomial.algorithm.multiply.PolynomialMultiplyAlgorithm;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test class for {@link SparsePolynomial}.
+ *
+ * @author cwhitmore
+ */
+
+public class SparsePolynomialTest {
+
+    // x^233 + x^74 + 1
+    private static final BigInteger TRINOMIAL = BigInteger.ONE.shiftLeft(233).setBit(74).setBit(0);
+
+    // x^163 + x^7 + x^6 + x^3 + 1
+    private static final BigInteger PENTANOMIAL = BigInteger.ONE.shiftLeft(163).setBit(7).setBit(6).setBit(3).setBit(0);
+
+    private static final BigInteger LARGE_PRIME = BigInteger.ONE.shiftLeft(89).subtract(BigInteger.ONE);
+
+    @Test
+    public void testFactoryTrinomial() {
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(TRINOMIAL)
+                .build();
+        Assertions.assertEquals(SparsePolynomial.class, polynomial.getClass());
+        Assertions.assertEquals(233, polynomial.degree());
+        Assertions.assertEquals(TRINOMIAL, polynomial.value());
+    }
+
+    @Test
+    public void testFactoryPentanomial() {
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(PENTANOMIAL)
+                .build();
+        Assertions.assertEquals(SparsePolynomial.class, polynomial.getClass());
+    }
+
+    @Test
+    public void testFactoryDenseValue() {
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(PENTANOMIAL.setBit(100))
+                .build();
+        Assertions.assertEquals(BitPolynomial.class, polynomial.getClass());
+    }
+
+    @Test
+    public void testFactoryMonomial() {
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(BigInteger.ONE.shiftLeft(100))
+                .build();
+        Assertions.assertEquals(BitPolynomial.class, polynomial.getClass());
+    }
+
+    @Test
+    public void testFactoryPackedCoefficients() {
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(coefficients(3, 0, 2, 70, 1, 100))
+                .withModulus(5)
+                .build();
+        Assertions.assertEquals(SparsePolynomial.class, polynomial.getClass());
+        Assertions.assertEquals(100, polynomial.degree());
+        Assertions.assertEquals(coefficients(3, 0, 2, 70, 1, 100), polynomial.coefficients());
+        Assertions.assertEquals(ModularPolynomial.valueOf(coefficients(3, 0, 2, 70, 1, 100), 5), polynomial.value());
+    }
+
+    @Test
+    public void testFactoryLargeModulusValue() {
+        final BigInteger value = LARGE_PRIME.pow(80).add(BigInteger.valueOf(7));
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(value)
+                .withModulus(LARGE_PRIME)
+                .build();
+        Assertions.assertEquals(SparsePolynomial.class, polynomial.getClass());
+        Assertions.assertEquals(80, polynomial.degree());
+        Assertions.assertEquals(value, polynomial.value());
+    }
+
+    @Test
+    public void testFactoryLowDegree() {
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(coefficients(1, 0, 1, SparsePolynomial.MIN_DEGREE - 1))
+                .withModulus(5)
+                .build();
+        Assertions.assertEquals(PackedPolynomial.class, polynomial.getClass());
+    }
+
+    @Test
+    public void testFactoryExplicitMultiplyAlgorithm() {
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromCoefficients()
+                .withCoefficients(coefficients(3, 0, 2, 70, 1, 100))
+                .withModulus(5)
+                .withMultiplyAlgorithm(PolynomialMultiplyAlgorithm.SCHOOLBOOK)
+                .build();
+        Assertions.assertEquals(PackedPolynomial.class, polynomial.getClass());
+    }
+
+    @Test
+    public void testToString() {
+        Assertions.assertEquals("x^233 + x^74 + 1", new SparsePolynomial(TRINOMIAL, BigInteger.TWO).toString());
+        Assertions.assertEquals("x^100 + 2x^70 + 3",
+                new SparsePolynomial(coefficients(3, 0, 2, 70, 1, 100), BigInteger.valueOf(5)).toString());
+    }
+
+    @Test
+    public void testMultiplyBinary() {
+        final Random random = new Random(233);
+        final SparsePolynomial sparse = new SparsePolynomial(TRINOMIAL, BigInteger.TWO);
+        final ModularPolynomial dense = new BitPolynomial(new BigInteger(300, random));
+        Assertions.assertEquals(new BitPolynomial(TRINOMIAL).multiply(dense).value(), sparse.multiply(dense).value());
+    }
+
+    @Test
+    public void testMultiplyPacked() {
+        final Random random = new Random(5);
+        final BigInteger modulus = BigInteger.valueOf(1_000_003);
+        final SparsePolynomial sparse = new SparsePolynomial(coefficients(3, 0, 2, 70, 1, 100), modulus);
+        final ModularPolynomial dense = new PackedPolynomial(randomCoefficients(150, modulus, random), 1_000_003);
+        final ModularPolynomial product = sparse.multiply(dense);
+        Assertions.assertEquals(new PackedPolynomial(sparse.coefficients(), 1_000_003).multiply(dense).value(),
+                product.value());
+    }
+
+    @Test
+    public void testMultiplyLargeModulus() {
+        final Random random = new Random(89);
+        final SparsePolynomial sparse = new SparsePolynomial(coefficients(3, 0, 2, 70, 1, 100), LARGE_PRIME);
+        final ModularPolynomial dense = new NonBitPolynomial(randomCoefficients(120, LARGE_PRIME, random), LARGE_PRIME);
+        Assertions.assertEquals(new NonBitPolynomial(sparse.coefficients(), LARGE_PRIME).multiply(dense).value(),
+                sparse.multiply(dense).value());
+    }
+
+    @Test
+    public void testReduceBinary() {
+        final Random random = new Random(163);
+        for (final BigInteger modulus : List.of(TRINOMIAL, PENTANOMIAL)) {
+            final SparsePolynomial sparse = new SparsePolynomial(modulus, BigInteger.TWO);
+            for (int i = 0; i < 20; i++) {
+                final ModularPolynomial dividend = new BitPolynomial(new BigInteger(2 * 233 + i, random));
+                final BigInteger expected = dividend.divideAndRemainder(new BitPolynomial(modulus))[1].value();
+                Assertions.assertEquals(expected, sparse.reduce(dividend).value());
+                Assertions.assertEquals(expected,
+                        sparse.reduceInPlace(new MutableBitPolynomial(dividend.value())).value());
+            }
+        }
+    }
+
+    @Test
+    public void testReduceInPlaceNonBinaryIllegalArgument() {
+        final SparsePolynomial sparse = new SparsePolynomial(coefficients(3, 0, 2, 70, 1, 100), BigInteger.valueOf(5));
+        final IllegalArgumentException exception = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> sparse.reduceInPlace(new MutableBitPolynomial(BigInteger.TEN)));
+        Assertions.assertTrue(exception.getMessage().endsWith("modulus=5"));
+    }
+
+    @Test
+    public void testReduceDenseTopTerms() {
+        // x^64 + x^63 + 1 folds back onto its own leading word at every step.
+        final BigInteger modulus = BigInteger.ONE.shiftLeft(64).setBit(63).setBit(0);
+        final SparsePolynomial sparse = new SparsePolynomial(modulus, BigInteger.TWO);
+        final ModularPolynomial dividend = new BitPolynomial(BigInteger.ONE.shiftLeft(200).subtract(BigInteger.ONE));
+        Assertions.assertEquals(dividend.divideAndRemainder(new BitPolynomial(modulus))[1].value(),
+                sparse.reduce(dividend).value());
+    }
+
+    @Test
+    public void testReducePacked() {
+        final Random random = new Random(7);
+        final BigInteger modulus = BigInteger.valueOf(7);
+        final SparsePolynomial sparse = new SparsePolynomial(coefficients(3, 0, 6, 70, 4, 100), modulus);
+        final ModularPolynomial dividend = new PackedPolynomial(randomCoefficients(199, modulus, random), 7);
+        final ModularPolynomial remainder = sparse.reduce(dividend);
+        Assertions.assertEquals(PackedPolynomial.class, remainder.getClass());
+        Assertions.assertEquals(dividend.divideAndRemainder(new PackedPolynomial(sparse.coefficients(), 7))[1].value(),
+                remainder.value());
+    }
+
+    @Test
+    public void testReduceLargeModulus() {
+        final Random random = new Random(89);
+        final SparsePolynomial sparse = new SparsePolynomial(coefficients(3, 0, 2, 70, 5, 100), LARGE_PRIME);
+        final ModularPolynomial dividend = new NonBitPolynomial(randomCoefficients(199, LARGE_PRIME, random),
+                LARGE_PRIME);
+        final ModularPolynomial reducer = new NonBitPolynomial(sparse.coefficients(), LARGE_PRIME);
+        Assertions.assertEquals(dividend.divideAndRemainder(reducer)[1].value(), sparse.reduce(dividend).value());
+    }
+
+    @Test
+    public void testReduceLowDegree() {
+        final SparsePolynomial sparse = new SparsePolynomial(TRINOMIAL, BigInteger.TWO);
+        final ModularPolynomial polynomial = new BitPolynomial(BigInteger.ONE.shiftLeft(232));
+        Assertions.assertSame(polynomial, sparse.reduce(polynomial));
+    }
+
+    @Test
+    public void testReduceModulusMismatch() {
+        final SparsePolynomial sparse = new SparsePolynomial(TRINOMIAL, BigInteger.TWO);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sparse.reduce(new PackedPolynomial(1234, 5)));
+    }
+
+    @Test
+    public void testScale() {
+        final SparsePolynomial sparse = new SparsePolynomial(coefficients(3, 0, 2, 70, 1, 100), BigInteger.valueOf(5));
+        Assertions.assertEquals(coefficients(1, 0, 4, 70, 2, 100), sparse.scale(2).coefficients());
+        Assertions.assertEquals(BigInteger.ZERO, sparse.scale(5).value());
+    }
+
+    @Test
+    public void testAddAndSubtract() {
+        final SparsePolynomial sparse = new SparsePolynomial(TRINOMIAL, BigInteger.TWO);
+        Assertions.assertEquals(TRINOMIAL.clearBit(74), sparse.add(BigInteger.ONE.shiftLeft(74)).value());
+        Assertions.assertEquals(BigInteger.ZERO, sparse.subtract(new BitPolynomial(TRINOMIAL)).value());
+    }
+
+    /**
+     * Build a coefficient list from pairs of a coefficient and its degree.
+     */
+
+    private static List<BigInteger> coefficients(final long... terms) {
+        final List<BigInteger> coefficients = new ArrayList<>();
+        for (int i = 0; i < terms.length; i += 2) {
+            while (coefficients.size() <= terms[i + 1]) {
+                coefficients.add(BigInteger.ZERO);
+            }
+            coefficients.set((int) terms[i + 1], BigInteger.valueOf(terms[i]));
+        }
+        return coefficients;
+    }
+
+    private static List<BigInteger> randomCoefficients(final int degree,
+                                                       final BigInteger modulus,
+                                                       final Random random) {
+        final List<BigInteger> coefficients = new ArrayList<>(degree + 1);
+        for (int i = 0; i < degree; i++) {
+            coefficients.add(new BigInteger(modulus.bitLength() + Long.SIZE, random).mod(modulus));
+        }
+        coefficients.add(BigInteger.ONE);
+        return coefficients;
+    }
+}
@@ -0,0 +1,130 @@
+package com.caw.math.model.polynomial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Test class for {@link SubproductTree}.
+ *
+ * @author cwhitmore
+ */
+
+public class SubproductTreeTest {
+
+    private static final BigInteger PRIME = BigInteger.valueOf(1_000_003);
+
+    @Test
+    public void testIllegalModulus() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SubproductTree(List.of(), BigInteger.ONE));
+    }
+
+    @Test
+    public void testProduct() {
+        // (x - 1)(x - 2) = x^2 + 2x + 2 (mod 5)
+        final SubproductTree tree = new SubproductTree(List.of(BigInteger.ONE, BigInteger.TWO), BigInteger.valueOf(5));
+        Assertions.assertEquals(BigInteger.valueOf(37), tree.product().value());
+    }
+
+    @Test
+    public void testEvaluateSmall() {
+        // 2x^3 + x^2 + 3x + 4 (mod 5) at 0, 1, 2, 3, 4
+        final SubproductTree tree = new SubproductTree(points(5), BigInteger.valueOf(5));
+        final List<BigInteger> values = tree.evaluate(new PackedPolynomial(294, 5));
+        Assertions.assertEquals(List.of(BigInteger.valueOf(4), BigInteger.ZERO, BigInteger.ZERO, BigInteger.ONE,
+                BigInteger.ZERO), values);
+    }
+
+    @Test
+    public void testEvaluateMatchesHorner() {
+        final Random random = new Random(30);
+        final List<BigInteger> points = randomPoints(300, random);
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(new BigInteger(20 * 500, random))
+                .withModulus(PRIME)
+                .build();
+
+        final List<BigInteger> values = new SubproductTree(points, PRIME).evaluate(polynomial);
+        for (int i = 0; i < points.size(); i++) {
+            Assertions.assertEquals(horner(polynomial.coefficients(), points.get(i)), values.get(i));
+        }
+    }
+
+    @Test
+    public void testInterpolateRoundTrip() {
+        final Random random = new Random(31);
+        final List<BigInteger> points = randomPoints(257, random);
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(new BigInteger(20 * 200, random))
+                .withModulus(PRIME)
+                .build();
+
+        final SubproductTree tree = new SubproductTree(points, PRIME);
+        final ModularPolynomial interpolated = tree.interpolate(tree.evaluate(polynomial));
+        Assertions.assertEquals(polynomial.value(), interpolated.value());
+    }
+
+    @Test
+    public void testInterpolateSingle() {
+        final SubproductTree tree = new SubproductTree(List.of(BigInteger.TEN), PRIME);
+        Assertions.assertEquals(BigInteger.valueOf(7), tree.interpolate(List.of(BigInteger.valueOf(7))).value());
+    }
+
+    @Test
+    public void testInterpolateRepeatedPointsIllegalState() {
+        final SubproductTree tree = new SubproductTree(List.of(BigInteger.ONE, BigInteger.valueOf(6)),
+                BigInteger.valueOf(5));
+        Assertions.assertThrows(IllegalStateException.class, () -> tree.interpolate(List.of(BigInteger.ONE,
+                BigInteger.TWO)));
+    }
+
+    @Test
+    public void testEmpty() {
+        final SubproductTree tree = new SubproductTree(List.of(), PRIME);
+        Assertions.assertEquals(List.of(), tree.evaluate(new NonBitPolynomial(BigInteger.TEN, PRIME)));
+        Assertions.assertEquals(BigInteger.ZERO, tree.interpolate(List.of()).value());
+    }
+
+    @Test
+    public void testModulusMismatchIllegalArgument() {
+        final SubproductTree tree = new SubproductTree(points(3), BigInteger.valueOf(7));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tree.evaluate(new PackedPolynomial(10, 5)));
+    }
+
+    @Test
+    public void testOfSharesTree() {
+        final List<BigInteger> points = points(40);
+        Assertions.assertSame(SubproductTree.of(points, PRIME), SubproductTree.of(new ArrayList<>(points), PRIME));
+    }
+
+    private static List<BigInteger> points(final int count) {
+        final List<BigInteger> points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            points.add(BigInteger.valueOf(i));
+        }
+        return points;
+    }
+
+    private static List<BigInteger> randomPoints(final int count, final Random random) {
+        final List<BigInteger> points = new ArrayList<>(count);
+        while (points.size() < count) {
+            final BigInteger point = BigInteger.valueOf(random.nextInt(PRIME.intValue()));
+            if (!points.contains(point)) {
+                points.add(point);
+            }
+        }
+        return points;
+    }
+
+    private static BigInteger horner(final List<BigInteger> coefficients, final BigInteger point) {
+        BigInteger value = BigInteger.ZERO;
+        for (int i = coefficients.size() - 1; i >= 0; i--) {
+            value = value.multiply(point).add(coefficients.get(i)).mod(PRIME);
+        }
+        return value;
+    }
+}
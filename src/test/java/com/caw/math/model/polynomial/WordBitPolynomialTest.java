@@ -0,0 +1,178 @@
+package com.caw.math.model.polynomial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+
+/**
+ * Test class for {@link WordBitPolynomial}.
+ *
+ * @author cwhitmore
+ */
+
+public class WordBitPolynomialTest {
+
+    @Test
+    public void testNegativeValueIllegalArgument() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new WordBitPolynomial(-1));
+    }
+
+    @Test
+    public void testFactorySmallValue() {
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(Long.MAX_VALUE)
+                .build();
+        Assertions.assertEquals(WordBitPolynomial.class, polynomial.getClass());
+    }
+
+    @Test
+    public void testFactoryLargeValue() {
+        final ModularPolynomial polynomial = ModularPolynomialFactory.fromValue()
+                .withValue(BigInteger.ONE.shiftLeft(WordBitPolynomial.MAX_DEGREE + 1))
+                .build();
+        Assertions.assertEquals(BitPolynomial.class, polynomial.getClass());
+    }
+
+    @Test
+    public void testAdd() {
+        // 55 = 110111
+        // 123 = 1111011
+        // 55 + 123 = 1001100 = 76
+        final WordBitPolynomial augend = new WordBitPolynomial(55);
+        final ModularPolynomial sum = augend.add(new WordBitPolynomial(123));
+        Assertions.assertEquals(BigInteger.valueOf(76), sum.value());
+    }
+
+    @Test
+    public void testAddBitPolynomial() {
+        final WordBitPolynomial augend = new WordBitPolynomial(55);
+        final BigInteger large = BigInteger.ONE.shiftLeft(100);
+        final ModularPolynomial sum = augend.add(new BitPolynomial(large));
+        Assertions.assertEquals(large.add(BigInteger.valueOf(55)), sum.value());
+    }
+
+    @Test
+    public void testCoefficients() {
+        // 28 = 11100
+        final WordBitPolynomial polynomial = new WordBitPolynomial(28);
+        final List<BigInteger> coefficients = polynomial.coefficients();
+        Assertions.assertEquals(new BitPolynomial(28).coefficients(), coefficients);
+    }
+
+    @Test
+    public void testCoefficientsZero() {
+        Assertions.assertTrue(new WordBitPolynomial(0).coefficients().isEmpty());
+    }
+
+    @Test
+    public void testDegree() {
+        Assertions.assertEquals(0, new WordBitPolynomial(0).degree());
+        Assertions.assertEquals(0, new WordBitPolynomial(1).degree());
+        Assertions.assertEquals(5, new WordBitPolynomial(55).degree());
+        Assertions.assertEquals(WordBitPolynomial.MAX_DEGREE, new WordBitPolynomial(Long.MAX_VALUE).degree());
+    }
+
+    @Test
+    public void testMultiply() {
+        // 42 = 101010
+        // 13 = 1101
+        // 42 * 13 = 101010 + 10101000 + 101010000 = 111010010
+        final WordBitPolynomial multiplicand = new WordBitPolynomial(42);
+        final ModularPolynomial product = multiplicand.multiply(new WordBitPolynomial(13));
+        Assertions.assertEquals(BigInteger.valueOf(466), product.value());
+    }
+
+    @Test
+    public void testMultiplyZero() {
+        final WordBitPolynomial multiplicand = new WordBitPolynomial(42);
+        Assertions.assertEquals(BigInteger.ZERO, multiplicand.multiply(0).value());
+    }
+
+    @Test
+    public void testMultiplyOverflow() {
+        // (x^62 + 1) * (x^62 + x) = x^124 + x^63 + x^62 + x
+        final WordBitPolynomial multiplicand = new WordBitPolynomial((1L << 62) | 1L);
+        final ModularPolynomial product = multiplicand.multiply(new WordBitPolynomial((1L << 62) | 2L));
+        final BigInteger expected = new BitPolynomial((1L << 62) | 1L).multiply((1L << 62) | 2L).value();
+        Assertions.assertEquals(BitPolynomial.class, product.getClass());
+        Assertions.assertEquals(expected, product.value());
+        Assertions.assertEquals(124, product.degree());
+    }
+
+    @Test
+    public void testMultiplyMatchesBitPolynomial() {
+        long a = 0x1234_5678_9ABCL;
+        long b = 0x7FED_CBA9_8765_4321L;
+        for (int i = 0; i < 100; i++) {
+            final BigInteger expected = new BitPolynomial(a).multiply(b).value();
+            Assertions.assertEquals(expected, new WordBitPolynomial(a).multiply(b).value());
+            a = (a * 31 + 17) & Long.MAX_VALUE;
+            b = (b * 131 + 7) & Long.MAX_VALUE;
+        }
+    }
+
+    @Test
+    public void testRemainder() {
+        // x^14 (16384) mod x^8 + x^4 + x^3 + x + 1 (283) = x^7 + x^4 + x^3 + x = 154
+        final WordBitPolynomial dividend = new WordBitPolynomial(16_384);
+        final WordBitPolynomial remainder = dividend.remainder(new WordBitPolynomial(283));
+        Assertions.assertEquals(154, remainder.longValue());
+    }
+
+    @Test
+    public void testRemainderZeroIllegalArgument() {
+        final WordBitPolynomial dividend = new WordBitPolynomial(16_384);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> dividend.remainder(new WordBitPolynomial(0)));
+    }
+
+    @Test
+    public void testDivideAndRemainder() {
+        // x^14 = (x^6 + x^2 + x) (x^8 + x^4 + x^3 + x + 1) + x^7 + x^4 + x^3 + x
+        final WordBitPolynomial[] division = new WordBitPolynomial(16_384).divideAndRemainder(new WordBitPolynomial(283));
+        Assertions.assertEquals(70, division[0].longValue());
+        Assertions.assertEquals(154, division[1].longValue());
+    }
+
+    @Test
+    public void testGcd() {
+        // gcd(x^2 + 1, x^3 + 1) = x + 1, since x^2 + 1 = (x + 1)^2 and x^3 + 1 = (x + 1)(x^2 + x + 1)
+        Assertions.assertEquals(BigInteger.valueOf(3), new WordBitPolynomial(5).gcd(new WordBitPolynomial(9)).value());
+    }
+
+    @Test
+    public void testExtendedGcd() {
+        final WordBitPolynomial a = new WordBitPolynomial(0x1F_3A51L);
+        final WordBitPolynomial b = new WordBitPolynomial(283);
+
+        final ModularPolynomial[] gcd = a.extendedGcd(b);
+        Assertions.assertEquals(BigInteger.ONE, gcd[0].value());
+        Assertions.assertEquals(gcd[0].value(), gcd[1].multiply(a).add(gcd[2].multiply(b)).value());
+    }
+
+    @Test
+    public void testScale() {
+        final WordBitPolynomial polynomial = new WordBitPolynomial(42);
+        Assertions.assertEquals(0, polynomial.scale(2).longValue());
+        Assertions.assertEquals(42, polynomial.scale(BigInteger.valueOf(3)).longValue());
+    }
+
+    @Test
+    public void testSubtract() {
+        // 21 = 10101
+        // 55 = 110111
+        // 21 - 55 = 100010 = 34
+        final WordBitPolynomial minuend = new WordBitPolynomial(21);
+        Assertions.assertEquals(BigInteger.valueOf(34), minuend.subtract(new WordBitPolynomial(55)).value());
+        Assertions.assertEquals(BigInteger.valueOf(34), minuend.subtract(55).value());
+    }
+
+    @Test
+    public void testToString() {
+        Assertions.assertEquals("0", new WordBitPolynomial(0).toString());
+        Assertions.assertEquals("1", new WordBitPolynomial(1).toString());
+        Assertions.assertEquals("x", new WordBitPolynomial(2).toString());
+        Assertions.assertEquals("x^5 + x^3 + x", new WordBitPolynomial(42).toString());
+    }
+}
@@ -0,0 +1,120 @@
+package com.caw.math.model.polynomial.algorithm.coefficient;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+public abstract class CoefficientKernelTestCase {
+
+    private static final long[] MODULI = { 2, 3, 7, 65_537, 998_244_353, Integer.MAX_VALUE };
+
+    // Long enough for several full vectors of any width, and odd, so that every run has a scalar tail.
+    private static final int LENGTH = 67;
+
+    private final Random random = new Random(67);
+
+    private CoefficientKernel kernel;
+
+    @BeforeEach
+    public void setUp() {
+        kernel = makeCoefficientKernel();
+    }
+
+    @Test
+    public void testAdd() {
+        for (final long modulus : MODULI) {
+            for (int length = 0; length <= LENGTH; length += 11) {
+                final long[] augend = randomCoefficients(LENGTH, modulus);
+                final long[] addend = randomCoefficients(length, modulus);
+                final long[] expected = Arrays.copyOf(augend, augend.length);
+                for (int i = 0; i < length; i++) {
+                    expected[i] = (augend[i] + addend[i]) % modulus;
+                }
+                kernel.add(augend, addend, length, modulus);
+                Assertions.assertArrayEquals(expected, augend, "modulus=" + modulus + ", length=" + length);
+            }
+        }
+    }
+
+    @Test
+    public void testMultiplyAccumulate() {
+        for (final long modulus : MODULI) {
+            for (int offset = 0; offset < 3; offset++) {
+                final long[] accumulator = randomCoefficients(LENGTH + offset, modulus);
+                final long[] multiplicand = randomCoefficients(LENGTH, modulus);
+                final long factor = Math.floorMod(random.nextLong(), modulus);
+                final long[] expected = Arrays.copyOf(accumulator, accumulator.length);
+                for (int i = 0; i < LENGTH; i++) {
+                    expected[offset + i] = Math.floorMod(expected[offset + i] + factor * multiplicand[i], modulus);
+                }
+                kernel.multiplyAccumulate(accumulator, offset, multiplicand, factor, LENGTH, modulus);
+                Assertions.assertArrayEquals(expected, accumulator, "modulus=" + modulus + ", offset=" + offset);
+            }
+        }
+    }
+
+    @Test
+    public void testMultiplyAccumulateExtremes() {
+        for (final long modulus : MODULI) {
+            final long[] accumulator = new long[LENGTH];
+            final long[] multiplicand = new long[LENGTH];
+            Arrays.fill(accumulator, modulus - 1);
+            Arrays.fill(multiplicand, modulus - 1);
+            // (p - 1) + (p - 1)(p - 1) = p(p - 1) = 0 (mod p)
+            kernel.multiplyAccumulate(accumulator, 0, multiplicand, modulus - 1, LENGTH, modulus);
+            Assertions.assertArrayEquals(new long[LENGTH], accumulator, "modulus=" + modulus);
+        }
+    }
+
+    @Test
+    public void testScale() {
+        for (final long modulus : MODULI) {
+            for (final long factor : new long[] { 0, 1, modulus - 1, Math.floorMod(random.nextLong(), modulus) }) {
+                final long[] coefficients = randomCoefficients(LENGTH, modulus);
+                final long[] expected = new long[LENGTH];
+                for (int i = 0; i < LENGTH; i++) {
+                    expected[i] = coefficients[i] * factor % modulus;
+                }
+                kernel.scale(coefficients, factor, LENGTH, modulus);
+                Assertions.assertArrayEquals(expected, coefficients, "modulus=" + modulus + ", factor=" + factor);
+            }
+        }
+    }
+
+    @Test
+    public void testScalePartial() {
+        final long[] coefficients = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12 };
+        kernel.scale(coefficients, 2, 10, 13);
+        Assertions.assertArrayEquals(new long[] { 2, 4, 6, 8, 10, 12, 1, 3, 5, 7, 11, 12 }, coefficients);
+    }
+
+    @Test
+    public void testSubtract() {
+        for (final long modulus : MODULI) {
+            for (int length = 0; length <= LENGTH; length += 11) {
+                final long[] minuend = randomCoefficients(LENGTH, modulus);
+                final long[] subtrahend = randomCoefficients(length, modulus);
+                final long[] expected = Arrays.copyOf(minuend, minuend.length);
+                for (int i = 0; i < length; i++) {
+                    expected[i] = Math.floorMod(minuend[i] - subtrahend[i], modulus);
+                }
+                kernel.subtract(minuend, subtrahend, length, modulus);
+                Assertions.assertArrayEquals(expected, minuend, "modulus=" + modulus + ", length=" + length);
+            }
+        }
+    }
+
+    private long[] randomCoefficients(final int length,
+                                      final long modulus) {
+        final long[] coefficients = new long[length];
+        for (int i = 0; i < length; i++) {
+            coefficients[i] = Math.floorMod(random.nextLong(), modulus);
+        }
+        return coefficients;
+    }
+
+    protected abstract CoefficientKernel makeCoefficientKernel();
+}
@@ -0,0 +1,9 @@
+package com.caw.math.model.polynomial.algorithm.coefficient;
+
+public class ScalarCoefficientKernelTest extends CoefficientKernelTestCase {
+
+    @Override
+    protected CoefficientKernel makeCoefficientKernel() {
+        return new ScalarCoefficientKernel();
+    }
+}
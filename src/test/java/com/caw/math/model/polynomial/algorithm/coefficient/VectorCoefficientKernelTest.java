@@ -0,0 +1,13 @@
+package com.caw.math.model.polynomial.algorithm.coefficient;
+
+/**
+ * Runs against the scalar fallback when the JVM was started without the vector module.
+ */
+
+public class VectorCoefficientKernelTest extends CoefficientKernelTestCase {
+
+    @Override
+    protected CoefficientKernel makeCoefficientKernel() {
+        return CoefficientKernelFactory.make(CoefficientKernelAlgorithm.VECTOR);
+    }
+}
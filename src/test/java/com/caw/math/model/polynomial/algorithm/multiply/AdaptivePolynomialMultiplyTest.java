@@ -0,0 +1,54 @@
+package com.caw.math.model.polynomial.algorithm.multiply;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class AdaptivePolynomialMultiplyTest extends PolynomialMultiplyTestCase {
+
+    @Override
+    protected PolynomialMultiply makePolynomialMultiply() {
+        return new AdaptivePolynomialMultiply();
+    }
+
+    @Test
+    public void testIllegalThreshold() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PolynomialMultiplyFactory.makeAdaptive(0, 64));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PolynomialMultiplyFactory.makeAdaptive(16, 0));
+    }
+
+    @Test
+    public void testMatchesSchoolbookAcrossThresholds() {
+        final Random random = new Random(21);
+        final BigInteger modulus = BigInteger.valueOf(1_000_003);
+        final PolynomialMultiply adaptive = PolynomialMultiplyFactory.makeAdaptive(2, 4);
+        final PolynomialMultiply schoolbook = PolynomialMultiplyFactory.make(PolynomialMultiplyAlgorithm.SCHOOLBOOK);
+
+        for (int length = 1; length < 8; length++) {
+            final List<BigInteger> multiplicand = new ArrayList<>();
+            final List<BigInteger> multiplier = new ArrayList<>();
+            for (int i = 0; i < length; i++) {
+                multiplicand.add(BigInteger.valueOf(random.nextInt(1_000_003)));
+                multiplier.add(BigInteger.valueOf(random.nextInt(1_000_003)));
+            }
+            Assertions.assertEquals(schoolbook.multiply(multiplicand, multiplier, modulus),
+                    adaptive.multiply(multiplicand, multiplier, modulus));
+        }
+    }
+
+    @Test
+    public void testMultiplyHugeModulus() {
+        // Too large for the number-theoretic transform, so Kronecker substitution is used instead.
+        final BigInteger modulus = BigInteger.ONE.shiftLeft(4096).add(BigInteger.ONE);
+        final List<BigInteger> operand = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            operand.add(BigInteger.ONE);
+        }
+        final List<BigInteger> product = PolynomialMultiplyFactory.make().multiply(operand, operand, modulus);
+        Assertions.assertEquals(BigInteger.valueOf(100), product.get(99));
+    }
+}
@@ -0,0 +1,111 @@
+package com.caw.math.model.polynomial.algorithm.multiply;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+public abstract class BitMultiplyTestCase {
+
+    private BitMultiply multiply;
+
+    @BeforeEach
+    public void setUp() {
+        multiply = makeBitMultiply();
+    }
+
+    @Test
+    public void testMultiplyEmpty() {
+        Assertions.assertArrayEquals(new long[] { 0 }, multiply.multiply(new long[0], new long[] { 42 }));
+    }
+
+    @Test
+    public void testMultiplyZero() {
+        Assertions.assertArrayEquals(new long[] { 0, 0 }, multiply.multiply(new long[] { 42 }, new long[] { 0 }));
+    }
+
+    @Test
+    public void testMultiplySingleWord() {
+        // 42 = 101010
+        // 13 = 1101
+        // 42 * 13 = 101010 + 10101000 + 101010000 = 111010010
+        Assertions.assertArrayEquals(new long[] { 466, 0 }, multiply.multiply(new long[] { 42 }, new long[] { 13 }));
+    }
+
+    @Test
+    public void testMultiplyCarriesIntoHighWord() {
+        // x^63 * x^63 = x^126
+        final long[] product = multiply.multiply(new long[] { Long.MIN_VALUE }, new long[] { Long.MIN_VALUE });
+        Assertions.assertArrayEquals(new long[] { 0, 1L << 62 }, product);
+    }
+
+    @Test
+    public void testMultiplyLength() {
+        final long[] product = multiply.multiply(new long[] { 3, 99 }, 1, new long[] { 5, 99 }, 1);
+        Assertions.assertArrayEquals(new long[] { 15, 0 }, product);
+    }
+
+    @Test
+    public void testMultiplyIllegalLength() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> multiply.multiply(new long[] { 3 }, 2, new long[] { 5 }, 1));
+    }
+
+    @Test
+    public void testMultiplyRandom() {
+        final Random random = new Random(1234);
+        for (int i = 0; i < 30; i++) {
+            final int multiplicandBits = 1 + random.nextInt(1200);
+            final int multiplierBits = 1 + random.nextInt(1200);
+            final BigInteger multiplicand = new BigInteger(multiplicandBits, random);
+            final BigInteger multiplier = new BigInteger(multiplierBits, random);
+
+            final long[] product = multiply.multiply(toWords(multiplicand, multiplicandBits),
+                    toWords(multiplier, multiplierBits));
+            Assertions.assertEquals(schoolbook(multiplicand, multiplier), toBigInteger(product));
+        }
+    }
+
+    @Test
+    public void testMultiplyLargeBalanced() {
+        final Random random = new Random(99);
+        final BigInteger multiplicand = new BigInteger(571 * 8, random);
+        final BigInteger multiplier = new BigInteger(571 * 8, random);
+        final long[] product = multiply.multiply(toWords(multiplicand, 571 * 8), toWords(multiplier, 571 * 8));
+        Assertions.assertEquals(schoolbook(multiplicand, multiplier), toBigInteger(product));
+    }
+
+    private static BigInteger schoolbook(final BigInteger multiplicand, final BigInteger multiplier) {
+        BigInteger product = BigInteger.ZERO;
+        for (int i = 0; i < multiplier.bitLength(); i++) {
+            if (multiplier.testBit(i)) {
+                product = product.xor(multiplicand.shiftLeft(i));
+            }
+        }
+        return product;
+    }
+
+    private static long[] toWords(final BigInteger value, final int bits) {
+        final long[] words = new long[(bits + Long.SIZE - 1) / Long.SIZE];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = value.shiftRight(i * Long.SIZE).longValue();
+        }
+        return words;
+    }
+
+    private static BigInteger toBigInteger(final long[] words) {
+        BigInteger value = BigInteger.ZERO;
+        for (int i = words.length - 1; i >= 0; i--) {
+            value = value.shiftLeft(Long.SIZE).or(new BigInteger(Long.toUnsignedString(words[i])));
+        }
+        return value;
+    }
+
+    /**
+     * Make a {@link BitMultiply} implementation to test.
+     */
+
+    protected abstract BitMultiply makeBitMultiply();
+}
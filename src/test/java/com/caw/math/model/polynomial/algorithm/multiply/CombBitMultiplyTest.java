@@ -0,0 +1,9 @@
+package com.caw.math.model.polynomial.algorithm.multiply;
+
+public class CombBitMultiplyTest extends BitMultiplyTestCase {
+
+    @Override
+    protected BitMultiply makeBitMultiply() {
+        return new CombBitMultiply();
+    }
+}
@@ -0,0 +1,32 @@
+package com.caw.math.model.polynomial.algorithm.multiply;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class KaratsubaBitMultiplyTest extends BitMultiplyTestCase {
+
+    @Override
+    protected BitMultiply makeBitMultiply() {
+        // Use the smallest threshold so that the tests exercise the recursion rather than only the comb fallback.
+        return new KaratsubaBitMultiply(2);
+    }
+
+    @Test
+    public void testIllegalThreshold() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new KaratsubaBitMultiply(1));
+    }
+
+    @Test
+    public void testDefaultThresholdMatchesComb() {
+        final long[] multiplicand = new long[40];
+        final long[] multiplier = new long[33];
+        for (int i = 0; i < multiplicand.length; i++) {
+            multiplicand[i] = 0x9E37_79B9_7F4A_7C15L * (i + 1);
+        }
+        for (int i = 0; i < multiplier.length; i++) {
+            multiplier[i] = 0xC2B2_AE3D_27D4_EB4FL * (i + 7);
+        }
+        Assertions.assertArrayEquals(new CombBitMultiply().multiply(multiplicand, multiplier),
+                new KaratsubaBitMultiply().multiply(multiplicand, multiplier));
+    }
+}
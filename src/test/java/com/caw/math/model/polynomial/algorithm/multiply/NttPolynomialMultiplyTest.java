@@ -0,0 +1,59 @@
+package com.caw.math.model.polynomial.algorithm.multiply;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+public class NttPolynomialMultiplyTest extends PolynomialMultiplyTestCase {
+
+    @Override
+    protected PolynomialMultiply makePolynomialMultiply() {
+        return new NttPolynomialMultiply();
+    }
+
+    @Test
+    public void testMultiplyLargeDegree() {
+        // (x^n - 1)(x^n + 1) = x^2n - 1 (mod 7), which requires every coefficient of the transform to cancel.
+        final int n = 5000;
+        final long[] multiplicand = new long[n + 1];
+        final long[] multiplier = new long[n + 1];
+        multiplicand[0] = 6;
+        multiplicand[n] = 1;
+        multiplier[0] = 1;
+        multiplier[n] = 1;
+
+        final long[] expected = new long[2 * n + 1];
+        expected[0] = 6;
+        expected[2 * n] = 1;
+        Assertions.assertArrayEquals(expected, new NttPolynomialMultiply().multiply(multiplicand, multiplier, 7));
+    }
+
+    @Test
+    public void testMultiplyAllMaxCoefficients() {
+        // Every coefficient of the product before reduction is the largest possible, min(n, m) * (p - 1)^2.
+        final long modulus = Integer.MAX_VALUE;
+        final long[] operand = new long[1000];
+        Arrays.fill(operand, modulus - 1);
+
+        final long[] product = new NttPolynomialMultiply().multiply(operand, operand, modulus);
+        Assertions.assertEquals(1000 % modulus, product[999]);
+        Assertions.assertEquals(1, product[0]);
+    }
+
+    @Test
+    public void testSupports() {
+        Assertions.assertTrue(NttPolynomialMultiply.supports(BigInteger.valueOf(Integer.MAX_VALUE), 1 << 20, 1 << 21));
+        Assertions.assertFalse(NttPolynomialMultiply.supports(BigInteger.valueOf(7), 1 << 23, 1 << 24));
+        Assertions.assertFalse(NttPolynomialMultiply.supports(BigInteger.ONE.shiftLeft(4096), 2, 3));
+    }
+
+    @Test
+    public void testMultiplyUnsupportedModulusIllegalArgument() {
+        final List<BigInteger> operand = List.of(BigInteger.ONE, BigInteger.ONE);
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new NttPolynomialMultiply().multiply(operand, operand, BigInteger.ONE.shiftLeft(4096)));
+    }
+}
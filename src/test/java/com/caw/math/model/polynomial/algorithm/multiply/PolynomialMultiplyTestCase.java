@@ -0,0 +1,127 @@
+package com.caw.math.model.polynomial.algorithm.multiply;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public abstract class PolynomialMultiplyTestCase {
+
+    // 2^127 - 1
+    private static final BigInteger MERSENNE = BigInteger.ONE.shiftLeft(127).subtract(BigInteger.ONE);
+
+    private PolynomialMultiply multiply;
+
+    @BeforeEach
+    public void setUp() {
+        multiply = makePolynomialMultiply();
+    }
+
+    @Test
+    public void testMultiplyEmpty() {
+        Assertions.assertTrue(multiply.multiply(List.of(), List.of(BigInteger.ONE), BigInteger.valueOf(5)).isEmpty());
+        Assertions.assertArrayEquals(new long[0], multiply.multiply(new long[] { 1 }, new long[0], 5));
+    }
+
+    @Test
+    public void testMultiply() {
+        // (x + 2)(3x^2 + 4) = 3x^3 + 6x^2 + 4x + 8 = 3x^3 + x^2 + 4x + 3 (mod 5)
+        final List<BigInteger> product = multiply.multiply(coefficients(2, 1), coefficients(4, 0, 3), BigInteger.valueOf(5));
+        Assertions.assertEquals(coefficients(3, 4, 1, 3), product);
+        Assertions.assertArrayEquals(new long[] { 3, 4, 1, 3 }, multiply.multiply(new long[] { 2, 1 }, new long[] { 4, 0, 3 }, 5));
+    }
+
+    @Test
+    public void testMultiplyReducesCoefficients() {
+        // (-1)(7x + 12) = -7x - 12 = 3x + 3 (mod 5)
+        final List<BigInteger> product = multiply.multiply(coefficients(-1), coefficients(12, 7), BigInteger.valueOf(5));
+        Assertions.assertEquals(coefficients(3, 3), product);
+    }
+
+    @Test
+    public void testMultiplySquare() {
+        final long[] operand = { 4, 4, 4 };
+        Assertions.assertArrayEquals(new long[] { 1, 2, 3, 2, 1 }, multiply.multiply(operand, operand, 5));
+    }
+
+    @Test
+    public void testMultiplyIllegalModulus() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> multiply.multiply(coefficients(1), coefficients(1), BigInteger.ONE));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> multiply.multiply(new long[] { 1 }, new long[] { 1 }, Integer.MAX_VALUE + 1L));
+    }
+
+    @Test
+    public void testMultiplyMaxModulusRandom() {
+        final Random random = new Random(5);
+        final long modulus = Integer.MAX_VALUE;
+        for (int i = 0; i < 20; i++) {
+            final long[] multiplicand = random.longs(1 + random.nextInt(300), 0, modulus).toArray();
+            final long[] multiplier = random.longs(1 + random.nextInt(300), 0, modulus).toArray();
+            Assertions.assertArrayEquals(schoolbook(multiplicand, multiplier, modulus),
+                    multiply.multiply(multiplicand, multiplier, modulus));
+        }
+    }
+
+    @Test
+    public void testMultiplyLargeModulusRandom() {
+        final Random random = new Random(17);
+        for (int i = 0; i < 10; i++) {
+            final List<BigInteger> multiplicand = random(1 + random.nextInt(100), MERSENNE, random);
+            final List<BigInteger> multiplier = random(1 + random.nextInt(100), MERSENNE, random);
+            Assertions.assertEquals(schoolbook(multiplicand, multiplier, MERSENNE),
+                    multiply.multiply(multiplicand, multiplier, MERSENNE));
+        }
+    }
+
+    private static List<BigInteger> coefficients(final long... coefficients) {
+        final List<BigInteger> list = new ArrayList<>();
+        for (final long coefficient : coefficients) {
+            list.add(BigInteger.valueOf(coefficient));
+        }
+        return list;
+    }
+
+    private static List<BigInteger> random(final int length, final BigInteger modulus, final Random random) {
+        final List<BigInteger> list = new ArrayList<>();
+        for (int i = 0; i < length; i++) {
+            list.add(new BigInteger(modulus.bitLength(), random).mod(modulus));
+        }
+        return list;
+    }
+
+    private static long[] schoolbook(final long[] multiplicand, final long[] multiplier, final long modulus) {
+        final long[] product = new long[multiplicand.length + multiplier.length - 1];
+        for (int i = 0; i < multiplicand.length; i++) {
+            for (int j = 0; j < multiplier.length; j++) {
+                product[i + j] = (product[i + j] + multiplicand[i] * multiplier[j]) % modulus;
+            }
+        }
+        return product;
+    }
+
+    private static List<BigInteger> schoolbook(final List<BigInteger> multiplicand,
+                                               final List<BigInteger> multiplier,
+                                               final BigInteger modulus) {
+        final List<BigInteger> product = new ArrayList<>();
+        for (int k = 0; k < multiplicand.size() + multiplier.size() - 1; k++) {
+            BigInteger coefficient = BigInteger.ZERO;
+            for (int i = Math.max(0, k - multiplier.size() + 1); i <= Math.min(k, multiplicand.size() - 1); i++) {
+                coefficient = coefficient.add(multiplicand.get(i).multiply(multiplier.get(k - i)));
+            }
+            product.add(coefficient.mod(modulus));
+        }
+        return product;
+    }
+
+    /**
+     * Make a {@link PolynomialMultiply} implementation to test.
+     */
+
+    protected abstract PolynomialMultiply makePolynomialMultiply();
+}
@@ -0,0 +1,9 @@
+package com.caw.math.model.polynomial.algorithm.multiply;
+
+public class SchoolbookPolynomialMultiplyTest extends PolynomialMultiplyTestCase {
+
+    @Override
+    protected PolynomialMultiply makePolynomialMultiply() {
+        return new SchoolbookPolynomialMultiply();
+    }
+}